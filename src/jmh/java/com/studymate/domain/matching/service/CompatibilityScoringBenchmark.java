@@ -0,0 +1,110 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쌍 호환성 점수 계산 처리량
+ * 벡터는 모두 캐시에 적재된 상태에서 측정한다 (요청 경로의 preload 이후와 동일).
+ * scorePoolThroughTransactionalProxy는 후보마다 @Transactional 프록시를 거치는 비용을 보여준다.
+ * 벤치마크의 트랜잭션 매니저는 커넥션을 잡지 않으므로, 실제 비용은 여기에 커넥션 풀 왕복이 더해진다.
+ * 후보가 벡터 캐시 상한(10만)을 넘으면 프록시 경로는 캐시 미스 적재 비용도 함께 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompatibilityScoringBenchmark {
+
+    @Param({"10000", "50000", "1000000"})
+    public int poolSize;
+
+    private User currentUser;
+    private List<User> pool;
+    private CompatibilityVector myVector;
+    private Integer myNativeLanguageId;
+    private Map<UUID, CompatibilityVector> vectors;
+    private Map<UUID, Integer> nativeLanguageIds;
+    private CompatibilityCalculatorService transactionalCalculator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<User> users = MatchingBenchmarkFixtures.users(poolSize + 1, 42L);
+        currentUser = users.get(0);
+        pool = users.subList(1, users.size());
+
+        CompatibilityVectorCache cache = MatchingBenchmarkFixtures.vectorCache();
+        vectors = cache.preload(users.stream().map(User::getUserId).toList());
+        nativeLanguageIds = new HashMap<>(users.size() * 2);
+        users.forEach(user -> nativeLanguageIds.put(user.getUserId(), CompatibilityScoring.nativeLanguageId(user)));
+        myVector = vectors.getOrDefault(currentUser.getUserId(), CompatibilityVector.EMPTY);
+        myNativeLanguageId = nativeLanguageIds.get(currentUser.getUserId());
+
+        ProxyFactory proxyFactory = new ProxyFactory(new CompatibilityCalculatorServiceImpl(cache));
+        proxyFactory.addAdvice(new TransactionInterceptor(new NoOpTransactionManager(),
+                new AnnotationTransactionAttributeSource()));
+        transactionalCalculator = (CompatibilityCalculatorService) proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public void scorePool(Blackhole blackhole) {
+        for (User partner : pool) {
+            blackhole.consume(CompatibilityScoring.simpleScore(
+                    myVector, myNativeLanguageId,
+                    vectors.getOrDefault(partner.getUserId(), CompatibilityVector.EMPTY),
+                    nativeLanguageIds.get(partner.getUserId())));
+        }
+    }
+
+    @Benchmark
+    public void scorePoolThroughTransactionalProxy(Blackhole blackhole) {
+        for (User partner : pool) {
+            blackhole.consume(transactionalCalculator.calculateSimpleScore(currentUser, partner));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double scorePair() {
+        User partner = pool.get(0);
+        return CompatibilityScoring.simpleScore(
+                myVector, myNativeLanguageId,
+                vectors.getOrDefault(partner.getUserId(), CompatibilityVector.EMPTY),
+                nativeLanguageIds.get(partner.getUserId()));
+    }
+
+    /**
+     * 트랜잭션 경계 / 동기화 처리만 수행하는 매니저 (커넥션 획득 없음)
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.repository.OnboardingPersonalityRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingStudyGoalRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingTopicRepository;
+import com.studymate.domain.onboarding.entity.Language;
+import com.studymate.domain.user.domain.type.UserGenderType;
+import com.studymate.domain.user.entity.User;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * 벤치마크용 인메모리 픽스처
+ * DB 없이 사용자/온보딩 데이터를 시드 기반으로 생성하며, 같은 시드는 항상 같은 데이터를 만든다.
+ */
+final class MatchingBenchmarkFixtures {
+
+    private static final String[] PERSONALITIES = {"INTROVERT", "EXTROVERT", "CALM", "CURIOUS", "ACTIVE", "PATIENT"};
+    private static final String[] GOALS = {"BUSINESS", "CASUAL", "ACADEMIC", "PRACTICAL", "TRAVEL"};
+    private static final int LANGUAGE_COUNT = 8;
+    private static final int TOPIC_COUNT = 120;
+
+    private MatchingBenchmarkFixtures() {
+    }
+
+    static List<User> users(int count, long seed) {
+        Random random = new Random(seed);
+        Language[] languages = new Language[LANGUAGE_COUNT];
+        for (int i = 0; i < LANGUAGE_COUNT; i++) {
+            languages[i] = Language.builder().languageId(i + 1).languageName("LANG-" + (i + 1)).build();
+        }
+
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .userId(new UUID(seed, i))
+                    .englishName("user-" + i)
+                    .birthyear(String.valueOf(1970 + random.nextInt(40)))
+                    .userGenderType(random.nextBoolean() ? UserGenderType.MALE : UserGenderType.FEMALE)
+                    .selfBio("bio " + i)
+                    .nativeLanguage(languages[random.nextInt(LANGUAGE_COUNT)])
+                    .build());
+        }
+        return users;
+    }
+
+    /**
+     * 사용자별 성격/학습 목표/관심 주제를 userId에서 결정적으로 생성하는 리포지토리로 구성한 벡터 캐시
+     */
+    static CompatibilityVectorCache vectorCache() {
+        return new CompatibilityVectorCache(
+                repository(OnboardingPersonalityRepository.class, userId -> namedRows(userId, PERSONALITIES, 3)),
+                repository(OnboardingStudyGoalRepository.class, userId -> namedRows(userId, GOALS, 2)),
+                repository(OnboardingTopicRepository.class, MatchingBenchmarkFixtures::topicRows));
+    }
+
+    static PartnerProfileLoader.PartnerProfileSnapshot snapshot(UUID userId) {
+        return new PartnerProfileLoader.PartnerProfileSnapshot(
+                userId,
+                "Seoul",
+                "Korean",
+                List.of(new PartnerProfileLoader.TargetLanguage("English", "Intermediate", "Advanced"),
+                        new PartnerProfileLoader.TargetLanguage("Japanese", "Beginner", "Intermediate")),
+                List.of("여행", "음악", "영화", "비즈니스 회화"),
+                List.of("CALM", "CURIOUS"),
+                List.of("여행", "음악"),
+                "online",
+                "방금 전");
+    }
+
+    // Private helper methods
+
+    private static List<Object[]> namedRows(UUID userId, String[] names, int count) {
+        Random random = new Random(userId.getLeastSignificantBits());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = random.nextInt(names.length);
+            rows.add(new Object[]{userId, id + 1, names[id]});
+        }
+        return rows;
+    }
+
+    private static List<Object[]> topicRows(UUID userId) {
+        Random random = new Random(userId.getLeastSignificantBits() * 31);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(new Object[]{userId, 1 + random.nextInt(TOPIC_COUNT)});
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R repository(Class<R> type, java.util.function.Function<UUID, List<Object[]>> rowsForUser) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "findVectorRowsByUserIds", "findIdRowsByUsrIds" -> {
+                    List<Object[]> rows = new ArrayList<>();
+                    for (Object userId : (Collection<?>) args[0]) {
+                        rows.addAll(rowsForUser.apply((UUID) userId));
+                    }
+                    return rows;
+                }
+                case "toString" -> {
+                    return "Benchmark" + type.getSimpleName();
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
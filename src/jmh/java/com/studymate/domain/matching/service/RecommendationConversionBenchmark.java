@@ -0,0 +1,53 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.matching.domain.dto.response.RecommendedPartnerResponse;
+import com.studymate.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 응답 경로의 필터 적용과 DTO 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationConversionBenchmark {
+
+    @Param({"10000"})
+    public int poolSize;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private List<User> pool;
+    private List<PartnerProfileLoader.PartnerProfileSnapshot> snapshots;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = MatchingBenchmarkFixtures.users(poolSize, 11L);
+        snapshots = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            snapshots.add(MatchingBenchmarkFixtures.snapshot(pool.get(i).getUserId()));
+        }
+    }
+
+    @Benchmark
+    public void applyAgeFilters(Blackhole blackhole) {
+        for (User partner : pool) {
+            blackhole.consume(RecommendedPartnerMapper.applyFilters(partner, null, null, null, 20, 35));
+        }
+    }
+
+    @Benchmark
+    public List<RecommendedPartnerResponse> convertPage() {
+        List<RecommendedPartnerResponse> responses = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            responses.add(RecommendedPartnerMapper.toResponse(pool.get(i), 75.0, snapshots.get(i)));
+        }
+        return responses;
+    }
+}
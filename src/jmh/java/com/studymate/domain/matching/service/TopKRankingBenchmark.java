@@ -0,0 +1,56 @@
+package com.studymate.domain.matching.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 후보 풀(1만~100만)에서 상위 K개 선택 비용
+ * TopKRanker(크기 K 힙)와 전체 정렬 후 자르기를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TopKRankingBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int poolSize;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private UUID[] userIds;
+    private double[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7L);
+        userIds = new UUID[poolSize];
+        scores = new double[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            userIds[i] = new UUID(7L, i);
+            scores[i] = Math.round(random.nextDouble() * 1000) / 10.0; // 동점이 생기도록 소수 첫째 자리까지
+        }
+    }
+
+    @Benchmark
+    public List<TopKRanker.Ranked<UUID>> topKRanker() {
+        TopKRanker<UUID> ranker = new TopKRanker<>(pageSize, null);
+        for (int i = 0; i < poolSize; i++) {
+            ranker.offer(userIds[i], userIds[i], scores[i]);
+        }
+        return ranker.drain();
+    }
+
+    @Benchmark
+    public List<TopKRanker.Ranked<UUID>> fullSortBaseline() {
+        List<TopKRanker.Ranked<UUID>> all = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            all.add(new TopKRanker.Ranked<>(userIds[i], userIds[i], scores[i]));
+        }
+        all.sort(Comparator.comparingDouble((TopKRanker.Ranked<UUID> ranked) -> ranked.score()).reversed()
+                .thenComparing(TopKRanker.Ranked::userId));
+        return all.subList(0, Math.min(pageSize, all.size()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.studymate.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * 전체 개수를 세지 않으므로 데이터 양과 무관하게 페이지 조회 비용이 일정하다.
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+
+    /**
+     * size + 1개까지 조회한 결과로 응답 생성
+     * 초과 항목이 있으면 다음 페이지가 있는 것으로 보고 마지막으로 반환한 항목의 커서를 내려준다.
+     */
+    public static <E, T> CursorPageResponse<T> fromOverfetched(List<E> rows, int size,
+                                                               Function<E, String> cursorOf,
+                                                               Function<List<E>, List<T>> converter) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(converter.apply(page))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
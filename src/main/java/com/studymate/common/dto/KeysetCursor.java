@@ -0,0 +1,34 @@
+package com.studymate.common.dto;
+
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * (createdAt, id) 키셋 페이지네이션 커서
+ * 문자열 형식: "{createdAt ISO-8601}_{id}" — 정렬은 createdAt 내림차순, 동일 시각이면 id 내림차순
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    public static KeysetCursor parse(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        int separator = value.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+        try {
+            return new KeysetCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value, e);
+        }
+    }
+
+    public static String encode(LocalDateTime createdAt, UUID id) {
+        return createdAt + "_" + id;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 /**
@@ -29,6 +30,17 @@ public class PageResponse<T> {
                 .build();
     }
 
+    /**
+     * COUNT 없이 조회한 {@link Slice} 변환. 전체 건수를 모르므로 totalElements / totalPages는 -1로 내려간다.
+     */
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .pagination(Pagination.fromSlice(slice))
+                .sort(SortInfo.from(slice.getSort()))
+                .build();
+    }
+
     @Getter
     @Builder
     public static class Pagination {
@@ -57,6 +69,21 @@ public class PageResponse<T> {
                     .empty(page.isEmpty())
                     .build();
         }
+
+        private static Pagination fromSlice(Slice<?> slice) {
+            return Pagination.builder()
+                    .page(slice.getNumber())
+                    .size(slice.getSize())
+                    .totalElements(-1)
+                    .totalPages(-1)
+                    .numberOfElements(slice.getNumberOfElements())
+                    .first(slice.isFirst())
+                    .last(slice.isLast())
+                    .hasNext(slice.hasNext())
+                    .hasPrevious(slice.hasPrevious())
+                    .empty(slice.isEmpty())
+                    .build();
+        }
     }
 
     @Getter
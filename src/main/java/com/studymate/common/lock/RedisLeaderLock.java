@@ -0,0 +1,78 @@
+package com.studymate.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 작업 리더 선출 잠금
+ * 여러 서버 중 한 대에서만 실행되어야 하는 배치 작업이 SET NX PX로 잠금을 잡고,
+ * 작업이 끝나면 자신이 잡은 잠금만 해제한다. 서버가 죽으면 TTL이 지나 다른 서버가 이어받는다.
+ * TTL보다 오래 걸릴 수 있는 작업은 단계마다 renew로 잠금을 연장하고, 연장에 실패하면 작업을 멈춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaderLock {
+
+    private static final String LOCK_PREFIX = "lock:leader:";
+
+    // 잠금 값이 내 노드 ID일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 잠금 값이 내 노드 ID일 때만 TTL 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 잠금 획득 시도 (Redis 오류 시 획득 실패로 간주)
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + name, nodeId, ttl));
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire leader lock {}: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 내가 잡은 잠금의 TTL 연장 (잠금을 잃었거나 Redis 오류면 false)
+     */
+    public boolean renew(String name, Duration ttl) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_PREFIX + name), nodeId,
+                    String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("Failed to renew leader lock {}: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + name), nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release leader lock {}: {}", name, e.getMessage());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
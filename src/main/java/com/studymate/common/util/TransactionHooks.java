@@ -0,0 +1,30 @@
+package com.studymate.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 헬퍼
+ * 캐시 / 인덱스 갱신처럼 롤백된 변경이 반영되면 안 되는 작업을 커밋 후로 미룬다.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 실행 (트랜잭션이 없으면 바로 실행)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
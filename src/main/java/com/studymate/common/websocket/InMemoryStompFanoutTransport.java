@@ -0,0 +1,39 @@
+package com.studymate.common.websocket;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * 단일 인스턴스용 메모리 전달 계층
+ * 같은 JVM 안의 구독자에게 발행 스레드에서 바로 전달한다. 여러 릴레이가 하나의 인스턴스를 공유하면
+ * 다중 서버 구성을 그대로 흉내낼 수 있어 테스트에도 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.fanout.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryStompFanoutTransport implements StompFanoutTransport {
+
+    private final Map<String, Set<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String channel, String payload) {
+        Set<Consumer<String>> channelListeners = listeners.get(channel);
+        if (channelListeners != null) {
+            channelListeners.forEach(listener -> listener.accept(payload));
+        }
+    }
+
+    @Override
+    public Subscription subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArraySet<>()).add(listener);
+        return () -> listeners.computeIfPresent(channel, (key, channelListeners) -> {
+            channelListeners.remove(listener);
+            return channelListeners.isEmpty() ? null : channelListeners;
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package com.studymate.common.websocket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 다중 인스턴스용 Redis pub/sub 전달 계층
+ * 서버마다 리스너 컨테이너 하나를 두고, 로컬 구독자가 있는 채널만 SUBSCRIBE 한다.
+ * pub/sub은 전달을 보장하지 않으므로 발행 시점에 연결이 끊긴 서버는 해당 메시지를 받지 못한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.fanout.mode", havingValue = "redis")
+public class RedisStompFanoutTransport implements StompFanoutTransport {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisStompFanoutTransport(RedisTemplate<String, String> redisTemplate,
+                                     RedisConnectionFactory redisConnectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(redisConnectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @Override
+    public void publish(String channel, String payload) {
+        try {
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish STOMP fan-out message to {}: {}", channel, e.getMessage());
+        }
+    }
+
+    @Override
+    public Subscription subscribe(String channel, Consumer<String> listener) {
+        ChannelTopic topic = new ChannelTopic(channel);
+        MessageListener messageListener = (message, pattern) ->
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+        listenerContainer.addMessageListener(messageListener, topic);
+        return () -> listenerContainer.removeMessageListener(messageListener, topic);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        listenerContainer.destroy();
+    }
+}
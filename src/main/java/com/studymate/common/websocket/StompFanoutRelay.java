@@ -0,0 +1,242 @@
+package com.studymate.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 간 STOMP 메시지 팬아웃
+ * 심플 브로커는 같은 JVM에 연결된 클라이언트에게만 메시지를 보내므로, 이 서버에서 발행된 방 / 사용자 목적지 메시지를
+ * {@link StompFanoutTransport}로 다른 서버에 전달하고, 받은 메시지는 각 서버의 브로커 채널로 다시 넣는다.
+ * 서버는 로컬 클라이언트가 구독 중인 목적지(방 목적지는 목적지별, 사용자 목적지는 사용자별) 채널만 구독하므로
+ * 구독자가 없는 방의 트래픽은 받지 않는다.
+ */
+@Slf4j
+@Component
+public class StompFanoutRelay implements ChannelInterceptor {
+
+    static final String CHANNEL_PREFIX = "stomp:fanout:";
+    // 다른 서버에서 전달된 메시지 표시 (다시 전달하지 않음)
+    private static final String RELAYED_HEADER = "fanoutRelayed";
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final List<String> ROOM_DESTINATION_PREFIXES = List.of("/sub/", "/topic/");
+
+    private final AbstractSubscribableChannel brokerChannel;
+    private final StompFanoutTransport transport;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 채널별 로컬 구독 수 (0이 되면 전달 계층 구독 해제)
+    private final Map<String, LocalChannel> localChannels = new HashMap<>();
+    // 세션별 구독 ID → 채널
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public StompFanoutRelay(@Qualifier("brokerChannel") AbstractSubscribableChannel brokerChannel,
+                            StompFanoutTransport transport,
+                            ObjectMapper objectMapper) {
+        this.brokerChannel = brokerChannel;
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void register() {
+        brokerChannel.addInterceptor(this);
+    }
+
+    /**
+     * 이 서버에서 브로커로 발행되는 메시지를 다른 서버에 전달
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        // 사용자 목적지 해석 결과(세션별 목적지)는 원래 메시지를 받은 서버에서 다시 만들어지므로 제외
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || destination == null
+                || headers.containsKey(RELAYED_HEADER)
+                || headers.containsKey(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION)) {
+            return message;
+        }
+
+        String fanoutChannel = channelFor(destination);
+        if (fanoutChannel != null) {
+            publish(fanoutChannel, destination, message);
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null || destination == null) {
+            return;
+        }
+        String fanoutChannel = subscriptionChannelFor(destination, event.getUser());
+        if (fanoutChannel == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), fanoutChannel);
+        retain(fanoutChannel);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null
+                ? sessionSubscriptions.get(accessor.getSessionId())
+                : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String fanoutChannel = subscriptions.remove(accessor.getSubscriptionId());
+        if (fanoutChannel != null) {
+            release(fanoutChannel);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * 발행 목적지 → 팬아웃 채널 (/user/{사용자}/... 는 사용자별, 방 / 브로드캐스트 목적지는 목적지별, 그 외는 null)
+     */
+    static String channelFor(String destination) {
+        if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            int end = destination.indexOf('/', USER_DESTINATION_PREFIX.length());
+            return end > USER_DESTINATION_PREFIX.length()
+                    ? CHANNEL_PREFIX + "user:" + destination.substring(USER_DESTINATION_PREFIX.length(), end)
+                    : null;
+        }
+        for (String prefix : ROOM_DESTINATION_PREFIXES) {
+            if (destination.startsWith(prefix)) {
+                return CHANNEL_PREFIX + "dest:" + destination;
+            }
+        }
+        return null;
+    }
+
+    // Private helper methods
+
+    /**
+     * 구독 목적지 → 팬아웃 채널 (사용자 목적지 구독은 목적지에 사용자가 없으므로 인증된 사용자 기준)
+     */
+    private static String subscriptionChannelFor(String destination, Principal user) {
+        if (destination.startsWith(USER_DESTINATION_PREFIX) && user != null) {
+            return CHANNEL_PREFIX + "user:" + user.getName();
+        }
+        return channelFor(destination);
+    }
+
+    private void publish(String fanoutChannel, String destination, Message<?> message) {
+        byte[] payload = toBytes(message.getPayload());
+        if (payload == null) {
+            return;
+        }
+        MimeType contentType = SimpMessageHeaderAccessor.getContentType(message.getHeaders());
+        try {
+            transport.publish(fanoutChannel, objectMapper.writeValueAsString(new FanoutEnvelope(
+                    nodeId, destination, contentType != null ? contentType.toString() : null, payload)));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize STOMP fan-out message for {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private void onRemoteMessage(String payload) {
+        try {
+            FanoutEnvelope envelope = objectMapper.readValue(payload, FanoutEnvelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+            brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.warn("Failed to deliver STOMP fan-out message: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void retain(String fanoutChannel) {
+        LocalChannel local = localChannels.get(fanoutChannel);
+        if (local == null) {
+            local = new LocalChannel(transport.subscribe(fanoutChannel, this::onRemoteMessage));
+            localChannels.put(fanoutChannel, local);
+        }
+        local.subscriberCount++;
+    }
+
+    private synchronized void release(String fanoutChannel) {
+        LocalChannel local = localChannels.get(fanoutChannel);
+        if (local != null && --local.subscriberCount <= 0) {
+            localChannels.remove(fanoutChannel);
+            local.subscription.cancel();
+        }
+    }
+
+    private static byte[] toBytes(Object payload) {
+        if (payload instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (payload instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    private static final class LocalChannel {
+        private final StompFanoutTransport.Subscription subscription;
+        private int subscriberCount;
+
+        private LocalChannel(StompFanoutTransport.Subscription subscription) {
+            this.subscription = subscription;
+        }
+    }
+
+    /**
+     * 서버 간 전달 형식 (payload는 JSON에서 Base64로 직렬화)
+     */
+    record FanoutEnvelope(String origin, String destination, String contentType, byte[] payload) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.studymate.common.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 STOMP 메시지 전달 계층
+ * websocket.fanout.mode 설정으로 단일 인스턴스용 메모리 구현(memory, 기본값)과
+ * 다중 인스턴스용 Redis pub/sub 구현(redis) 중 하나가 등록된다.
+ * 채널 단위로 구독하므로 서버는 자신이 구독한 채널의 메시지만 받는다.
+ */
+public interface StompFanoutTransport {
+
+    /**
+     * 채널 구독자 전체에게 메시지 발행 (발행한 서버 자신도 구독 중이면 받는다)
+     */
+    void publish(String channel, String payload);
+
+    /**
+     * 채널 구독 (반환된 구독을 취소할 때까지 유지)
+     */
+    Subscription subscribe(String channel, Consumer<String> listener);
+
+    interface Subscription {
+        void cancel();
+    }
+}
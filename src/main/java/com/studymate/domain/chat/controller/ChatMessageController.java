@@ -1,5 +1,6 @@
 package com.studymate.domain.chat.controller;
 
+import com.studymate.common.dto.CursorPageResponse;
 import com.studymate.common.dto.ResponseDto;
 import com.studymate.domain.chat.dto.response.ChatMessageResponse;
 import com.studymate.domain.chat.service.ChatService;
@@ -33,4 +34,24 @@ public class ChatMessageController {
                 ResponseDto.of(history, "채팅 히스토리 조회 완료")
         );
     }
+
+    /**
+     * 순번 커서 기반 히스토리 (beforeSeq: 이전 메시지, afterSeq: 이후 메시지, 둘 다 없으면 최신 메시지)
+     * 응답의 nextCursor를 같은 방향 파라미터로 다시 전달하면 다음 페이지를 조회한다.
+     */
+    @GetMapping("/history")
+    public ResponseEntity<ResponseDto<CursorPageResponse<ChatMessageResponse>>> getChatHistoryBySeq(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long beforeSeq,
+            @RequestParam(required = false) Long afterSeq,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        CursorPageResponse<ChatMessageResponse> history =
+                chatService.getMessageHistory(roomId, userId, beforeSeq, afterSeq, size);
+        return ResponseEntity.ok(
+                ResponseDto.of(history, "채팅 히스토리 조회 완료")
+        );
+    }
 }
@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 @Builder
 public record ChatMessageResponse(
         Long messageId,
+        Long seq,
         ParticipantDto sender,
         String message,
         List<String> imageUrls,
@@ -21,6 +22,13 @@ public record ChatMessageResponse(
         LocalDateTime sentAt
 ) {
     public static ChatMessageResponse from(ChatMessage msg) {
+        return from(msg, msg.getCreatedAt());
+    }
+
+    /**
+     * 아직 저장되지 않은 메시지는 생성 시각이 없으므로 전송 시각을 따로 받는다
+     */
+    public static ChatMessageResponse from(ChatMessage msg, LocalDateTime sentAt) {
         MessageType messageType;
         if (msg.isOnlyAudio()) {
             messageType = MessageType.AUDIO;
@@ -56,6 +64,7 @@ public record ChatMessageResponse(
 
         return ChatMessageResponse.builder()
                 .messageId(msg.getId())
+                .seq(msg.getSeq())
                 .sender(new ParticipantDto() {
                     public UUID getUserId() { return msg.getSender().getUserId(); }
                     public String getName() { return msg.getSender().getName(); }
@@ -66,7 +75,7 @@ public record ChatMessageResponse(
                 .audioUrl(msg.getAudioUrl())
                 .files(fileResponses)
                 .messageType(messageType)
-                .sentAt(msg.getCreatedAt())
+                .sentAt(sentAt)
                 .build();
     }
 }
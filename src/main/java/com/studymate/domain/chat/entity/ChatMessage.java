@@ -4,6 +4,7 @@ import com.studymate.common.entity.BaseTimeEntity;
 import com.studymate.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,10 +14,12 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "CHAT_MESSAGE")
-public class ChatMessage extends BaseTimeEntity {
+@Table(name = "CHAT_MESSAGE", indexes = {
+        @Index(name = "idx_chat_message_room_seq", columnList = "room_id, seq")
+})
+public class ChatMessage extends BaseTimeEntity implements Persistable<Long> {
+    // ChatMessageIdAllocator가 할당한 ID (지연 저장 전에 브로드캐스트되므로 DB가 생성하지 않음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "message_id")
     private Long id;
 
@@ -24,6 +27,10 @@ public class ChatMessage extends BaseTimeEntity {
     @JoinColumn(name = "room_id", nullable = false)
     private ChatRoom chatRoom;
 
+    // 방 안에서 단조 증가하는 순번 (히스토리 커서)
+    @Column(name = "seq")
+    private Long seq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User sender;
@@ -42,6 +49,10 @@ public class ChatMessage extends BaseTimeEntity {
     @OneToMany(mappedBy = "chatMessage", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatFile> files = new ArrayList<>();
 
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
     public void addImage(ChatImage image) {
         this.images.add(image);
         image.setChatMessage(this);
@@ -87,4 +98,15 @@ public class ChatMessage extends BaseTimeEntity {
     public String getContent() {
         return this.message;
     }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
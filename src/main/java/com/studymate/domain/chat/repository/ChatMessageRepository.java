@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +20,40 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     long countByRoomIdAndSenderIdNot(@Param("roomId") Long roomId, @Param("userId") UUID userId);
     
     Optional<ChatMessage> findTopByChatRoom_IdOrderByCreatedAtDesc(Long roomId);
+
+    /**
+     * 방별 최신 메시지 행 (messageId, roomId, senderId, senderName, message, audioUrl, imageCount, fileCount, createdAt)
+     */
+    @Query("SELECT m.id, m.chatRoom.id, s.userId, s.name, m.message, m.audioUrl, " +
+           "(SELECT COUNT(i) FROM ChatImage i WHERE i.chatMessage = m), " +
+           "(SELECT COUNT(f) FROM ChatFile f WHERE f.chatMessage = m), " +
+           "m.createdAt " +
+           "FROM ChatMessage m JOIN m.sender s " +
+           "WHERE m.chatRoom.id IN :roomIds " +
+           "AND m.createdAt = (SELECT MAX(m2.createdAt) FROM ChatMessage m2 WHERE m2.chatRoom = m.chatRoom)")
+    List<Object[]> findLatestMessageRowsByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM ChatMessage m")
+    long findMaxId();
+
+    @Query("SELECT COALESCE(MAX(m.seq), 0) FROM ChatMessage m WHERE m.chatRoom.id = :roomId")
+    long findMaxSeqByRoomId(@Param("roomId") Long roomId);
+
+    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.seq IS NULL")
+    long countBySeqIsNullAndRoomId(@Param("roomId") Long roomId);
+
+    // 순번 커서 조회 (room_id, seq 인덱스)
+
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.chatRoom.id = :roomId AND m.seq IS NOT NULL ORDER BY m.seq DESC")
+    List<ChatMessage> findLatestBySeq(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.chatRoom.id = :roomId AND m.seq < :beforeSeq ORDER BY m.seq DESC")
+    List<ChatMessage> findBeforeSeq(@Param("roomId") Long roomId, @Param("beforeSeq") Long beforeSeq, Pageable pageable);
+
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.chatRoom.id = :roomId AND m.seq > :afterSeq AND m.seq <= :maxSeq ORDER BY m.seq ASC")
+    List<ChatMessage> findAfterSeq(@Param("roomId") Long roomId, @Param("afterSeq") Long afterSeq,
+                                   @Param("maxSeq") Long maxSeq, Pageable pageable);
 }
@@ -14,10 +14,17 @@ import java.util.UUID;
 public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomParticipant, ChatRoomParticipantId> {
     List<ChatRoomParticipant> findByUserUserId(UUID userId);
     Optional<ChatRoomParticipant> findByRoomIdAndUserUserId(Long roomId, UUID userId);
+    boolean existsByRoomIdAndUserUserId(Long roomId, UUID userId);
     
     @Query("SELECT COUNT(p) FROM ChatRoomParticipant p WHERE p.room = :chatRoom")
     int countByChatRoom(@Param("chatRoom") ChatRoom chatRoom);
     
     @Query("SELECT p.room FROM ChatRoomParticipant p WHERE p.user.userId = :userId")
     List<ChatRoom> findRoomsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT p.room.id FROM ChatRoomParticipant p WHERE p.user.userId = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT p.user.userId FROM ChatRoomParticipant p WHERE p.room.id = :roomId")
+    List<UUID> findUserIdsByRoomId(@Param("roomId") Long roomId);
 }
\ No newline at end of file
@@ -2,9 +2,20 @@ package com.studymate.domain.chat.repository;
 
 import com.studymate.domain.chat.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     List<ChatRoom> findByIsPublicTrue();
+
+    @Query("SELECT r.id FROM ChatRoom r WHERE r.isPublic = true")
+    List<Long> findPublicRoomIds();
+
+    @Query("SELECT DISTINCT r FROM ChatRoom r " +
+           "LEFT JOIN FETCH r.participants p LEFT JOIN FETCH p.user " +
+           "WHERE r.id IN :roomIds")
+    List<ChatRoom> findAllWithParticipantsByIdIn(@Param("roomIds") Collection<Long> roomIds);
 }
@@ -35,6 +35,8 @@ public class ChatFileServiceImpl implements ChatFileService {
 
     private final ChatFileRepository chatFileRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageIdAllocator chatMessageIdAllocator;
+    private final ChatRoomSummaryCache chatRoomSummaryCache;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     
@@ -58,10 +60,13 @@ public class ChatFileServiceImpl implements ChatFileService {
 
         // 메시지 생성
         ChatMessage chatMessage = ChatMessage.builder()
+                .id(chatMessageIdAllocator.nextId())
+                .seq(chatMessageIdAllocator.nextSeq(roomId))
                 .chatRoom(chatRoom)
                 .sender(user)
                 .message(message)
                 .build();
+        chatMessageIdAllocator.completeSeqAfterTransaction(roomId, chatMessage.getSeq());
 
         chatMessage = chatMessageRepository.save(chatMessage);
 
@@ -80,6 +85,12 @@ public class ChatFileServiceImpl implements ChatFileService {
             }
         }
 
+        LocalDateTime sentAt = chatMessage.getCreatedAt() != null ? chatMessage.getCreatedAt() : LocalDateTime.now();
+        chatRoomSummaryCache.recordMessage(roomId, ChatRoomSummaryCache.LastMessage.of(
+                chatMessage.getId(), userId, user.getName(), chatMessage.getMessage(),
+                chatMessage.hasImages(), chatMessage.hasFiles(), chatMessage.hasAudio(),
+                ChatRoomSummaryCache.toMillis(sentAt)));
+
         return ChatMessageResponse.from(chatMessage);
     }
 
@@ -0,0 +1,189 @@
+package com.studymate.domain.chat.service;
+
+import com.studymate.domain.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 채팅 메시지 ID / 방별 순번 할당기
+ * Redis 카운터에서 ID 구간을 한 번에 예약하고 구간 안에서는 메모리에서 ID를 나눠준다.
+ * 방별 순번(seq)은 방마다 Redis 카운터를 하나씩 두고 메시지마다 증가시킨다.
+ * 모든 서버가 같은 카운터를 쓰므로 DB에 저장되기 전에도 ID / 순번이 겹치지 않는다.
+ * 카운터가 없으면(최초 실행, Redis 초기화) DB 최대값에 여유 구간을 더한 값으로 다시 시작한다.
+ * 할당했지만 아직 DB에 저장되지 않은 순번은 방별 Sorted Set(점수 = 할당 시각)에 두고, 저장되면 제거한다.
+ * 가장 작은 미저장 순번 바로 앞까지가 저장이 끝난 구간(persistedSeq)이며, afterSeq 조회는 여기까지만 읽는다.
+ * 서버가 죽어 제거되지 못한 순번은 ABANDON_AFTER가 지나면 포기한 것으로 보고 건너뛴다.
+ * 지연 저장이 길어진 메시지는 포기되기 전에 새 순번을 받아 저장하므로, 포기된 순번으로 늦게 저장되는 행은 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdAllocator {
+
+    private static final String SEQUENCE_KEY = "chat:message:id-seq";
+    private static final int BLOCK_SIZE = 1000;
+    // Redis 초기화 시 아직 DB에 저장되지 않은 메시지 ID를 건너뛰기 위한 여유 구간
+    private static final long RESEED_GAP = 100_000L;
+
+    private static final String ROOM_SEQ_PREFIX = "chat:room:seq:";
+    private static final long SEQ_RESEED_GAP = 1_000L;
+
+    private static final String IN_FLIGHT_SEQ_PREFIX = "chat:room:seq:in-flight:";
+    // 이 시간 안에 저장되지 않은 순번은 포기 (지연 저장 재시도와 Redis 목록 복구 주기보다 충분히 길게)
+    private static final Duration ABANDON_AFTER = Duration.ofMinutes(2);
+    // 이 시간이 지나도 저장하지 못한 순번은 포기되기 전에 새 순번으로 바꿔 저장 (저장 중 포기되지 않도록 여유를 둠)
+    private static final Duration REASSIGN_AFTER = ABANDON_AFTER.dividedBy(2);
+    private static final Duration IN_FLIGHT_TTL = Duration.ofDays(1);
+
+    // 카운터가 있을 때만 구간 예약 (없으면 -1)
+    private static final DefaultRedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 카운터가 있을 때만 순번 증가 후 미저장 순번으로 등록 (없으면 -1)
+    private static final DefaultRedisScript<Long> NEXT_SEQ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local seq = redis.call('INCR', KEYS[1]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[1], seq) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "return seq",
+            Long.class);
+
+    // 포기한 순번을 정리하고, 가장 작은 미저장 순번 - 1 (없으면 마지막 할당 순번) 반환 (카운터가 없으면 -1)
+    private static final DefaultRedisScript<Long> PERSISTED_SEQ_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1]) " +
+            "local allocated = redis.call('GET', KEYS[1]) " +
+            "if not allocated then return -1 end " +
+            "local persisted = tonumber(allocated) " +
+            "for _, seq in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do " +
+            "local before = tonumber(seq) - 1 " +
+            "if before < persisted then persisted = before end " +
+            "end " +
+            "return persisted",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+
+    private long nextId;
+    private long blockEnd;
+
+    /**
+     * 다음 메시지 ID
+     */
+    public synchronized long nextId() {
+        if (nextId >= blockEnd) {
+            long end = reserveBlock();
+            nextId = end - BLOCK_SIZE + 1;
+            blockEnd = end + 1;
+        }
+        return nextId++;
+    }
+
+    /**
+     * 방의 다음 메시지 순번
+     * 순번이 없는 기존 메시지는 ChatMessageSeqBackfill이 1부터 채우므로 그 개수만큼 건너뛰고 시작한다.
+     */
+    public long nextSeq(Long roomId) {
+        String key = ROOM_SEQ_PREFIX + roomId;
+        Long seq = allocateSeq(roomId);
+        if (seq != null && seq < 0) {
+            long seed = chatMessageRepository.findMaxSeqByRoomId(roomId)
+                    + chatMessageRepository.countBySeqIsNullAndRoomId(roomId)
+                    + SEQ_RESEED_GAP;
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seed));
+            seq = allocateSeq(roomId);
+        }
+        if (seq == null || seq < 0) {
+            throw new IllegalStateException("채팅방 메시지 순번을 할당할 수 없습니다.");
+        }
+        return seq;
+    }
+
+    /**
+     * 저장이 끝난(또는 저장하지 않기로 한) 순번을 미저장 목록에서 제거
+     * Redis 오류로 제거하지 못한 순번은 ABANDON_AFTER가 지나면 정리된다.
+     */
+    public void completeSeqs(Long roomId, Collection<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(IN_FLIGHT_SEQ_PREFIX + roomId,
+                    seqs.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.warn("Failed to complete in-flight seqs {} of room {}: {}", seqs, roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝나면(커밋 / 롤백 모두) 순번 완료 처리 (트랜잭션이 없으면 바로)
+     * 지연 저장 큐를 거치지 않고 JPA로 바로 저장하는 메시지에 사용한다.
+     */
+    public void completeSeqAfterTransaction(Long roomId, long seq) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeSeqs(roomId, List.of(seq));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                completeSeqs(roomId, List.of(seq));
+            }
+        });
+    }
+
+    /**
+     * 이 순번까지는 모두 DB에 저장되었거나 포기한 상태 (afterSeq 조회 상한)
+     * 카운터가 없으면(Redis 초기화) 미저장 정보도 없으므로 상한을 두지 않는다.
+     */
+    public long persistedSeq(Long roomId) {
+        long abandonBefore = System.currentTimeMillis() - ABANDON_AFTER.toMillis();
+        Long persisted = redisTemplate.execute(PERSISTED_SEQ_SCRIPT,
+                List.of(ROOM_SEQ_PREFIX + roomId, IN_FLIGHT_SEQ_PREFIX + roomId), String.valueOf(abandonBefore));
+        return persisted == null || persisted < 0 ? Long.MAX_VALUE : persisted;
+    }
+
+    /**
+     * 이 시각에 할당한 순번이 곧 포기되는지 (늦게 저장하는 메시지는 새 순번을 받아야 함)
+     */
+    public boolean isNearlyAbandoned(long allocatedAtMillis) {
+        return System.currentTimeMillis() - allocatedAtMillis >= REASSIGN_AFTER.toMillis();
+    }
+
+    // Private helper methods
+
+    private Long allocateSeq(Long roomId) {
+        return redisTemplate.execute(NEXT_SEQ_SCRIPT,
+                List.of(ROOM_SEQ_PREFIX + roomId, IN_FLIGHT_SEQ_PREFIX + roomId),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(IN_FLIGHT_TTL.toMillis()));
+    }
+
+    /**
+     * 구간 예약 후 구간의 마지막 ID 반환
+     */
+    private long reserveBlock() {
+        Long end = redisTemplate.execute(RESERVE_SCRIPT, List.of(SEQUENCE_KEY), String.valueOf(BLOCK_SIZE));
+        if (end != null && end < 0) {
+            long seed = chatMessageRepository.findMaxId() + RESEED_GAP;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(SEQUENCE_KEY, String.valueOf(seed)))) {
+                log.info("Chat message id sequence seeded at {}", seed);
+            }
+            end = redisTemplate.execute(RESERVE_SCRIPT, List.of(SEQUENCE_KEY), String.valueOf(BLOCK_SIZE));
+        }
+        if (end == null || end < 0) {
+            throw new IllegalStateException("채팅 메시지 ID 구간을 예약할 수 없습니다.");
+        }
+        return end;
+    }
+}
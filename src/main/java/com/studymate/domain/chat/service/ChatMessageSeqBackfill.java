@@ -0,0 +1,147 @@
+package com.studymate.domain.chat.service;
+
+import com.studymate.common.lock.RedisLeaderLock;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 순번(seq)이 없는 기존 채팅 메시지에 방별 순번 부여
+ * 방마다 생성 시각 순으로 1부터 번호를 매긴다. 새 메시지 순번은 이 개수만큼 건너뛰고 시작하므로 겹치지 않는다.
+ * 한 서버만 리더 잠금을 잡고 방 단위로, 방 안에서는 청크 단위 트랜잭션으로 채운다.
+ * 잠금은 청크마다 연장하고, 연장하지 못하면(잠금 만료 후 다른 서버가 잡음) 바로 멈춰 두 서버가 같은 방에
+ * 겹치는 순번을 매기지 않게 한다. 서버 시작(readiness)을 늦추지 않도록 별도 스레드에서 실행한다.
+ * 중간에 멈췄다 다시 시작하면 남은 첫 메시지보다 앞선 행의 최대 순번부터 이어서 번호를 매긴다.
+ * 완료되면 Redis에 표시해 다음 서버 시작부터는 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSeqBackfill {
+
+    private static final String DONE_KEY = "chat:message:seq-backfilled";
+    private static final String LOCK_NAME = "chat-message-seq-backfill";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String ROOMS_SQL =
+            "SELECT DISTINCT room_id FROM CHAT_MESSAGE WHERE seq IS NULL AND room_id > ? ORDER BY room_id LIMIT ?";
+    private static final String CHUNK_SQL =
+            "SELECT message_id, created_at FROM CHAT_MESSAGE WHERE room_id = ? AND seq IS NULL " +
+            "ORDER BY created_at, message_id LIMIT ?";
+    // 이미 번호를 받은 기존 메시지 중 마지막 순번 (새 메시지는 모두 이 시각 이후에 생성됨)
+    private static final String RESUME_SEQ_SQL =
+            "SELECT COALESCE(MAX(seq), 0) FROM CHAT_MESSAGE WHERE room_id = ? AND seq IS NOT NULL AND created_at <= ?";
+    private static final String ASSIGN_SQL =
+            "UPDATE CHAT_MESSAGE SET seq = ? WHERE message_id = ? AND seq IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLeaderLock redisLeaderLock;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-seq-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(this::backfill);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void backfill() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+                return;
+            }
+            if (!redisLeaderLock.tryAcquire(LOCK_NAME, LOCK_TTL)) {
+                return;
+            }
+            try {
+                backfillRooms();
+                redisTemplate.opsForValue().set(DONE_KEY, "1");
+            } finally {
+                redisLeaderLock.release(LOCK_NAME);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill chat message seq: ", e);
+        }
+    }
+
+    // Private helper methods
+
+    private void backfillRooms() {
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        long afterRoomId = 0L;
+        long updated = 0;
+
+        List<Long> roomIds;
+        do {
+            roomIds = jdbcTemplate.queryForList(ROOMS_SQL, Long.class, afterRoomId, CHUNK_SIZE);
+            for (Long roomId : roomIds) {
+                updated += backfillRoom(roomId, chunkTransaction);
+                afterRoomId = roomId;
+            }
+        } while (roomIds.size() == CHUNK_SIZE);
+
+        log.info("Backfilled seq for {} chat messages", updated);
+    }
+
+    private long backfillRoom(Long roomId, TransactionTemplate chunkTransaction) {
+        long lastSeq = -1L;
+        long updated = 0;
+
+        List<Object[]> rows;
+        do {
+            rows = jdbcTemplate.query(CHUNK_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong("message_id"), rs.getTimestamp("created_at")},
+                    roomId, CHUNK_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            ensureLeader();
+            if (lastSeq < 0) {
+                lastSeq = jdbcTemplate.queryForObject(RESUME_SEQ_SQL, Long.class, roomId, (Timestamp) rows.get(0)[1]);
+            }
+
+            List<Object[]> assignments = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                assignments.add(new Object[]{++lastSeq, row[0]});
+            }
+            chunkTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ASSIGN_SQL, assignments));
+            updated += rows.size();
+        } while (rows.size() == CHUNK_SIZE);
+
+        return updated;
+    }
+
+    /**
+     * 다음 청크 전에 잠금 연장 (잃었으면 중단, 남은 방은 다음 시작 때 이어서 채움)
+     */
+    private void ensureLeader() {
+        if (Thread.currentThread().isInterrupted() || !redisLeaderLock.renew(LOCK_NAME, LOCK_TTL)) {
+            throw new IllegalStateException("채팅 메시지 순번 채우기 잠금을 잃었습니다.");
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.studymate.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅 메시지 지연 저장(write-behind) 큐
+ * 전송된 메시지는 ID가 할당된 상태로 이 큐에 쌓이고, 전용 스레드가 flush 주기마다 메시지 / 이미지를
+ * JDBC 배치 INSERT로 한 트랜잭션에 모아 저장한다. 바쁜 방에서 메시지마다 커밋을 기다리지 않는 대신
+ * 서버가 비정상 종료되면 최대 flush 주기 동안의 메시지를 잃을 수 있다 (정상 종료 시에는 모두 저장).
+ * 저장에 실패한 메시지는 버리지 않는다. 지수 백오프로 다시 시도하고, 그래도 실패하면 Redis 목록으로 옮겨
+ * 어느 서버든 다음 주기에 다시 저장하게 한다.
+ * 다시 시도해도 저장될 수 없는 메시지(FK / 길이 위반 등 무결성 오류)와 Redis 목록을 MAX_SPILLS번 오간 메시지는
+ * dead-letter 목록으로 옮기고 지표를 남긴다 (운영자가 확인 후 재처리).
+ * 재시도가 길어져 할당한 순번이 포기될 때가 되면 새 순번을 받아 저장한다. 포기된 순번 뒤로 이미 지나간
+ * afterSeq 조회도 늦게 저장된 메시지를 새 순번 위치에서 받는다 (실시간으로 받은 클라이언트는 메시지 ID로 중복 제거).
+ * 아직 저장되지 않은 메시지를 ID로 조회해야 하는 쪽은 flushIfPending으로 먼저 저장을 요청한다.
+ * 저장이 끝난 메시지의 방별 순번은 ChatMessageIdAllocator에 완료로 알려 afterSeq 조회 상한을 올린다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindQueue {
+
+    private static final int MAX_BATCH_SIZE = 500;
+    // 메모리 재시도 횟수 (초과하면 Redis 목록으로 옮김)
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long MAX_BACKOFF_MS = 30_000L;
+    private static final long SPILL_RESTORE_INTERVAL_MS = 30_000L;
+    // Redis 목록으로 옮길 수 있는 횟수 (초과하면 dead-letter 목록으로 옮김, 약 5분)
+    private static final int MAX_SPILLS = 10;
+
+    // 메모리 재시도로 저장하지 못한 메시지 (모든 서버가 공유)
+    private static final String SPILL_KEY = "chat:message:write-behind:spill";
+    // 저장을 포기한 메시지 (자동으로 다시 꺼내지 않음)
+    private static final String DEAD_LETTER_KEY = "chat:message:write-behind:dead-letter";
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO CHAT_MESSAGE (message_id, room_id, seq, user_id, message, audio_url, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO CHAT_IMAGE (message_id, image_url, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatMessageIdAllocator messageIdAllocator;
+    private final long flushIntervalMs;
+    private final Counter nonTransientDeadLetterCounter;
+    private final Counter exhaustedDeadLetterCounter;
+
+    private final BlockingQueue<PendingChatMessage> pending;
+    // 아직 저장되지 않은 메시지 (메인 큐 + 재시도 대기)
+    private final Map<Long, PendingChatMessage> pendingById = new ConcurrentHashMap<>();
+    // 백오프 대기 중인 재시도 (flush 잠금 아래에서만 접근)
+    private final List<PendingChatMessage> retries = new ArrayList<>();
+    private long lastSpillRestoreAt;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChatMessageWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       ChatMessageIdAllocator messageIdAllocator,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${chat.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+                                       @Value("${chat.write-behind.max-pending:50000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 요청 스레드의 트랜잭션 안에서 flush해도 메시지 저장은 별도로 커밋
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.messageIdAllocator = messageIdAllocator;
+        this.flushIntervalMs = flushIntervalMs;
+        this.nonTransientDeadLetterCounter = meterRegistry.counter("chat.write_behind.dead_lettered", "reason", "non_transient");
+        this.exhaustedDeadLetterCounter = meterRegistry.counter("chat.write_behind.dead_lettered", "reason", "retries_exhausted");
+        // 큐가 가득 차면 호출 스레드에서 바로 저장
+        this.pending = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        // 종료 시점까지 저장하지 못한 재시도 메시지는 다른 서버가 이어서 저장하도록 넘김
+        synchronized (this) {
+            retries.forEach(this::spill);
+            retries.clear();
+        }
+    }
+
+    /**
+     * 메시지 저장 예약 (한 배치 이상 쌓이면 다음 주기를 기다리지 않고 저장)
+     */
+    public void enqueue(PendingChatMessage message) {
+        pendingById.put(message.messageId(), message);
+        if (!pending.offer(message)) {
+            log.warn("Chat write-behind queue is full, persisting message {} synchronously", message.messageId());
+            persistNow(message);
+            return;
+        }
+        if (pending.size() >= MAX_BATCH_SIZE && !flusher.isShutdown() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    /**
+     * 아직 이 서버에서 저장 대기 중인 메시지인지
+     */
+    public boolean isPending(long messageId) {
+        return pendingById.containsKey(messageId);
+    }
+
+    /**
+     * 저장 대기 중인 메시지면 바로 flush (DB 행이 필요한 조회 직전에 호출)
+     * 백오프 대기 중인 재시도는 기다리지 않으므로, 호출 후에도 행이 없을 수 있다.
+     */
+    public void flushIfPending(long messageId) {
+        if (pendingById.containsKey(messageId)) {
+            flush();
+        }
+    }
+
+    /**
+     * 쌓인 메시지와 재시도 시각이 된 메시지를 모두 저장
+     */
+    public synchronized void flush() {
+        flushRequested.set(false);
+        long now = System.currentTimeMillis();
+
+        List<PendingChatMessage> due = new ArrayList<>();
+        retries.removeIf(message -> message.nextAttemptAt() <= now && due.add(reassignSeqIfAbandoned(message)));
+        for (int start = 0; start < due.size(); start += MAX_BATCH_SIZE) {
+            persist(due.subList(start, Math.min(start + MAX_BATCH_SIZE, due.size())), now);
+        }
+
+        List<PendingChatMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (pending.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            persist(batch, now);
+            batch.clear();
+        }
+
+        if (now - lastSpillRestoreAt >= SPILL_RESTORE_INTERVAL_MS) {
+            lastSpillRestoreAt = now;
+            restoreSpilled(now);
+        }
+    }
+
+    // Private helper methods
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error during chat write-behind flush: ", e);
+        }
+    }
+
+    private synchronized void persistNow(PendingChatMessage message) {
+        persist(List.of(message), System.currentTimeMillis());
+    }
+
+    /**
+     * 배치 저장이 실패하면 메시지별로 다시 저장해 문제 있는 메시지만 재시도
+     */
+    private void persist(List<PendingChatMessage> batch, long now) {
+        try {
+            write(batch);
+            completed(batch);
+            return;
+        } catch (Exception e) {
+            log.warn("Chat message batch insert failed ({} messages): {}", batch.size(), e.getMessage());
+        }
+
+        for (PendingChatMessage message : batch) {
+            try {
+                write(List.of(message));
+                completed(List.of(message));
+            } catch (DuplicateKeyException e) {
+                // 이전 시도가 실제로는 커밋된 경우
+                completed(List.of(message));
+            } catch (DataIntegrityViolationException e) {
+                // 다시 시도해도 같은 오류 (방 / 사용자 삭제, 길이 초과 등)
+                if (!deadLetter(message, nonTransientDeadLetterCounter, e)) {
+                    retryLater(message, now, e);
+                }
+            } catch (Exception e) {
+                retryLater(message, now, e);
+            }
+        }
+    }
+
+    private void completed(List<PendingChatMessage> messages) {
+        messages.forEach(message -> pendingById.remove(message.messageId()));
+        messages.stream()
+                .collect(Collectors.groupingBy(PendingChatMessage::roomId,
+                        Collectors.mapping(PendingChatMessage::seq, Collectors.toList())))
+                .forEach(messageIdAllocator::completeSeqs);
+    }
+
+    /**
+     * 지수 백오프로 재시도 예약, 메모리 재시도 횟수를 넘기면 Redis 목록으로 옮기고
+     * Redis 목록을 MAX_SPILLS번 오간 메시지는 dead-letter 목록으로 옮김 (옮기지 못하면 계속 메모리에서 재시도)
+     */
+    private void retryLater(PendingChatMessage message, long now, Exception cause) {
+        PendingChatMessage retried = message.retried(now + backoffMs(message.attempts()));
+        if (retried.attempts() >= MAX_ATTEMPTS) {
+            boolean moved = retried.spills() >= MAX_SPILLS
+                    ? deadLetter(retried, exhaustedDeadLetterCounter, cause)
+                    : spill(retried);
+            if (moved) {
+                return;
+            }
+        }
+        retries.add(retried);
+        log.warn("Chat message {} insert failed (attempt {}), will retry: {}",
+                message.messageId(), retried.attempts(), cause.getMessage());
+    }
+
+    private long backoffMs(int attempts) {
+        return Math.min(MAX_BACKOFF_MS, Math.max(1L, flushIntervalMs) << Math.min(attempts, 20));
+    }
+
+    private boolean spill(PendingChatMessage message) {
+        try {
+            redisTemplate.opsForList().rightPush(SPILL_KEY, objectMapper.writeValueAsString(message.spilled()));
+            pendingById.remove(message.messageId());
+            log.error("Chat message {} moved to the write-behind spill list after {} failed inserts",
+                    message.messageId(), message.attempts());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to spill chat message {}: {}", message.messageId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 저장을 포기하고 dead-letter 목록으로 옮김 (순번은 완료 처리해 afterSeq 조회가 기다리지 않게 함)
+     */
+    private boolean deadLetter(PendingChatMessage message, Counter counter, Exception cause) {
+        try {
+            redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("Failed to dead-letter chat message {}: {}", message.messageId(), e.getMessage());
+            return false;
+        }
+        completed(List.of(message));
+        counter.increment();
+        log.error("Chat message {} moved to the write-behind dead-letter list after {} spills: {}",
+                message.messageId(), message.spills(), cause.getMessage());
+        return true;
+    }
+
+    /**
+     * 할당한 지 오래되어 곧 포기될 순번이면 새 순번으로 교체
+     * 포기된 순번으로 늦게 저장하면 이미 그 순번을 지나간 afterSeq 조회가 메시지를 받지 못하기 때문이다.
+     * 새 순번을 받지 못하면(Redis 장애) 기존 순번으로 저장한다.
+     */
+    private PendingChatMessage reassignSeqIfAbandoned(PendingChatMessage message) {
+        if (!messageIdAllocator.isNearlyAbandoned(message.seqAllocatedAt())) {
+            return message;
+        }
+        try {
+            PendingChatMessage reassigned = message.withSeq(messageIdAllocator.nextSeq(message.roomId()), System.currentTimeMillis());
+            messageIdAllocator.completeSeqs(message.roomId(), List.of(message.seq()));
+            pendingById.put(reassigned.messageId(), reassigned);
+            log.warn("Chat message {} seq reassigned {} -> {} after delayed insert",
+                    message.messageId(), message.seq(), reassigned.seq());
+            return reassigned;
+        } catch (Exception e) {
+            log.warn("Failed to reassign seq of chat message {}: {}", message.messageId(), e.getMessage());
+            return message;
+        }
+    }
+
+    /**
+     * Redis 목록으로 옮겨진 메시지를 한 배치씩 꺼내 다시 저장 (LPOP이라 여러 서버가 나눠 가져감)
+     */
+    private void restoreSpilled(long now) {
+        List<PendingChatMessage> restored = new ArrayList<>();
+        while (restored.size() < MAX_BATCH_SIZE) {
+            String payload;
+            try {
+                payload = redisTemplate.opsForList().leftPop(SPILL_KEY);
+            } catch (Exception e) {
+                log.warn("Failed to restore spilled chat messages: {}", e.getMessage());
+                break;
+            }
+            if (payload == null) {
+                break;
+            }
+            try {
+                restored.add(reassignSeqIfAbandoned(objectMapper.readValue(payload, PendingChatMessage.class)));
+            } catch (Exception e) {
+                log.error("Discarding unreadable spilled chat message {}: {}", payload, e.getMessage());
+            }
+        }
+        if (!restored.isEmpty()) {
+            restored.forEach(message -> pendingById.put(message.messageId(), message));
+            persist(restored, now);
+        }
+    }
+
+    private void write(List<PendingChatMessage> messages) {
+        List<PendingImage> images = new ArrayList<>();
+        for (PendingChatMessage message : messages) {
+            for (String imageUrl : message.imageUrls()) {
+                images.add(new PendingImage(message.messageId(), imageUrl, message.createdAt()));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messages, messages.size(), (ps, message) -> {
+                ps.setLong(1, message.messageId());
+                ps.setLong(2, message.roomId());
+                ps.setLong(3, message.seq());
+                ps.setBytes(4, toBytes(message.senderId()));
+                ps.setString(5, message.message());
+                ps.setString(6, message.audioUrl());
+                ps.setObject(7, message.createdAt());
+                ps.setObject(8, message.createdAt());
+            });
+            if (!images.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images, images.size(), (ps, image) -> {
+                    ps.setLong(1, image.messageId());
+                    ps.setString(2, image.imageUrl());
+                    ps.setObject(3, image.createdAt());
+                    ps.setObject(4, image.createdAt());
+                });
+            }
+        });
+    }
+
+    /**
+     * UUID → BINARY(16) (Hibernate MySQL UUID 매핑과 동일)
+     */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 저장 대기 중인 메시지
+     *
+     * @param attempts       실패한 저장 시도 횟수
+     * @param nextAttemptAt  다음 재시도 가능 시각 (epoch millis, 0이면 즉시)
+     * @param spills         Redis 목록으로 옮겨진 횟수
+     * @param seqAllocatedAt 순번 할당 시각 (epoch millis)
+     */
+    public record PendingChatMessage(
+            long messageId,
+            Long roomId,
+            long seq,
+            UUID senderId,
+            String message,
+            String audioUrl,
+            List<String> imageUrls,
+            LocalDateTime createdAt,
+            int attempts,
+            long nextAttemptAt,
+            int spills,
+            long seqAllocatedAt
+    ) {
+        public PendingChatMessage(long messageId, Long roomId, long seq, UUID senderId, String message,
+                                  String audioUrl, List<String> imageUrls, LocalDateTime createdAt) {
+            this(messageId, roomId, seq, senderId, message, audioUrl, imageUrls != null ? imageUrls : List.of(), createdAt,
+                    0, 0L, 0, System.currentTimeMillis());
+        }
+
+        private PendingChatMessage retried(long nextAttemptAt) {
+            return new PendingChatMessage(messageId, roomId, seq, senderId, message, audioUrl, imageUrls, createdAt,
+                    attempts + 1, nextAttemptAt, spills, seqAllocatedAt);
+        }
+
+        private PendingChatMessage spilled() {
+            return new PendingChatMessage(messageId, roomId, seq, senderId, message, audioUrl, imageUrls, createdAt,
+                    0, 0L, spills + 1, seqAllocatedAt);
+        }
+
+        private PendingChatMessage withSeq(long seq, long seqAllocatedAt) {
+            return new PendingChatMessage(messageId, roomId, seq, senderId, message, audioUrl, imageUrls, createdAt,
+                    attempts, nextAttemptAt, spills, seqAllocatedAt);
+        }
+    }
+
+    private record PendingImage(long messageId, String imageUrl, LocalDateTime createdAt) {
+    }
+}
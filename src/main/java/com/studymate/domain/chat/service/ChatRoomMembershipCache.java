@@ -0,0 +1,150 @@
+package com.studymate.domain.chat.service;
+
+import com.studymate.common.util.TransactionHooks;
+import com.studymate.domain.chat.repository.ChatRoomParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채팅방 참여자 캐시
+ * 방별 참여자 ID Set을 Redis에 두고 메시지 전송 / 조회 권한 확인을 SISMEMBER 한 번으로 처리한다.
+ * Set이 없으면 DB에서 적재하고, 참여 / 나가기는 커밋 후 Set에 반영한다.
+ * 캐시에 없다고 나온 경우(적재와 참여가 엇갈린 경우 등)는 DB로 한 번 더 확인하므로 참여자가 거부되지 않는다.
+ * 나가기는 방별 버전을 올리고, 적재는 DB 조회 전에 읽은 버전이 그대로일 때만 Set을 한 번에 교체한다.
+ * 그래서 DB 조회 이후에 나간 사용자가 적재로 Set에 되살아나 권한을 유지하는 일이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembershipCache {
+
+    private static final String MEMBERS_PREFIX = "chat:room:members:";
+    // 나가기마다 증가하는 방별 버전 (적재 도중 나간 사용자를 되살리지 않기 위함)
+    private static final String VERSION_PREFIX = "chat:room:members:version:";
+    // 참여자가 없는 방도 적재된 상태로 표시
+    private static final String LOADED_MARKER = "-";
+    private static final Duration MEMBERS_TTL = Duration.ofMinutes(30);
+
+    // Set이 없으면 -1, 있으면 참여 여부 (1 / 0)
+    private static final DefaultRedisScript<Long> IS_MEMBER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 이미 적재된 Set에만 추가 (일부만 담긴 Set이 만들어지지 않도록)
+    private static final DefaultRedisScript<Long> ADD_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "return redis.call('SADD', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 버전이 DB 조회 전과 같을 때만 Set 교체 (ARGV[1] = 버전, ARGV[2] = TTL, 나머지 = 멤버)
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 버전을 올리고 제거 (Set이 아직 없어도 진행 중인 적재가 버려지도록)
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "return redis.call('SREM', KEYS[1], ARGV[1])",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatRoomParticipantRepository participantRepository;
+
+    /**
+     * 채팅방 참여 여부
+     */
+    public boolean isMember(Long roomId, UUID userId) {
+        String key = MEMBERS_PREFIX + roomId;
+        try {
+            Long result = redisTemplate.execute(IS_MEMBER_SCRIPT, List.of(key), userId.toString());
+            if (result != null && result == 1L) {
+                return true;
+            }
+            if (result != null && result < 0) {
+                return load(key, roomId).contains(userId.toString());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to check membership of user {} in room {}: {}", userId, roomId, e.getMessage());
+            return participantRepository.existsByRoomIdAndUserUserId(roomId, userId);
+        }
+
+        boolean member = participantRepository.existsByRoomIdAndUserUserId(roomId, userId);
+        if (member) {
+            addToLoadedSet(roomId, userId);
+        }
+        return member;
+    }
+
+    /**
+     * 참여자 추가 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void addAfterCommit(Long roomId, UUID userId) {
+        TransactionHooks.afterCommit(() -> addToLoadedSet(roomId, userId));
+    }
+
+    /**
+     * 참여자 제거 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void removeAfterCommit(Long roomId, UUID userId) {
+        TransactionHooks.afterCommit(() -> {
+            try {
+                redisTemplate.execute(REMOVE_SCRIPT, List.of(MEMBERS_PREFIX + roomId, VERSION_PREFIX + roomId),
+                        userId.toString(), String.valueOf(MEMBERS_TTL.toMillis()));
+            } catch (DataAccessException e) {
+                // 제거하지 못하면 Set을 버려 다음 조회 때 DB에서 다시 적재
+                log.warn("Failed to remove user {} from room {} membership: {}", userId, roomId, e.getMessage());
+                evict(roomId);
+            }
+        });
+    }
+
+    // Private helper methods
+
+    /**
+     * DB에서 적재 (DB 조회 이후 나간 사용자가 있으면 Set은 채우지 않고 이번 조회 결과만 반환)
+     */
+    private List<String> load(String key, Long roomId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + roomId);
+        List<String> members = new ArrayList<>();
+        members.add(LOADED_MARKER);
+        participantRepository.findUserIdsByRoomId(roomId).forEach(id -> members.add(id.toString()));
+
+        List<String> args = new ArrayList<>(members.size() + 2);
+        args.add(version != null ? version : "0");
+        args.add(String.valueOf(MEMBERS_TTL.toMillis()));
+        args.addAll(members);
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key, VERSION_PREFIX + roomId), args.toArray());
+        return members;
+    }
+
+    private void addToLoadedSet(Long roomId, UUID userId) {
+        try {
+            redisTemplate.execute(ADD_IF_LOADED_SCRIPT, List.of(MEMBERS_PREFIX + roomId), userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to add user {} to room {} membership: {}", userId, roomId, e.getMessage());
+        }
+    }
+
+    private void evict(Long roomId) {
+        try {
+            redisTemplate.delete(MEMBERS_PREFIX + roomId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict room {} membership: {}", roomId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.studymate.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studymate.common.util.TransactionHooks;
+import com.studymate.domain.chat.entity.ChatRoom;
+import com.studymate.domain.chat.entity.RoomType;
+import com.studymate.domain.chat.repository.ChatMessageRepository;
+import com.studymate.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 채팅방 목록용 방 요약 캐시
+ * 방 정보 + 참여자 스냅샷과 마지막 메시지 요약을 방별 JSON으로 Redis에 두고, 방 목록은 MGET 한 번으로 만든다.
+ * 마지막 메시지는 전송 시 바로 갱신하고(더 최근 메시지만 반영), 방 정보는 생성 / 참여 / 나가기 커밋 후 버린다.
+ * 캐시에 없는 방은 방 + 참여자 조회, 방별 최신 메시지 조회 두 쿼리로 한 번에 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryCache {
+
+    private static final String ROOM_PREFIX = "chat:room:summary:";
+    private static final String LAST_MESSAGE_PREFIX = "chat:room:last-message:";
+    // 메시지가 없는 방
+    private static final String NO_MESSAGE = "-";
+    private static final int PREVIEW_LENGTH = 50;
+
+    // 참여자 이름 / 프로필 이미지 변경은 TTL 안에 반영
+    private static final Duration ROOM_TTL = Duration.ofMinutes(10);
+    private static final Duration LAST_MESSAGE_TTL = Duration.ofDays(1);
+
+    // 저장된 마지막 메시지보다 최근 메시지일 때만 교체
+    private static final DefaultRedisScript<Long> RECORD_MESSAGE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if current and current ~= ARGV[4] and cjson.decode(current).sentAtMillis > tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatRoomRepository roomRepository;
+    private final ChatMessageRepository messageRepository;
+
+    /**
+     * 방 요약 목록 (요청 순서 유지, 없는 방은 제외)
+     */
+    public List<ChatRoomSummary> getSummaries(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RoomSnapshot> rooms = new HashMap<>();
+        Map<Long, LastMessage> lastMessages = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        readCache(roomIds, rooms, lastMessages, misses);
+        if (!misses.isEmpty()) {
+            loadFromDatabase(misses, rooms, lastMessages);
+        }
+
+        List<ChatRoomSummary> summaries = new ArrayList<>(roomIds.size());
+        for (Long roomId : roomIds) {
+            RoomSnapshot room = rooms.get(roomId);
+            if (room != null) {
+                summaries.add(new ChatRoomSummary(room, lastMessages.get(roomId)));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * 전송된 메시지를 마지막 메시지로 반영
+     */
+    public void recordMessage(Long roomId, LastMessage lastMessage) {
+        try {
+            redisTemplate.execute(RECORD_MESSAGE_SCRIPT, List.of(LAST_MESSAGE_PREFIX + roomId),
+                    objectMapper.writeValueAsString(lastMessage),
+                    String.valueOf(lastMessage.sentAtMillis()),
+                    String.valueOf(LAST_MESSAGE_TTL.toMillis()),
+                    NO_MESSAGE);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to record last message of room {}: {}", roomId, e.getMessage());
+            evictLastMessage(roomId);
+        }
+    }
+
+    /**
+     * 마지막 메시지 요약 삭제 (다음 조회 때 DB에서 다시 적재)
+     */
+    public void evictLastMessage(Long roomId) {
+        try {
+            redisTemplate.delete(LAST_MESSAGE_PREFIX + roomId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict last message of room {}: {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 방 정보 / 참여자 스냅샷 삭제 (현재 트랜잭션 커밋 후)
+     */
+    public void evictRoomAfterCommit(Long roomId) {
+        TransactionHooks.afterCommit(() -> {
+            try {
+                redisTemplate.delete(ROOM_PREFIX + roomId);
+            } catch (DataAccessException e) {
+                log.warn("Failed to evict summary of room {}: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 메시지 미리보기 문구
+     */
+    public static String preview(String message, boolean hasFiles, boolean hasImages, boolean hasAudio) {
+        if (message != null && !message.isEmpty()) {
+            return message.length() > PREVIEW_LENGTH ? message.substring(0, PREVIEW_LENGTH) + "..." : message;
+        } else if (hasFiles) {
+            return "파일을 전송했습니다.";
+        } else if (hasImages) {
+            return "이미지를 전송했습니다.";
+        } else if (hasAudio) {
+            return "음성 메시지를 전송했습니다.";
+        }
+        return "메시지";
+    }
+
+    /**
+     * 미리보기용 메시지 유형 (TEXT, IMAGE, FILE, AUDIO)
+     */
+    public static String messageType(boolean hasFiles, boolean hasImages, boolean hasAudio) {
+        if (hasFiles) return "FILE";
+        if (hasImages) return "IMAGE";
+        if (hasAudio) return "AUDIO";
+        return "TEXT";
+    }
+
+    public static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Private helper methods
+
+    private void readCache(List<Long> roomIds, Map<Long, RoomSnapshot> rooms,
+                           Map<Long, LastMessage> lastMessages, Set<Long> misses) {
+        List<String> keys = new ArrayList<>(roomIds.size() * 2);
+        for (Long roomId : roomIds) {
+            keys.add(ROOM_PREFIX + roomId);
+            keys.add(LAST_MESSAGE_PREFIX + roomId);
+        }
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read chat room summaries: {}", e.getMessage());
+            values = null;
+        }
+
+        for (int i = 0; i < roomIds.size(); i++) {
+            Long roomId = roomIds.get(i);
+            RoomSnapshot room = values != null ? read(values.get(i * 2), RoomSnapshot.class) : null;
+            String lastMessageValue = values != null ? values.get(i * 2 + 1) : null;
+            LastMessage lastMessage = NO_MESSAGE.equals(lastMessageValue) ? null : read(lastMessageValue, LastMessage.class);
+            if (room == null || (lastMessage == null && !NO_MESSAGE.equals(lastMessageValue))) {
+                misses.add(roomId);
+                continue;
+            }
+            rooms.put(roomId, room);
+            if (lastMessage != null) {
+                lastMessages.put(roomId, lastMessage);
+            }
+        }
+    }
+
+    private void loadFromDatabase(Set<Long> roomIds, Map<Long, RoomSnapshot> rooms, Map<Long, LastMessage> lastMessages) {
+        Map<String, String> values = new HashMap<>();
+
+        for (ChatRoom room : roomRepository.findAllWithParticipantsByIdIn(roomIds)) {
+            RoomSnapshot snapshot = RoomSnapshot.from(room);
+            rooms.put(room.getId(), snapshot);
+            values.put(ROOM_PREFIX + room.getId(), write(snapshot));
+        }
+
+        // 방별 최신 메시지 행 (m.id, roomId, senderId, senderName, message, audioUrl, imageCount, fileCount, createdAt)
+        for (Object[] row : messageRepository.findLatestMessageRowsByRoomIds(roomIds)) {
+            Long roomId = (Long) row[1];
+            LastMessage lastMessage = LastMessage.of((Long) row[0], (UUID) row[2], (String) row[3], (String) row[4],
+                    ((Long) row[6]) > 0, ((Long) row[7]) > 0, row[5] != null && !((String) row[5]).isEmpty(),
+                    toMillis((LocalDateTime) row[8]));
+            LastMessage current = lastMessages.get(roomId);
+            // 같은 시각 메시지가 여러 개면 ID가 큰 메시지
+            if (current == null || current.messageId() < lastMessage.messageId()) {
+                lastMessages.put(roomId, lastMessage);
+            }
+        }
+
+        for (Long roomId : roomIds) {
+            if (rooms.containsKey(roomId)) {
+                LastMessage lastMessage = lastMessages.get(roomId);
+                values.put(LAST_MESSAGE_PREFIX + roomId, lastMessage != null ? write(lastMessage) : NO_MESSAGE);
+            }
+        }
+        writeCache(values);
+    }
+
+    /**
+     * 채운 값 저장 (전송 시 기록된 더 최근 마지막 메시지를 덮어쓰지 않도록 없을 때만)
+     */
+    private void writeCache(Map<String, String> values) {
+        values.values().removeIf(Objects::isNull);
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    values.forEach((key, value) -> ops.opsForValue().setIfAbsent(key, value,
+                            key.startsWith(ROOM_PREFIX) ? ROOM_TTL : LAST_MESSAGE_TTL));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to write chat room summaries: {}", e.getMessage());
+        }
+    }
+
+    private <T> T read(String value, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse cached chat room summary: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize chat room summary: {}", e.getMessage());
+            return null;
+        }
+    }
+
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 방 요약 (마지막 메시지가 없으면 lastMessage는 null)
+     */
+    public record ChatRoomSummary(RoomSnapshot room, LastMessage lastMessage) {
+
+        public Long roomId() {
+            return room.roomId();
+        }
+
+        /**
+         * 마지막 메시지 시각 (메시지가 없으면 방 생성 시각)
+         */
+        public LocalDateTime lastActivityAt() {
+            return lastMessage != null ? lastMessage.sentAt() : room.createdAt();
+        }
+
+        public boolean hasParticipant(UUID userId) {
+            return room.participants().stream().anyMatch(p -> p.userId().equals(userId));
+        }
+
+        /**
+         * 참여 가능 여부 (ChatRoom.canJoin과 같은 기준)
+         */
+        public boolean canJoin(UUID userId) {
+            if (hasParticipant(userId)) {
+                return false;
+            }
+            if (room.isPublic() || room.roomType() == RoomType.ONE_TO_ONE) {
+                int maxAllowed = room.maxParticipants() != null ? room.maxParticipants() :
+                        (room.roomType() == RoomType.ONE_TO_ONE ? 2 : 4);
+                return room.participants().size() < maxAllowed;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 방 정보 + 참여자 스냅샷
+     */
+    public record RoomSnapshot(
+            Long roomId,
+            String roomName,
+            RoomType roomType,
+            boolean isPublic,
+            Integer maxParticipants,
+            long createdAtMillis,
+            List<ParticipantSnapshot> participants
+    ) {
+        static RoomSnapshot from(ChatRoom room) {
+            List<ParticipantSnapshot> participants = room.getParticipants().stream()
+                    .map(p -> new ParticipantSnapshot(p.getUser().getUserId(), p.getUser().getName(), p.getUser().getProfileImage()))
+                    .toList();
+            long createdAt = room.getCreatedAt() != null ? toMillis(room.getCreatedAt()) : System.currentTimeMillis();
+            return new RoomSnapshot(room.getId(), room.getRoomName(), room.getRoomType(), room.isPublic(),
+                    room.getMaxParticipants(), createdAt, participants);
+        }
+
+        public LocalDateTime createdAt() {
+            return toLocalDateTime(createdAtMillis);
+        }
+    }
+
+    public record ParticipantSnapshot(UUID userId, String name, String profileImage) {
+    }
+
+    /**
+     * 마지막 메시지 요약
+     */
+    public record LastMessage(
+            Long messageId,
+            UUID senderId,
+            String senderName,
+            String message,
+            String preview,
+            String messageType,
+            long sentAtMillis
+    ) {
+        public static LastMessage of(Long messageId, UUID senderId, String senderName, String message,
+                                     boolean hasImages, boolean hasFiles, boolean hasAudio, long sentAtMillis) {
+            return new LastMessage(messageId, senderId, senderName, message,
+                    preview(message, hasFiles, hasImages, hasAudio),
+                    messageType(hasFiles, hasImages, hasAudio),
+                    sentAtMillis);
+        }
+
+        public LocalDateTime sentAt() {
+            return toLocalDateTime(sentAtMillis);
+        }
+    }
+}
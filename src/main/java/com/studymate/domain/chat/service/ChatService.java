@@ -1,5 +1,6 @@
 package com.studymate.domain.chat.service;
 
+import com.studymate.common.dto.CursorPageResponse;
 import com.studymate.domain.chat.dto.request.ChatMessageRequest;
 import com.studymate.domain.chat.dto.request.ChatRoomCreateRequest;
 import com.studymate.domain.chat.dto.response.ChatMessageResponse;
@@ -17,6 +18,7 @@ public interface ChatService {
     List<ChatRoomListResponse> listChatRooms(UUID userId);
     List<ChatRoomListResponse> listPublicChatRooms(UUID userId);
     List<ChatMessageResponse> listMessages(Long roomId, UUID userId, int page, int size);
+    CursorPageResponse<ChatMessageResponse> getMessageHistory(Long roomId, UUID userId, Long beforeSeq, Long afterSeq, int size);
     ChatRoomResponse joinChatRoom(Long roomId, UUID userId);
     void leaveChatRoom(Long roomId, UUID userId);
     List<String> uploadChatImages(Long roomId, List<MultipartFile> files);
@@ -4,6 +4,7 @@ import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.studymate.common.dto.CursorPageResponse;
 import com.studymate.common.exception.StudymateExceptionType;
 import com.studymate.domain.chat.dto.request.ChatRoomCreateRequest;
 import com.studymate.domain.chat.dto.response.ChatMessageResponse;
@@ -15,7 +16,6 @@ import com.studymate.domain.chat.entity.ChatMessage;
 import com.studymate.domain.chat.entity.ChatRoom;
 import com.studymate.domain.chat.entity.ChatRoomParticipant;
 import com.studymate.domain.chat.entity.MessageType;
-import com.studymate.domain.chat.repository.ChatImageRepository;
 import com.studymate.domain.chat.repository.ChatMessageRepository;
 import com.studymate.domain.chat.repository.ChatRoomParticipantRepository;
 import com.studymate.domain.chat.repository.ChatRoomRepository;
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
@@ -46,13 +48,18 @@ import java.util.ArrayList;
 @Transactional
 public class ChatServiceImpl implements ChatService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final ChatRoomRepository roomRepo;
     private final ChatMessageRepository msgRepo;
     private final UserRepository userRepo;
     private final SimpMessagingTemplate template;
     private final ChatRoomParticipantRepository participantRepo;
     private final AmazonS3Client amazonS3;
-    private final ChatImageRepository chatImageRepo;
+    private final ChatMessageIdAllocator messageIdAllocator;
+    private final ChatMessageWriteBehindQueue writeBehindQueue;
+    private final ChatRoomMembershipCache membershipCache;
+    private final ChatRoomSummaryCache summaryCache;
 
     @Value("${cloud.ncp.storage.bucket-name}")
     private String bucketName;
@@ -81,6 +88,8 @@ public class ChatServiceImpl implements ChatService {
         }
 
         roomRepo.save(room);
+        room.getParticipants().forEach(p -> membershipCache.addAfterCommit(room.getId(), p.getUser().getUserId()));
+        summaryCache.evictRoomAfterCommit(room.getId());
 
         // 공개 채팅방 생성 시 모든 사용자에게 알림 전송
         if (room.isPublic()) {
@@ -101,39 +110,42 @@ public class ChatServiceImpl implements ChatService {
         return ChatRoomResponse.from(room);
     }
 
+    /**
+     * 메시지에 ID를 할당해 바로 브로드캐스트하고, 저장은 지연 저장 큐에 맡긴다
+     */
     @Override
+    @Transactional(readOnly = true)
     public void sendMessage(Long roomId, UUID senderId, String message, List<String> imageUrls, String audioUrl, MessageType messageType) {
-        ChatRoom room = roomRepo.findById(roomId)
-                .orElseThrow(() -> StudymateExceptionType.NOT_FOUND_CHAT_ROOM.of());
+        requireMember(roomId, senderId, "방에 속한 사용자만 메시지 전송 가능");
         User sender = userRepo.findById(senderId)
                 .orElseThrow(() -> StudymateExceptionType.NOT_FOUND_USER.of());
 
-        boolean inRoom = room.getParticipants().stream()
-                .anyMatch(p -> p.getUser().getUserId().equals(senderId));
-        if (!inRoom) {
-            throw StudymateExceptionType.UNAUTHORIZED_TOKEN_EXPIRED.of("방에 속한 사용자만 메시지 전송 가능");
-        }
-
+        LocalDateTime sentAt = LocalDateTime.now();
         ChatMessage msg = ChatMessage.builder()
-                .chatRoom(room)
+                .id(messageIdAllocator.nextId())
+                .seq(messageIdAllocator.nextSeq(roomId))
+                .chatRoom(roomRepo.getReferenceById(roomId))
                 .sender(sender)
                 .message(message.isEmpty() ? null : message)
                 .audioUrl(audioUrl)
                 .build();
-        msgRepo.save(msg);
 
         if (imageUrls != null && !imageUrls.isEmpty()) {
             for (String imageUrl : imageUrls) {
-                ChatImage chatImage = ChatImage.builder()
-                        .chatMessage(msg)
+                msg.addImage(ChatImage.builder()
                         .imageUrl(imageUrl)
-                        .build();
-                chatImageRepo.save(chatImage);
-                msg.addImage(chatImage); // 양방향 관계 설정
+                        .build()); // 양방향 관계 설정
             }
         }
 
-        ChatMessageResponse resp = ChatMessageResponse.from(msg);
+        writeBehindQueue.enqueue(new ChatMessageWriteBehindQueue.PendingChatMessage(
+                msg.getId(), roomId, msg.getSeq(), senderId, msg.getMessage(), audioUrl, imageUrls, sentAt));
+
+        summaryCache.recordMessage(roomId, ChatRoomSummaryCache.LastMessage.of(
+                msg.getId(), senderId, sender.getName(), msg.getMessage(),
+                msg.hasImages(), msg.hasFiles(), msg.hasAudio(), ChatRoomSummaryCache.toMillis(sentAt)));
+
+        ChatMessageResponse resp = ChatMessageResponse.from(msg, sentAt);
         template.convertAndSend("/sub/chat/room/" + roomId, resp);
     }
 
@@ -141,57 +153,14 @@ public class ChatServiceImpl implements ChatService {
     @Transactional(readOnly = true)
     public List<ChatRoomListResponse> listChatRooms(UUID userId) {
         // 참여 중인 채팅방 목록
-        List<ChatRoomParticipant> parts = participantRepo.findByUserUserId(userId);
-        List<ChatRoomListResponse> participatingRooms = parts.stream()
-                .map(p -> {
-                    ChatRoom room = p.getRoom();
-                    ChatMessage last = msgRepo
-                            .findTopByChatRoomOrderByCreatedAtDesc(room)
-                            .orElse(null);
-
-                    return new ChatRoomListResponse(
-                            room.getId(),
-                            room.getRoomName(),
-                            room.getRoomType(),
-                            room.isPublic(),
-                            room.getMaxParticipants(),
-                            room.getParticipants().stream()
-                                    .map(cp -> toParticipantDto(cp.getUser()))
-                                    .collect(Collectors.toList()),
-                            last != null ? last.getMessage() : "",
-                            last != null ? last.getCreatedAt() : room.getCreatedAt()
-                    );
-                })
+        List<ChatRoomListResponse> participatingRooms = summaryCache
+                .getSummaries(participantRepo.findRoomIdsByUserId(userId))
+                .stream()
+                .map(this::toListResponse)
                 .collect(Collectors.toList());
 
         // 참여 가능한 공개 채팅방 목록 (참여하지 않은 방들)
-        List<ChatRoom> publicRooms = roomRepo.findByIsPublicTrue();
-        List<ChatRoomListResponse> availablePublicRooms = publicRooms.stream()
-                .filter(room -> {
-                    // 현재 사용자가 참여하지 않은 방만 필터링
-                    boolean notParticipating = room.getParticipants().stream()
-                            .noneMatch(p -> p.getUser().getUserId().equals(userId));
-                    return notParticipating && room.canJoin(userId);
-                })
-                .map(room -> {
-                    ChatMessage last = msgRepo
-                            .findTopByChatRoomOrderByCreatedAtDesc(room)
-                            .orElse(null);
-
-                    return new ChatRoomListResponse(
-                            room.getId(),
-                            room.getRoomName(),
-                            room.getRoomType(),
-                            room.isPublic(),
-                            room.getMaxParticipants(),
-                            room.getParticipants().stream()
-                                    .map(cp -> toParticipantDto(cp.getUser()))
-                                    .collect(Collectors.toList()),
-                            last != null ? last.getMessage() : "",
-                            last != null ? last.getCreatedAt() : room.getCreatedAt()
-                    );
-                })
-                .collect(Collectors.toList());
+        List<ChatRoomListResponse> availablePublicRooms = listPublicChatRooms(userId);
 
         // 두 목록을 합쳐서 반환
         List<ChatRoomListResponse> allRooms = new ArrayList<>();
@@ -205,33 +174,10 @@ public class ChatServiceImpl implements ChatService {
     @Transactional(readOnly = true)
     public List<ChatRoomListResponse> listPublicChatRooms(UUID userId) {
         // 공개 채팅방 목록 조회 (참여하지 않은 방들)
-        List<ChatRoom> publicRooms = roomRepo.findByIsPublicTrue();
-        
-        return publicRooms.stream()
-                .filter(room -> {
-                    // 현재 사용자가 참여하지 않은 방만 필터링
-                    boolean notParticipating = room.getParticipants().stream()
-                            .noneMatch(p -> p.getUser().getUserId().equals(userId));
-                    return notParticipating && room.canJoin(userId);
-                })
-                .map(room -> {
-                    ChatMessage last = msgRepo
-                            .findTopByChatRoomOrderByCreatedAtDesc(room)
-                            .orElse(null);
-
-                    return new ChatRoomListResponse(
-                            room.getId(),
-                            room.getRoomName(),
-                            room.getRoomType(),
-                            room.isPublic(),
-                            room.getMaxParticipants(),
-                            room.getParticipants().stream()
-                                    .map(cp -> toParticipantDto(cp.getUser()))
-                                    .collect(Collectors.toList()),
-                            last != null ? last.getMessage() : "",
-                            last != null ? last.getCreatedAt() : room.getCreatedAt()
-                    );
-                })
+        return summaryCache.getSummaries(roomRepo.findPublicRoomIds()).stream()
+                // 현재 사용자가 참여하지 않은 방만 필터링
+                .filter(summary -> summary.canJoin(userId))
+                .map(this::toListResponse)
                 .collect(Collectors.toList());
     }
 
@@ -251,6 +197,8 @@ public class ChatServiceImpl implements ChatService {
         // 채팅방에 참여
         room.addParticipant(user);
         roomRepo.save(room);
+        membershipCache.addAfterCommit(roomId, userId);
+        summaryCache.evictRoomAfterCommit(roomId);
 
         // 참여 알림 전송
         template.convertAndSendToUser(
@@ -276,6 +224,8 @@ public class ChatServiceImpl implements ChatService {
                 .orElseThrow(() -> StudymateExceptionType.UNAUTHORIZED_TOKEN_EXPIRED.of("채팅방에 참여하지 않은 사용자입니다."));
 
         participantRepo.delete(participant);
+        membershipCache.removeAfterCommit(roomId, userId);
+        summaryCache.evictRoomAfterCommit(roomId);
         
         // 채팅방 나가기 알림 전송
         template.convertAndSendToUser(
@@ -288,17 +238,10 @@ public class ChatServiceImpl implements ChatService {
     @Override
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> listMessages(Long roomId, UUID userId, int page, int size) {
-        ChatRoom room = roomRepo.findById(roomId)
-                .orElseThrow(() -> StudymateExceptionType.NOT_FOUND_CHAT_ROOM.of());
-
-        boolean inRoom = participantRepo.findByUserUserId(userId).stream()
-                .anyMatch(p -> p.getRoom().getId().equals(roomId));
-        if (!inRoom) {
-            throw StudymateExceptionType.UNAUTHORIZED_TOKEN_EXPIRED.of("방에 속한 사용자만 조회 가능");
-        }
+        requireMember(roomId, userId, "방에 속한 사용자만 조회 가능");
 
         return msgRepo.findByChatRoomOrderByCreatedAtAsc(
-                        room,
+                        roomRepo.getReferenceById(roomId),
                         PageRequest.of(page, size)
                 )
                 .stream()
@@ -306,6 +249,41 @@ public class ChatServiceImpl implements ChatService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 순번 커서 기반 메시지 히스토리 (페이지 안에서는 오래된 순)
+     * beforeSeq가 있으면 그 이전 메시지(스크롤 업), afterSeq가 있으면 그 이후 메시지(재접속 후 따라잡기),
+     * 둘 다 없으면 최신 메시지부터 조회한다. 어느 쪽이든 (room_id, seq) 인덱스 범위 조회라 히스토리 길이와 무관하다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ChatMessageResponse> getMessageHistory(Long roomId, UUID userId, Long beforeSeq, Long afterSeq, int size) {
+        if (beforeSeq != null && afterSeq != null) {
+            throw new IllegalArgumentException("beforeSeq와 afterSeq는 함께 사용할 수 없습니다.");
+        }
+        requireMember(roomId, userId, "방에 속한 사용자만 조회 가능");
+
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        if (afterSeq != null) {
+            // 아직 지연 저장 중인 메시지를 건너뛰지 않도록 앞 순번이 모두 저장된 구간까지만 조회
+            long persistedSeq = messageIdAllocator.persistedSeq(roomId);
+            List<ChatMessage> rows = persistedSeq > afterSeq
+                    ? msgRepo.findAfterSeq(roomId, afterSeq, persistedSeq, limit)
+                    : List.of();
+            return CursorPageResponse.fromOverfetched(rows, pageSize,
+                    msg -> String.valueOf(msg.getSeq()),
+                    page -> page.stream().map(ChatMessageResponse::from).toList());
+        }
+
+        List<ChatMessage> rows = beforeSeq != null
+                ? msgRepo.findBeforeSeq(roomId, beforeSeq, limit)
+                : msgRepo.findLatestBySeq(roomId, limit);
+        return CursorPageResponse.fromOverfetched(rows, pageSize,
+                msg -> String.valueOf(msg.getSeq()),
+                page -> page.reversed().stream().map(ChatMessageResponse::from).toList());
+    }
+
     @Override
     public List<String> uploadChatImages(Long roomId, List<MultipartFile> files) {
         // 채팅방 존재 여부 확인 (선택 사항, 보안 강화)
@@ -355,21 +333,50 @@ public class ChatServiceImpl implements ChatService {
         }
     }
 
-    private ParticipantDto toParticipantDto(User user) {
+    /**
+     * 참여자 캐시로 권한 확인 (참여자가 아니면 방 존재 여부에 따라 예외 구분)
+     */
+    private void requireMember(Long roomId, UUID userId, String message) {
+        if (membershipCache.isMember(roomId, userId)) {
+            return;
+        }
+        if (!roomRepo.existsById(roomId)) {
+            throw StudymateExceptionType.NOT_FOUND_CHAT_ROOM.of();
+        }
+        throw StudymateExceptionType.UNAUTHORIZED_TOKEN_EXPIRED.of(message);
+    }
+
+    private ChatRoomListResponse toListResponse(ChatRoomSummaryCache.ChatRoomSummary summary) {
+        ChatRoomSummaryCache.RoomSnapshot room = summary.room();
+        return new ChatRoomListResponse(
+                room.roomId(),
+                room.roomName(),
+                room.roomType(),
+                room.isPublic(),
+                room.maxParticipants(),
+                room.participants().stream()
+                        .map(this::toParticipantDto)
+                        .collect(Collectors.toList()),
+                summary.lastMessage() != null ? summary.lastMessage().message() : "",
+                summary.lastActivityAt()
+        );
+    }
+
+    private ParticipantDto toParticipantDto(ChatRoomSummaryCache.ParticipantSnapshot participant) {
         return new ParticipantDto() {
             @Override
             public UUID getUserId() {
-                return user.getUserId();
+                return participant.userId();
             }
 
             @Override
             public String getName() {
-                return user.getName();
+                return participant.name();
             }
 
             @Override
             public String getProfileImage() {
-                return user.getProfileImage();
+                return participant.profileImage();
             }
         };
     }
@@ -1,7 +1,6 @@
 package com.studymate.domain.chat.service;
 
 import com.studymate.domain.chat.entity.ChatMessage;
-import com.studymate.domain.chat.entity.ChatRoom;
 import com.studymate.domain.chat.entity.MessageReadStatus;
 import com.studymate.domain.chat.repository.ChatMessageRepository;
 import com.studymate.domain.chat.repository.ChatRoomParticipantRepository;
@@ -35,12 +34,16 @@ public class MessageReadServiceImpl implements MessageReadService {
     private final ChatRoomParticipantRepository participantRepository;
     private final UserRepository userRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatRoomSummaryCache summaryCache;
+    private final ChatMessageWriteBehindQueue writeBehindQueue;
     
     private static final String UNREAD_COUNT_PREFIX = "unread:count:";
     private static final String LAST_READ_PREFIX = "last:read:";
 
     @Override
     public void markMessageAsRead(Long messageId, UUID userId) {
+        // 방금 전송되어 아직 지연 저장 큐에 있는 메시지면 먼저 저장 (읽음 상태가 메시지 행을 참조)
+        writeBehindQueue.flushIfPending(messageId);
         ChatMessage message = messageRepository.findById(messageId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND MESSAGE"));
                 
@@ -184,34 +187,32 @@ public class MessageReadServiceImpl implements MessageReadService {
     @Override
     @Transactional(readOnly = true)
     public List<UnreadMessageSummary> getUnreadMessageSummary(UUID userId) {
-        // 사용자가 참여한 모든 채팅방 조회
-        List<ChatRoom> rooms = participantRepository.findRoomsByUserId(userId);
+        // 사용자가 참여한 모든 채팅방의 요약 (방 이름 / 마지막 메시지)
+        List<ChatRoomSummaryCache.ChatRoomSummary> rooms = summaryCache
+                .getSummaries(participantRepository.findRoomIdsByUserId(userId));
         
         return rooms.stream()
                 .map(room -> {
-                    long unreadCount = getUnreadMessageCount(room.getId(), userId);
+                    long unreadCount = getUnreadMessageCount(room.roomId(), userId);
                     if (unreadCount == 0) {
                         return null; // 안읽은 메시지가 없는 방은 제외
                     }
                     
-                    LocalDateTime lastReadAt = getLastReadTime(room.getId(), userId);
-                    
-                    // 마지막 메시지 정보 조회
-                    Optional<ChatMessage> lastMessage = messageRepository
-                            .findTopByChatRoom_IdOrderByCreatedAtDesc(room.getId());
+                    LocalDateTime lastReadAt = getLastReadTime(room.roomId(), userId);
                     
                     UnreadMessageSummary.UnreadMessageSummaryBuilder builder = UnreadMessageSummary.builder()
-                            .roomId(room.getId())
-                            .roomName(room.getRoomName())
+                            .roomId(room.roomId())
+                            .roomName(room.room().roomName())
                             .unreadCount(unreadCount)
                             .lastReadAt(lastReadAt);
                     
-                    if (lastMessage.isPresent()) {
-                        ChatMessage msg = lastMessage.get();
-                        builder.lastMessageAt(msg.getCreatedAt())
-                               .lastMessageContent(getMessagePreview(msg))
-                               .lastMessageSender(msg.getSender().getName())
-                               .lastMessageType(determineMessageType(msg));
+                    // 마지막 메시지 정보
+                    ChatRoomSummaryCache.LastMessage lastMessage = room.lastMessage();
+                    if (lastMessage != null) {
+                        builder.lastMessageAt(lastMessage.sentAt())
+                               .lastMessageContent(lastMessage.preview())
+                               .lastMessageSender(lastMessage.senderName())
+                               .lastMessageType(lastMessage.messageType());
                     }
                     
                     return builder.build();
@@ -291,27 +292,4 @@ public class MessageReadServiceImpl implements MessageReadService {
     // 중복 메서드 제거됨
 
     // 중복 메서드 제거됨
-
-    private String getMessagePreview(ChatMessage message) {
-        if (message.getMessage() != null && !message.getMessage().isEmpty()) {
-            return message.getMessage().length() > 50 ? 
-                   message.getMessage().substring(0, 50) + "..." : 
-                   message.getMessage();
-        } else if (message.hasFiles()) {
-            return "파일을 전송했습니다.";
-        } else if (message.hasImages()) {
-            return "이미지를 전송했습니다.";
-        } else if (message.hasAudio()) {
-            return "음성 메시지를 전송했습니다.";
-        } else {
-            return "메시지";
-        }
-    }
-
-    private String determineMessageType(ChatMessage message) {
-        if (message.hasFiles()) return "FILE";
-        if (message.hasImages()) return "IMAGE";
-        if (message.hasAudio()) return "AUDIO";
-        return "TEXT";
-    }
 }
\ No newline at end of file
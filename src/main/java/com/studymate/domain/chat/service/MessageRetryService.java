@@ -26,6 +26,7 @@ public class MessageRetryService {
     private final ChatMessageRepository chatMessageRepository;
     private final MessageReadStatusRepository messageReadStatusRepository;
     private final ObjectMapper objectMapper;
+    private final ChatMessageWriteBehindQueue writeBehindQueue;
 
     // Redis 키 패턴
     private static final String RETRY_QUEUE_PREFIX = "message_retry:";
@@ -73,6 +74,8 @@ public class MessageRetryService {
     public List<ChatMessage> processRetryQueue(Long roomId, UUID userId) {
         String retryKey = RETRY_QUEUE_PREFIX + roomId + ":" + userId;
         List<ChatMessage> processedMessages = new ArrayList<>();
+        // 아직 저장되지 않은 메시지는 큐에 다시 넣어 다음 처리 때 확인
+        List<String> deferredMessages = new ArrayList<>();
         
         try {
             String messageJson;
@@ -82,17 +85,24 @@ public class MessageRetryService {
                     Map<String, Object> messageData = objectMapper.readValue(messageJson, Map.class);
                     
                     Long messageId = Long.valueOf(messageData.get("messageId").toString());
-                    Optional<ChatMessage> messageOpt = chatMessageRepository.findById(messageId);
+                    Optional<ChatMessage> messageOpt = findMessage(messageId);
                     
                     if (messageOpt.isPresent()) {
                         processedMessages.add(messageOpt.get());
                         log.debug("Processed retry message {} for user {}", messageId, userId);
+                    } else if (writeBehindQueue.isPending(messageId)) {
+                        deferredMessages.add(messageJson);
                     }
                     
                 } catch (Exception e) {
                     log.error("Failed to process retry message: {}", e.getMessage(), e);
                 }
             }
+
+            if (!deferredMessages.isEmpty()) {
+                redisTemplate.opsForList().rightPushAll(retryKey, deferredMessages);
+                redisTemplate.expire(retryKey, OFFLINE_MESSAGE_TTL);
+            }
             
         } catch (Exception e) {
             log.error("Failed to process retry queue for room {} user {}: {}", roomId, userId, e.getMessage(), e);
@@ -196,7 +206,7 @@ public class MessageRetryService {
     @Async
     public void resolveMessageConflict(UUID userId, Long messageId, String clientTimestamp) {
         try {
-            Optional<ChatMessage> messageOpt = chatMessageRepository.findById(messageId);
+            Optional<ChatMessage> messageOpt = findMessage(messageId);
             
             if (messageOpt.isPresent()) {
                 ChatMessage message = messageOpt.get();
@@ -232,13 +242,21 @@ public class MessageRetryService {
 
     // Private helper methods
 
+    /**
+     * 메시지 조회 (지연 저장 큐에 남아 있으면 먼저 저장 요청)
+     */
+    private Optional<ChatMessage> findMessage(Long messageId) {
+        writeBehindQueue.flushIfPending(messageId);
+        return chatMessageRepository.findById(messageId);
+    }
+
     private Optional<ChatMessage> parseOfflineMessage(String messageJson) {
         try {
             @SuppressWarnings("unchecked")
             Map<String, Object> messageData = objectMapper.readValue(messageJson, Map.class);
             
             Long messageId = Long.valueOf(messageData.get("messageId").toString());
-            return chatMessageRepository.findById(messageId);
+            return findMessage(messageId);
             
         } catch (Exception e) {
             log.error("Failed to parse offline message: {}", e.getMessage(), e);
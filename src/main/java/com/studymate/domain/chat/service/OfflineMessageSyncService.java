@@ -28,6 +28,8 @@ public class OfflineMessageSyncService {
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageIdAllocator chatMessageIdAllocator;
+    private final ChatRoomSummaryCache chatRoomSummaryCache;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
 
@@ -373,7 +375,12 @@ public class OfflineMessageSyncService {
         try {
             // 메시지 엔티티로 변환 후 저장
             ChatMessage chatMessage = convertToEntity(message);
-            chatMessageRepository.save(chatMessage);
+            try {
+                chatMessageRepository.save(chatMessage);
+            } finally {
+                chatMessageIdAllocator.completeSeqAfterTransaction(chatMessage.getChatRoom().getId(), chatMessage.getSeq());
+            }
+            chatRoomSummaryCache.evictLastMessage(chatMessage.getChatRoom().getId());
             
             // 동기화 완료 후 큐에서 제거
             String syncKey = buildSyncQueueKey(userId, message.getSyncId());
@@ -546,7 +553,8 @@ public class OfflineMessageSyncService {
                 .orElseThrow(() -> new IllegalArgumentException("Sender not found: " + syncItem.getSenderId()));
         
         return ChatMessage.builder()
-                .id(Long.parseLong(syncItem.getMessageId())) // String을 Long으로 변환
+                .id(chatMessageIdAllocator.nextId()) // 클라이언트 ID 대신 서버 ID 할당
+                .seq(chatMessageIdAllocator.nextSeq(roomId))
                 .chatRoom(chatRoom)
                 .sender(sender)
                 .message(syncItem.getContent()) // content -> message 필드
@@ -6,6 +6,7 @@ import com.studymate.domain.matching.domain.dto.request.RecordFeedbackRequest;
 import com.studymate.domain.matching.domain.dto.response.*;
 import com.studymate.domain.matching.service.MatchingService;
 import com.studymate.domain.user.util.CustomUserDetails;
+import com.studymate.common.dto.CursorPageResponse;
 import com.studymate.common.dto.PageResponse;
 import com.studymate.common.dto.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,11 +38,12 @@ public class MatchingController {
             @RequestParam(required = false) String targetLanguage,
             @RequestParam(required = false) String languageLevel,
             @RequestParam(required = false) Integer minAge,
-            @RequestParam(required = false) Integer maxAge
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) String cursor
     ) {
         UUID userId = principal.getUuid();
         Page<RecommendedPartnerResponse> partners = matchingService.getRecommendedPartners(
-                userId, pageable, nativeLanguage, targetLanguage, languageLevel, minAge, maxAge);
+                userId, pageable, nativeLanguage, targetLanguage, languageLevel, minAge, maxAge, cursor);
         return PageResponse.of(partners);
     }
 
@@ -67,11 +69,32 @@ public class MatchingController {
         return PageResponse.of(matchingService.getReceivedMatchingRequests(userId, pageable));
     }
 
+    @Operation(summary = "보낸 매칭 요청 커서 조회", description = "이전 응답의 nextCursor를 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping("/requests/sent/cursor")
+    public CursorPageResponse<SentMatchingRequestResponse> getSentMatchingRequestsByCursor(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        UUID userId = principal.getUuid();
+        return matchingService.getSentMatchingRequestsByCursor(userId, cursor, size);
+    }
+
+    @Operation(summary = "받은 매칭 요청 커서 조회", description = "이전 응답의 nextCursor를 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping("/requests/received/cursor")
+    public CursorPageResponse<ReceivedMatchingRequestResponse> getReceivedMatchingRequestsByCursor(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        UUID userId = principal.getUuid();
+        return matchingService.getReceivedMatchingRequestsByCursor(userId, cursor, size);
+    }
+
     @PostMapping("/accept/{requestId}")
     public ResponseEntity<Void> acceptMatchingRequest(@AuthenticationPrincipal CustomUserDetails principal,
-                                                     @PathVariable UUID requestId) {
+                                                     @PathVariable UUID requestId,
+                                                     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         UUID userId = principal.getUuid();
-        matchingService.acceptMatchingRequest(userId, requestId);
+        matchingService.acceptMatchingRequest(userId, requestId, idempotencyKey);
         return ResponseEntity.ok().build();
     }
 
@@ -90,6 +113,16 @@ public class MatchingController {
         return PageResponse.of(matchingService.getMatchedPartners(userId, pageable));
     }
 
+    @Operation(summary = "매칭된 파트너 커서 조회", description = "이전 응답의 nextCursor를 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping("/matches/cursor")
+    public CursorPageResponse<MatchedPartnerResponse> getMatchedPartnersByCursor(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        UUID userId = principal.getUuid();
+        return matchingService.getMatchedPartnersByCursor(userId, cursor, size);
+    }
+
     @DeleteMapping("/matches/{matchId}")
     public ResponseEntity<Void> removeMatch(@AuthenticationPrincipal CustomUserDetails principal,
                                            @PathVariable UUID matchId) {
@@ -110,9 +143,15 @@ public class MatchingController {
     public ResponseEntity<PageResponse<RecommendedPartnerResponse>> getRecommendedPartnersAdvanced(
             @AuthenticationPrincipal CustomUserDetails principal,
             @RequestBody AdvancedMatchingFilterRequest filters,
+            @Parameter(description = "false면 전체 건수 집계 없이 다음 페이지 여부만 반환 (totalElements = -1)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             Pageable pageable) {
         
         UUID userId = principal.getUuid();
+        if (!includeTotal) {
+            return ResponseEntity.ok(PageResponse.ofSlice(
+                    matchingService.getRecommendedPartnersAdvancedSlice(userId, filters, pageable)));
+        }
         Page<RecommendedPartnerResponse> partners = matchingService.getRecommendedPartnersAdvanced(userId, filters, pageable);
         return ResponseEntity.ok(PageResponse.of(partners));
     }
@@ -122,9 +161,14 @@ public class MatchingController {
     public ResponseEntity<PageResponse<RecommendedPartnerResponse>> getOnlinePartners(
             @AuthenticationPrincipal CustomUserDetails principal,
             @RequestBody(required = false) AdvancedMatchingFilterRequest filters,
+            @Parameter(description = "false면 전체 건수 집계 없이 다음 페이지 여부만 반환 (totalElements = -1)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             Pageable pageable) {
         
         UUID userId = principal.getUuid();
+        if (!includeTotal) {
+            return ResponseEntity.ok(PageResponse.ofSlice(matchingService.getOnlinePartnersSlice(userId, filters, pageable)));
+        }
         Page<RecommendedPartnerResponse> partners = matchingService.getOnlinePartners(userId, filters, pageable);
         return ResponseEntity.ok(PageResponse.of(partners));
     }
@@ -159,10 +203,12 @@ public class MatchingController {
     @GetMapping("/smart-recommendations")
     public ResponseEntity<ApiResponse<PageResponse<RecommendedPartnerResponse>>> getSmartRecommendations(
             @AuthenticationPrincipal CustomUserDetails principal,
-            Pageable pageable) {
+            Pageable pageable,
+            @Parameter(description = "이전 페이지 마지막 항목의 {compatibilityScore}_{userId} (생략 시 page 기반 조회)")
+            @RequestParam(required = false) String cursor) {
         
         UUID userId = principal.getUuid();
-        Page<RecommendedPartnerResponse> recommendations = matchingService.getSmartRecommendations(userId, pageable);
+        Page<RecommendedPartnerResponse> recommendations = matchingService.getSmartRecommendations(userId, pageable, cursor);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(recommendations), "AI 기반 스마트 매칭 추천을 성공적으로 조회했습니다."));
     }
 
@@ -237,12 +283,12 @@ public class MatchingController {
 
     // === 스케줄 기반 매칭 ===
     
-    @Operation(summary = "스케줄 기반 매칭", description = "특정 시간대/요일 기반으로 파트너를 매칭합니다.")
+    @Operation(summary = "스케줄 기반 매칭", description = "특정 시간대/요일 기반으로 파트너를 매칭합니다. 둘 다 생략하면 내 스케줄과 겹치는 파트너를 찾습니다.")
     @GetMapping("/schedule-based")
     public ResponseEntity<ApiResponse<PageResponse<RecommendedPartnerResponse>>> getScheduleBasedMatches(
             @AuthenticationPrincipal CustomUserDetails principal,
-            @RequestParam String dayOfWeek,
-            @RequestParam String timeSlot,
+            @RequestParam(required = false) String dayOfWeek,
+            @RequestParam(required = false) String timeSlot,
             Pageable pageable) {
         
         UUID userId = principal.getUuid();
@@ -295,4 +341,15 @@ public class MatchingController {
         Object queueStatus = matchingService.getMatchingQueueStatus(userId);
         return ResponseEntity.ok(ApiResponse.success(queueStatus, "매칭 대기열 상태를 성공적으로 조회했습니다."));
     }
+
+    @Operation(summary = "매칭 대기 중 대안 조회",
+            description = "대기 시간이 길어질 때 미리 계산된 대안(그룹 세션, AI 파트너 등)을 조회합니다. 계산이 끝나면 /user/queue/matching-alternatives로도 전송됩니다.")
+    @GetMapping("/queue/alternatives")
+    public ResponseEntity<ApiResponse<Object>> getMatchingQueueAlternatives(
+            @AuthenticationPrincipal CustomUserDetails principal) {
+
+        UUID userId = principal.getUuid();
+        Object alternatives = matchingService.getMatchingQueueAlternatives(userId);
+        return ResponseEntity.ok(ApiResponse.success(alternatives, "매칭 대안을 성공적으로 조회했습니다."));
+    }
 }
@@ -57,6 +57,13 @@ public interface MatchingFeedbackRepository extends JpaRepository<MatchingFeedba
            "ORDER BY mf.createdAt DESC")
     List<MatchingFeedback> findByOverallRatingGreaterThanEqual(@Param("minRating") Integer minRating);
 
+    /**
+     * 평점이 있는 전체 피드백 (reviewerId, partnerId, overallRating) (파트너 그래프 적재용)
+     */
+    @Query("SELECT mf.reviewer.userId, mf.partner.userId, mf.overallRating FROM MatchingFeedback mf " +
+           "WHERE mf.overallRating IS NOT NULL")
+    List<Object[]> findAllRatingRows();
+
     /**
      * 특정 기간의 피드백 조회
      */
@@ -2,14 +2,19 @@ package com.studymate.domain.matching.domain.repository;
 
 import com.studymate.domain.matching.entity.MatchingQueue;
 import com.studymate.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface MatchingQueueRepository extends JpaRepository<MatchingQueue, Long> {
@@ -42,6 +47,41 @@ public interface MatchingQueueRepository extends JpaRepository<MatchingQueue, Lo
            "ORDER BY mq.priorityScore DESC, mq.joinedAt ASC")
     List<MatchingQueue> findByStatusOrderByPriorityScoreDescJoinedAtAsc(@Param("status") MatchingQueue.QueueStatus status);
 
+    /**
+     * 대기 중인 항목들의 상태를 일괄 전이 (매칭/만료)
+     * 이미 다른 상태로 바뀐 항목은 건드리지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MatchingQueue mq SET mq.status = :status, mq.completedAt = :completedAt " +
+           "WHERE mq.queueId IN :queueIds AND mq.status = 'WAITING'")
+    int transitionWaitingEntries(@Param("queueIds") Collection<Long> queueIds,
+                                 @Param("status") MatchingQueue.QueueStatus status,
+                                 @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 주어진 항목 중 아직 WAITING인 항목 ID
+     */
+    @Query("SELECT mq.queueId FROM MatchingQueue mq WHERE mq.queueId IN :queueIds AND mq.status = 'WAITING'")
+    List<Long> findWaitingQueueIds(@Param("queueIds") Collection<Long> queueIds);
+
+    /**
+     * 특정 사용자들의 대기 항목 일괄 전이 (매칭 수락 시)
+     */
+    @Modifying
+    @Query("UPDATE MatchingQueue mq SET mq.status = :status, mq.completedAt = :completedAt " +
+           "WHERE mq.user.userId IN :userIds AND mq.status = 'WAITING'")
+    int transitionWaitingEntriesOfUsers(@Param("userIds") Collection<UUID> userIds,
+                                        @Param("status") MatchingQueue.QueueStatus status,
+                                        @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 매치메이킹 엔진 복원용 대기 항목 조회 (queueId, userId, englishName, sessionType, priorityScore, joinedAt)
+     */
+    @Query("SELECT mq.queueId, u.userId, u.englishName, mq.sessionType, mq.priorityScore, mq.joinedAt " +
+           "FROM MatchingQueue mq JOIN mq.user u WHERE mq.status = 'WAITING'")
+    List<Object[]> findWaitingTicketRows();
+
     /**
      * 만료된 대기열 항목 조회
      */
@@ -79,4 +119,39 @@ public interface MatchingQueueRepository extends JpaRepository<MatchingQueue, Lo
            "ORDER BY mq.priorityScore DESC, mq.joinedAt ASC")
     List<MatchingQueue> findByStatusAndTargetLanguage(@Param("status") MatchingQueue.QueueStatus status, 
                                                      @Param("language") String language);
-}
\ No newline at end of file
+
+    /**
+     * 오래된 대기 항목 (queueId, userId) 조회 (만료 스위퍼 청크 단위)
+     */
+    @Query("SELECT mq.queueId, mq.user.userId FROM MatchingQueue mq " +
+           "WHERE mq.status = 'WAITING' AND mq.joinedAt < :cutoff ORDER BY mq.joinedAt")
+    List<Object[]> findStaleWaitingRows(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 일정 시간 이상 대기 중인 사용자 (userId, joinedAt) 조회 (매칭 대안 사전 계산용)
+     */
+    @Query("SELECT mq.user.userId, mq.joinedAt FROM MatchingQueue mq " +
+           "WHERE mq.status = 'WAITING' AND mq.joinedAt < :joinedBefore ORDER BY mq.joinedAt")
+    List<Object[]> findWaitingUsersJoinedBefore(@Param("joinedBefore") LocalDateTime joinedBefore, Pageable pageable);
+
+    /**
+     * 가장 오래 방치된 대기 항목의 참가 시간 (스위퍼 지연 측정용)
+     */
+    @Query("SELECT MIN(mq.joinedAt) FROM MatchingQueue mq WHERE mq.status = 'WAITING' AND mq.joinedAt < :cutoff")
+    LocalDateTime findOldestStaleWaitingJoinedAt(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 보관 기간이 지난 종료 항목 ID 조회 (WAITING 외 상태)
+     */
+    @Query("SELECT mq.queueId FROM MatchingQueue mq " +
+           "WHERE mq.status <> 'WAITING' AND mq.completedAt < :cutoff ORDER BY mq.completedAt")
+    List<Long> findFinishedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 종료 항목 일괄 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MatchingQueue mq WHERE mq.queueId IN :queueIds AND mq.status <> 'WAITING'")
+    int deleteFinishedEntries(@Param("queueIds") Collection<Long> queueIds);
+}
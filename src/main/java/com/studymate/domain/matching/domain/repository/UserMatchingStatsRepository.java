@@ -0,0 +1,24 @@
+package com.studymate.domain.matching.domain.repository;
+
+import com.studymate.domain.matching.entity.UserMatchingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserMatchingStatsRepository extends JpaRepository<UserMatchingStats, UUID> {
+
+    /**
+     * 갱신용 행 잠금 조회 (교착 방지를 위해 userId 순으로 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserMatchingStats s WHERE s.userId IN :userIds ORDER BY s.userId")
+    List<UserMatchingStats> findAllForUpdate(@Param("userIds") Collection<UUID> userIds);
+}
@@ -11,7 +11,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "matching_queue")
+@Table(name = "matching_queue", indexes = {
+        @Index(name = "idx_matching_queue_status_joined", columnList = "queue_status, joined_at"),
+        @Index(name = "idx_matching_queue_status_completed", columnList = "queue_status, completed_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -17,7 +17,11 @@ import java.util.UUID;
 @Getter
 @Setter
 @Builder
-@Table(name = "MATCHING_REQUEST")
+@Table(name = "MATCHING_REQUEST", indexes = {
+        @Index(name = "IDX_MATCHING_REQUEST_SENDER_CREATED", columnList = "SENDER_ID, created_at, MATCHING_REQUEST_ID"),
+        @Index(name = "IDX_MATCHING_REQUEST_RECEIVER_CREATED", columnList = "RECEIVER_ID, created_at, MATCHING_REQUEST_ID"),
+        @Index(name = "IDX_MATCHING_REQUEST_STATUS_EXPIRES", columnList = "STATUS, EXPIRES_AT")
+})
 public class MatchingRequest extends BaseTimeEntity {
 
     @Id
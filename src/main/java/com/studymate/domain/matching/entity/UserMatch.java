@@ -17,7 +17,12 @@ import java.util.UUID;
 @Getter
 @Setter
 @Builder
-@Table(name = "USER_MATCH")
+@Table(name = "USER_MATCH", indexes = {
+        @Index(name = "IDX_USER_MATCH_USER1_CREATED", columnList = "USER1_ID, created_at, USER_MATCH_ID"),
+        @Index(name = "IDX_USER_MATCH_USER2_CREATED", columnList = "USER2_ID, created_at, USER_MATCH_ID")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "UK_USER_MATCH_ACTIVE_PAIR", columnNames = "ACTIVE_PAIR_KEY")
+})
 public class UserMatch extends BaseTimeEntity {
 
     @Id
@@ -39,6 +44,9 @@ public class UserMatch extends BaseTimeEntity {
     @Column(name = "IS_ACTIVE", nullable = false)
     private boolean isActive; // 매칭 활성 상태
 
+    @Column(name = "ACTIVE_PAIR_KEY", length = 73)
+    private String activePairKey; // 활성 매칭 중복 방지 키 (해제 시 null)
+
     @Column(name = "DEACTIVATED_AT")
     private LocalDateTime deactivatedAt; // 매칭 해제 시간
 
@@ -51,6 +59,7 @@ public class UserMatch extends BaseTimeEntity {
      */
     public void deactivate(User deactivatedBy) {
         this.isActive = false;
+        this.activePairKey = null;
         this.deactivatedAt = LocalDateTime.now();
         this.deactivatedBy = deactivatedBy;
     }
@@ -74,6 +83,15 @@ public class UserMatch extends BaseTimeEntity {
         return user.equals(user1) || user.equals(user2);
     }
 
+    /**
+     * 두 사용자 쌍의 활성 매칭 키 (순서와 무관하게 같은 값)
+     */
+    public static String activePairKey(UUID userId, UUID otherUserId) {
+        return userId.compareTo(otherUserId) <= 0
+                ? userId + ":" + otherUserId
+                : otherUserId + ":" + userId;
+    }
+
     // 편의 메서드
     public UUID getMatchId() {
         return this.userMatchId;
@@ -0,0 +1,228 @@
+package com.studymate.domain.matching.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자별 매칭 통계 누적 집계
+ * 매칭 요청 / 매칭 생성·해제 / 피드백 기록과 같은 트랜잭션에서 갱신되어,
+ * 통계 / 분석 API가 원본 이력을 다시 읽지 않고 이 행 하나로 응답할 수 있게 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "USER_MATCHING_STATS")
+public class UserMatchingStats {
+
+    public static final int HIGH_RATING = 4;
+
+    @Id
+    @Column(name = "USER_ID")
+    private UUID userId;
+
+    // 매칭 결과
+    @Column(name = "TOTAL_MATCHES", nullable = false)
+    private long totalMatches;
+
+    @Column(name = "ACTIVE_MATCHES", nullable = false)
+    private long activeMatches;
+
+    // 받은 매칭 요청 처리 결과
+    @Column(name = "RECEIVED_REQUESTS", nullable = false)
+    private long receivedRequests;
+
+    @Column(name = "ACCEPTED_REQUESTS", nullable = false)
+    private long acceptedRequests;
+
+    @Column(name = "REJECTED_REQUESTS", nullable = false)
+    private long rejectedRequests;
+
+    // 받은 피드백 (overallRating 1-5 히스토그램)
+    @Column(name = "RECEIVED_FEEDBACK_COUNT", nullable = false)
+    private long receivedFeedbackCount;
+
+    @Column(name = "RECEIVED_RATING_SUM", nullable = false)
+    private long receivedRatingSum;
+
+    @Column(name = "RECEIVED_RATING_1", nullable = false)
+    private long receivedRating1;
+
+    @Column(name = "RECEIVED_RATING_2", nullable = false)
+    private long receivedRating2;
+
+    @Column(name = "RECEIVED_RATING_3", nullable = false)
+    private long receivedRating3;
+
+    @Column(name = "RECEIVED_RATING_4", nullable = false)
+    private long receivedRating4;
+
+    @Column(name = "RECEIVED_RATING_5", nullable = false)
+    private long receivedRating5;
+
+    // 작성한 피드백
+    @Column(name = "GIVEN_FEEDBACK_COUNT", nullable = false)
+    private long givenFeedbackCount;
+
+    @Column(name = "GIVEN_RATING_SUM", nullable = false)
+    private long givenRatingSum;
+
+    @Column(name = "GIVEN_COMMUNICATION_COUNT", nullable = false)
+    private long givenCommunicationCount;
+
+    @Column(name = "GIVEN_COMMUNICATION_SUM", nullable = false)
+    private long givenCommunicationSum;
+
+    @Column(name = "GIVEN_LANGUAGE_LEVEL_COUNT", nullable = false)
+    private long givenLanguageLevelCount;
+
+    @Column(name = "GIVEN_LANGUAGE_LEVEL_SUM", nullable = false)
+    private long givenLanguageLevelSum;
+
+    /**
+     * 높은 평점(4점 이상)을 준 파트너의 모국어별 횟수
+     */
+    @ElementCollection
+    @CollectionTable(name = "USER_MATCHING_PREFERRED_LANGUAGE", joinColumns = @JoinColumn(name = "USER_ID"))
+    @MapKeyColumn(name = "LANGUAGE_NAME")
+    @Column(name = "HIGH_RATING_COUNT", nullable = false)
+    private Map<String, Integer> preferredPartnerLanguages = new HashMap<>();
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    public UserMatchingStats(UUID userId) {
+        this.userId = userId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 원본 이력 기반 초기 집계값 설정 (통계 행 최초 생성 시)
+     */
+    public void initializeCounts(long totalMatches, long activeMatches,
+                                 long receivedRequests, long acceptedRequests, long rejectedRequests) {
+        this.totalMatches = totalMatches;
+        this.activeMatches = activeMatches;
+        this.receivedRequests = receivedRequests;
+        this.acceptedRequests = acceptedRequests;
+        this.rejectedRequests = rejectedRequests;
+        touch();
+    }
+
+    public void recordRequestReceived() {
+        receivedRequests++;
+        touch();
+    }
+
+    public void recordRequestAccepted() {
+        acceptedRequests++;
+        touch();
+    }
+
+    public void recordRequestRejected() {
+        rejectedRequests++;
+        touch();
+    }
+
+    public void recordMatchCreated() {
+        totalMatches++;
+        activeMatches++;
+        touch();
+    }
+
+    public void recordMatchEnded() {
+        activeMatches = Math.max(0, activeMatches - 1);
+        touch();
+    }
+
+    /**
+     * 이 사용자가 받은 피드백 반영
+     */
+    public void recordReceivedFeedback(int overallRating) {
+        receivedFeedbackCount++;
+        receivedRatingSum += overallRating;
+        switch (overallRating) {
+            case 1 -> receivedRating1++;
+            case 2 -> receivedRating2++;
+            case 3 -> receivedRating3++;
+            case 4 -> receivedRating4++;
+            case 5 -> receivedRating5++;
+            default -> { }
+        }
+        touch();
+    }
+
+    /**
+     * 이 사용자가 작성한 피드백 반영
+     *
+     * @param partnerLanguage 평가 대상 파트너의 모국어 (없으면 "Unknown")
+     */
+    public void recordGivenFeedback(int overallRating, Integer communicationRating, Integer languageLevelRating,
+                                    String partnerLanguage) {
+        givenFeedbackCount++;
+        givenRatingSum += overallRating;
+        if (communicationRating != null) {
+            givenCommunicationCount++;
+            givenCommunicationSum += communicationRating;
+        }
+        if (languageLevelRating != null) {
+            givenLanguageLevelCount++;
+            givenLanguageLevelSum += languageLevelRating;
+        }
+        if (overallRating >= HIGH_RATING) {
+            preferredPartnerLanguages.merge(partnerLanguage, 1, Integer::sum);
+        }
+        touch();
+    }
+
+    public double getAverageReceivedRating() {
+        return receivedFeedbackCount > 0 ? (double) receivedRatingSum / receivedFeedbackCount : 0.0;
+    }
+
+    public double getAverageGivenRating() {
+        return givenFeedbackCount > 0 ? (double) givenRatingSum / givenFeedbackCount : 0.0;
+    }
+
+    /**
+     * 작성한 피드백의 평균 소통 평점 (기록이 없으면 defaultValue)
+     */
+    public double getAverageGivenCommunicationRating(double defaultValue) {
+        return givenCommunicationCount > 0 ? (double) givenCommunicationSum / givenCommunicationCount : defaultValue;
+    }
+
+    /**
+     * 작성한 피드백의 평균 언어 수준 평점 (기록이 없으면 defaultValue)
+     */
+    public double getAverageGivenLanguageLevelRating(double defaultValue) {
+        return givenLanguageLevelCount > 0 ? (double) givenLanguageLevelSum / givenLanguageLevelCount : defaultValue;
+    }
+
+    /**
+     * 전체 매칭 중 활성 매칭 비율 (%)
+     */
+    public double getActiveMatchRate() {
+        return totalMatches > 0 ? (double) activeMatches / totalMatches * 100.0 : 0.0;
+    }
+
+    /**
+     * 받은 요청 중 수락 비율 (0-1)
+     */
+    public double getAcceptanceRate() {
+        return receivedRequests > 0 ? (double) acceptedRequests / receivedRequests : 0.0;
+    }
+
+    public Map<Integer, Long> getReceivedRatingHistogram() {
+        return Map.of(1, receivedRating1, 2, receivedRating2, 3, receivedRating3,
+                4, receivedRating4, 5, receivedRating5);
+    }
+
+    private void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
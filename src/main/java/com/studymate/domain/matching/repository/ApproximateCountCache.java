@@ -0,0 +1,111 @@
+package com.studymate.domain.matching.repository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 파트너 검색 전체 건수 근사치 캐시
+ * 필터 조합별 COUNT 결과를 보관하고, 갱신 주기가 지나면 기존 값을 그대로 반환하면서
+ * 백그라운드 스레드에서 다시 집계한다. 값이 너무 오래되었거나 처음 조회하는 조합만 요청 스레드에서 집계한다.
+ */
+@Slf4j
+@Component
+public class ApproximateCountCache {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(1);
+    private static final Duration EXPIRE_AFTER = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Map<String, CountEntry> entries = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(64),
+            runnable -> {
+                Thread thread = new Thread(runnable, "matching-count-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * 근사 건수 조회
+     *
+     * @param key     필터 조합 식별자
+     * @param counter 실제 COUNT 쿼리 (백그라운드 스레드에서도 호출될 수 있음)
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CountEntry entry = entries.get(key);
+
+        if (entry == null || now - entry.countedAt > EXPIRE_AFTER.toMillis()) {
+            return count(key, counter);
+        }
+        if (now - entry.countedAt > REFRESH_AFTER.toMillis() && entry.refreshing.compareAndSet(false, true)) {
+            scheduleRefresh(key, counter, entry);
+        }
+        return entry.count;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // Private helper methods
+
+    private long count(String key, LongSupplier counter) {
+        long count = counter.getAsLong();
+        if (entries.size() >= MAX_ENTRIES && !entries.containsKey(key)) {
+            evictOldest();
+        }
+        entries.put(key, new CountEntry(count, System.currentTimeMillis()));
+        return count;
+    }
+
+    private void scheduleRefresh(String key, LongSupplier counter, CountEntry entry) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    count(key, counter);
+                } catch (Exception e) {
+                    log.warn("Failed to refresh approximate count for {}: {}", key, e.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 차면 다음 조회 때 다시 시도
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void evictOldest() {
+        entries.entrySet().stream()
+                .min((a, b) -> Long.compare(a.getValue().countedAt, b.getValue().countedAt))
+                .ifPresent(oldest -> entries.remove(oldest.getKey()));
+    }
+
+    private static final class CountEntry {
+        private final long count;
+        private final long countedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CountEntry(long count, long countedAt) {
+            this.count = count;
+            this.countedAt = countedAt;
+        }
+    }
+}
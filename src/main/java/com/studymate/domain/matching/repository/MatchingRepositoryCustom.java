@@ -4,6 +4,7 @@ import com.studymate.domain.matching.domain.dto.request.AdvancedMatchingFilterRe
 import com.studymate.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
@@ -15,6 +16,13 @@ public interface MatchingRepositoryCustom {
     Page<User> findPotentialPartnersWithFilters(UUID currentUserId, 
                                                AdvancedMatchingFilterRequest filters, 
                                                Pageable pageable);
+
+    /**
+     * 고급 필터 파트너 검색 (전체 건수 없이 다음 페이지 존재 여부만 계산)
+     */
+    Slice<User> findPotentialPartnersSliceWithFilters(UUID currentUserId,
+                                                      AdvancedMatchingFilterRequest filters,
+                                                      Pageable pageable);
     
     /**
      * 호환성 기반 파트너 검색 (캐시된 호환성 점수 활용)
@@ -22,6 +30,13 @@ public interface MatchingRepositoryCustom {
     Page<User> findCompatiblePartners(UUID currentUserId, 
                                      double minCompatibilityScore, 
                                      Pageable pageable);
+
+    /**
+     * 호환성 기반 파트너 검색 (전체 건수 없이 다음 페이지 존재 여부만 계산)
+     */
+    Slice<User> findCompatiblePartnersSlice(UUID currentUserId,
+                                            double minCompatibilityScore,
+                                            Pageable pageable);
     
     /**
      * 온라인 사용자 중에서 파트너 검색
@@ -29,4 +44,11 @@ public interface MatchingRepositoryCustom {
     Page<User> findOnlinePartners(UUID currentUserId, 
                                  AdvancedMatchingFilterRequest filters, 
                                  Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 온라인 사용자 중에서 파트너 검색 (전체 건수 없이 다음 페이지 존재 여부만 계산)
+     */
+    Slice<User> findOnlinePartnersSlice(UUID currentUserId,
+                                        AdvancedMatchingFilterRequest filters,
+                                        Pageable pageable);
+}
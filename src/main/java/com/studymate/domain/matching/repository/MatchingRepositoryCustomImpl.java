@@ -15,98 +15,133 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * 파트너 검색 QueryDSL 구현
+ * Page 조회의 전체 건수는 {@link ApproximateCountCache}의 근사치를 사용하고,
+ * Slice 조회는 pageSize + 1건을 조회해 다음 페이지 존재 여부만 판단한다 (COUNT 쿼리 없음).
+ */
 @Repository
 @RequiredArgsConstructor
-public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
+public class MatchingRepositoryCustomImpl implements MatchingRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ApproximateCountCache approximateCountCache;
     
     private final QUser user = QUser.user;
     private final QUserStatus userStatus = QUserStatus.userStatus;
 
+    private static final int COMPATIBLE_OVERFETCH_FACTOR = 3; // 호환성 필터링을 위해 더 많이 조회
+
     @Override
     public Page<User> findPotentialPartnersWithFilters(UUID currentUserId, 
                                                        AdvancedMatchingFilterRequest filters, 
                                                        Pageable pageable) {
-        
-        BooleanBuilder builder = new BooleanBuilder();
-        
-        // 기본 조건: 자기 자신 제외, 온보딩 완료, 활성 계정
-        builder.and(user.userId.ne(currentUserId))
-               .and(user.isOnboardingCompleted.isTrue())
-               .and(user.userDisable.isFalse());
-
-        // 필터 조건들 추가
-        addBasicFilters(builder, filters);
-        addLocationFilters(builder, filters);
-        addPersonalityFilters(builder, filters);
-        addTopicFilters(builder, filters);
-        addStudyGoalFilters(builder, filters);
-        addScheduleFilters(builder, filters);
-        addActivityFilters(builder, filters);
-        addOnlineStatusFilters(builder, filters);
-
-        // 정렬 조건
-        OrderSpecifier<?> orderSpecifier = createOrderSpecifier(filters);
-
-        // 쿼리 실행
-        List<User> users = queryFactory
-                .selectFrom(user)
-                .leftJoin(user.userStatus, userStatus).fetchJoin()
-                .where(builder)
-                .orderBy(orderSpecifier)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        BooleanBuilder builder = potentialPartnerCondition(currentUserId, filters);
+        List<User> users = fetchPotentialPartners(builder, filters, pageable.getOffset(), pageable.getPageSize());
 
-        // 전체 카운트 조회 (성능을 위해 별도 쿼리)
-        long total = queryFactory
-                .selectFrom(user)
+        long total = approximateCountCache.get(countKey("potential", filters), () -> queryFactory
+                .select(user.count())
+                .from(user)
+                .leftJoin(user.userStatus, userStatus)
                 .where(builder)
-                .fetchCount();
+                .fetchOne());
 
         return new PageImpl<>(users, pageable, total);
     }
 
+    @Override
+    public Slice<User> findPotentialPartnersSliceWithFilters(UUID currentUserId,
+                                                             AdvancedMatchingFilterRequest filters,
+                                                             Pageable pageable) {
+        BooleanBuilder builder = potentialPartnerCondition(currentUserId, filters);
+        List<User> users = fetchPotentialPartners(builder, filters, pageable.getOffset(), pageable.getPageSize() + 1);
+        return toSlice(users, pageable, pageable.getPageSize());
+    }
+
     @Override
     public Page<User> findCompatiblePartners(UUID currentUserId, 
                                            double minCompatibilityScore, 
                                            Pageable pageable) {
         // 호환성 점수는 실시간 계산이 필요하므로 기본 쿼리만 제공
         // 실제 호환성 점수는 서비스 레이어에서 필터링
-        
-        List<User> users = queryFactory
-                .selectFrom(user)
-                .leftJoin(user.userStatus, userStatus).fetchJoin()
-                .where(user.userId.ne(currentUserId)
-                      .and(user.isOnboardingCompleted.isTrue())
-                      .and(user.userDisable.isFalse()))
-                .orderBy(user.userCreatedAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() * 3) // 호환성 필터링을 위해 더 많이 조회
-                .fetch();
+        List<User> users = fetchCompatiblePartners(currentUserId, pageable.getOffset(),
+                pageable.getPageSize() * COMPATIBLE_OVERFETCH_FACTOR);
 
-        long total = queryFactory
-                .selectFrom(user)
-                .where(user.userId.ne(currentUserId)
-                      .and(user.isOnboardingCompleted.isTrue())
-                      .and(user.userDisable.isFalse()))
-                .fetchCount();
+        long total = approximateCountCache.get("compatible", () -> queryFactory
+                .select(user.count())
+                .from(user)
+                .where(compatiblePartnerCondition(currentUserId))
+                .fetchOne());
 
         return new PageImpl<>(users, pageable, total);
     }
 
+    @Override
+    public Slice<User> findCompatiblePartnersSlice(UUID currentUserId,
+                                                   double minCompatibilityScore,
+                                                   Pageable pageable) {
+        int fetchSize = pageable.getPageSize() * COMPATIBLE_OVERFETCH_FACTOR;
+        List<User> users = fetchCompatiblePartners(currentUserId, pageable.getOffset(), fetchSize + 1);
+        return toSlice(users, pageable, fetchSize);
+    }
+
     @Override
     public Page<User> findOnlinePartners(UUID currentUserId, 
                                         AdvancedMatchingFilterRequest filters, 
                                         Pageable pageable) {
+        BooleanBuilder builder = onlinePartnerCondition(currentUserId, filters);
+        List<User> users = fetchOnlinePartners(builder, pageable.getOffset(), pageable.getPageSize());
+
+        long total = approximateCountCache.get(countKey("online", filters), () -> queryFactory
+                .select(user.count())
+                .from(user)
+                .join(user.userStatus, userStatus)
+                .where(builder)
+                .fetchOne());
+
+        return new PageImpl<>(users, pageable, total);
+    }
+
+    @Override
+    public Slice<User> findOnlinePartnersSlice(UUID currentUserId,
+                                               AdvancedMatchingFilterRequest filters,
+                                               Pageable pageable) {
+        BooleanBuilder builder = onlinePartnerCondition(currentUserId, filters);
+        List<User> users = fetchOnlinePartners(builder, pageable.getOffset(), pageable.getPageSize() + 1);
+        return toSlice(users, pageable, pageable.getPageSize());
+    }
+
+    // Private helper methods
+
+    private BooleanBuilder potentialPartnerCondition(UUID currentUserId, AdvancedMatchingFilterRequest filters) {
+        BooleanBuilder builder = new BooleanBuilder();
         
+        // 기본 조건: 자기 자신 제외, 온보딩 완료, 활성 계정
+        builder.and(user.userId.ne(currentUserId))
+               .and(user.isOnboardingCompleted.isTrue())
+               .and(user.userDisable.isFalse());
+
+        // 필터 조건들 추가
+        addBasicFilters(builder, filters);
+        addLocationFilters(builder, filters);
+        addPersonalityFilters(builder, filters);
+        addTopicFilters(builder, filters);
+        addStudyGoalFilters(builder, filters);
+        addScheduleFilters(builder, filters);
+        addActivityFilters(builder, filters);
+        addOnlineStatusFilters(builder, filters);
+        return builder;
+    }
+
+    private BooleanBuilder onlinePartnerCondition(UUID currentUserId, AdvancedMatchingFilterRequest filters) {
         BooleanBuilder builder = new BooleanBuilder();
         
         // 기본 조건
@@ -120,26 +155,75 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
             addBasicFilters(builder, filters);
             addLocationFilters(builder, filters);
         }
+        return builder;
+    }
+
+    private BooleanExpression compatiblePartnerCondition(UUID currentUserId) {
+        return user.userId.ne(currentUserId)
+                .and(user.isOnboardingCompleted.isTrue())
+                .and(user.userDisable.isFalse());
+    }
 
-        List<User> users = queryFactory
+    private List<User> fetchPotentialPartners(BooleanBuilder builder, AdvancedMatchingFilterRequest filters,
+                                              long offset, int limit) {
+        return queryFactory
                 .selectFrom(user)
-                .join(user.userStatus, userStatus).fetchJoin()
+                .leftJoin(user.userStatus, userStatus).fetchJoin()
                 .where(builder)
-                .orderBy(userStatus.lastSeenAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(createOrderSpecifier(filters))
+                .offset(offset)
+                .limit(limit)
                 .fetch();
+    }
 
-        long total = queryFactory
+    private List<User> fetchCompatiblePartners(UUID currentUserId, long offset, int limit) {
+        return queryFactory
                 .selectFrom(user)
-                .join(user.userStatus, userStatus)
+                .leftJoin(user.userStatus, userStatus).fetchJoin()
+                .where(compatiblePartnerCondition(currentUserId))
+                .orderBy(user.userCreatedAt.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    private List<User> fetchOnlinePartners(BooleanBuilder builder, long offset, int limit) {
+        return queryFactory
+                .selectFrom(user)
+                .join(user.userStatus, userStatus).fetchJoin()
                 .where(builder)
-                .fetchCount();
+                .orderBy(userStatus.lastSeenAt.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
 
-        return new PageImpl<>(users, pageable, total);
+    /**
+     * limit + 1건 조회 결과를 Slice로 변환 (초과분이 있으면 다음 페이지 존재)
+     */
+    private Slice<User> toSlice(List<User> rows, Pageable pageable, int limit) {
+        boolean hasNext = rows.size() > limit;
+        return new SliceImpl<>(hasNext ? rows.subList(0, limit) : rows, pageable, hasNext);
     }
 
-    // Private helper methods
+    /**
+     * 건수 캐시 키: 실제 WHERE 절에 반영되는 필터 값만 사용
+     * 요청자 본인 제외 조건은 키에서 빠지므로 건수는 최대 1건 차이가 날 수 있다.
+     */
+    private String countKey(String kind, AdvancedMatchingFilterRequest filters) {
+        if (filters == null) {
+            return kind;
+        }
+        return String.join(":", kind,
+                String.valueOf(filters.getGender()),
+                String.valueOf(filters.getMinAge()),
+                String.valueOf(filters.getMaxAge()),
+                String.valueOf(filters.getMaxDaysInactive()),
+                String.valueOf(filters.getMinDaysSinceJoined()),
+                String.valueOf(filters.getMaxDaysSinceJoined()),
+                String.valueOf(filters.getOnlineOnly()),
+                String.valueOf(filters.getStudyingOnly()));
+    }
 
     private void addBasicFilters(BooleanBuilder builder, AdvancedMatchingFilterRequest filters) {
         if (filters.getGender() != null && !"ANY".equals(filters.getGender())) {
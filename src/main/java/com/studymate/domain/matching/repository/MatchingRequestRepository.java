@@ -3,12 +3,16 @@ package com.studymate.domain.matching.repository;
 import com.studymate.domain.matching.entity.MatchingRequest;
 import com.studymate.domain.matching.entity.MatchingStatus;
 import com.studymate.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +40,50 @@ public interface MatchingRequestRepository extends JpaRepository<MatchingRequest
      */
     List<MatchingRequest> findBySenderOrderByCreatedAtDesc(User sender);
 
+    /**
+     * 보낸 요청 키셋 페이지 - 첫 페이지 (받는 사용자 함께 조회)
+     */
+    @Query("SELECT mr FROM MatchingRequest mr " +
+           "JOIN FETCH mr.receiver r LEFT JOIN FETCH r.location LEFT JOIN FETCH r.nativeLanguage " +
+           "WHERE mr.sender.userId = :userId " +
+           "ORDER BY mr.createdAt DESC, mr.matchingRequestId DESC")
+    List<MatchingRequest> findSentFirstPage(@Param("userId") UUID userId, Pageable limit);
+
+    /**
+     * 보낸 요청 키셋 페이지 - (createdAt, requestId) 커서 이후
+     */
+    @Query("SELECT mr FROM MatchingRequest mr " +
+           "JOIN FETCH mr.receiver r LEFT JOIN FETCH r.location LEFT JOIN FETCH r.nativeLanguage " +
+           "WHERE mr.sender.userId = :userId " +
+           "AND (mr.createdAt < :createdAt OR (mr.createdAt = :createdAt AND mr.matchingRequestId < :requestId)) " +
+           "ORDER BY mr.createdAt DESC, mr.matchingRequestId DESC")
+    List<MatchingRequest> findSentPageAfter(@Param("userId") UUID userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("requestId") UUID requestId,
+                                            Pageable limit);
+
+    /**
+     * 받은 요청 키셋 페이지 - 첫 페이지 (보낸 사용자 함께 조회)
+     */
+    @Query("SELECT mr FROM MatchingRequest mr " +
+           "JOIN FETCH mr.sender s LEFT JOIN FETCH s.location LEFT JOIN FETCH s.nativeLanguage " +
+           "WHERE mr.receiver.userId = :userId " +
+           "ORDER BY mr.createdAt DESC, mr.matchingRequestId DESC")
+    List<MatchingRequest> findReceivedFirstPage(@Param("userId") UUID userId, Pageable limit);
+
+    /**
+     * 받은 요청 키셋 페이지 - (createdAt, requestId) 커서 이후
+     */
+    @Query("SELECT mr FROM MatchingRequest mr " +
+           "JOIN FETCH mr.sender s LEFT JOIN FETCH s.location LEFT JOIN FETCH s.nativeLanguage " +
+           "WHERE mr.receiver.userId = :userId " +
+           "AND (mr.createdAt < :createdAt OR (mr.createdAt = :createdAt AND mr.matchingRequestId < :requestId)) " +
+           "ORDER BY mr.createdAt DESC, mr.matchingRequestId DESC")
+    List<MatchingRequest> findReceivedPageAfter(@Param("userId") UUID userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("requestId") UUID requestId,
+                                                Pageable limit);
+
     /**
      * 두 사용자 간의 최근 매칭 요청 확인
      */
@@ -58,11 +106,53 @@ public interface MatchingRequestRepository extends JpaRepository<MatchingRequest
             @Param("status") MatchingStatus status, 
             @Param("currentTime") LocalDateTime currentTime);
 
+    /**
+     * 만료 시간이 지난 대기 요청 ID를 만료 시간 순으로 조회 (만료 스위퍼 청크 단위)
+     */
+    @Query("SELECT mr.matchingRequestId FROM MatchingRequest mr " +
+           "WHERE mr.status = 'PENDING' AND mr.expiresAt < :now ORDER BY mr.expiresAt")
+    List<UUID> findExpiredPendingIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 가장 오래 방치된 만료 대상 요청의 만료 시간 (스위퍼 지연 측정용)
+     */
+    @Query("SELECT MIN(mr.expiresAt) FROM MatchingRequest mr WHERE mr.status = 'PENDING' AND mr.expiresAt < :now")
+    LocalDateTime findOldestExpiredPendingAt(@Param("now") LocalDateTime now);
+
+    /**
+     * 대기 요청 일괄 만료 (그 사이 수락/거절된 요청은 건드리지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MatchingRequest mr SET mr.status = 'EXPIRED' " +
+           "WHERE mr.matchingRequestId IN :requestIds AND mr.status = 'PENDING'")
+    int expirePendingRequests(@Param("requestIds") Collection<UUID> requestIds);
+
+    /**
+     * 대기 요청 조건부 수락 (수신자 본인 + PENDING 상태일 때만 1건 갱신)
+     */
+    @Modifying
+    @Query("UPDATE MatchingRequest mr SET mr.status = 'ACCEPTED', mr.respondedAt = :respondedAt " +
+           "WHERE mr.matchingRequestId = :requestId AND mr.receiver.userId = :receiverId AND mr.status = 'PENDING'")
+    int acceptIfPending(@Param("requestId") UUID requestId,
+                        @Param("receiverId") UUID receiverId,
+                        @Param("respondedAt") LocalDateTime respondedAt);
+
     /**
      * 사용자가 특정 상대에게 보낸 대기중인 요청이 있는지 확인
      */
     boolean existsBySenderAndReceiverAndStatus(User sender, User receiver, MatchingStatus status);
 
+    /**
+     * 특정 상태의 요청으로 연결된 상대 ID 목록 (보낸 요청의 수신자 + 받은 요청의 발신자, 매칭 제외 집합 적재용)
+     */
+    @Query("SELECT CASE WHEN mr.sender.userId = :userId THEN mr.receiver.userId ELSE mr.sender.userId END " +
+           "FROM MatchingRequest mr " +
+           "WHERE (mr.sender.userId = :userId OR mr.receiver.userId = :userId) " +
+           "AND mr.status IN :statuses")
+    List<UUID> findCounterpartIdsByStatusIn(@Param("userId") UUID userId,
+                                            @Param("statuses") Collection<MatchingStatus> statuses);
+
     /**
      * 사용자의 받은 대기중인 요청 개수
      */
@@ -2,7 +2,9 @@ package com.studymate.domain.matching.repository;
 
 import com.studymate.domain.matching.entity.UserMatch;
 import com.studymate.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,6 +28,95 @@ public interface UserMatchRepository extends JpaRepository<UserMatch, UUID> {
            "ORDER BY um.matchedAt DESC")
     List<UserMatch> findActiveMatchesByUser(@Param("user") User user);
 
+    /**
+     * 활성 매칭 키셋 페이지 - 첫 페이지 (양쪽 사용자 함께 조회)
+     * OR 조건은 인덱스 하나로 정렬할 수 없어 filesort가 발생하므로,
+     * USER1 / USER2 쪽을 각 인덱스로 limit개씩 조회한 뒤 병합한다.
+     */
+    default List<UserMatch> findActiveMatchesFirstPage(UUID userId, Pageable limit) {
+        return mergeKeysetPages(findActiveMatchesAsUser1FirstPage(userId, limit),
+                findActiveMatchesAsUser2FirstPage(userId, limit), limit);
+    }
+
+    /**
+     * 활성 매칭 키셋 페이지 - (createdAt, matchId) 커서 이후 (양쪽 사용자 함께 조회)
+     */
+    default List<UserMatch> findActiveMatchesPageAfter(UUID userId, java.time.LocalDateTime createdAt,
+                                                       UUID matchId, Pageable limit) {
+        return mergeKeysetPages(findActiveMatchesAsUser1PageAfter(userId, createdAt, matchId, limit),
+                findActiveMatchesAsUser2PageAfter(userId, createdAt, matchId, limit), limit);
+    }
+
+    /**
+     * USER1 쪽 활성 매칭 첫 페이지 (IDX_USER_MATCH_USER1_CREATED)
+     */
+    @Query("SELECT um FROM UserMatch um JOIN FETCH um.user1 JOIN FETCH um.user2 " +
+           "WHERE um.user1.userId = :userId " +
+           "AND um.isActive = true " +
+           "ORDER BY um.createdAt DESC, um.userMatchId DESC")
+    List<UserMatch> findActiveMatchesAsUser1FirstPage(@Param("userId") UUID userId, Pageable limit);
+
+    /**
+     * USER2 쪽 활성 매칭 첫 페이지 (IDX_USER_MATCH_USER2_CREATED)
+     */
+    @Query("SELECT um FROM UserMatch um JOIN FETCH um.user1 JOIN FETCH um.user2 " +
+           "WHERE um.user2.userId = :userId " +
+           "AND um.isActive = true " +
+           "ORDER BY um.createdAt DESC, um.userMatchId DESC")
+    List<UserMatch> findActiveMatchesAsUser2FirstPage(@Param("userId") UUID userId, Pageable limit);
+
+    /**
+     * USER1 쪽 활성 매칭 - (createdAt, matchId) 커서 이후
+     */
+    @Query("SELECT um FROM UserMatch um JOIN FETCH um.user1 JOIN FETCH um.user2 " +
+           "WHERE um.user1.userId = :userId " +
+           "AND um.isActive = true " +
+           "AND (um.createdAt < :createdAt OR (um.createdAt = :createdAt AND um.userMatchId < :matchId)) " +
+           "ORDER BY um.createdAt DESC, um.userMatchId DESC")
+    List<UserMatch> findActiveMatchesAsUser1PageAfter(@Param("userId") UUID userId,
+                                                      @Param("createdAt") java.time.LocalDateTime createdAt,
+                                                      @Param("matchId") UUID matchId,
+                                                      Pageable limit);
+
+    /**
+     * USER2 쪽 활성 매칭 - (createdAt, matchId) 커서 이후
+     */
+    @Query("SELECT um FROM UserMatch um JOIN FETCH um.user1 JOIN FETCH um.user2 " +
+           "WHERE um.user2.userId = :userId " +
+           "AND um.isActive = true " +
+           "AND (um.createdAt < :createdAt OR (um.createdAt = :createdAt AND um.userMatchId < :matchId)) " +
+           "ORDER BY um.createdAt DESC, um.userMatchId DESC")
+    List<UserMatch> findActiveMatchesAsUser2PageAfter(@Param("userId") UUID userId,
+                                                      @Param("createdAt") java.time.LocalDateTime createdAt,
+                                                      @Param("matchId") UUID matchId,
+                                                      Pageable limit);
+
+    /**
+     * 두 키셋 페이지를 (createdAt DESC, matchId DESC) 순으로 병합해 limit개까지 반환
+     * UUID는 DB(BINARY(16))와 같은 부호 없는 바이트 순서로 비교한다.
+     */
+    private static List<UserMatch> mergeKeysetPages(List<UserMatch> first, List<UserMatch> second, Pageable limit) {
+        java.util.Comparator<UserMatch> order = java.util.Comparator
+                .comparing(UserMatch::getCreatedAt)
+                .thenComparing(UserMatch::getUserMatchId,
+                        (a, b) -> a.getMostSignificantBits() != b.getMostSignificantBits()
+                                ? Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits())
+                                : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits()))
+                .reversed();
+
+        List<UserMatch> merged = new java.util.ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit.getPageSize() && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && order.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
     /**
      * 두 사용자 간의 매칭 관계 조회
      */
@@ -35,6 +126,37 @@ public interface UserMatchRepository extends JpaRepository<UserMatch, UUID> {
            "AND um.isActive = true")
     Optional<UserMatch> findActiveMatchBetweenUsers(@Param("user1") User user1, @Param("user2") User user2);
 
+    /**
+     * 사용자의 활성 매칭 상대 ID 목록 (매칭 제외 집합 적재용)
+     */
+    @Query("SELECT CASE WHEN um.user1.userId = :userId THEN um.user2.userId ELSE um.user1.userId END " +
+           "FROM UserMatch um " +
+           "WHERE (um.user1.userId = :userId OR um.user2.userId = :userId) " +
+           "AND um.isActive = true")
+    List<UUID> findActivePartnerIds(@Param("userId") UUID userId);
+
+    /**
+     * ACTIVE_PAIR_KEY가 비어 있는 활성 매칭 (matchId, user1Id, user2Id) - matchId 키셋 순 (키 백필용)
+     */
+    @Query("SELECT um.userMatchId, um.user1.userId, um.user2.userId FROM UserMatch um " +
+           "WHERE um.isActive = true AND um.activePairKey IS NULL AND um.userMatchId > :afterId " +
+           "ORDER BY um.userMatchId")
+    List<Object[]> findActiveRowsWithoutPairKey(@Param("afterId") UUID afterId, Pageable limit);
+
+    /**
+     * 활성 매칭에 ACTIVE_PAIR_KEY 부여 (아직 비어 있을 때만)
+     */
+    @Modifying
+    @Query("UPDATE UserMatch um SET um.activePairKey = :pairKey " +
+           "WHERE um.userMatchId = :matchId AND um.isActive = true AND um.activePairKey IS NULL")
+    int assignActivePairKey(@Param("matchId") UUID matchId, @Param("pairKey") String pairKey);
+
+    /**
+     * 전체 매칭 쌍 (user1Id, user2Id) - 해제된 매칭 포함 (파트너 그래프 적재용)
+     */
+    @Query("SELECT um.user1.userId, um.user2.userId FROM UserMatch um")
+    List<Object[]> findAllMatchPairs();
+
     /**
      * 사용자의 모든 매칭 기록 조회 (비활성 포함)
      */
@@ -0,0 +1,225 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 쌍 호환성 점수 저장소 (Redis Sorted Set)
+ * 언어 교환이 성립하고 레벨이 가까운 "유력 후보" 쌍의 점수만 미리 계산해 두고,
+ * 추천 조회는 사용자별 점수 행에 대한 범위 조회로 처리한다.
+ * 온보딩 데이터가 바뀌면 해당 사용자의 행(과 상대 행의 해당 항목)만 다시 계산한다.
+ * 재계산은 전용 스레드에서 사용자 단위로 합쳐 처리하므로 온보딩 요청 스레드를 붙잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompatibilityScoreStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final MatchingCandidateIndex matchingCandidateIndex;
+    private final CompatibilityVectorCache compatibilityVectorCache;
+
+    // Redis 키 패턴
+    private static final String SCORE_ROW_PREFIX = "matching:scores:";
+    private static final String SCORE_ROW_READY_PREFIX = "matching:scores:ready:";
+
+    private static final Duration SCORE_ROW_TTL = Duration.ofDays(7);
+    private static final int MAX_ROW_SIZE = 500;
+    private static final int MAX_LEVEL_GAP = 2;
+
+    // 재계산 대기 중인 사용자 (같은 사용자의 연속 변경은 한 번만 재계산)
+    private final Set<UUID> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "compatibility-score-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 사용자 점수 행에서 점수 내림차순 범위 조회
+     * 행이 아직 없으면 즉시 계산한 뒤 조회하며, Redis 오류 시 null을 반환한다.
+     */
+    public ScoreRange findRange(UUID userId, long offset, int size) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(SCORE_ROW_READY_PREFIX + userId))) {
+                refreshRow(userId);
+            }
+
+            String key = SCORE_ROW_PREFIX + userId;
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(key, offset, offset + size - 1);
+            Long total = redisTemplate.opsForZSet().zCard(key);
+
+            List<ScoredId> entries = new ArrayList<>();
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    if (tuple.getValue() == null || tuple.getScore() == null) continue;
+                    entries.add(new ScoredId(UUID.fromString(tuple.getValue()), tuple.getScore()));
+                }
+            }
+            return new ScoreRange(entries, total != null ? total : 0L);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read compatibility score row for user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 사용자 한 명의 점수 행 재계산
+     * 새 행을 기록하고, 상대 사용자 행에 있는 이 사용자 항목도 갱신하거나 제거한다.
+     */
+    public void refreshRow(UUID userId) {
+        String rowKey = SCORE_ROW_PREFIX + userId;
+        Set<String> previousPartners = Optional.ofNullable(redisTemplate.opsForZSet().range(rowKey, 0, -1))
+                .orElseGet(Collections::emptySet);
+
+        User me = userRepository.findById(userId).orElse(null);
+        MatchingCandidateIndex.CandidateProfile myProfile = matchingCandidateIndex.getProfile(userId);
+        if (me == null || myProfile == null || !myProfile.active()) {
+            removeRow(userId, previousPartners);
+            return;
+        }
+
+        List<UUID> candidateIds = matchingCandidateIndex.findCandidates(userId, null, null, null).stream()
+                .filter(candidateId -> isNearbyLevel(myProfile, matchingCandidateIndex.getProfile(candidateId)))
+                .toList();
+        Map<UUID, User> partners = userRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        List<UUID> vectorIds = new ArrayList<>(partners.keySet());
+        vectorIds.add(userId);
+        Map<UUID, CompatibilityVector> vectors = compatibilityVectorCache.preload(vectorIds);
+
+        // 트랜잭션 프록시를 거치지 않고 적재된 벡터로만 양방향 점수 계산
+        CompatibilityVector myVector = vectors.getOrDefault(userId, CompatibilityVector.EMPTY);
+        Integer myNativeLanguageId = CompatibilityScoring.nativeLanguageId(me);
+        Set<ZSetOperations.TypedTuple<String>> row = new HashSet<>();
+        Map<UUID, Double> reverseScores = new HashMap<>();
+        for (User partner : partners.values()) {
+            CompatibilityVector partnerVector = vectors.getOrDefault(partner.getUserId(), CompatibilityVector.EMPTY);
+            Integer partnerNativeLanguageId = CompatibilityScoring.nativeLanguageId(partner);
+            row.add(ZSetOperations.TypedTuple.of(partner.getUserId().toString(), CompatibilityScoring.simpleScore(
+                    myVector, myNativeLanguageId, partnerVector, partnerNativeLanguageId)));
+            reverseScores.put(partner.getUserId(), CompatibilityScoring.simpleScore(
+                    partnerVector, partnerNativeLanguageId, myVector, myNativeLanguageId));
+        }
+
+        String member = userId.toString();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                // 내 행 교체
+                ops.delete(rowKey);
+                if (!row.isEmpty()) {
+                    ops.opsForZSet().add(rowKey, row);
+                    ops.opsForZSet().removeRange(rowKey, 0, -(MAX_ROW_SIZE + 1));
+                    ops.expire(rowKey, SCORE_ROW_TTL);
+                }
+                ops.opsForValue().set(SCORE_ROW_READY_PREFIX + userId, "1", SCORE_ROW_TTL);
+
+                // 상대 행의 내 항목 갱신 / 더 이상 유력 후보가 아니면 제거 (상대 행도 같은 크기 / TTL 유지)
+                for (Map.Entry<UUID, Double> entry : reverseScores.entrySet()) {
+                    String partnerKey = SCORE_ROW_PREFIX + entry.getKey();
+                    ops.opsForZSet().add(partnerKey, member, entry.getValue());
+                    ops.opsForZSet().removeRange(partnerKey, 0, -(MAX_ROW_SIZE + 1));
+                    ops.expire(partnerKey, SCORE_ROW_TTL);
+                }
+                for (String previous : previousPartners) {
+                    if (!reverseScores.containsKey(UUID.fromString(previous))) {
+                        ops.opsForZSet().remove(SCORE_ROW_PREFIX + previous, member);
+                    }
+                }
+                return null;
+            }
+        });
+        log.debug("Refreshed compatibility score row for user {} with {} partners", userId, row.size());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOnboardingDataChanged(OnboardingDataChangedEvent event) {
+        UUID userId = event.userId();
+        if (pendingRefreshes.add(userId)) {
+            refreshExecutor.execute(() -> refreshPending(userId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // Private helper methods
+
+    private void refreshPending(UUID userId) {
+        // 재계산 시작 전에 제거해 계산 중 들어온 변경은 다시 예약되도록 함
+        pendingRefreshes.remove(userId);
+        try {
+            refreshRow(userId);
+        } catch (Exception e) {
+            log.warn("Failed to refresh compatibility score row for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void removeRow(UUID userId, Set<String> previousPartners) {
+        String member = userId.toString();
+        redisTemplate.delete(SCORE_ROW_PREFIX + userId);
+        redisTemplate.delete(SCORE_ROW_READY_PREFIX + userId);
+        for (String previous : previousPartners) {
+            redisTemplate.opsForZSet().remove(SCORE_ROW_PREFIX + previous, member);
+        }
+    }
+
+    /**
+     * 학습 레벨이 가까운지 확인 (레벨 ID는 난이도 순으로 부여됨)
+     * 어느 한쪽이라도 레벨 정보가 없으면 유력 후보로 간주한다.
+     */
+    private boolean isNearbyLevel(MatchingCandidateIndex.CandidateProfile me,
+                                  MatchingCandidateIndex.CandidateProfile partner) {
+        if (partner == null) {
+            return false;
+        }
+        if (me.levelIds().isEmpty() || partner.levelIds().isEmpty()) {
+            return true;
+        }
+        for (Integer myLevel : me.levelIds()) {
+            for (Integer partnerLevel : partner.levelIds()) {
+                if (Math.abs(myLevel - partnerLevel) <= MAX_LEVEL_GAP) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public record ScoredId(UUID userId, double score) {
+    }
+
+    public record ScoreRange(List<ScoredId> entries, long total) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.user.entity.User;
+
+/**
+ * 호환성 단순 점수 계산 (순수 함수)
+ * 미리 적재한 호환성 벡터와 모국어 ID만 사용하므로 DB / 트랜잭션 없이 여러 스레드에서 동시에 호출할 수 있다.
+ * 가중치: 언어 30% / 성격 25% / 학습 목표 25% / 관심사 20%
+ */
+public final class CompatibilityScoring {
+
+    private CompatibilityScoring() {
+    }
+
+    public static double simpleScore(CompatibilityVector vector1, Integer nativeLanguageId1,
+                                     CompatibilityVector vector2, Integer nativeLanguageId2) {
+        return weightedScore(
+                languageScore(nativeLanguageId1, nativeLanguageId2),
+                vector1.personalityScore(vector2),
+                vector1.goalScore(vector2),
+                vector1.interestScore(vector2));
+    }
+
+    public static double weightedScore(double languageScore, double personalityScore,
+                                       double goalScore, double interestScore) {
+        return languageScore * 0.3 + personalityScore * 0.25 +
+               goalScore * 0.25 + interestScore * 0.2;
+    }
+
+    /**
+     * 언어 호환성
+     * 실제 구현에서는 온보딩 데이터에서 목표 언어 / 레벨을 확인해야 하며, 현재는 모국어 비교만 한다.
+     */
+    public static double languageScore(Integer nativeLanguageId1, Integer nativeLanguageId2) {
+        double score = 0.0;
+
+        // 모국어 - 목표언어 매칭 (핵심 호환성)
+        if (nativeLanguageId1 != null && nativeLanguageId2 != null) {
+            // 서로의 모국어가 다르면 완벽한 언어 교환 쌍, 같으면 부분 점수
+            score += !nativeLanguageId1.equals(nativeLanguageId2) ? 80.0 : 40.0;
+        }
+
+        // 언어 레벨 호환성 (현재는 기본값)
+        score += 20.0;
+
+        return Math.min(100.0, score);
+    }
+
+    /**
+     * 모국어 ID (식별자만 읽으므로 프록시를 초기화하지 않음)
+     */
+    public static Integer nativeLanguageId(User user) {
+        return user.getNativeLanguage() != null ? user.getNativeLanguage().getLanguageId() : null;
+    }
+}
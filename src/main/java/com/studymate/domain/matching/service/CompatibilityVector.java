@@ -0,0 +1,160 @@
+package com.studymate.domain.matching.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 사용자별 호환성 특성 벡터
+ * 성격/학습 목표/관심 주제 ID를 long[] 비트셋으로 압축해 두고, 쌍 점수는 popcount 연산만으로 계산한다.
+ */
+public final class CompatibilityVector {
+
+    static final int INTROVERT = 1;
+    static final int EXTROVERT = 1 << 1;
+    static final int BUSINESS = 1 << 2;
+    static final int CASUAL = 1 << 3;
+    static final int ACADEMIC = 1 << 4;
+    static final int PRACTICAL = 1 << 5;
+
+    private static final long[] NO_BITS = new long[0];
+
+    public static final CompatibilityVector EMPTY =
+            new CompatibilityVector(NO_BITS, 0, NO_BITS, 0, NO_BITS, 0, 0);
+
+    private final long[] personalityBits;
+    private final int personalityCount;
+    private final long[] goalBits;
+    private final int goalCount;
+    private final long[] topicBits;
+    private final int topicCount;
+    private final int traitFlags;
+
+    private CompatibilityVector(long[] personalityBits, int personalityCount,
+                                long[] goalBits, int goalCount,
+                                long[] topicBits, int topicCount,
+                                int traitFlags) {
+        this.personalityBits = personalityBits;
+        this.personalityCount = personalityCount;
+        this.goalBits = goalBits;
+        this.goalCount = goalCount;
+        this.topicBits = topicBits;
+        this.topicCount = topicCount;
+        this.traitFlags = traitFlags;
+    }
+
+    /**
+     * 온보딩 데이터로부터 벡터 생성
+     *
+     * @param personalities 성격 ID → 성격 이름
+     * @param goals         학습 목표 ID → 목표 이름
+     * @param topicIds      관심 주제 ID 목록
+     */
+    public static CompatibilityVector of(Map<Integer, String> personalities,
+                                         Map<Integer, String> goals,
+                                         Collection<Integer> topicIds) {
+        int flags = 0;
+        for (String name : personalities.values()) {
+            if ("INTROVERT".equals(name)) flags |= INTROVERT;
+            if ("EXTROVERT".equals(name)) flags |= EXTROVERT;
+        }
+        for (String name : goals.values()) {
+            if ("BUSINESS".equals(name)) flags |= BUSINESS;
+            if ("CASUAL".equals(name)) flags |= CASUAL;
+            if ("ACADEMIC".equals(name)) flags |= ACADEMIC;
+            if ("PRACTICAL".equals(name)) flags |= PRACTICAL;
+        }
+
+        long[] personalityBits = toBits(personalities.keySet());
+        long[] goalBits = toBits(goals.keySet());
+        long[] topicBits = toBits(topicIds);
+
+        return new CompatibilityVector(
+                personalityBits, cardinality(personalityBits),
+                goalBits, cardinality(goalBits),
+                topicBits, cardinality(topicBits),
+                flags);
+    }
+
+    /**
+     * 성격 호환성: 공통 성격 × 20 + 내향/외향 보완 보너스 30
+     */
+    public double personalityScore(CompatibilityVector other) {
+        if (personalityCount == 0 || other.personalityCount == 0) {
+            return 50.0; // 기본 점수
+        }
+
+        double score = intersectionCount(personalityBits, other.personalityBits) * 20.0;
+        if ((hasTrait(INTROVERT) && other.hasTrait(EXTROVERT)) ||
+            (hasTrait(EXTROVERT) && other.hasTrait(INTROVERT))) {
+            score += 30.0;
+        }
+        return Math.min(100.0, score);
+    }
+
+    /**
+     * 학습 목표 호환성: 공통 목표 × 25 + 보완 목표 보너스 20
+     */
+    public double goalScore(CompatibilityVector other) {
+        if (goalCount == 0 || other.goalCount == 0) {
+            return 50.0; // 기본 점수
+        }
+
+        double score = intersectionCount(goalBits, other.goalBits) * 25.0;
+        if ((hasTrait(BUSINESS) && other.hasTrait(CASUAL)) ||
+            (hasTrait(ACADEMIC) && other.hasTrait(PRACTICAL))) {
+            score += 20.0;
+        }
+        return Math.min(100.0, score);
+    }
+
+    /**
+     * 관심사 호환성: 공통 주제 비율 (Dice 계수)
+     */
+    public double interestScore(CompatibilityVector other) {
+        if (topicCount == 0 || other.topicCount == 0) {
+            return 50.0; // 기본 점수
+        }
+
+        int common = intersectionCount(topicBits, other.topicBits);
+        return (double) common * 2 / (topicCount + other.topicCount) * 100.0;
+    }
+
+    private boolean hasTrait(int flag) {
+        return (traitFlags & flag) != 0;
+    }
+
+    static int intersectionCount(long[] a, long[] b) {
+        int length = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private static long[] toBits(Collection<Integer> ids) {
+        int maxId = -1;
+        for (Integer id : ids) {
+            if (id != null && id > maxId) maxId = id;
+        }
+        if (maxId < 0) {
+            return NO_BITS;
+        }
+
+        long[] bits = new long[(maxId >>> 6) + 1];
+        for (Integer id : ids) {
+            if (id != null && id >= 0) {
+                bits[id >>> 6] |= 1L << id;
+            }
+        }
+        return bits;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
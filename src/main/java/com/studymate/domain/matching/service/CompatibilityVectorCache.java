@@ -0,0 +1,152 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import com.studymate.domain.onboarding.domain.repository.OnboardingPersonalityRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingStudyGoalRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingTopicRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 호환성 벡터 캐시
+ * 최초 조회 시 성격/학습 목표/관심 주제를 IN 쿼리로 일괄 적재하고, 온보딩 변경 이벤트로 무효화한다.
+ * 변경 이벤트는 이 서버에서만 받으므로, 다른 서버의 변경은 VECTOR_TTL 후 재적재로 반영한다.
+ * 적재 중(DB 조회 이후)에 무효화된 사용자는 캐시에 넣지 않아 변경 전 벡터가 다시 남지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompatibilityVectorCache {
+
+    private static final int MAX_CACHED_VECTORS = 100_000;
+    private static final Duration VECTOR_TTL = Duration.ofMinutes(10);
+
+    private final OnboardingPersonalityRepository personalityRepository;
+    private final OnboardingStudyGoalRepository studyGoalRepository;
+    private final OnboardingTopicRepository topicRepository;
+
+    private final Map<UUID, CachedVector> vectors = new ConcurrentHashMap<>();
+    // 사용자별 마지막 무효화 시각 (System.nanoTime, 적재 시작보다 늦으면 적재 결과를 캐시하지 않음)
+    private final Map<UUID, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 벡터 조회 (캐시 미스 시 적재)
+     */
+    public CompatibilityVector get(UUID userId) {
+        CachedVector cached = vectors.get(userId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.vector();
+        }
+        return preload(List.of(userId)).getOrDefault(userId, CompatibilityVector.EMPTY);
+    }
+
+    /**
+     * 캐시에 없는 사용자들의 벡터를 한 번에 적재
+     * 후보 목록을 점수화하기 전에 호출하면 쌍 점수 계산 중 DB 접근이 발생하지 않는다.
+     */
+    public Map<UUID, CompatibilityVector> preload(Collection<UUID> userIds) {
+        Map<UUID, CompatibilityVector> loaded = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        for (UUID userId : userIds) {
+            if (userId == null) continue;
+            CachedVector cached = vectors.get(userId);
+            if (cached != null && !cached.isExpired()) {
+                loaded.put(userId, cached.vector());
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return loaded;
+        }
+
+        long loadStartedAt = System.nanoTime();
+
+        Map<UUID, Map<Integer, String>> personalities = new HashMap<>();
+        for (Object[] row : personalityRepository.findVectorRowsByUserIds(missing)) {
+            personalities.computeIfAbsent((UUID) row[0], key -> new HashMap<>())
+                    .put(((Number) row[1]).intValue(), (String) row[2]);
+        }
+
+        Map<UUID, Map<Integer, String>> goals = new HashMap<>();
+        for (Object[] row : studyGoalRepository.findVectorRowsByUserIds(missing)) {
+            goals.computeIfAbsent((UUID) row[0], key -> new HashMap<>())
+                    .put(((Number) row[1]).intValue(), (String) row[2]);
+        }
+
+        Map<UUID, List<Integer>> topics = new HashMap<>();
+        for (Object[] row : topicRepository.findIdRowsByUsrIds(missing)) {
+            topics.computeIfAbsent((UUID) row[0], key -> new ArrayList<>())
+                    .add(((Number) row[1]).intValue());
+        }
+
+        if (vectors.size() + missing.size() > MAX_CACHED_VECTORS) {
+            evictExpired();
+            if (vectors.size() + missing.size() > MAX_CACHED_VECTORS) {
+                log.info("Compatibility vector cache exceeded {} entries, clearing", MAX_CACHED_VECTORS);
+                vectors.clear();
+            }
+        }
+
+        long expiresAt = System.currentTimeMillis() + VECTOR_TTL.toMillis();
+        for (UUID userId : missing) {
+            CompatibilityVector vector = CompatibilityVector.of(
+                    personalities.getOrDefault(userId, Collections.emptyMap()),
+                    goals.getOrDefault(userId, Collections.emptyMap()),
+                    topics.getOrDefault(userId, Collections.emptyList()));
+            loaded.put(userId, vector);
+            // 한 번에 많이 적재해도 상한까지만 캐시
+            if (vectors.size() < MAX_CACHED_VECTORS) {
+                vectors.compute(userId, (key, current) -> invalidatedSince(key, loadStartedAt)
+                        ? current : new CachedVector(vector, expiresAt));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 무효화 시각을 먼저 남기고 삭제 (진행 중인 적재가 이 사용자를 다시 캐시하지 않도록)
+     */
+    public void invalidate(UUID userId) {
+        invalidatedAt.put(userId, System.nanoTime());
+        vectors.remove(userId);
+    }
+
+    /**
+     * 10분마다 만료된 벡터와 오래된 무효화 기록 정리
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 10분
+    public void evictExpired() {
+        vectors.values().removeIf(CachedVector::isExpired);
+        long staleBefore = System.nanoTime() - VECTOR_TTL.toNanos();
+        invalidatedAt.values().removeIf(at -> at - staleBefore < 0);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE) // 점수 저장소 갱신보다 먼저 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOnboardingDataChanged(OnboardingDataChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    // Private helper methods
+
+    private boolean invalidatedSince(UUID userId, long loadStartedAt) {
+        Long at = invalidatedAt.get(userId);
+        return at != null && at - loadStartedAt >= 0;
+    }
+
+    private record CachedVector(CompatibilityVector vector, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.studymate.domain.matching.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 단일 인스턴스용 메모리 대기열
+ * 버킷별 TreeSet을 유지하며 모든 연산은 하나의 모니터로 직렬화된다.
+ */
+@Component
+@ConditionalOnProperty(name = "matching.queue.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryMatchingQueueStore implements MatchingQueueStore {
+
+    private final Map<String, NavigableSet<MatchingQueueTicket>> buckets = new HashMap<>();
+    private final Map<UUID, MatchingQueueTicket> ticketsByUser = new HashMap<>();
+
+    @Override
+    public synchronized void add(MatchingQueueTicket ticket) {
+        MatchingQueueTicket previous = ticketsByUser.get(ticket.userId());
+        if (previous != null) {
+            removeTicket(previous);
+        }
+        ticketsByUser.put(ticket.userId(), ticket);
+        for (String key : ticket.bucketKeys()) {
+            buckets.computeIfAbsent(key, k -> new TreeSet<>(MatchingQueueTicket.RANK_ORDER)).add(ticket);
+        }
+    }
+
+    @Override
+    public synchronized void remove(UUID userId) {
+        MatchingQueueTicket ticket = ticketsByUser.get(userId);
+        if (ticket != null) {
+            removeTicket(ticket);
+        }
+    }
+
+    @Override
+    public synchronized boolean contains(UUID userId) {
+        return ticketsByUser.containsKey(userId);
+    }
+
+    @Override
+    public synchronized Integer position(UUID userId) {
+        MatchingQueueTicket ticket = ticketsByUser.get(userId);
+        if (ticket == null) {
+            return null;
+        }
+        int position = Integer.MAX_VALUE;
+        for (String key : ticket.bucketKeys()) {
+            NavigableSet<MatchingQueueTicket> bucket = buckets.get(key);
+            if (bucket != null) {
+                position = Math.min(position, bucket.headSet(ticket, false).size() + 1);
+            }
+        }
+        return position == Integer.MAX_VALUE ? 1 : position;
+    }
+
+    @Override
+    public synchronized int size() {
+        return ticketsByUser.size();
+    }
+
+    /**
+     * 우선순위 순으로 순회하며 각 항목을 호환 버킷 head 중 가장 앞선 항목과 짝짓는다.
+     */
+    @Override
+    public synchronized List<MatchingQueueTicket.Pair> claimMatches() {
+        List<MatchingQueueTicket> ordered = new ArrayList<>(ticketsByUser.values());
+        ordered.sort(MatchingQueueTicket.RANK_ORDER);
+
+        List<MatchingQueueTicket.Pair> pairs = new ArrayList<>();
+        for (MatchingQueueTicket ticket : ordered) {
+            if (ticketsByUser.get(ticket.userId()) != ticket) continue; // 이미 매칭됨
+
+            MatchingQueueTicket partner = findPartner(ticket);
+            if (partner != null) {
+                removeTicket(ticket);
+                removeTicket(partner);
+                pairs.add(new MatchingQueueTicket.Pair(ticket, partner));
+            }
+        }
+        return pairs;
+    }
+
+    @Override
+    public synchronized List<MatchingQueueTicket> claimExpired(LocalDateTime joinedBefore) {
+        List<MatchingQueueTicket> expired = ticketsByUser.values().stream()
+                .filter(ticket -> ticket.joinedAt().isBefore(joinedBefore))
+                .toList();
+        expired.forEach(this::removeTicket);
+        return expired;
+    }
+
+    // Private helper methods
+
+    private void removeTicket(MatchingQueueTicket ticket) {
+        ticketsByUser.remove(ticket.userId(), ticket);
+        for (String key : ticket.bucketKeys()) {
+            NavigableSet<MatchingQueueTicket> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(ticket);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private MatchingQueueTicket findPartner(MatchingQueueTicket ticket) {
+        MatchingQueueTicket best = null;
+        for (String key : ticket.partnerBucketKeys()) {
+            NavigableSet<MatchingQueueTicket> bucket = buckets.get(key);
+            if (bucket == null) continue;
+
+            for (MatchingQueueTicket candidate : bucket) {
+                if (candidate.userId().equals(ticket.userId())) continue;
+                if (best == null || MatchingQueueTicket.RANK_ORDER.compare(candidate, best) < 0) {
+                    best = candidate;
+                }
+                break;
+            }
+        }
+        return best;
+    }
+}
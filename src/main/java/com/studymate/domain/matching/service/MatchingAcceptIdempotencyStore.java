@@ -0,0 +1,112 @@
+package com.studymate.domain.matching.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 매칭 요청 수락 멱등성 키 저장소
+ * 클라이언트가 보낸 Idempotency-Key를 수락 처리 전에 SET NX로 요청 ID에 묶어 하루 동안 보관한다.
+ * 같은 키의 재시도는 이미 수락된 요청을 성공으로 돌려주고, 다른 요청에 키를 재사용하면 거부한다.
+ * 수락 트랜잭션이 롤백되면 이번에 새로 묶은 키는 해제하며, Redis 오류 시에는 요청 상태 기반 멱등성에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingAcceptIdempotencyStore {
+
+    private static final String KEY_PREFIX = "matching:accept:idem:";
+    private static final Duration KEY_TTL = Duration.ofHours(24);
+    private static final int MAX_KEY_LENGTH = 128;
+
+    // 키 값이 이번에 묶은 요청 ID일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 키 예약 결과
+     */
+    public enum Reservation {
+        /** 처음 보는 키를 이 요청에 묶음 (이미 수락된 요청이면 재시도가 아님) */
+        NEW,
+        /** 이전에 같은 요청으로 묶인 키 (이미 수락된 요청이면 재시도로 보고 성공 처리) */
+        REPLAY,
+        /** Redis 오류로 확인 불가 (요청 상태 기반 멱등성으로 처리) */
+        UNAVAILABLE
+    }
+
+    /**
+     * 수락 처리 전에 키를 요청에 묶음
+     * NEW로 묶은 키는 현재 트랜잭션이 롤백되면 해제된다.
+     *
+     * @throws IllegalArgumentException 다른 요청에 사용된 키인 경우
+     */
+    public Reservation reserve(UUID userId, String idempotencyKey, UUID requestId) {
+        String key = key(userId, idempotencyKey);
+        String boundRequestId;
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, requestId.toString(), KEY_TTL))) {
+                releaseOnRollback(key, requestId);
+                return Reservation.NEW;
+            }
+            boundRequestId = redisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to reserve accept idempotency key for user {}: {}", userId, e.getMessage());
+            return Reservation.UNAVAILABLE;
+        }
+        if (boundRequestId == null) {
+            // SET NX 직후 만료 / 해제된 경우 - 한 번 더 시도하지 않고 상태 기반 처리
+            return Reservation.UNAVAILABLE;
+        }
+        if (!boundRequestId.equals(requestId.toString())) {
+            throw new IllegalArgumentException("이미 다른 요청에 사용된 멱등성 키입니다.");
+        }
+        return Reservation.REPLAY;
+    }
+
+    public void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등성 키는 1-" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+    }
+
+    // Private helper methods
+
+    private void releaseOnRollback(String key, UUID requestId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(key, requestId);
+                }
+            }
+        });
+    }
+
+    private void release(String key, UUID requestId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), requestId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to release accept idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    private String key(UUID userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+}
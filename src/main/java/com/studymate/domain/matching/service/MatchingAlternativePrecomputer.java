@@ -0,0 +1,191 @@
+package com.studymate.domain.matching.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studymate.common.lock.RedisLeaderLock;
+import com.studymate.domain.matching.domain.repository.MatchingQueueRepository;
+import com.studymate.domain.notification.service.NotificationWebSocketService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매칭 대기 중 대안 사전 계산
+ * 대기열에서 일정 시간 이상 기다린 사용자에 대해 실패 분석 / 대기 시간별 대안 / 개선 제안을 백그라운드에서 계산해
+ * Redis에 짧게 보관하고, 계산이 끝나면 WebSocket으로 전송한다. 조회 API는 보관된 결과만 읽는다.
+ * 대기 단계(5 / 10 / 15분 이상)가 바뀌거나 결과가 만료되기 전에만 다시 계산하며, 대기열 조회는 리더 서버 한 대에서만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingAlternativePrecomputer {
+
+    private static final String LOCK_NAME = "matching-alternative-precompute";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    private static final String RESULT_PREFIX = "matching:alternatives:precomputed:";
+    private static final Duration RESULT_TTL = Duration.ofMinutes(5);
+
+    private static final int WAIT_THRESHOLD_MINUTES = 5;
+    private static final int MAX_STAGE = 3; // 15분 이상은 같은 단계
+    private static final int MAX_USERS_PER_SCAN = 500;
+
+    private final MatchingAlternativeService matchingAlternativeService;
+    private final MatchingQueueRepository matchingQueueRepository;
+    private final NotificationWebSocketService notificationWebSocketService;
+    private final RedisLeaderLock redisLeaderLock;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 이 서버가 마지막으로 계산한 사용자별 대기 단계
+    private final Map<UUID, ComputedStage> computedStages = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor computeExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(256),
+            runnable -> {
+                Thread thread = new Thread(runnable, "matching-alternative-precompute");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * 사전 계산된 대안 조회 (없거나 만료되었으면 null)
+     */
+    public PrecomputedAlternatives get(UUID userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(RESULT_PREFIX + userId);
+            return json != null ? objectMapper.readValue(json, PrecomputedAlternatives.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read precomputed alternatives for user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 대기열을 떠난 사용자의 결과 삭제
+     */
+    public void evict(UUID userId) {
+        computedStages.remove(userId);
+        try {
+            redisTemplate.delete(RESULT_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict precomputed alternatives for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 30초마다 오래 기다린 대기 사용자의 대안 계산 예약 (리더 서버만)
+     */
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void scan() {
+        if (!redisLeaderLock.tryAcquire(LOCK_NAME, LOCK_TTL)) {
+            return;
+        }
+        try {
+            scanOnce(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Matching alternative precompute scan failed: ", e);
+        } finally {
+            redisLeaderLock.release(LOCK_NAME);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        computeExecutor.shutdownNow();
+    }
+
+    // Private helper methods
+
+    private void scanOnce(LocalDateTime now) {
+        List<Object[]> rows = matchingQueueRepository.findWaitingUsersJoinedBefore(
+                now.minusMinutes(WAIT_THRESHOLD_MINUTES), PageRequest.of(0, MAX_USERS_PER_SCAN));
+
+        Set<UUID> waitingUsers = new HashSet<>(rows.size());
+        long nowMillis = System.currentTimeMillis();
+        for (Object[] row : rows) {
+            UUID userId = (UUID) row[0];
+            long waitMinutes = Duration.between((LocalDateTime) row[1], now).toMinutes();
+            int stage = (int) Math.min(waitMinutes / WAIT_THRESHOLD_MINUTES, MAX_STAGE);
+            waitingUsers.add(userId);
+
+            ComputedStage computed = computedStages.get(userId);
+            // 단계가 그대로면 결과가 만료되기 전(TTL 절반 경과)까지는 다시 계산하지 않음
+            if (computed != null && computed.stage() == stage
+                    && nowMillis - computed.computedAt() < RESULT_TTL.toMillis() / 2) {
+                continue;
+            }
+            computedStages.put(userId, new ComputedStage(stage, nowMillis));
+            submit(userId, waitMinutes);
+        }
+
+        // 대기열을 떠난 사용자 정리
+        computedStages.keySet().retainAll(waitingUsers);
+    }
+
+    private void submit(UUID userId, long waitMinutes) {
+        try {
+            computeExecutor.execute(() -> {
+                try {
+                    compute(userId, waitMinutes);
+                } catch (Exception e) {
+                    computedStages.remove(userId);
+                    log.warn("Failed to precompute matching alternatives for user {}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 계산 대기열이 가득 차면 다음 스캔 때 다시 시도
+            computedStages.remove(userId);
+        }
+    }
+
+    private void compute(UUID userId, long waitMinutes) throws JsonProcessingException {
+        MatchingAlternativeService.MatchingFailureContext context = MatchingAlternativeService.MatchingFailureContext.builder()
+                .failureReason(MatchingAlternativeService.MatchingFailureReason.NO_AVAILABLE_USERS)
+                .failureTime(LocalDateTime.now())
+                .waitTimeBefore(waitMinutes)
+                .build();
+
+        PrecomputedAlternatives result = new PrecomputedAlternatives(
+                userId,
+                waitMinutes,
+                matchingAlternativeService.analyzeMatchingFailure(userId, context),
+                matchingAlternativeService.provideDynamicAlternatives(userId, waitMinutes),
+                matchingAlternativeService.suggestImprovements(userId),
+                LocalDateTime.now());
+
+        redisTemplate.opsForValue().set(RESULT_PREFIX + userId, objectMapper.writeValueAsString(result), RESULT_TTL);
+        notificationWebSocketService.sendMatchingAlternatives(userId, result);
+    }
+
+    /**
+     * 사전 계산된 매칭 대안 묶음
+     */
+    public record PrecomputedAlternatives(UUID userId,
+                                          long waitMinutes,
+                                          MatchingAlternativeService.MatchingAlternativeResponse failureAnalysis,
+                                          MatchingAlternativeService.DynamicAlternativeResponse dynamicAlternatives,
+                                          MatchingAlternativeService.MatchingImprovementSuggestions improvements,
+                                          LocalDateTime generatedAt) {
+    }
+
+    private record ComputedStage(int stage, long computedAt) {
+    }
+}
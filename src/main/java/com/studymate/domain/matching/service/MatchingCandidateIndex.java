@@ -0,0 +1,321 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import com.studymate.domain.onboarding.domain.repository.LangLevelTypeRepository;
+import com.studymate.domain.onboarding.domain.repository.LanguageRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingLangLevelRepository;
+import com.studymate.domain.onboarding.entity.LangLevelType;
+import com.studymate.domain.onboarding.entity.Language;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파트너 추천용 인메모리 후보 인덱스.
+ * 모국어 / 학습 언어 / 현재 레벨 / 온보딩 완료 여부로 사용자를 파티셔닝하여,
+ * 추천 요청 시 전체 사용자 대신 "그럴듯한" 후보만 조회할 수 있도록 한다.
+ * 전체 재적재는 백그라운드 스케줄로, 개별 사용자 갱신은 온보딩 변경 이벤트로 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingCandidateIndex {
+
+    private final UserRepository userRepository;
+    private final OnboardingLangLevelRepository onboardingLangLevelRepository;
+    private final LanguageRepository languageRepository;
+    private final LangLevelTypeRepository langLevelTypeRepository;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean rebuilding;
+    private final Set<UUID> refreshedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 사용자에게 그럴듯한 파트너 후보 ID 목록 조회
+     * 명시적 필터(모국어/학습 언어/레벨)가 있으면 해당 파티션에서, 없으면 언어 교환 관계에 있는 파티션에서 후보를 찾는다.
+     * 필터 값이 알 수 없는 언어/레벨이면 빈 목록을 반환한다.
+     */
+    public List<UUID> findCandidates(UUID userId, String nativeLanguage, String targetLanguage, String languageLevel) {
+        Snapshot current = ensureLoaded();
+
+        Integer nativeFilter = null;
+        Integer targetFilter = null;
+        Integer levelFilter = null;
+        if (StringUtils.hasText(nativeLanguage)) {
+            nativeFilter = current.resolveLanguage(nativeLanguage);
+            if (nativeFilter == null) return Collections.emptyList();
+        }
+        if (StringUtils.hasText(targetLanguage)) {
+            targetFilter = current.resolveLanguage(targetLanguage);
+            if (targetFilter == null) return Collections.emptyList();
+        }
+        if (StringUtils.hasText(languageLevel)) {
+            levelFilter = current.resolveLevel(languageLevel);
+            if (levelFilter == null) return Collections.emptyList();
+        }
+
+        Set<UUID> seeds;
+        if (nativeFilter != null) {
+            seeds = current.partition(current.byNativeLanguage, nativeFilter);
+        } else if (targetFilter != null) {
+            seeds = current.partition(current.byTargetLanguage, targetFilter);
+        } else if (levelFilter != null) {
+            seeds = current.partition(current.byLevel, levelFilter);
+        } else {
+            seeds = plausiblePartners(current, getProfile(userId));
+        }
+
+        List<UUID> candidates = new ArrayList<>();
+        for (UUID candidateId : seeds) {
+            if (candidateId.equals(userId)) continue;
+            CandidateProfile profile = current.profiles.get(candidateId);
+            if (profile == null || !profile.active()) continue;
+            if (nativeFilter != null && !nativeFilter.equals(profile.nativeLanguageId())) continue;
+            if (targetFilter != null && !profile.targetLanguageIds().contains(targetFilter)) continue;
+            if (levelFilter != null && !profile.levelIds().contains(levelFilter)) continue;
+            candidates.add(candidateId);
+        }
+        return candidates;
+    }
+
+    /**
+     * 인덱스에 저장된 사용자 프로필 조회 (없으면 DB에서 적재)
+     */
+    public CandidateProfile getProfile(UUID userId) {
+        Snapshot current = ensureLoaded();
+        CandidateProfile profile = current.profiles.get(userId);
+        if (profile == null) {
+            profile = loadProfile(userId);
+            if (profile != null) {
+                current.put(profile);
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * 특정 사용자의 인덱스 항목을 DB 기준으로 갱신
+     */
+    public void refreshUser(UUID userId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 아직 적재 전이면 최초 적재 시 반영됨
+        }
+        if (rebuilding) {
+            refreshedDuringRebuild.add(userId);
+        }
+
+        CandidateProfile profile = loadProfile(userId);
+        if (profile == null) {
+            current.remove(userId);
+        } else {
+            current.put(profile);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE) // 점수 저장소 갱신보다 먼저 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOnboardingDataChanged(OnboardingDataChangedEvent event) {
+        try {
+            refreshUser(event.userId());
+        } catch (Exception e) {
+            log.warn("Failed to refresh candidate index for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 10분마다 후보 인덱스 전체 재적재
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000) // 10분
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            Snapshot rebuilt = loadSnapshot();
+            snapshot = rebuilt;
+
+            // 재적재 도중 갱신된 사용자는 새 스냅샷에 다시 반영
+            for (UUID userId : refreshedDuringRebuild) {
+                refreshUser(userId);
+            }
+            log.debug("Matching candidate index rebuilt with {} users", rebuilt.profiles.size());
+        } catch (Exception e) {
+            log.error("Error during matching candidate index rebuild: ", e);
+        } finally {
+            refreshedDuringRebuild.clear();
+            rebuilding = false;
+        }
+    }
+
+    // Private helper methods
+
+    private Set<UUID> plausiblePartners(Snapshot current, CandidateProfile me) {
+        if (me == null) {
+            return current.activeUsers;
+        }
+
+        Set<UUID> plausible = new HashSet<>();
+        // 내가 배우는 언어를 모국어로 쓰는 사용자
+        for (Integer languageId : me.targetLanguageIds()) {
+            plausible.addAll(current.partition(current.byNativeLanguage, languageId));
+        }
+        // 내 모국어를 배우고 있는 사용자
+        if (me.nativeLanguageId() != null) {
+            plausible.addAll(current.partition(current.byTargetLanguage, me.nativeLanguageId()));
+        }
+
+        // 언어 정보가 없는 사용자는 전체 활성 사용자를 후보로 사용
+        return plausible.isEmpty() && me.targetLanguageIds().isEmpty() && me.nativeLanguageId() == null
+                ? current.activeUsers
+                : plausible;
+    }
+
+    private Snapshot ensureLoaded() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = loadSnapshot();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot loadSnapshot() {
+        Snapshot loaded = new Snapshot();
+
+        for (Language language : languageRepository.findAll()) {
+            loaded.registerLanguage(language);
+        }
+        for (LangLevelType levelType : langLevelTypeRepository.findAll()) {
+            loaded.registerLevel(levelType);
+        }
+
+        Map<UUID, List<Object[]>> levelRowsByUser = new HashMap<>();
+        for (Object[] row : onboardingLangLevelRepository.findAllLanguageLevelRows()) {
+            levelRowsByUser.computeIfAbsent((UUID) row[0], key -> new ArrayList<>()).add(row);
+        }
+
+        for (Object[] row : userRepository.findCandidateIndexRows()) {
+            UUID userId = (UUID) row[0];
+            loaded.put(toProfile(row, levelRowsByUser.getOrDefault(userId, Collections.emptyList())));
+        }
+        return loaded;
+    }
+
+    private CandidateProfile loadProfile(UUID userId) {
+        List<Object[]> userRows = userRepository.findCandidateIndexRow(userId);
+        if (userRows.isEmpty()) {
+            return null;
+        }
+        return toProfile(userRows.get(0), onboardingLangLevelRepository.findLanguageLevelRowsByUsrId(userId));
+    }
+
+    private CandidateProfile toProfile(Object[] userRow, List<Object[]> levelRows) {
+        Set<Integer> targetLanguageIds = new HashSet<>();
+        Set<Integer> levelIds = new HashSet<>();
+        for (Object[] levelRow : levelRows) {
+            if (levelRow[1] != null) targetLanguageIds.add((Integer) levelRow[1]);
+            if (levelRow[2] != null) levelIds.add((Integer) levelRow[2]);
+        }
+
+        boolean onboardingCompleted = Boolean.TRUE.equals(userRow[2]);
+        boolean disabled = Boolean.TRUE.equals(userRow[3]);
+
+        return new CandidateProfile(
+                (UUID) userRow[0],
+                (Integer) userRow[1],
+                Set.copyOf(targetLanguageIds),
+                Set.copyOf(levelIds),
+                onboardingCompleted && !disabled
+        );
+    }
+
+    /**
+     * 인덱스에 저장되는 사용자별 매칭 프로필
+     */
+    public record CandidateProfile(UUID userId,
+                                   Integer nativeLanguageId,
+                                   Set<Integer> targetLanguageIds,
+                                   Set<Integer> levelIds,
+                                   boolean active) {
+    }
+
+    private static class Snapshot {
+        private final Map<UUID, CandidateProfile> profiles = new ConcurrentHashMap<>();
+        private final Map<Integer, Set<UUID>> byNativeLanguage = new ConcurrentHashMap<>();
+        private final Map<Integer, Set<UUID>> byTargetLanguage = new ConcurrentHashMap<>();
+        private final Map<Integer, Set<UUID>> byLevel = new ConcurrentHashMap<>();
+        private final Set<UUID> activeUsers = ConcurrentHashMap.newKeySet();
+        private final Map<String, Integer> languageIds = new ConcurrentHashMap<>();
+        private final Map<String, Integer> levelIds = new ConcurrentHashMap<>();
+
+        private synchronized void put(CandidateProfile profile) {
+            remove(profile.userId());
+            profiles.put(profile.userId(), profile);
+            if (!profile.active()) {
+                return; // 온보딩 미완료/비활성 사용자는 파티션에 포함하지 않음
+            }
+            activeUsers.add(profile.userId());
+            if (profile.nativeLanguageId() != null) {
+                bucket(byNativeLanguage, profile.nativeLanguageId()).add(profile.userId());
+            }
+            profile.targetLanguageIds().forEach(id -> bucket(byTargetLanguage, id).add(profile.userId()));
+            profile.levelIds().forEach(id -> bucket(byLevel, id).add(profile.userId()));
+        }
+
+        private synchronized void remove(UUID userId) {
+            CandidateProfile previous = profiles.remove(userId);
+            if (previous == null) {
+                return;
+            }
+            activeUsers.remove(userId);
+            if (previous.nativeLanguageId() != null) {
+                bucket(byNativeLanguage, previous.nativeLanguageId()).remove(userId);
+            }
+            previous.targetLanguageIds().forEach(id -> bucket(byTargetLanguage, id).remove(userId));
+            previous.levelIds().forEach(id -> bucket(byLevel, id).remove(userId));
+        }
+
+        private Set<UUID> partition(Map<Integer, Set<UUID>> partitions, Integer key) {
+            return partitions.getOrDefault(key, Collections.emptySet());
+        }
+
+        private Set<UUID> bucket(Map<Integer, Set<UUID>> partitions, Integer key) {
+            return partitions.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+        }
+
+        private void registerLanguage(Language language) {
+            if (StringUtils.hasText(language.getName())) {
+                languageIds.put(language.getName().trim().toLowerCase(), language.getLanguageId());
+            }
+            if (StringUtils.hasText(language.getCode())) {
+                languageIds.put(language.getCode().trim().toLowerCase(), language.getLanguageId());
+            }
+        }
+
+        private void registerLevel(LangLevelType levelType) {
+            if (StringUtils.hasText(levelType.getName())) {
+                levelIds.put(levelType.getName().trim().toLowerCase(), levelType.getLangLevelId());
+            }
+        }
+
+        private Integer resolveLanguage(String value) {
+            return languageIds.get(value.trim().toLowerCase());
+        }
+
+        private Integer resolveLevel(String value) {
+            return levelIds.get(value.trim().toLowerCase());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.util.TransactionHooks;
+import com.studymate.domain.matching.entity.MatchingStatus;
+import com.studymate.domain.matching.repository.MatchingRequestRepository;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 사용자별 매칭 제외 집합
+ * 대기중 / 거절된 요청으로 연결된 상대와 활성 매칭 상대를 추천 점수 계산 전에 걸러낸다.
+ * 정확한 집합은 Redis Set에 두고(처음 조회 시 DB에서 적재, TTL 후 재적재), 서버마다 블룸 필터를 앞에 두어
+ * 제외 대상이 아닌 대부분의 후보는 Redis 조회 없이 통과시킨다.
+ * 제외 대상 추가는 트랜잭션 커밋 후 즉시 반영되고, 해제(매칭 해제 / 요청 만료)는 집합 삭제 또는 TTL로 반영된다.
+ * 적재 여부는 표식 멤버로 판단한다. 추가는 적재 전에도 집합에 넣고, 적재는 DB 결과를 기존 멤버에 합치므로
+ * DB 조회와 적재 사이에 커밋된 추가도 사라지지 않는다. 추가를 반영하지 못하면 집합을 지워 다음 조회 때 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingExclusionSet {
+
+    private static final String KEY_PREFIX = "matching:exclusion:";
+    // 빈 집합도 적재 완료로 구분하기 위한 표식 멤버
+    private static final String LOADED_MARKER = "-";
+    private static final Duration SET_TTL = Duration.ofHours(1);
+
+    private static final Duration LOCAL_FILTER_TTL = Duration.ofMinutes(5);
+    private static final int MAX_LOCAL_FILTERS = 10_000;
+
+    private static final List<MatchingStatus> EXCLUDED_REQUEST_STATUSES =
+            List.of(MatchingStatus.PENDING, MatchingStatus.REJECTED);
+
+    // 적재 전이어도 추가 (적재 중인 집합에 합쳐지도록), TTL이 없으면 설정
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local added = redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "if redis.call('PTTL', KEYS[1]) < 0 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return added",
+            Long.class);
+
+    // 표식과 DB 결과를 기존 멤버에 합치고 TTL 설정 (ARGV[1] = TTL, 나머지 = 멤버)
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MatchingRequestRepository matchingRequestRepository;
+    private final UserMatchRepository userMatchRepository;
+
+    private final Map<UUID, LocalFilter> localFilters = new ConcurrentHashMap<>();
+
+    /**
+     * 제외 대상일 가능성 확인 (false면 확실히 제외 대상 아님)
+     * Redis 장애 시에는 true를 반환해 호출자가 DB로 확인하게 한다.
+     */
+    public boolean mayBeExcluded(UUID userId, UUID partnerId) {
+        try {
+            ensureLoaded(userId);
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key(userId), partnerId.toString()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to check matching exclusion for user {}: {}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 제외 대상이 아닌 항목만 남김 (순서 유지)
+     * 블룸 필터에 걸린 항목만 Redis Set으로 한 번에 확인하며, Redis 장애 시에는 블룸 필터 결과로 제외한다.
+     */
+    public <T> List<T> retainNotExcluded(UUID userId, List<T> items, Function<T, UUID> idOf) {
+        if (items.isEmpty()) {
+            return items;
+        }
+        UuidBloomFilter filter = getLocalFilter(userId);
+
+        List<String> suspects = new ArrayList<>();
+        for (T item : items) {
+            UUID id = idOf.apply(item);
+            if (filter.mightContain(id)) {
+                suspects.add(id.toString());
+            }
+        }
+        if (suspects.isEmpty()) {
+            return items;
+        }
+
+        Set<String> excluded = confirmExcluded(userId, suspects);
+        List<T> retained = new ArrayList<>(items.size());
+        for (T item : items) {
+            if (!excluded.contains(idOf.apply(item).toString())) {
+                retained.add(item);
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * 두 사용자를 서로의 제외 집합에 추가 (현재 트랜잭션 커밋 후)
+     */
+    public void addPairAfterCommit(UUID userId, UUID partnerId) {
+        TransactionHooks.afterCommit(() -> {
+            add(userId, partnerId);
+            add(partnerId, userId);
+        });
+    }
+
+    /**
+     * 두 사용자의 제외 집합 삭제 (현재 트랜잭션 커밋 후, 다음 조회 시 DB에서 재적재)
+     */
+    public void invalidatePairAfterCommit(UUID userId, UUID partnerId) {
+        TransactionHooks.afterCommit(() -> {
+            invalidate(userId);
+            invalidate(partnerId);
+        });
+    }
+
+    // Private helper methods
+
+    /**
+     * 반영하지 못하면 집합을 지워, 빠진 상대를 제외 대상 아님으로 판단하지 않게 함
+     */
+    private void add(UUID userId, UUID partnerId) {
+        localFilters.remove(userId);
+        try {
+            redisTemplate.execute(ADD_SCRIPT, List.of(key(userId)), partnerId.toString(),
+                    String.valueOf(SET_TTL.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to add matching exclusion for user {}, dropping the set: {}", userId, e.getMessage());
+            invalidate(userId);
+        }
+    }
+
+    private void invalidate(UUID userId) {
+        localFilters.remove(userId);
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate matching exclusion for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private UuidBloomFilter getLocalFilter(UUID userId) {
+        LocalFilter cached = localFilters.get(userId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.filter();
+        }
+        if (localFilters.size() >= MAX_LOCAL_FILTERS) {
+            localFilters.values().removeIf(LocalFilter::isExpired);
+            if (localFilters.size() >= MAX_LOCAL_FILTERS) {
+                localFilters.clear();
+            }
+        }
+
+        UuidBloomFilter filter = UuidBloomFilter.of(loadMembers(userId));
+        localFilters.put(userId, new LocalFilter(filter, System.currentTimeMillis() + LOCAL_FILTER_TTL.toMillis()));
+        return filter;
+    }
+
+    /**
+     * 정확한 제외 대상 목록 (Redis 장애 시 DB에서 직접 조회)
+     */
+    private Set<UUID> loadMembers(UUID userId) {
+        try {
+            ensureLoaded(userId);
+            Set<String> members = redisTemplate.opsForSet().members(key(userId));
+            Set<UUID> partnerIds = new HashSet<>();
+            if (members != null) {
+                for (String member : members) {
+                    if (!LOADED_MARKER.equals(member)) {
+                        partnerIds.add(UUID.fromString(member));
+                    }
+                }
+            }
+            return partnerIds;
+        } catch (DataAccessException e) {
+            log.warn("Failed to load matching exclusion for user {}: {}", userId, e.getMessage());
+            return loadFromDatabase(userId);
+        }
+    }
+
+    private Set<String> confirmExcluded(UUID userId, List<String> suspects) {
+        try {
+            Map<Object, Boolean> membership = redisTemplate.opsForSet().isMember(key(userId), suspects.toArray());
+            Set<String> excluded = new HashSet<>();
+            if (membership != null) {
+                membership.forEach((member, isMember) -> {
+                    if (Boolean.TRUE.equals(isMember)) {
+                        excluded.add(member.toString());
+                    }
+                });
+            }
+            return excluded;
+        } catch (DataAccessException e) {
+            log.warn("Failed to confirm matching exclusion for user {}: {}", userId, e.getMessage());
+            return new HashSet<>(suspects);
+        }
+    }
+
+    private void ensureLoaded(UUID userId) {
+        String key = key(userId);
+        if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, LOADED_MARKER))) {
+            return;
+        }
+        Set<UUID> partnerIds = loadFromDatabase(userId);
+        List<String> args = new ArrayList<>(partnerIds.size() + 2);
+        args.add(String.valueOf(SET_TTL.toMillis()));
+        args.add(LOADED_MARKER);
+        partnerIds.forEach(partnerId -> args.add(partnerId.toString()));
+
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key), args.toArray());
+    }
+
+    private Set<UUID> loadFromDatabase(UUID userId) {
+        Set<UUID> partnerIds = new HashSet<>(
+                matchingRequestRepository.findCounterpartIdsByStatusIn(userId, EXCLUDED_REQUEST_STATUSES));
+        partnerIds.addAll(userMatchRepository.findActivePartnerIds(userId));
+        return partnerIds;
+    }
+
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private record LocalFilter(UuidBloomFilter filter, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
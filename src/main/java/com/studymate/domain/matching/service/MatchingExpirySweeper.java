@@ -0,0 +1,177 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.lock.RedisLeaderLock;
+import com.studymate.domain.matching.domain.repository.MatchingQueueRepository;
+import com.studymate.domain.matching.entity.MatchingQueue;
+import com.studymate.domain.matching.repository.MatchingRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매칭 요청 / 대기열 만료 스위퍼
+ * 만료 시간이 지난 PENDING 요청과 오래된 WAITING 대기열 항목을 청크 단위로 EXPIRED 처리하고,
+ * 보관 기간이 지난 종료 대기열 항목은 삭제해 대기열 테이블을 작게 유지한다.
+ * Redis 잠금을 잡은 서버 한 대에서만 실행되며, 청크마다 조건부 UPDATE 한 번으로 처리한다.
+ */
+@Slf4j
+@Component
+public class MatchingExpirySweeper {
+
+    private static final String LOCK_NAME = "matching-expiry-sweeper";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_PER_RUN = 20;
+
+    // 매치메이킹 엔진의 30분 만료가 먼저 처리하도록 여유를 둔다 (엔진 밖에 남은 행만 정리)
+    private static final Duration STALE_QUEUE_AGE = Duration.ofMinutes(35);
+    private static final Duration FINISHED_QUEUE_RETENTION = Duration.ofDays(7);
+
+    private final MatchingRequestRepository matchingRequestRepository;
+    private final MatchingQueueRepository matchingQueueRepository;
+    private final MatchmakingEngine matchmakingEngine;
+    private final RedisLeaderLock redisLeaderLock;
+
+    private final Counter expiredRequestCounter;
+    private final Counter expiredQueueCounter;
+    private final Counter purgedQueueCounter;
+    private final Timer sweepTimer;
+    private final AtomicLong requestLagSeconds = new AtomicLong();
+    private final AtomicLong queueLagSeconds = new AtomicLong();
+
+    public MatchingExpirySweeper(MatchingRequestRepository matchingRequestRepository,
+                                 MatchingQueueRepository matchingQueueRepository,
+                                 MatchmakingEngine matchmakingEngine,
+                                 RedisLeaderLock redisLeaderLock,
+                                 MeterRegistry meterRegistry) {
+        this.matchingRequestRepository = matchingRequestRepository;
+        this.matchingQueueRepository = matchingQueueRepository;
+        this.matchmakingEngine = matchmakingEngine;
+        this.redisLeaderLock = redisLeaderLock;
+
+        this.expiredRequestCounter = meterRegistry.counter("matching.sweeper.rows", "type", "request_expired");
+        this.expiredQueueCounter = meterRegistry.counter("matching.sweeper.rows", "type", "queue_expired");
+        this.purgedQueueCounter = meterRegistry.counter("matching.sweeper.rows", "type", "queue_purged");
+        this.sweepTimer = meterRegistry.timer("matching.sweeper.duration");
+        // 스윕 시작 시점 기준 가장 오래 방치된 대상의 초과 시간 (초)
+        Gauge.builder("matching.sweeper.lag.seconds", requestLagSeconds, AtomicLong::get)
+                .tag("type", "request").register(meterRegistry);
+        Gauge.builder("matching.sweeper.lag.seconds", queueLagSeconds, AtomicLong::get)
+                .tag("type", "queue").register(meterRegistry);
+    }
+
+    /**
+     * 1분마다 만료 처리 (리더 서버만)
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 30000)
+    public void sweep() {
+        if (!redisLeaderLock.tryAcquire(LOCK_NAME, LOCK_TTL)) {
+            return;
+        }
+        try {
+            sweepTimer.record(this::sweepOnce);
+        } catch (Exception e) {
+            log.error("Matching expiry sweep failed: ", e);
+        } finally {
+            redisLeaderLock.release(LOCK_NAME);
+        }
+    }
+
+    void sweepOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        int expiredRequests = expireRequests(now);
+        int expiredQueueEntries = expireStaleQueueEntries(now);
+        int purgedQueueEntries = purgeFinishedQueueEntries(now);
+
+        if (expiredRequests + expiredQueueEntries + purgedQueueEntries > 0) {
+            log.info("Matching expiry sweep: {} requests expired, {} queue entries expired, {} queue entries purged",
+                    expiredRequests, expiredQueueEntries, purgedQueueEntries);
+        }
+    }
+
+    // Private helper methods
+
+    private int expireRequests(LocalDateTime now) {
+        requestLagSeconds.set(lagSeconds(matchingRequestRepository.findOldestExpiredPendingAt(now), now));
+
+        int expired = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            List<UUID> requestIds = matchingRequestRepository.findExpiredPendingIds(now, PageRequest.of(0, CHUNK_SIZE));
+            if (requestIds.isEmpty()) {
+                break;
+            }
+            int updated = matchingRequestRepository.expirePendingRequests(requestIds);
+            expired += updated;
+            expiredRequestCounter.increment(updated);
+            if (requestIds.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+        return expired;
+    }
+
+    private int expireStaleQueueEntries(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(STALE_QUEUE_AGE);
+        queueLagSeconds.set(lagSeconds(matchingQueueRepository.findOldestStaleWaitingJoinedAt(cutoff), cutoff));
+
+        int expired = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            List<Object[]> rows = matchingQueueRepository.findStaleWaitingRows(cutoff, PageRequest.of(0, CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Long> queueIds = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                queueIds.add((Long) row[0]);
+            }
+            int updated = matchingQueueRepository.transitionWaitingEntries(queueIds, MatchingQueue.QueueStatus.EXPIRED, now);
+            expired += updated;
+            expiredQueueCounter.increment(updated);
+
+            // 엔진 저장소에 남아 있는 항목도 정리 (이미 매칭된 경우 없으면 무시됨)
+            for (Object[] row : rows) {
+                matchmakingEngine.cancel((UUID) row[1]);
+            }
+            if (rows.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+        return expired;
+    }
+
+    private int purgeFinishedQueueEntries(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(FINISHED_QUEUE_RETENTION);
+
+        int purged = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            List<Long> queueIds = matchingQueueRepository.findFinishedIdsBefore(cutoff, PageRequest.of(0, CHUNK_SIZE));
+            if (queueIds.isEmpty()) {
+                break;
+            }
+            int deleted = matchingQueueRepository.deleteFinishedEntries(queueIds);
+            purged += deleted;
+            purgedQueueCounter.increment(deleted);
+            if (queueIds.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private long lagSeconds(LocalDateTime oldestOverdue, LocalDateTime reference) {
+        return oldestOverdue != null ? Math.max(0, Duration.between(oldestOverdue, reference).toSeconds()) : 0;
+    }
+}
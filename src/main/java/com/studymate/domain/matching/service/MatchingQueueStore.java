@@ -0,0 +1,51 @@
+package com.studymate.domain.matching.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 매치메이킹 대기열 저장소
+ * matching.queue.mode 설정으로 단일 인스턴스용 메모리 구현(memory, 기본값)과
+ * 다중 인스턴스용 Redis 구현(redis) 중 하나가 등록된다.
+ * claim 계열 메서드는 반환한 항목을 대기열에서 원자적으로 제거하므로,
+ * 같은 항목이 두 번 매칭되거나 만료 처리되지 않는다.
+ */
+public interface MatchingQueueStore {
+
+    /**
+     * 대기열 등록 (같은 사용자의 기존 항목은 교체)
+     */
+    void add(MatchingQueueTicket ticket);
+
+    /**
+     * 대기열에서 제거
+     */
+    void remove(UUID userId);
+
+    boolean contains(UUID userId);
+
+    /**
+     * 사용자가 속한 버킷 내 대기 순번 (1부터, 대기 중이 아니면 null)
+     */
+    Integer position(UUID userId);
+
+    int size();
+
+    /**
+     * 매칭 가능한 항목들을 짝지어 대기열에서 제거한 뒤 반환
+     */
+    List<MatchingQueueTicket.Pair> claimMatches();
+
+    /**
+     * 주어진 시각 이전에 참가한 항목들을 대기열에서 제거한 뒤 반환
+     */
+    List<MatchingQueueTicket> claimExpired(LocalDateTime joinedBefore);
+
+    /**
+     * 여러 인스턴스가 함께 쓰는 저장소인지 (서버 시작 시 복원을 한 서버만 하도록 할 때 사용)
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
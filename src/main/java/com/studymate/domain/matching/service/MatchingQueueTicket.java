@@ -0,0 +1,93 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.matching.entity.MatchingQueue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 매치메이킹 대기열 항목
+ * 세션 타입과 언어 쌍(모국어 → 학습 언어)으로 버킷을 결정하며,
+ * 버킷 내에서는 우선순위 점수 내림차순, 참가 시각 오름차순으로 정렬된다.
+ */
+public record MatchingQueueTicket(Long queueId,
+                                  UUID userId,
+                                  String displayName,
+                                  MatchingQueue.SessionType sessionType,
+                                  Integer nativeLanguageId,
+                                  Set<Integer> targetLanguageIds,
+                                  int priorityScore,
+                                  LocalDateTime joinedAt) {
+
+    public static final Comparator<MatchingQueueTicket> RANK_ORDER = Comparator
+            .comparingInt(MatchingQueueTicket::priorityScore).reversed()
+            .thenComparing(MatchingQueueTicket::joinedAt)
+            .thenComparing(MatchingQueueTicket::queueId);
+
+    private static final String OPEN_BUCKET = "open";
+    private static final int MAX_RANKED_PRIORITY = 100;
+
+    public boolean hasLanguages() {
+        return nativeLanguageId != null && !targetLanguageIds.isEmpty();
+    }
+
+    /**
+     * 이 항목이 등록되는 버킷 ("{sessionType}:{native}:{target}", 언어 정보가 없으면 "{sessionType}:open")
+     */
+    public List<String> bucketKeys() {
+        if (!hasLanguages()) {
+            return List.of(sessionType.name() + ":" + OPEN_BUCKET);
+        }
+        List<String> keys = new ArrayList<>(targetLanguageIds.size());
+        for (Integer targetLanguageId : targetLanguageIds) {
+            keys.add(sessionType.name() + ":" + nativeLanguageId + ":" + targetLanguageId);
+        }
+        return keys;
+    }
+
+    /**
+     * 매칭 상대를 찾을 버킷
+     * 세션 타입이 호환되고, 상대의 모국어 = 나의 학습 언어, 상대의 학습 언어 = 나의 모국어인 버킷.
+     * 언어 정보가 없는 항목은 같은 조건의 항목끼리만 매칭한다.
+     */
+    public List<String> partnerBucketKeys() {
+        List<String> keys = new ArrayList<>();
+        for (MatchingQueue.SessionType compatible : compatibleSessionTypes()) {
+            if (!hasLanguages()) {
+                keys.add(compatible.name() + ":" + OPEN_BUCKET);
+                continue;
+            }
+            for (Integer targetLanguageId : targetLanguageIds) {
+                keys.add(compatible.name() + ":" + targetLanguageId + ":" + nativeLanguageId);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 정렬용 단일 점수 (작을수록 앞) — Redis sorted set 점수로 사용
+     * 우선순위를 상위 자리, 참가 시각(epoch millis)을 하위 자리에 둔다.
+     */
+    public double rankScore() {
+        int clampedPriority = Math.max(0, Math.min(MAX_RANKED_PRIORITY, priorityScore));
+        return (MAX_RANKED_PRIORITY - clampedPriority) * 1e13 + joinedAtMillis();
+    }
+
+    public long joinedAtMillis() {
+        return joinedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Set<MatchingQueue.SessionType> compatibleSessionTypes() {
+        if (sessionType == MatchingQueue.SessionType.ANY) {
+            return EnumSet.allOf(MatchingQueue.SessionType.class);
+        }
+        return EnumSet.of(sessionType, MatchingQueue.SessionType.ANY);
+    }
+
+    /**
+     * 서로 짝지어진 두 대기열 항목
+     */
+    public record Pair(MatchingQueueTicket first, MatchingQueueTicket second) {
+    }
+}
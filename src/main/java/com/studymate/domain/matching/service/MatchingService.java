@@ -1,16 +1,23 @@
 package com.studymate.domain.matching.service;
 
+import com.studymate.common.dto.CursorPageResponse;
 import com.studymate.domain.matching.domain.dto.request.AdvancedMatchingFilterRequest;
 import com.studymate.domain.matching.domain.dto.response.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
 public interface MatchingService {
+    /**
+     * 호환성 점수순 파트너 추천
+     * cursor가 주어지면 offset 대신 이전 페이지 마지막 항목("{score}_{userId}") 이후부터 조회한다.
+     */
     Page<RecommendedPartnerResponse> getRecommendedPartners(UUID userId, Pageable pageable, 
                                                            String nativeLanguage, String targetLanguage, 
-                                                           String languageLevel, Integer minAge, Integer maxAge);
+                                                           String languageLevel, Integer minAge, Integer maxAge,
+                                                           String cursor);
     
     /**
      * 고급 필터를 사용한 파트너 추천
@@ -18,6 +25,13 @@ public interface MatchingService {
     Page<RecommendedPartnerResponse> getRecommendedPartnersAdvanced(UUID userId, 
                                                                    AdvancedMatchingFilterRequest filters, 
                                                                    Pageable pageable);
+
+    /**
+     * 고급 필터 파트너 추천 (COUNT 쿼리 없이 다음 페이지 존재 여부만 계산)
+     */
+    Slice<RecommendedPartnerResponse> getRecommendedPartnersAdvancedSlice(UUID userId,
+                                                                         AdvancedMatchingFilterRequest filters,
+                                                                         Pageable pageable);
     
     /**
      * 온라인 사용자 중에서 파트너 추천
@@ -25,18 +39,45 @@ public interface MatchingService {
     Page<RecommendedPartnerResponse> getOnlinePartners(UUID userId, 
                                                       AdvancedMatchingFilterRequest filters, 
                                                       Pageable pageable);
+
+    /**
+     * 온라인 파트너 추천 (COUNT 쿼리 없이 다음 페이지 존재 여부만 계산)
+     */
+    Slice<RecommendedPartnerResponse> getOnlinePartnersSlice(UUID userId,
+                                                            AdvancedMatchingFilterRequest filters,
+                                                            Pageable pageable);
     
     void sendMatchingRequest(UUID senderId, UUID targetUserId, String message);
     
     Page<SentMatchingRequestResponse> getSentMatchingRequests(UUID userId, Pageable pageable);
     
     Page<ReceivedMatchingRequestResponse> getReceivedMatchingRequests(UUID userId, Pageable pageable);
+
+    /**
+     * 보낸 요청 커서 페이지 (createdAt, requestId 내림차순)
+     */
+    CursorPageResponse<SentMatchingRequestResponse> getSentMatchingRequestsByCursor(UUID userId, String cursor, int size);
+
+    /**
+     * 받은 요청 커서 페이지 (createdAt, requestId 내림차순)
+     */
+    CursorPageResponse<ReceivedMatchingRequestResponse> getReceivedMatchingRequestsByCursor(UUID userId, String cursor, int size);
     
     void acceptMatchingRequest(UUID userId, UUID requestId);
+
+    /**
+     * 매칭 요청 수락 (멱등성 키 지정 시 같은 키의 재시도는 성공으로 처리)
+     */
+    void acceptMatchingRequest(UUID userId, UUID requestId, String idempotencyKey);
     
     void rejectMatchingRequest(UUID userId, UUID requestId);
     
     Page<MatchedPartnerResponse> getMatchedPartners(UUID userId, Pageable pageable);
+
+    /**
+     * 활성 매칭 커서 페이지 (createdAt, matchId 내림차순)
+     */
+    CursorPageResponse<MatchedPartnerResponse> getMatchedPartnersByCursor(UUID userId, String cursor, int size);
     
     void removeMatch(UUID userId, UUID matchId);
     
@@ -45,8 +86,9 @@ public interface MatchingService {
     // 스마트 매칭 및 최적화 기능
     /**
      * AI 기반 스마트 매칭 - 사용자 행동 패턴과 선호도를 학습하여 최적화된 파트너 추천
+     * cursor 사용 방식은 getRecommendedPartners와 동일
      */
-    Page<RecommendedPartnerResponse> getSmartRecommendations(UUID userId, Pageable pageable);
+    Page<RecommendedPartnerResponse> getSmartRecommendations(UUID userId, Pageable pageable, String cursor);
     
     /**
      * 실시간 매칭 - 현재 온라인인 사용자들 중에서 즉시 매칭 가능한 파트너 찾기
@@ -94,4 +136,9 @@ public interface MatchingService {
     void addToMatchingQueue(UUID userId, String sessionType);
     void removeFromMatchingQueue(UUID userId);
     Object getMatchingQueueStatus(UUID userId);
+
+    /**
+     * 매칭 대기 중 사전 계산된 대안 조회 (계산 전이면 ready=false)
+     */
+    Object getMatchingQueueAlternatives(UUID userId);
 }
\ No newline at end of file
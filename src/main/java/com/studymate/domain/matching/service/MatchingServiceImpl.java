@@ -1,5 +1,7 @@
 package com.studymate.domain.matching.service;
 
+import com.studymate.common.dto.CursorPageResponse;
+import com.studymate.common.dto.KeysetCursor;
 import com.studymate.domain.matching.domain.dto.request.AdvancedMatchingFilterRequest;
 import com.studymate.domain.matching.domain.dto.response.*;
 import com.studymate.domain.matching.domain.repository.*;
@@ -8,42 +10,25 @@ import com.studymate.domain.matching.repository.UserMatchRepository;
 import com.studymate.domain.matching.entity.*;
 import com.studymate.domain.session.domain.repository.SessionRepository;
 import com.studymate.domain.session.type.SessionStatus;
-import com.studymate.domain.onboarding.domain.repository.MotivationRepository;
-import com.studymate.domain.onboarding.domain.repository.OnboardingLangLevelRepository;
-import com.studymate.domain.onboarding.domain.repository.OnboardingLearningExpectationRepository;
-import com.studymate.domain.onboarding.domain.repository.OnboardingLearningStyleRepository;
-import com.studymate.domain.onboarding.domain.repository.OnboardingMotivationRepository;
-import com.studymate.domain.onboarding.domain.repository.OnboardingPartnerRepository;
-import com.studymate.domain.onboarding.domain.repository.OnboardingTopicRepository;
-import com.studymate.domain.onboarding.domain.repository.PartnerPersonalityRepository;
-import com.studymate.domain.onboarding.domain.repository.TopicRepository;
-import com.studymate.domain.onboarding.domain.repository.LearningStyleRepository;
-import com.studymate.domain.onboarding.domain.repository.LearningExpectationRepository;
-import com.studymate.domain.onboarding.entity.OnboardingLangLevel;
-import com.studymate.domain.onboarding.entity.OnboardingLearningExpectation;
-import com.studymate.domain.onboarding.entity.OnboardingLearningStyle;
-import com.studymate.domain.onboarding.entity.OnboardingMotivation;
-import com.studymate.domain.onboarding.entity.OnboardingPartner;
-import com.studymate.domain.onboarding.entity.OnboardingTopic;
-import com.studymate.domain.onboarding.entity.PartnerPersonality;
-import com.studymate.domain.onboarding.entity.Topic;
-import com.studymate.domain.onboarding.entity.Motivation;
-import com.studymate.domain.onboarding.entity.LearningStyle;
-import com.studymate.domain.onboarding.entity.LearningExpectation;
 import com.studymate.domain.user.domain.repository.UserRepository;
 import com.studymate.domain.user.entity.User;
-import com.studymate.domain.user.service.UserStatusService;
+import com.studymate.domain.user.service.OnlinePresenceIndex;
 import com.studymate.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,51 +36,79 @@ import java.util.stream.Collectors;
 @Transactional
 public class MatchingServiceImpl implements MatchingService {
 
+    private static final String SMART_RECOMMENDATION_VARIANT = "smart";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int SMART_GRAPH_CANDIDATE_LIMIT = 200;
+    private static final double GRAPH_AFFINITY_BONUS = 15.0;
+
     private final UserRepository userRepository;
     private final MatchingRequestRepository matchingRequestRepository;
     private final UserMatchRepository userMatchRepository;
     private final CompatibilityCalculatorService compatibilityCalculatorService;
-    private final UserStatusService userStatusService;
     private final MatchingQueueRepository matchingQueueRepository;
     private final MatchingFeedbackRepository matchingFeedbackRepository;
     private final SessionRepository sessionRepository;
-    private final OnboardingLangLevelRepository onboardingLangLevelRepository;
-    private final OnboardingMotivationRepository onboardingMotivationRepository;
-    private final OnboardingTopicRepository onboardingTopicRepository;
-    private final OnboardingLearningStyleRepository onboardingLearningStyleRepository;
-    private final OnboardingLearningExpectationRepository onboardingLearningExpectationRepository;
-    private final OnboardingPartnerRepository onboardingPartnerRepository;
-    private final MotivationRepository motivationRepository;
-    private final TopicRepository topicRepository;
-    private final LearningStyleRepository learningStyleRepository;
-    private final LearningExpectationRepository learningExpectationRepository;
-    private final PartnerPersonalityRepository partnerPersonalityRepository;
+    private final MatchingCandidateIndex matchingCandidateIndex;
+    private final PartnerProfileLoader partnerProfileLoader;
+    private final CompatibilityVectorCache compatibilityVectorCache;
+    private final CompatibilityScoreStore compatibilityScoreStore;
+    private final MatchmakingEngine matchmakingEngine;
+    private final RecommendationResultCache recommendationResultCache;
+    private final ParallelScoringExecutor parallelScoringExecutor;
+    private final MatchingStatsAggregator matchingStatsAggregator;
+    private final MatchingAcceptIdempotencyStore matchingAcceptIdempotencyStore;
+    private final ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+    private final MatchingExclusionSet matchingExclusionSet;
+    private final MatchingAlternativePrecomputer matchingAlternativePrecomputer;
+    private final PartnerGraphIndex partnerGraphIndex;
+    private final OnlinePresenceIndex onlinePresenceIndex;
 
     @Override
     public Page<RecommendedPartnerResponse> getRecommendedPartners(UUID userId, Pageable pageable,
                                                                  String nativeLanguage, String targetLanguage,
-                                                                 String languageLevel, Integer minAge, Integer maxAge) {
+                                                                 String languageLevel, Integer minAge, Integer maxAge,
+                                                                 String cursor) {
+        TopKRanker.Cursor after = TopKRanker.Cursor.parse(cursor);
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
-        // 기본적으로 온보딩이 완료된 사용자들을 대상으로 검색
-        List<User> potentialPartners = userRepository.findPotentialPartners(userId);
-        
-        // 필터링 조건 적용
-        List<RecommendedPartnerResponse> recommendedPartners = potentialPartners.stream()
-                .filter(partner -> applyFilters(partner, nativeLanguage, targetLanguage, languageLevel, minAge, maxAge))
-                .map(partner -> convertToRecommendedPartnerResponse(currentUser, partner))
-                .sorted((a, b) -> Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore())) // 호환성 점수 내림차순
-                .toList();
+        // 필터가 없는 기본 추천은 미리 계산된 점수 행에서 범위 조회
+        boolean hasFilters = StringUtils.hasText(nativeLanguage) || StringUtils.hasText(targetLanguage)
+                || StringUtils.hasText(languageLevel) || minAge != null || maxAge != null;
+        if (!hasFilters && after == null) {
+            Page<RecommendedPartnerResponse> precomputed = getPrecomputedRecommendations(userId, pageable);
+            if (precomputed != null) {
+                return precomputed;
+            }
+        }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), recommendedPartners.size());
-        
-        if (start >= recommendedPartners.size()) {
-            return new PageImpl<>(Collections.emptyList(), pageable, recommendedPartners.size());
+        // 같은 필터 조합의 순위가 캐시에 있으면 재계산 없이 페이지만 잘라서 제공
+        String variant = String.join(":", "partners", nativeLanguage, targetLanguage, languageLevel,
+                String.valueOf(minAge), String.valueOf(maxAge));
+        RecommendationResultCache.Ranking cached = recommendationResultCache.get(userId, variant);
+        if (cached != null && coversPage(cached, pageable, after)) {
+            return toCachedRecommendationPage(userId, cached, pageable, after);
         }
-        
-        return new PageImpl<>(recommendedPartners.subList(start, end), pageable, recommendedPartners.size());
+
+        long rankedAt = System.currentTimeMillis();
+        // 후보 인덱스에서 언어/레벨 조건에 맞는 온보딩 완료 사용자만 조회
+        // 이미 요청/거절/매칭 관계인 상대는 점수 계산 전에 제외
+        List<UUID> candidateIds = matchingExclusionSet.retainNotExcluded(userId,
+                matchingCandidateIndex.findCandidates(userId, nativeLanguage, targetLanguage, languageLevel),
+                id -> id);
+        List<User> potentialPartners = userRepository.findAllById(candidateIds);
+
+        // 필터링 조건 적용 후 상위 순위만 병렬로 계산
+        List<User> filteredPartners = potentialPartners.stream()
+                .filter(partner -> RecommendedPartnerMapper.applyFilters(
+                        partner, nativeLanguage, targetLanguage, languageLevel, minAge, maxAge))
+                .toList();
+        ToDoubleFunction<User> scorer = simpleScorer(currentUser, filteredPartners);
+        TopKRanker<User> ranker = newCachingRanker(pageable, after);
+        int skipped = parallelScoringExecutor.scoreAll(filteredPartners, scorer,
+                (partner, score) -> ranker.offer(partner, partner.getUserId(), score));
+
+        return toRankedRecommendationPage(userId, variant, ranker, pageable, after, skipped == 0, rankedAt);
     }
 
     @Override
@@ -105,33 +118,24 @@ public class MatchingServiceImpl implements MatchingService {
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
-        // 고급 필터를 사용한 최적화된 쿼리
+        // 고급 필터를 사용한 최적화된 쿼리 (전체 건수는 캐시된 근사치)
         Page<User> potentialPartners = userRepository.findPotentialPartnersWithFilters(userId, filters, pageable);
-        
-        List<RecommendedPartnerResponse> recommendedPartners = potentialPartners.getContent().stream()
-                .map(partner -> convertToRecommendedPartnerResponse(currentUser, partner))
-                .filter(response -> {
-                    // 호환성 점수 필터 적용 (서비스 레벨에서)
-                    if (filters.getMinCompatibilityScore() != null) {
-                        return response.getCompatibilityScore() >= filters.getMinCompatibilityScore();
-                    }
-                    return true;
-                })
-                .sorted((a, b) -> {
-                    // 정렬 로직
-                    String sortBy = filters.getSortBy() != null ? filters.getSortBy() : "compatibility";
-                    boolean desc = !"asc".equals(filters.getSortDirection());
-                    
-                    return switch (sortBy.toLowerCase()) {
-                        case "compatibility" -> desc ? 
-                                Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore()) :
-                                Double.compare(a.getCompatibilityScore(), b.getCompatibilityScore());
-                        default -> 0;
-                    };
-                })
-                .collect(Collectors.toList());
 
-        return new PageImpl<>(recommendedPartners, pageable, potentialPartners.getTotalElements());
+        return new PageImpl<>(toAdvancedRecommendations(currentUser, filters, potentialPartners.getContent()),
+                pageable, potentialPartners.getTotalElements());
+    }
+
+    @Override
+    public Slice<RecommendedPartnerResponse> getRecommendedPartnersAdvancedSlice(UUID userId,
+                                                                                AdvancedMatchingFilterRequest filters,
+                                                                                Pageable pageable) {
+        User currentUser = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
+
+        Slice<User> potentialPartners = userRepository.findPotentialPartnersSliceWithFilters(userId, filters, pageable);
+
+        return new SliceImpl<>(toAdvancedRecommendations(currentUser, filters, potentialPartners.getContent()),
+                pageable, potentialPartners.hasNext());
     }
 
     @Override
@@ -141,16 +145,45 @@ public class MatchingServiceImpl implements MatchingService {
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
+        // 온라인 인덱스(도시 / 모국어별 집합)로 후보 ID를 찾고 요청 페이지만 조회
+        List<UUID> onlineIds = findOnlinePartnerIds(userId, filters);
+        if (onlineIds != null) {
+            List<User> pagePartners = findUsersInOrder(pageSlice(onlineIds, pageable.getOffset(), pageable.getPageSize()));
+            return new PageImpl<>(convertToRecommendedPartnerResponses(scorePartners(currentUser, pagePartners)),
+                    pageable, onlineIds.size());
+        }
+
         // 온라인 사용자만 조회
         Page<User> onlinePartners = userRepository.findOnlinePartners(userId, filters, pageable);
         
-        List<RecommendedPartnerResponse> recommendedPartners = onlinePartners.getContent().stream()
-                .map(partner -> convertToRecommendedPartnerResponse(currentUser, partner))
-                .collect(Collectors.toList());
+        List<RecommendedPartnerResponse> recommendedPartners = convertToRecommendedPartnerResponses(
+                scorePartners(currentUser, onlinePartners.getContent()));
 
         return new PageImpl<>(recommendedPartners, pageable, onlinePartners.getTotalElements());
     }
 
+    @Override
+    public Slice<RecommendedPartnerResponse> getOnlinePartnersSlice(UUID userId,
+                                                                   AdvancedMatchingFilterRequest filters,
+                                                                   Pageable pageable) {
+        User currentUser = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
+
+        List<UUID> onlineIds = findOnlinePartnerIds(userId, filters);
+        if (onlineIds != null) {
+            List<User> pagePartners = findUsersInOrder(pageSlice(onlineIds, pageable.getOffset(), pageable.getPageSize()));
+            return new SliceImpl<>(convertToRecommendedPartnerResponses(scorePartners(currentUser, pagePartners)),
+                    pageable, pageable.getOffset() + pageable.getPageSize() < onlineIds.size());
+        }
+
+        Slice<User> onlinePartners = userRepository.findOnlinePartnersSlice(userId, filters, pageable);
+
+        List<RecommendedPartnerResponse> recommendedPartners = convertToRecommendedPartnerResponses(
+                scorePartners(currentUser, onlinePartners.getContent()));
+
+        return new SliceImpl<>(recommendedPartners, pageable, onlinePartners.hasNext());
+    }
+
     @Override
     public void sendMatchingRequest(UUID senderId, UUID targetUserId, String message) {
         User sender = userRepository.findById(senderId)
@@ -158,19 +191,22 @@ public class MatchingServiceImpl implements MatchingService {
         User target = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND TARGET USER"));
 
-        // 중복 요청 확인
-        boolean existingRequest = matchingRequestRepository.existsBySenderAndReceiverAndStatus(
-                sender, target, MatchingStatus.PENDING);
-        
-        if (existingRequest) {
-            throw new IllegalStateException("이미 매칭 요청을 보낸 상대입니다.");
-        }
+        // 제외 집합에 없는 상대는 요청/매칭 관계가 없으므로 DB 중복 확인 생략
+        if (matchingExclusionSet.mayBeExcluded(senderId, targetUserId)) {
+            // 중복 요청 확인
+            boolean existingRequest = matchingRequestRepository.existsBySenderAndReceiverAndStatus(
+                    sender, target, MatchingStatus.PENDING);
 
-        // 이미 매칭된 상대인지 확인 - ActiveMatchBetweenUsers 메서드 사용
-        boolean alreadyMatched = userMatchRepository.findActiveMatchBetweenUsers(sender, target).isPresent();
-        
-        if (alreadyMatched) {
-            throw new IllegalStateException("이미 매칭된 상대입니다.");
+            if (existingRequest) {
+                throw new IllegalStateException("이미 매칭 요청을 보낸 상대입니다.");
+            }
+
+            // 이미 매칭된 상대인지 확인 - ActiveMatchBetweenUsers 메서드 사용
+            boolean alreadyMatched = userMatchRepository.findActiveMatchBetweenUsers(sender, target).isPresent();
+
+            if (alreadyMatched) {
+                throw new IllegalStateException("이미 매칭된 상대입니다.");
+            }
         }
 
         MatchingRequest matchingRequest = MatchingRequest.builder()
@@ -182,6 +218,8 @@ public class MatchingServiceImpl implements MatchingService {
                 .build();
 
         matchingRequestRepository.save(matchingRequest);
+        matchingStatsAggregator.recordRequestSent(targetUserId);
+        matchingExclusionSet.addPairAfterCommit(senderId, targetUserId);
     }
 
     @Override
@@ -192,6 +230,9 @@ public class MatchingServiceImpl implements MatchingService {
         List<MatchingRequest> requests = matchingRequestRepository.findBySenderOrderByCreatedAtDesc(user);
         // Pageable을 사용한 수동 페이징 (Repository에서 Page를 직접 지원하지 않는 경우)
         int start = (int) pageable.getOffset();
+        if (start >= requests.size()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, requests.size());
+        }
         int end = Math.min((start + pageable.getPageSize()), requests.size());
         List<MatchingRequest> pageContent = requests.subList(start, end);
         Page<MatchingRequest> pagedRequests = new PageImpl<>(pageContent, pageable, requests.size());
@@ -207,6 +248,9 @@ public class MatchingServiceImpl implements MatchingService {
         List<MatchingRequest> requests = matchingRequestRepository.findByReceiverOrderByCreatedAtDesc(user);
         // 수동 페이징
         int start = (int) pageable.getOffset();
+        if (start >= requests.size()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, requests.size());
+        }
         int end = Math.min((start + pageable.getPageSize()), requests.size());
         List<MatchingRequest> pageContent = requests.subList(start, end);
         Page<MatchingRequest> pagedRequests = new PageImpl<>(pageContent, pageable, requests.size());
@@ -215,51 +259,100 @@ public class MatchingServiceImpl implements MatchingService {
     }
 
     @Override
-    public void acceptMatchingRequest(UUID userId, UUID requestId) {
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SentMatchingRequestResponse> getSentMatchingRequestsByCursor(UUID userId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.parse(cursor);
+        int pageSize = normalizeCursorPageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<MatchingRequest> rows = after == null
+                ? matchingRequestRepository.findSentFirstPage(userId, limit)
+                : matchingRequestRepository.findSentPageAfter(userId, after.createdAt(), after.id(), limit);
+
+        return CursorPageResponse.fromOverfetched(rows, pageSize,
+                request -> KeysetCursor.encode(request.getCreatedAt(), request.getRequestId()),
+                page -> page.stream().map(this::convertToSentMatchingRequestResponse).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReceivedMatchingRequestResponse> getReceivedMatchingRequestsByCursor(UUID userId, String cursor, int size) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
+        KeysetCursor after = KeysetCursor.parse(cursor);
+        int pageSize = normalizeCursorPageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<MatchingRequest> rows = after == null
+                ? matchingRequestRepository.findReceivedFirstPage(userId, limit)
+                : matchingRequestRepository.findReceivedPageAfter(userId, after.createdAt(), after.id(), limit);
+
+        return CursorPageResponse.fromOverfetched(rows, pageSize,
+                request -> KeysetCursor.encode(request.getCreatedAt(), request.getRequestId()),
+                page -> {
+                    preloadCompatibilityVectors(user, page.stream().map(MatchingRequest::getSender).toList());
+                    return page.stream().map(request -> convertToReceivedMatchingRequestResponse(user, request)).toList();
+                });
+    }
 
-        MatchingRequest request = matchingRequestRepository.findById(requestId)
-                .orElseThrow(() -> new NotFoundException("NOT FOUND MATCHING REQUEST"));
+    @Override
+    public void acceptMatchingRequest(UUID userId, UUID requestId) {
+        acceptMatchingRequest(userId, requestId, null);
+    }
 
-        if (!request.getReceiver().getUserId().equals(userId)) {
-            throw new IllegalArgumentException("요청을 수락할 권한이 없습니다.");
+    @Override
+    public void acceptMatchingRequest(UUID userId, UUID requestId, String idempotencyKey) {
+        // 키가 있으면 작업 전에 요청에 묶어, 같은 키로 다른 요청을 동시에 수락하지 못하게 함
+        MatchingAcceptIdempotencyStore.Reservation reservation = null;
+        if (idempotencyKey != null) {
+            matchingAcceptIdempotencyStore.validateKey(idempotencyKey);
+            reservation = matchingAcceptIdempotencyStore.reserve(userId, idempotencyKey, requestId);
         }
 
-        if (request.getStatus() != MatchingStatus.PENDING) {
-            throw new IllegalStateException("이미 처리된 요청입니다.");
+        LocalDateTime now = LocalDateTime.now();
+        // 수신자 본인 + PENDING 상태일 때만 전이 (동시 수락 중 한 건만 성공)
+        int accepted = matchingRequestRepository.acceptIfPending(requestId, userId, now);
+
+        MatchingRequest request = matchingRequestRepository.findById(requestId)
+                .orElseThrow(() -> new NotFoundException("NOT FOUND MATCHING REQUEST"));
+
+        if (accepted == 0) {
+            if (!request.getReceiver().getUserId().equals(userId)) {
+                throw new IllegalArgumentException("요청을 수락할 권한이 없습니다.");
+            }
+            // 이미 수락된 요청은 같은 키의 재시도(또는 Redis 장애 시 키를 보낸 재시도)일 때만 성공으로 처리
+            boolean replay = reservation == MatchingAcceptIdempotencyStore.Reservation.REPLAY
+                    || reservation == MatchingAcceptIdempotencyStore.Reservation.UNAVAILABLE;
+            if (request.getStatus() != MatchingStatus.ACCEPTED || !replay) {
+                throw new IllegalStateException("이미 처리된 요청입니다.");
+            }
+            return;
         }
 
-        // 요청 상태 업데이트
-        request.setStatus(MatchingStatus.ACCEPTED);
-        request.setRespondedAt(LocalDateTime.now());
-        matchingRequestRepository.save(request);
+        UUID senderId = request.getSender().getUserId();
 
-        // 매칭 생성
+        // 매칭 생성 (같은 쌍의 활성 매칭은 ACTIVE_PAIR_KEY 유니크 제약으로 한 건만 허용)
         UserMatch userMatch = UserMatch.builder()
                 .user1(request.getSender())
                 .user2(request.getReceiver())
-                .matchedAt(LocalDateTime.now())
+                .matchedAt(now)
                 .isActive(true)
+                .activePairKey(UserMatch.activePairKey(senderId, userId))
                 .build();
+        try {
+            userMatchRepository.saveAndFlush(userMatch);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 매칭된 상대입니다.");
+        }
+        matchingStatsAggregator.recordRequestAccepted(senderId, userId);
+        partnerGraphIndex.recordMatchAfterCommit(senderId, userId);
 
-        userMatchRepository.save(userMatch);
+        // 양쪽 사용자의 대기열 항목을 한 번에 MATCHED 상태로 전이
+        matchingQueueRepository.transitionWaitingEntriesOfUsers(
+                List.of(senderId, userId), MatchingQueue.QueueStatus.MATCHED, now);
+        matchmakingEngine.cancelAfterCommit(senderId, userId);
 
-        // 관련된 대기열 항목들을 MATCHED 상태로 업데이트
-        List<MatchingQueue> senderQueue = matchingQueueRepository.findByUserOrderByJoinedAtDesc(request.getSender())
-                .stream()
-                .filter(queue -> MatchingQueue.QueueStatus.WAITING.equals(queue.getStatus()))
-                .toList();
-        List<MatchingQueue> receiverQueue = matchingQueueRepository.findByUserOrderByJoinedAtDesc(request.getReceiver())
-                .stream()
-                .filter(queue -> MatchingQueue.QueueStatus.WAITING.equals(queue.getStatus()))
-                .toList();
-        
-        senderQueue.forEach(queue -> queue.updateStatus(MatchingQueue.QueueStatus.MATCHED));
-        receiverQueue.forEach(queue -> queue.updateStatus(MatchingQueue.QueueStatus.MATCHED));
-        
-        matchingQueueRepository.saveAll(senderQueue);
-        matchingQueueRepository.saveAll(receiverQueue);
+        recommendationResultCache.invalidateAfterCommit(senderId, userId);
     }
 
     @Override
@@ -281,6 +374,7 @@ public class MatchingServiceImpl implements MatchingService {
         request.setStatus(MatchingStatus.REJECTED);
         request.setRespondedAt(LocalDateTime.now());
         matchingRequestRepository.save(request);
+        matchingStatsAggregator.recordRequestRejected(userId);
     }
 
     @Override
@@ -299,8 +393,37 @@ public class MatchingServiceImpl implements MatchingService {
         int end = Math.min((start + pageable.getPageSize()), matches.size());
         List<UserMatch> pageContent = matches.subList(start, end);
         Page<UserMatch> pagedMatches = new PageImpl<>(pageContent, pageable, matches.size());
-        
-        return pagedMatches.map(match -> convertToMatchedPartnerResponse(user, match));
+
+        Map<UUID, PartnerProfileLoader.PartnerProfileSnapshot> profiles = partnerProfileLoader.loadProfiles(
+                pageContent.stream().map(match -> getPartner(user, match).getUserId()).toList());
+
+        return pagedMatches.map(match -> convertToMatchedPartnerResponse(
+                user, match, profiles.get(getPartner(user, match).getUserId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MatchedPartnerResponse> getMatchedPartnersByCursor(UUID userId, String cursor, int size) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
+        KeysetCursor after = KeysetCursor.parse(cursor);
+        int pageSize = normalizeCursorPageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<UserMatch> rows = after == null
+                ? userMatchRepository.findActiveMatchesFirstPage(userId, limit)
+                : userMatchRepository.findActiveMatchesPageAfter(userId, after.createdAt(), after.id(), limit);
+
+        return CursorPageResponse.fromOverfetched(rows, pageSize,
+                match -> KeysetCursor.encode(match.getCreatedAt(), match.getUserMatchId()),
+                page -> {
+                    Map<UUID, PartnerProfileLoader.PartnerProfileSnapshot> profiles = partnerProfileLoader.loadProfiles(
+                            page.stream().map(match -> getPartner(user, match).getUserId()).toList());
+                    return page.stream()
+                            .map(match -> convertToMatchedPartnerResponse(
+                                    user, match, profiles.get(getPartner(user, match).getUserId())))
+                            .toList();
+                });
     }
 
     @Override
@@ -315,8 +438,15 @@ public class MatchingServiceImpl implements MatchingService {
             throw new IllegalArgumentException("매칭을 삭제할 권한이 없습니다.");
         }
 
+        boolean wasActive = match.getIsActive();
         match.deactivate(user); // UserMatch 엔티티의 deactivate 메서드 사용
         userMatchRepository.save(match);
+        if (wasActive) {
+            matchingStatsAggregator.recordMatchEnded(match.getUser1().getUserId(), match.getUser2().getUserId());
+        }
+
+        recommendationResultCache.invalidateAfterCommit(match.getUser1().getUserId(), match.getUser2().getUserId());
+        matchingExclusionSet.invalidatePairAfterCommit(match.getUser1().getUserId(), match.getUser2().getUserId());
     }
 
     @Override
@@ -331,58 +461,299 @@ public class MatchingServiceImpl implements MatchingService {
 
     // Private helper methods
 
-    private boolean applyFilters(User partner, String nativeLanguage, String targetLanguage,
-                               String languageLevel, Integer minAge, Integer maxAge) {
-        // 나이 필터
-        if (minAge != null || maxAge != null) {
-            Integer age = calculateAge(partner.getBirthyear());
-            if (age != null) {
-                if (minAge != null && age < minAge) return false;
-                if (maxAge != null && age > maxAge) return false;
+    /**
+     * 고급 필터 검색 결과 점수 계산 후 호환성 점수 필터 / 정렬 적용
+     */
+    private List<RecommendedPartnerResponse> toAdvancedRecommendations(User currentUser,
+                                                                      AdvancedMatchingFilterRequest filters,
+                                                                      List<User> partners) {
+        return convertToRecommendedPartnerResponses(scorePartners(currentUser, partners)).stream()
+                .filter(response -> {
+                    // 호환성 점수 필터 적용 (서비스 레벨에서)
+                    if (filters.getMinCompatibilityScore() != null) {
+                        return response.getCompatibilityScore() >= filters.getMinCompatibilityScore();
+                    }
+                    return true;
+                })
+                .sorted((a, b) -> {
+                    // 정렬 로직
+                    String sortBy = filters.getSortBy() != null ? filters.getSortBy() : "compatibility";
+                    boolean desc = !"asc".equals(filters.getSortDirection());
+                    
+                    return switch (sortBy.toLowerCase()) {
+                        case "compatibility" -> desc ? 
+                                Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore()) :
+                                Double.compare(a.getCompatibilityScore(), b.getCompatibilityScore());
+                        default -> 0;
+                    };
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 온라인 인덱스에서 최근 활동순 파트너 후보 ID 조회
+     * 인덱스로 거를 수 없는 필터(성별 / 나이)가 있거나 인덱스 장애 시 null을 반환해 DB 조회로 넘긴다.
+     * 온보딩 미완료 / 비활성 사용자와 제외 대상은 후보 인덱스와 제외 집합으로 미리 걸러 전체 건수를 맞춘다.
+     */
+    private List<UUID> findOnlinePartnerIds(UUID userId, AdvancedMatchingFilterRequest filters) {
+        if (filters != null && ((filters.getGender() != null && !"ANY".equals(filters.getGender())) || filters.hasAgeFilter())) {
+            return null;
+        }
+        List<UUID> onlineIds = onlinePresenceIndex.findOnlineUserIds(
+                filters != null ? filters.getCity() : null,
+                filters != null ? filters.getNativeLanguage() : null);
+        if (onlineIds == null) {
+            return null;
+        }
+
+        List<UUID> candidateIds = new ArrayList<>(onlineIds.size());
+        for (UUID onlineId : onlineIds) {
+            if (onlineId.equals(userId)) {
+                continue;
+            }
+            MatchingCandidateIndex.CandidateProfile profile = matchingCandidateIndex.getProfile(onlineId);
+            if (profile != null && profile.active()) {
+                candidateIds.add(onlineId);
             }
         }
+        return matchingExclusionSet.retainNotExcluded(userId, candidateIds, id -> id);
+    }
 
-        // 언어 필터들은 실제 온보딩 데이터를 확인해야 함
-        // 현재는 기본 구현만 제공
-        
-        return true;
+    private static List<UUID> pageSlice(List<UUID> ids, long offset, int size) {
+        int start = (int) Math.min(offset, ids.size());
+        return ids.subList(start, Math.min(start + size, ids.size()));
     }
 
-    private Integer calculateAge(String birthYear) {
-        if (birthYear == null || birthYear.trim().isEmpty()) return null;
-        try {
-            return LocalDateTime.now().getYear() - Integer.parseInt(birthYear);
-        } catch (NumberFormatException e) {
+    /**
+     * 주어진 ID 순서대로 사용자 일괄 조회 (없는 사용자는 제외)
+     */
+    private List<User> findUsersInOrder(List<UUID> userIds) {
+        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, user -> user));
+        return userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private int normalizeCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private List<ScoredPartner> scorePartners(User currentUser, List<User> candidates) {
+        List<User> partners = matchingExclusionSet.retainNotExcluded(currentUser.getUserId(), candidates, User::getUserId);
+        ToDoubleFunction<User> scorer = simpleScorer(currentUser, partners);
+        return partners.stream()
+                .map(partner -> new ScoredPartner(partner, scorer.applyAsDouble(partner)))
+                .toList();
+    }
+
+    /**
+     * 점수 저장소의 사용자 행에서 요청 페이지만 범위 조회 (저장소 장애 시 null)
+     */
+    private Page<RecommendedPartnerResponse> getPrecomputedRecommendations(UUID userId, Pageable pageable) {
+        CompatibilityScoreStore.ScoreRange range = compatibilityScoreStore.findRange(
+                userId, pageable.getOffset(), pageable.getPageSize());
+        if (range == null) {
             return null;
         }
+
+        return new PageImpl<>(convertToRecommendedPartnerResponses(loadScoredPartners(userId, range.entries())),
+                pageable, range.total());
     }
 
-    private RecommendedPartnerResponse convertToRecommendedPartnerResponse(User currentUser, User partner) {
-        RecommendedPartnerResponse response = new RecommendedPartnerResponse();
-        response.setUserId(partner.getUserId());
-        response.setEnglishName(partner.getEnglishName());
-        response.setProfileImageUrl(partner.getProfileImage());
-        response.setSelfBio(partner.getSelfBio());
-        response.setAge(calculateAge(partner.getBirthyear()));
-        response.setGender(partner.getGender() != null ? partner.getGender().name() : null);
-        response.setLocation(partner.getLocation() != null ? partner.getLocation().getCity() : null);
-        response.setNativeLanguage(partner.getNativeLanguage() != null ? partner.getNativeLanguage().getName() : null);
-        response.setTargetLanguages(getTargetLanguagesFromOnboarding(partner.getUserId()));
-        response.setInterests(getInterestsFromOnboarding(partner.getUserId()));
-        response.setPartnerPersonalities(getPersonalitiesFromOnboarding(partner.getUserId()));
-        response.setCompatibilityScore(compatibilityCalculatorService.calculateSimpleScore(currentUser, partner));
-        
-        // 실시간 온라인 상태 적용
-        try {
-            var onlineStatus = userStatusService.getUserStatus(partner.getUserId());
-            response.setOnlineStatus(onlineStatus.getStatus().toLowerCase());
-            response.setLastActiveTime(onlineStatus.getLastSeenText());
-        } catch (Exception e) {
-            response.setOnlineStatus("offline");
-            response.setLastActiveTime("알 수 없음");
+    /**
+     * 캐시된 순위 접두부에서 요청 페이지(offset 또는 커서 이후)만 잘라 응답으로 변환
+     */
+    private Page<RecommendedPartnerResponse> toCachedRecommendationPage(UUID userId,
+                                                                       RecommendationResultCache.Ranking ranking,
+                                                                       Pageable pageable, TopKRanker.Cursor after) {
+        List<CompatibilityScoreStore.ScoredId> ranked = ranking.entries();
+        int start;
+        long total;
+        Pageable resultPageable;
+        if (after != null) {
+            // 커서 조회는 커서 이후를 첫 페이지로 취급
+            start = firstIndexAfter(ranked, after);
+            total = ranking.total() - start;
+            resultPageable = PageRequest.of(0, pageable.getPageSize(), pageable.getSort());
+        } else {
+            start = (int) Math.min(pageable.getOffset(), ranked.size());
+            total = ranking.total();
+            resultPageable = pageable;
         }
-        
-        return response;
+
+        if (start >= ranked.size()) {
+            return new PageImpl<>(Collections.emptyList(), resultPageable, total);
+        }
+        List<CompatibilityScoreStore.ScoredId> slice = ranked.subList(
+                start, Math.min(start + pageable.getPageSize(), ranked.size()));
+
+        return new PageImpl<>(convertToRecommendedPartnerResponses(loadScoredPartners(userId, slice)), resultPageable, total);
+    }
+
+    /**
+     * 캐시된 접두부만으로 요청 페이지를 만들 수 있는지
+     */
+    private boolean coversPage(RecommendationResultCache.Ranking ranking, Pageable pageable, TopKRanker.Cursor after) {
+        long start = after != null ? firstIndexAfter(ranking.entries(), after) : pageable.getOffset();
+        return ranking.covers(start, pageable.getPageSize());
+    }
+
+    /**
+     * 커서 없이 캐시 깊이 안쪽 페이지를 요청했는지 (이 경우 접두부 전체를 계산해 캐시)
+     */
+    private boolean isWithinCachedDepth(Pageable pageable, TopKRanker.Cursor after) {
+        return after == null
+                && pageable.getOffset() + pageable.getPageSize() <= RecommendationResultCache.MAX_RANKING_DEPTH;
+    }
+
+    /**
+     * 캐시할 접두부 깊이에 맞춘 상위 K 랭커 생성 (캐시 깊이 밖의 요청은 요청 페이지만 유지)
+     */
+    private TopKRanker<User> newCachingRanker(Pageable pageable, TopKRanker.Cursor after) {
+        return isWithinCachedDepth(pageable, after)
+                ? new TopKRanker<>(RecommendationResultCache.MAX_RANKING_DEPTH, null)
+                : newRanker(pageable, after);
+    }
+
+    /**
+     * 계산한 순위로 페이지 응답 생성, 캐시 깊이 안쪽 요청이면 접두부를 캐시
+     * 마감 시간 초과로 일부만 계산된 순위는 캐시하지 않는다.
+     */
+    private Page<RecommendedPartnerResponse> toRankedRecommendationPage(UUID userId, String variant,
+                                                                       TopKRanker<User> ranker, Pageable pageable,
+                                                                       TopKRanker.Cursor after, boolean complete,
+                                                                       long rankedAt) {
+        if (!isWithinCachedDepth(pageable, after)) {
+            return toRecommendedPartnerPage(ranker, pageable, after);
+        }
+        RecommendationResultCache.Ranking ranking = new RecommendationResultCache.Ranking(
+                toScoredIds(ranker), ranker.getMatchedCount(), rankedAt);
+        if (complete) {
+            recommendationResultCache.put(userId, variant, ranking.entries(), ranking.total(), rankedAt);
+        }
+        return toCachedRecommendationPage(userId, ranking, pageable, null);
+    }
+
+    /**
+     * 순위순 userId 목록의 사용자를 일괄 조회 (탈퇴/비활성화된 후보는 제외하고 캐시에서도 제거)
+     * 순위 계산 이후 요청/매칭 관계가 생긴 상대도 여기서 제외되므로 페이지가 요청 크기보다 짧을 수 있다.
+     */
+    private List<ScoredPartner> loadScoredPartners(UUID userId, List<CompatibilityScoreStore.ScoredId> rankedEntries) {
+        List<CompatibilityScoreStore.ScoredId> entries = matchingExclusionSet.retainNotExcluded(
+                userId, rankedEntries, CompatibilityScoreStore.ScoredId::userId);
+        Map<UUID, User> partners = userRepository.findAllById(entries.stream()
+                        .map(CompatibilityScoreStore.ScoredId::userId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(User::getUserId, partner -> partner));
+
+        List<ScoredPartner> scoredPartners = new ArrayList<>(entries.size());
+        for (CompatibilityScoreStore.ScoredId entry : entries) {
+            User partner = partners.get(entry.userId());
+            if (partner == null || partner.isUserDisable()) {
+                recommendationResultCache.evictCandidate(entry.userId());
+                continue;
+            }
+            scoredPartners.add(new ScoredPartner(partner, entry.score()));
+        }
+        return scoredPartners;
+    }
+
+    /**
+     * 커서 이후 첫 항목의 위치 (순위 목록은 커서 비교 기준으로 정렬되어 있으므로 이진 탐색)
+     */
+    private int firstIndexAfter(List<CompatibilityScoreStore.ScoredId> ranked, TopKRanker.Cursor after) {
+        int low = 0;
+        int high = ranked.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            CompatibilityScoreStore.ScoredId entry = ranked.get(mid);
+            if (after.precedes(entry.score(), entry.userId())) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private List<CompatibilityScoreStore.ScoredId> toScoredIds(TopKRanker<User> ranker) {
+        return ranker.drain().stream()
+                .map(ranked -> new CompatibilityScoreStore.ScoredId(ranked.userId(), ranked.score()))
+                .toList();
+    }
+
+    /**
+     * 후보 전체의 호환성 벡터를 일괄 적재해 점수 계산 루프에서 DB 접근이 없도록 함
+     */
+    private Map<UUID, CompatibilityVector> preloadCompatibilityVectors(User currentUser, List<User> partners) {
+        List<UUID> userIds = new ArrayList<>(partners.size() + 1);
+        userIds.add(currentUser.getUserId());
+        partners.forEach(partner -> userIds.add(partner.getUserId()));
+        return compatibilityVectorCache.preload(userIds);
+    }
+
+    /**
+     * 후보 목록용 점수 함수
+     * 벡터와 모국어 ID를 요청 스레드에서 모두 모아 두므로, 점수 계산 스레드에서는 트랜잭션 프록시 / DB 접근이 없다.
+     */
+    private ToDoubleFunction<User> simpleScorer(User currentUser, List<User> partners) {
+        Map<UUID, CompatibilityVector> vectors = preloadCompatibilityVectors(currentUser, partners);
+        Map<UUID, Integer> nativeLanguageIds = new HashMap<>(partners.size() * 2);
+        partners.forEach(partner -> nativeLanguageIds.put(partner.getUserId(), CompatibilityScoring.nativeLanguageId(partner)));
+
+        CompatibilityVector myVector = vectors.getOrDefault(currentUser.getUserId(), CompatibilityVector.EMPTY);
+        Integer myNativeLanguageId = CompatibilityScoring.nativeLanguageId(currentUser);
+        return partner -> CompatibilityScoring.simpleScore(
+                myVector, myNativeLanguageId,
+                vectors.getOrDefault(partner.getUserId(), CompatibilityVector.EMPTY),
+                nativeLanguageIds.get(partner.getUserId()));
+    }
+
+    /**
+     * 페이지 크기에 맞춘 상위 K 랭커 생성
+     * 커서가 있으면 커서 이후 pageSize개만, 없으면 offset + pageSize개만 유지한다.
+     */
+    private TopKRanker<User> newRanker(Pageable pageable, TopKRanker.Cursor after) {
+        long limit = after != null ? pageable.getPageSize() : pageable.getOffset() + pageable.getPageSize();
+        return new TopKRanker<>((int) Math.min(limit, Integer.MAX_VALUE), after);
+    }
+
+    /**
+     * 랭커에 남은 상위 항목에서 요청 페이지만 잘라 응답으로 변환
+     */
+    private Page<RecommendedPartnerResponse> toRecommendedPartnerPage(TopKRanker<User> ranker, Pageable pageable,
+                                                                     TopKRanker.Cursor after) {
+        List<ScoredPartner> rankedPartners = ranker.drain().stream()
+                .map(ranked -> new ScoredPartner(ranked.item(), ranked.score()))
+                .toList();
+        // 커서 조회는 커서 이후를 첫 페이지로 취급
+        Pageable resultPageable = after != null
+                ? PageRequest.of(0, pageable.getPageSize(), pageable.getSort())
+                : pageable;
+        long total = ranker.getMatchedCount();
+
+        int start = (int) resultPageable.getOffset();
+        if (start >= rankedPartners.size()) {
+            return new PageImpl<>(Collections.emptyList(), resultPageable, total);
+        }
+
+        return new PageImpl<>(convertToRecommendedPartnerResponses(rankedPartners.subList(start, rankedPartners.size())),
+                resultPageable, total);
+    }
+
+    /**
+     * 파트너 프로필을 한 번에 일괄 조회한 뒤 응답으로 변환 (페이지 크기와 무관하게 쿼리 수 고정)
+     */
+    private List<RecommendedPartnerResponse> convertToRecommendedPartnerResponses(List<ScoredPartner> scoredPartners) {
+        Map<UUID, PartnerProfileLoader.PartnerProfileSnapshot> profiles = partnerProfileLoader.loadProfiles(
+                scoredPartners.stream().map(scored -> scored.partner().getUserId()).toList());
+
+        return scoredPartners.stream()
+                .map(scored -> RecommendedPartnerMapper.toResponse(
+                        scored.partner(), scored.score(), profiles.get(scored.partner().getUserId())))
+                .collect(Collectors.toList());
     }
 
     private SentMatchingRequestResponse convertToSentMatchingRequestResponse(MatchingRequest request) {
@@ -421,32 +792,29 @@ public class MatchingServiceImpl implements MatchingService {
         return response;
     }
 
-    private MatchedPartnerResponse convertToMatchedPartnerResponse(User currentUser, UserMatch match) {
-        User partner = match.getUser1().getUserId().equals(currentUser.getUserId()) ? 
-                      match.getUser2() : match.getUser1();
+    private User getPartner(User currentUser, UserMatch match) {
+        return match.getUser1().getUserId().equals(currentUser.getUserId()) ?
+                match.getUser2() : match.getUser1();
+    }
+
+    private MatchedPartnerResponse convertToMatchedPartnerResponse(User currentUser, UserMatch match,
+                                                                   PartnerProfileLoader.PartnerProfileSnapshot profile) {
+        User partner = getPartner(currentUser, match);
         
         MatchedPartnerResponse response = new MatchedPartnerResponse();
         response.setMatchId(match.getMatchId());
         response.setPartnerUserId(partner.getUserId());
         response.setPartnerUserName(partner.getEnglishName());
         response.setPartnerUserProfileImage(partner.getProfileImage());
-        response.setPartnerUserLocation(partner.getLocation() != null ? partner.getLocation().getCity() : null);
-        response.setPartnerUserNativeLanguage(partner.getNativeLanguage() != null ? partner.getNativeLanguage().getName() : null);
+        response.setPartnerUserLocation(profile.location());
+        response.setPartnerUserNativeLanguage(profile.nativeLanguage());
         response.setPartnerUserBio(partner.getSelfBio());
         response.setMatchedAt(match.getCreatedAt());
         response.setCompatibilityScore(compatibilityCalculatorService.calculateSimpleScore(currentUser, partner));
-        
-        // 실시간 온라인 상태 적용
-        try {
-            var onlineStatus = userStatusService.getUserStatus(partner.getUserId());
-            response.setOnlineStatus(onlineStatus.getStatus().toLowerCase());
-            response.setLastActiveTime(onlineStatus.getLastSeenText());
-        } catch (Exception e) {
-            response.setOnlineStatus("offline");
-            response.setLastActiveTime("알 수 없음");
-        }
+        response.setOnlineStatus(profile.onlineStatus());
+        response.setLastActiveTime(profile.lastActiveTime());
         response.setTotalSessionsCompleted(getTotalSessionsCompleted(currentUser.getUserId(), partner.getUserId()));
-        response.setFavoriteTopics(getFavoriteTopicsFromOnboarding(partner.getUserId()));
+        response.setFavoriteTopics(profile.topics().isEmpty() ? null : String.join(", ", profile.topics()));
         
         return response;
     }
@@ -454,39 +822,48 @@ public class MatchingServiceImpl implements MatchingService {
     // === AI 기반 스마트 매칭 구현 ===
 
     @Override
-    public Page<RecommendedPartnerResponse> getSmartRecommendations(UUID userId, Pageable pageable) {
+    public Page<RecommendedPartnerResponse> getSmartRecommendations(UUID userId, Pageable pageable, String cursor) {
+        TopKRanker.Cursor after = TopKRanker.Cursor.parse(cursor);
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
         // AI 기반 스마트 추천 알고리즘
         // 1. 사용자의 과거 매칭 이력 분석
-        List<UserMatch> matchHistory = userMatchRepository.findByUser(currentUser);
-        
-        // 2. 피드백 데이터 분석
-        List<MatchingFeedback> feedbackHistory = matchingFeedbackRepository.findByReviewer(currentUser);
-        
-        // 3. 선호도 패턴 분석하여 가중치 적용
-        List<User> smartRecommendations = userRepository.findSmartRecommendations(userId, 
-                extractPreferenceWeights(matchHistory, feedbackHistory));
-        
-        List<RecommendedPartnerResponse> responses = smartRecommendations.stream()
-                .map(partner -> {
-                    RecommendedPartnerResponse response = convertToRecommendedPartnerResponse(currentUser, partner);
-                    // AI 기반 점수로 재계산
-                    response.setCompatibilityScore(calculateAICompatibilityScore(currentUser, partner, feedbackHistory));
-                    return response;
-                })
-                .sorted((a, b) -> Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore()))
-                .collect(Collectors.toList());
+        RecommendationResultCache.Ranking cached = recommendationResultCache.get(userId, SMART_RECOMMENDATION_VARIANT);
+        if (cached != null && coversPage(cached, pageable, after)) {
+            return toCachedRecommendationPage(userId, cached, pageable, after);
+        }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), responses.size());
-        
-        if (start >= responses.size()) {
-            return new PageImpl<>(Collections.emptyList(), pageable, responses.size());
+        long rankedAt = System.currentTimeMillis();
+        // 2. 피드백 데이터 분석 (누적 집계 행)
+        UserMatchingStats matchingStats = matchingStatsAggregator.getStats(userId);
+
+        // 3. 파트너 그래프에서 나와 비슷한 사용자들이 좋아한 파트너를 찾고, 언어 교환 후보와 합침
+        Map<UUID, Double> graphAffinity = new HashMap<>();
+        for (PartnerGraph.Recommendation recommendation : partnerGraphIndex.recommend(userId, SMART_GRAPH_CANDIDATE_LIMIT)) {
+            graphAffinity.put(recommendation.userId(), recommendation.affinity());
         }
-        
-        return new PageImpl<>(responses.subList(start, end), pageable, responses.size());
+        Set<UUID> candidateIds = new LinkedHashSet<>(graphAffinity.keySet());
+        candidateIds.addAll(matchingCandidateIndex.findCandidates(userId, null, null, null));
+        candidateIds.remove(userId);
+
+        List<User> smartRecommendations = matchingExclusionSet.retainNotExcluded(userId,
+                userRepository.findAllById(candidateIds).stream()
+                        .filter(partner -> Boolean.TRUE.equals(partner.getIsOnboardingCompleted()) && !partner.isUserDisable())
+                        .toList(),
+                User::getUserId);
+        ToDoubleFunction<User> scorer = simpleScorer(currentUser, smartRecommendations);
+
+        // AI 기반 점수 + 그래프 친밀도 보너스로 상위 순위만 병렬로 계산 후 캐시
+        double feedbackAdjustment = calculateFeedbackAdjustment(matchingStats);
+        TopKRanker<User> ranker = newCachingRanker(pageable, after);
+        int skipped = parallelScoringExecutor.scoreAll(smartRecommendations,
+                partner -> Math.min(100.0, calculateAICompatibilityScore(scorer.applyAsDouble(partner), feedbackAdjustment)
+                        + GRAPH_AFFINITY_BONUS * graphAffinity.getOrDefault(partner.getUserId(), 0.0)),
+                (partner, score) -> ranker.offer(partner, partner.getUserId(), score));
+
+        return toRankedRecommendationPage(userId, SMART_RECOMMENDATION_VARIANT, ranker, pageable, after,
+                skipped == 0, rankedAt);
     }
 
     @Override
@@ -497,8 +874,8 @@ public class MatchingServiceImpl implements MatchingService {
         // 실시간 온라인 사용자 중에서 세션 타입에 맞는 파트너 검색
         List<User> realTimeMatches = userRepository.findRealTimeMatches(userId, sessionType);
         
-        List<RecommendedPartnerResponse> responses = realTimeMatches.stream()
-                .map(partner -> convertToRecommendedPartnerResponse(currentUser, partner))
+        List<RecommendedPartnerResponse> responses = convertToRecommendedPartnerResponses(
+                        scorePartners(currentUser, realTimeMatches)).stream()
                 .sorted((a, b) -> {
                     // 온라인 시간순으로 정렬 (최근 활동 우선)
                     if ("online".equals(a.getOnlineStatus()) && !"online".equals(b.getOnlineStatus())) return -1;
@@ -532,6 +909,8 @@ public class MatchingServiceImpl implements MatchingService {
                 .build();
 
         matchingFeedbackRepository.save(matchingFeedback);
+        matchingStatsAggregator.recordFeedback(matchingFeedback);
+        partnerGraphIndex.recordFeedbackAfterCommit(userId, partnerId, qualityScore);
     }
 
     @Override
@@ -547,50 +926,42 @@ public class MatchingServiceImpl implements MatchingService {
 
     @Override
     public Object getMatchingStats(UUID userId) {
-        User user = userRepository.findById(userId)
+        userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
         Map<String, Object> stats = new HashMap<>();
         
-        // 매칭 통계 계산
-        long totalMatches = userMatchRepository.countByUser(user);
-        long activeMatches = userMatchRepository.countActiveMatchesByUser(user);
+        // 매칭 / 피드백 통계 (누적 집계 행)
+        UserMatchingStats matchingStats = matchingStatsAggregator.getStats(userId);
         long completedSessions = getTotalSessionsCompleted(userId, null);
         
-        // 피드백 통계
-        List<MatchingFeedback> receivedFeedbacks = matchingFeedbackRepository.findByPartner(user);
-        double averageRating = receivedFeedbacks.stream()
-                .mapToInt(MatchingFeedback::getOverallRating)
-                .average()
-                .orElse(0.0);
-        
-        stats.put("totalMatches", totalMatches);
-        stats.put("activeMatches", activeMatches);
+        stats.put("totalMatches", matchingStats.getTotalMatches());
+        stats.put("activeMatches", matchingStats.getActiveMatches());
         stats.put("completedSessions", completedSessions);
-        stats.put("averageRating", Math.round(averageRating * 100.0) / 100.0);
-        stats.put("totalFeedbacks", receivedFeedbacks.size());
-        stats.put("matchSuccessRate", calculateMatchSuccessRate(user));
+        stats.put("averageRating", Math.round(matchingStats.getAverageReceivedRating() * 100.0) / 100.0);
+        stats.put("totalFeedbacks", matchingStats.getReceivedFeedbackCount());
+        stats.put("ratingHistogram", matchingStats.getReceivedRatingHistogram());
+        stats.put("matchSuccessRate", matchingStats.getActiveMatchRate());
         
         return stats;
     }
 
     @Override
     public Object getMatchingAnalytics(UUID userId) {
-        User user = userRepository.findById(userId)
+        userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
         Map<String, Object> analytics = new HashMap<>();
         
         // 알고리즘 성능 분석
-        List<MatchingFeedback> feedbacks = matchingFeedbackRepository.findByReviewer(user);
-        List<UserMatch> matches = userMatchRepository.findByUser(user);
+        UserMatchingStats matchingStats = matchingStatsAggregator.getStats(userId);
         
         analytics.put("algorithmVersion", "v2.1");
-        analytics.put("totalRecommendations", calculateTotalRecommendations(user));
-        analytics.put("acceptanceRate", calculateAcceptanceRate(user));
-        analytics.put("feedbackScore", calculateAverageFeedbackScore(feedbacks));
-        analytics.put("matchRetentionRate", calculateMatchRetentionRate(matches));
-        analytics.put("preferredPartnerTypes", analyzePreferredPartnerTypes(feedbacks));
+        analytics.put("totalRecommendations", matchingStats.getReceivedRequests()); // 추천 이력은 받은 매칭 요청 수로 대체
+        analytics.put("acceptanceRate", matchingStats.getAcceptanceRate());
+        analytics.put("feedbackScore", matchingStats.getAverageGivenRating());
+        analytics.put("matchRetentionRate", matchingStats.getActiveMatchRate());
+        analytics.put("preferredPartnerTypes", new HashMap<>(matchingStats.getPreferredPartnerLanguages()));
         
         return analytics;
     }
@@ -598,15 +969,11 @@ public class MatchingServiceImpl implements MatchingService {
     @Override
     @Transactional
     public void optimizeMatchingAlgorithm(UUID userId) {
-        User user = userRepository.findById(userId)
+        userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
-        // 매칭 이력 분석
-        List<MatchingFeedback> feedbacks = matchingFeedbackRepository.findByReviewer(user);
-        List<UserMatch> matches = userMatchRepository.findByUser(user);
-        
-        // 선호도 패턴 분석
-        Map<String, Double> preferenceWeights = analyzeUserPreferences(feedbacks, matches);
+        // 선호도 패턴 분석 (누적 집계 행)
+        Map<String, Double> preferenceWeights = analyzeUserPreferences(matchingStatsAggregator.getStats(userId));
         
         // 알고리즘 가중치 업데이트 (현재는 로그만)
         System.out.println("사용자 " + userId + "의 알고리즘 최적화 완료. 가중치: " + preferenceWeights);
@@ -617,22 +984,27 @@ public class MatchingServiceImpl implements MatchingService {
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
-        // 스케줄 기반 매칭 (온보딩 데이터의 스케줄 정보 활용)
-        List<User> scheduleMatches = userRepository.findScheduleBasedMatches(userId, dayOfWeek, timeSlot);
+        // 요청 시간대(없으면 내 가용 시간)와 겹치는 언어 교환 후보만 비트맵 AND로 추림
+        WeeklyAvailability window = ScheduleAvailabilityIndex.parseWindow(dayOfWeek, timeSlot);
+        if (window == null) {
+            window = scheduleAvailabilityIndex.getAvailability(userId);
+            if (window.isEmpty()) {
+                window = WeeklyAvailability.ALL_WEEK; // 내 스케줄이 없으면 스케줄을 등록한 후보 전체
+            }
+        }
+        List<UUID> candidateIds = matchingExclusionSet.retainNotExcluded(userId,
+                scheduleAvailabilityIndex.filterAvailable(matchingCandidateIndex.findCandidates(userId, null, null, null), window),
+                id -> id);
+        List<User> scheduleMatches = userRepository.findAllById(candidateIds);
         
-        List<RecommendedPartnerResponse> responses = scheduleMatches.stream()
-                .map(partner -> convertToRecommendedPartnerResponse(currentUser, partner))
-                .sorted((a, b) -> Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore()))
-                .collect(Collectors.toList());
+        ToDoubleFunction<User> scorer = simpleScorer(currentUser, scheduleMatches);
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), responses.size());
-        
-        if (start >= responses.size()) {
-            return new PageImpl<>(Collections.emptyList(), pageable, responses.size());
+        TopKRanker<User> ranker = newRanker(pageable, null);
+        for (User partner : scheduleMatches) {
+            ranker.offer(partner, partner.getUserId(), scorer.applyAsDouble(partner));
         }
-        
-        return new PageImpl<>(responses.subList(start, end), pageable, responses.size());
+
+        return toRecommendedPartnerPage(ranker, pageable, null);
     }
 
     @Override
@@ -641,26 +1013,17 @@ public class MatchingServiceImpl implements MatchingService {
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
         // 언어 교환 가능한 파트너 (서로의 언어를 배울 수 있는)
-        List<User> languageExchangePartners = userRepository.findLanguageExchangePartners(userId);
-        
-        List<RecommendedPartnerResponse> responses = languageExchangePartners.stream()
-                .map(partner -> {
-                    RecommendedPartnerResponse response = convertToRecommendedPartnerResponse(currentUser, partner);
-                    // 언어 교환 보너스 점수 추가
-                    response.setCompatibilityScore(response.getCompatibilityScore() + 15.0);
-                    return response;
-                })
-                .sorted((a, b) -> Double.compare(b.getCompatibilityScore(), a.getCompatibilityScore()))
-                .collect(Collectors.toList());
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), responses.size());
-        
-        if (start >= responses.size()) {
-            return new PageImpl<>(Collections.emptyList(), pageable, responses.size());
+        List<User> languageExchangePartners = matchingExclusionSet.retainNotExcluded(userId,
+                userRepository.findLanguageExchangePartners(userId), User::getUserId);
+        ToDoubleFunction<User> scorer = simpleScorer(currentUser, languageExchangePartners);
+        
+        // 언어 교환 보너스 점수 추가
+        TopKRanker<User> ranker = newRanker(pageable, null);
+        for (User partner : languageExchangePartners) {
+            ranker.offer(partner, partner.getUserId(), scorer.applyAsDouble(partner) + 15.0);
         }
-        
-        return new PageImpl<>(responses.subList(start, end), pageable, responses.size());
+
+        return toRecommendedPartnerPage(ranker, pageable, null);
     }
 
     // === 매칭 대기열 관리 ===
@@ -689,6 +1052,8 @@ public class MatchingServiceImpl implements MatchingService {
                 .build();
 
         matchingQueueRepository.save(queueEntry);
+        matchmakingEngine.enqueue(queueEntry.getQueueId(), userId, user.getEnglishName(),
+                queueEntry.getSessionType(), queueEntry.getPriorityScore(), queueEntry.getJoinedAt());
     }
 
     @Override
@@ -697,11 +1062,13 @@ public class MatchingServiceImpl implements MatchingService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
 
+        matchmakingEngine.cancel(userId);
         matchingQueueRepository.findByUserAndStatus(user, MatchingQueue.QueueStatus.WAITING)
                 .ifPresent(queueEntry -> {
                     queueEntry.updateStatus(MatchingQueue.QueueStatus.CANCELLED);
                     matchingQueueRepository.save(queueEntry);
                 });
+        matchingAlternativePrecomputer.evict(userId);
     }
 
     @Override
@@ -725,127 +1092,54 @@ public class MatchingServiceImpl implements MatchingService {
         } else {
             queueStatus.put("inQueue", false);
         }
+        queueStatus.put("waitTimePercentiles", matchmakingEngine.getWaitTimePercentiles());
         
         return queueStatus;
     }
 
+    @Override
+    public Object getMatchingQueueAlternatives(UUID userId) {
+        // 백그라운드에서 미리 계산된 결과만 조회 (대기 5분 미만이거나 계산 전이면 준비되지 않음)
+        MatchingAlternativePrecomputer.PrecomputedAlternatives precomputed = matchingAlternativePrecomputer.get(userId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("ready", precomputed != null);
+        if (precomputed != null) {
+            result.put("alternatives", precomputed);
+        }
+        return result;
+    }
+
     // === Helper Methods for Advanced Features ===
 
-    private Map<String, Double> extractPreferenceWeights(List<UserMatch> matchHistory, List<MatchingFeedback> feedbackHistory) {
-        Map<String, Double> weights = new HashMap<>();
-        
-        // 기본 가중치 설정
-        weights.put("language_compatibility", 0.3);
-        weights.put("age_compatibility", 0.2);
-        weights.put("location_compatibility", 0.15);
-        weights.put("personality_compatibility", 0.25);
-        weights.put("schedule_compatibility", 0.1);
-        
-        // 피드백 데이터 기반 가중치 조정
-        if (!feedbackHistory.isEmpty()) {
-            double avgCommunicationRating = feedbackHistory.stream()
-                    .filter(f -> f.getCommunicationRating() != null)
-                    .mapToInt(MatchingFeedback::getCommunicationRating)
-                    .average().orElse(3.0);
-            
-            if (avgCommunicationRating > 4.0) {
-                weights.put("language_compatibility", weights.get("language_compatibility") + 0.1);
-            }
-        }
-        
-        return weights;
+    private double calculateAICompatibilityScore(double baseScore, double feedbackAdjustment) {
+        // 기본 호환성 점수 + 피드백 조정
+        return Math.min(100.0, baseScore + feedbackAdjustment);
     }
 
-    private double calculateAICompatibilityScore(User currentUser, User partner, List<MatchingFeedback> feedbackHistory) {
-        // 기본 호환성 점수
-        double baseScore = compatibilityCalculatorService.calculateSimpleScore(currentUser, partner);
-        
-        // AI 기반 조정
+    /**
+     * 피드백 이력 기반 AI 조정 점수 (후보와 무관하므로 요청당 한 번만 계산)
+     */
+    private double calculateFeedbackAdjustment(UserMatchingStats matchingStats) {
         double aiAdjustment = 0.0;
-        
-        // 피드백 이력 기반 조정
-        if (!feedbackHistory.isEmpty()) {
-            double avgFeedbackScore = feedbackHistory.stream()
-                    .mapToInt(MatchingFeedback::getOverallRating)
-                    .average().orElse(3.0);
-            
+
+        if (matchingStats.getGivenFeedbackCount() > 0) {
+            double avgFeedbackScore = matchingStats.getAverageGivenRating();
+
             if (avgFeedbackScore > 4.0) {
                 aiAdjustment += 10.0; // 고평점 사용자는 보너스
             }
         }
-        
-        return Math.min(100.0, baseScore + aiAdjustment);
-    }
-
-    private double calculateMatchSuccessRate(User user) {
-        List<UserMatch> matches = userMatchRepository.findByUser(user);
-        if (matches.isEmpty()) return 0.0;
-        
-        long activeMatches = matches.stream()
-                .mapToLong(match -> match.getIsActive() ? 1L : 0L)
-                .sum();
-        
-        return (double) activeMatches / matches.size() * 100.0;
-    }
-
-    private int calculateTotalRecommendations(User user) {
-        // 추천 이력 계산 (매칭 요청 수로 대체)
-        return (int) matchingRequestRepository.countByReceiver(user);
-    }
-
-    private double calculateAcceptanceRate(User user) {
-        // 추천 수락률 계산 (받은 요청 중 수락한 비율)
-        long totalReceived = matchingRequestRepository.countByReceiver(user);
-        long totalAccepted = matchingRequestRepository.countByReceiverAndStatus(user, MatchingStatus.ACCEPTED);
-        return totalReceived > 0 ? (double) totalAccepted / totalReceived : 0.0;
-    }
 
-    private double calculateAverageFeedbackScore(List<MatchingFeedback> feedbacks) {
-        return feedbacks.stream()
-                .mapToInt(MatchingFeedback::getOverallRating)
-                .average()
-                .orElse(0.0);
+        return aiAdjustment;
     }
 
-    private double calculateMatchRetentionRate(List<UserMatch> matches) {
-        if (matches.isEmpty()) return 0.0;
-        
-        long activeMatches = matches.stream()
-                .mapToLong(match -> match.getIsActive() ? 1L : 0L)
-                .sum();
-        
-        return (double) activeMatches / matches.size() * 100.0;
-    }
-
-    private Map<String, Integer> analyzePreferredPartnerTypes(List<MatchingFeedback> feedbacks) {
-        Map<String, Integer> partnerTypes = new HashMap<>();
-        
-        // 높은 평점을 받은 파트너들의 특성 분석
-        feedbacks.stream()
-                .filter(f -> f.getOverallRating() >= 4)
-                .forEach(f -> {
-                    User partner = f.getPartner();
-                    String nativeLanguage = partner.getNativeLanguage() != null ? 
-                            partner.getNativeLanguage().getName() : "Unknown";
-                    partnerTypes.merge(nativeLanguage, 1, Integer::sum);
-                });
-        
-        return partnerTypes;
-    }
-
-    private Map<String, Double> analyzeUserPreferences(List<MatchingFeedback> feedbacks, List<UserMatch> matches) {
+    private Map<String, Double> analyzeUserPreferences(UserMatchingStats matchingStats) {
         Map<String, Double> preferences = new HashMap<>();
         
         // 피드백 점수 기반 선호도 분석
-        double avgLanguageRating = feedbacks.stream()
-                .filter(f -> f.getLanguageLevelRating() != null)
-                .mapToInt(MatchingFeedback::getLanguageLevelRating)
-                .average().orElse(3.0);
-        
-        double avgCommunicationRating = feedbacks.stream()
-                .filter(f -> f.getCommunicationRating() != null)
-                .mapToInt(MatchingFeedback::getCommunicationRating)
-                .average().orElse(3.0);
+        double avgLanguageRating = matchingStats.getAverageGivenLanguageLevelRating(3.0);
+        double avgCommunicationRating = matchingStats.getAverageGivenCommunicationRating(3.0);
         
         preferences.put("language_importance", avgLanguageRating / 5.0);
         preferences.put("communication_importance", avgCommunicationRating / 5.0);
@@ -861,7 +1155,7 @@ public class MatchingServiceImpl implements MatchingService {
         // 실제로는 사용자 등급 필드를 확인해야 함
         
         // 매칭 성공률이 높은 사용자는 우선순위 증가
-        double successRate = calculateMatchSuccessRate(user);
+        double successRate = matchingStatsAggregator.getStats(user.getUserId()).getActiveMatchRate();
         if (successRate > 80.0) {
             priority += 2;
         }
@@ -870,134 +1164,21 @@ public class MatchingServiceImpl implements MatchingService {
     }
 
     private int calculateEstimatedWaitTime() {
-        // 현재 대기열 상황 기반 대기시간 계산
-        long waitingCount = matchingQueueRepository.countByStatus(MatchingQueue.QueueStatus.WAITING);
-        
-        // 대기 인원에 따른 예상 대기시간 (분)
-        return (int) Math.max(1, waitingCount / 5 * 3); // 5명당 약 3분
+        // 최근 실제 매칭 대기시간 중앙값 기반 (표본이 없으면 대기 인원 기반)
+        return matchmakingEngine.estimateWaitMinutes();
     }
 
     private int calculateQueuePosition(MatchingQueue queueEntry) {
+        // 같은 언어 쌍 버킷 내 순번, 엔진에 없는 항목(복원 전 등)은 전체 대기열 기준
+        Integer position = matchmakingEngine.getQueuePosition(queueEntry.getUser().getUserId());
+        if (position != null) {
+            return position;
+        }
         return (int) (matchingQueueRepository.countByStatusAndJoinedAtBefore(
                 MatchingQueue.QueueStatus.WAITING, 
                 queueEntry.getJoinedAt()) + 1);
     }
 
-    // === Helper Methods for Onboarding Data ===
-
-    private List<RecommendedPartnerResponse.TargetLanguageInfo> getTargetLanguagesFromOnboarding(UUID userId) {
-        List<OnboardingLangLevel> languageLevels = onboardingLangLevelRepository.findByUsrId(userId);
-
-        if (languageLevels == null || languageLevels.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return languageLevels.stream()
-                .map(level -> {
-                    RecommendedPartnerResponse.TargetLanguageInfo info = new RecommendedPartnerResponse.TargetLanguageInfo();
-                    info.setLanguageName(level.getLanguage() != null ? level.getLanguage().getName() : null);
-                    info.setCurrentLevel(level.getCurrentLevel() != null ? level.getCurrentLevel().getName() : null);
-                    info.setTargetLevel(level.getTargetLevel() != null ? level.getTargetLevel().getName() : null);
-                    return info;
-                })
-                .filter(info -> info.getLanguageName() != null)
-                .toList();
-    }
-
-    private List<String> getInterestsFromOnboarding(UUID userId) {
-        LinkedHashSet<String> interests = new LinkedHashSet<>();
-
-        List<Integer> motivationIds = onboardingMotivationRepository.findByUsrId(userId).stream()
-                .map(OnboardingMotivation::getMotivationId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        if (!motivationIds.isEmpty()) {
-            motivationRepository.findAllById(motivationIds).stream()
-                    .map(Motivation::getName)
-                    .filter(StringUtils::hasText)
-                    .forEach(interests::add);
-        }
-
-        List<Integer> topicIds = onboardingTopicRepository.findByUsrId(userId).stream()
-                .map(OnboardingTopic::getTopicId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        if (!topicIds.isEmpty()) {
-            topicRepository.findAllById(topicIds).stream()
-                    .map(Topic::getName)
-                    .filter(StringUtils::hasText)
-                    .forEach(interests::add);
-        }
-
-        List<Integer> learningStyleIds = onboardingLearningStyleRepository.findByUsrId(userId).stream()
-                .map(OnboardingLearningStyle::getLearningStyleId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        if (!learningStyleIds.isEmpty()) {
-            learningStyleRepository.findAllById(learningStyleIds).stream()
-                    .map(LearningStyle::getName)
-                    .filter(StringUtils::hasText)
-                    .forEach(interests::add);
-        }
-
-        List<Integer> expectationIds = onboardingLearningExpectationRepository.findByUsrId(userId).stream()
-                .map(expectation -> expectation.getId().getLearningExpectationId())
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        if (!expectationIds.isEmpty()) {
-            learningExpectationRepository.findAllById(expectationIds).stream()
-                    .map(LearningExpectation::getLearningExpectationName)
-                    .filter(StringUtils::hasText)
-                    .forEach(interests::add);
-        }
-
-        return new ArrayList<>(interests);
-    }
-
-    private List<String> getPersonalitiesFromOnboarding(UUID userId) {
-        List<Integer> personalityIds = onboardingPartnerRepository.findByUsrId(userId).stream()
-                .map(OnboardingPartner::getPartnerPersonalityId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        if (personalityIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return partnerPersonalityRepository.findAllById(personalityIds).stream()
-                .map(PartnerPersonality::getName)
-                .filter(StringUtils::hasText)
-                .toList();
-    }
-
-    private String getFavoriteTopicsFromOnboarding(UUID userId) {
-        List<Integer> topicIds = onboardingTopicRepository.findByUsrId(userId).stream()
-                .map(OnboardingTopic::getTopicId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        if (topicIds.isEmpty()) {
-            return null;
-        }
-
-        List<String> topicNames = topicRepository.findAllById(topicIds).stream()
-                .map(Topic::getName)
-                .filter(StringUtils::hasText)
-                .toList();
-
-        if (topicNames.isEmpty()) {
-            return null;
-        }
-
-        return String.join(", ", topicNames);
-    }
-
     private int getTotalSessionsCompleted(UUID userId, UUID partnerId) {
         if (partnerId != null) {
             Long pairCompleted = sessionRepository.countCompletedSessionsBetweenUsers(
@@ -1011,4 +1192,7 @@ public class MatchingServiceImpl implements MatchingService {
         Long completed = sessionRepository.countCompletedSessionsByUserId(userId, SessionStatus.COMPLETED);
         return completed != null ? completed.intValue() : 0;
     }
+
+    private record ScoredPartner(User partner, double score) {
+    }
 }
@@ -0,0 +1,175 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.exception.NotFoundException;
+import com.studymate.domain.matching.domain.repository.MatchingFeedbackRepository;
+import com.studymate.domain.matching.domain.repository.UserMatchingStatsRepository;
+import com.studymate.domain.matching.entity.MatchingFeedback;
+import com.studymate.domain.matching.entity.MatchingStatus;
+import com.studymate.domain.matching.entity.UserMatchingStats;
+import com.studymate.domain.matching.repository.MatchingRequestRepository;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 매칭 통계 누적 집계 관리
+ * 기록 메서드는 호출한 서비스 트랜잭션 안에서 통계 행을 잠그고 갱신한다.
+ * 통계 행이 아직 없는 사용자는 기록을 건너뛰고, 처음 조회할 때 원본 이력으로 한 번 집계해 만든다.
+ * 집계와 건너뛰기 판단은 모두 사용자 행 잠금 아래에서 하므로, 집계 도중 커밋되는 이벤트는
+ * 집계 결과에 포함되거나(집계가 기다림) 생성된 통계 행에 증분으로 반영된다(기록이 기다림).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingStatsAggregator {
+
+    private final UserMatchingStatsRepository userMatchingStatsRepository;
+    private final UserRepository userRepository;
+    private final UserMatchRepository userMatchRepository;
+    private final MatchingRequestRepository matchingRequestRepository;
+    private final MatchingFeedbackRepository matchingFeedbackRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Transactional
+    public void recordRequestSent(UUID receiverId) {
+        update(List.of(receiverId), UserMatchingStats::recordRequestReceived);
+    }
+
+    @Transactional
+    public void recordRequestRejected(UUID receiverId) {
+        update(List.of(receiverId), UserMatchingStats::recordRequestRejected);
+    }
+
+    /**
+     * 요청 수락: 수신자 수락 수 증가, 양쪽 매칭 수 증가
+     */
+    @Transactional
+    public void recordRequestAccepted(UUID senderId, UUID receiverId) {
+        update(List.of(senderId, receiverId), stats -> {
+            if (stats.getUserId().equals(receiverId)) {
+                stats.recordRequestAccepted();
+            }
+            stats.recordMatchCreated();
+        });
+    }
+
+    @Transactional
+    public void recordMatchEnded(UUID user1Id, UUID user2Id) {
+        update(List.of(user1Id, user2Id), UserMatchingStats::recordMatchEnded);
+    }
+
+    /**
+     * 피드백 기록: 작성자의 작성 통계와 대상 파트너의 받은 평점 히스토그램 갱신
+     */
+    @Transactional
+    public void recordFeedback(MatchingFeedback feedback) {
+        UUID reviewerId = feedback.getReviewer().getUserId();
+        UUID partnerId = feedback.getPartner().getUserId();
+        String partnerLanguage = partnerLanguageOf(feedback.getPartner());
+
+        update(List.of(reviewerId, partnerId), stats -> {
+            if (stats.getUserId().equals(reviewerId)) {
+                stats.recordGivenFeedback(feedback.getOverallRating(), feedback.getCommunicationRating(),
+                        feedback.getLanguageLevelRating(), partnerLanguage);
+            }
+            if (stats.getUserId().equals(partnerId)) {
+                stats.recordReceivedFeedback(feedback.getOverallRating());
+            }
+        });
+    }
+
+    /**
+     * 통계 행 조회, 없으면 원본 이력으로 집계해 생성
+     * 동시에 다른 요청이 먼저 생성했다면 그 행을 사용한다.
+     */
+    public UserMatchingStats getStats(UUID userId) {
+        Optional<UserMatchingStats> stats = userMatchingStatsRepository.findById(userId);
+        if (stats.isPresent()) {
+            return stats.get();
+        }
+        try {
+            // 별도 트랜잭션으로 커밋해, 이후 기록 메서드가 이 행을 갱신할 수 있게 한다.
+            // (사용자 행 잠금을 커밋까지 유지하므로 읽기 트랜잭션 안에서 호출되어도 잠금 범위가 짧다)
+            TransactionTemplate backfillTransaction = new TransactionTemplate(transactionManager);
+            backfillTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            return backfillTransaction.execute(status -> backfill(userId));
+        } catch (DataIntegrityViolationException e) {
+            return userMatchingStatsRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException("NOT FOUND MATCHING STATS"));
+        }
+    }
+
+    // Private helper methods
+
+    /**
+     * 원본 이력 기반 통계 행 생성 (사용자당 한 번)
+     * 사용자 행을 먼저 잠가, 통계 행이 없어 기록을 건너뛴 트랜잭션이 커밋된 뒤에 원본 이력을 센다.
+     */
+    private UserMatchingStats backfill(UUID userId) {
+        User user = userRepository.findAllForUpdate(List.of(userId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("NOT FOUND USER"));
+        Optional<UserMatchingStats> created = userMatchingStatsRepository.findAllForUpdate(List.of(userId)).stream()
+                .findFirst();
+        if (created.isPresent()) {
+            // 잠금을 기다리는 동안 다른 요청이 먼저 집계함
+            return created.get();
+        }
+        UserMatchingStats stats = new UserMatchingStats(userId);
+
+        stats.initializeCounts(
+                userMatchRepository.countByUser(user),
+                userMatchRepository.countActiveMatchesByUser(user),
+                matchingRequestRepository.countByReceiver(user),
+                matchingRequestRepository.countByReceiverAndStatus(user, MatchingStatus.ACCEPTED),
+                matchingRequestRepository.countByReceiverAndStatus(user, MatchingStatus.REJECTED));
+
+        for (MatchingFeedback feedback : matchingFeedbackRepository.findByPartner(user)) {
+            stats.recordReceivedFeedback(feedback.getOverallRating());
+        }
+        for (MatchingFeedback feedback : matchingFeedbackRepository.findByReviewer(user)) {
+            stats.recordGivenFeedback(feedback.getOverallRating(), feedback.getCommunicationRating(),
+                    feedback.getLanguageLevelRating(), partnerLanguageOf(feedback.getPartner()));
+        }
+
+        log.debug("Backfilled matching stats for user {}", userId);
+        return userMatchingStatsRepository.saveAndFlush(stats);
+    }
+
+    /**
+     * 통계 행 잠금 후 갱신
+     * 통계 행이 없는 사용자는 사용자 행을 잠근 뒤 다시 확인한다. 진행 중인 집계가 있으면 그 커밋을 기다려
+     * 새 행에 반영하고, 여전히 없으면 건너뛴다 (이후 집계가 이 트랜잭션의 커밋을 기다렸다가 원본 이력으로 센다).
+     */
+    private void update(List<UUID> userIds, Consumer<UserMatchingStats> change) {
+        List<UserMatchingStats> locked = userMatchingStatsRepository.findAllForUpdate(userIds);
+        locked.forEach(change);
+        if (locked.size() == userIds.size()) {
+            return;
+        }
+
+        Set<UUID> missing = new TreeSet<>(userIds);
+        locked.forEach(stats -> missing.remove(stats.getUserId()));
+        userRepository.findAllForUpdate(missing);
+        userMatchingStatsRepository.findAllForUpdate(missing).forEach(change);
+    }
+
+    private String partnerLanguageOf(User partner) {
+        return partner.getNativeLanguage() != null ? partner.getNativeLanguage().getName() : "Unknown";
+    }
+}
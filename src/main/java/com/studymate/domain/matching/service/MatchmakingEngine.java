@@ -0,0 +1,277 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.lock.RedisLeaderLock;
+import com.studymate.common.util.TransactionHooks;
+import com.studymate.domain.matching.domain.repository.MatchingQueueRepository;
+import com.studymate.domain.matching.entity.MatchingQueue;
+import com.studymate.domain.notification.service.NotificationWebSocketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 실시간 매칭 대기열 매치메이킹 엔진
+ * WAITING 항목을 {@link MatchingQueueStore}에 세션 타입 / 언어 쌍(모국어 → 학습 언어) 버킷으로 보관하고,
+ * 주기적으로 서로의 언어를 교환할 수 있는 항목끼리 우선순위 순으로 짝지어 준다.
+ * DB에는 MATCHED / EXPIRED 전이만 기록하며, 매칭 결과는 STOMP 매칭 알림 채널로 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchmakingEngine {
+
+    private static final int MAX_WAIT_MINUTES = 30;
+    private static final int WAIT_SAMPLE_SIZE = 1000;
+    private static final String RESTORE_LOCK_NAME = "matching-queue-restore";
+    // 동시에 시작한 서버들이 다시 복원하지 않도록 복원 후에도 잠금을 풀지 않고 TTL로 만료시킴
+    private static final Duration RESTORE_LOCK_TTL = Duration.ofMinutes(5);
+
+    private final MatchingQueueRepository matchingQueueRepository;
+    private final MatchingCandidateIndex matchingCandidateIndex;
+    private final NotificationWebSocketService notificationWebSocketService;
+    private final MatchingQueueStore matchingQueueStore;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisLeaderLock redisLeaderLock;
+
+    private final WaitTimeSamples waitTimeSamples = new WaitTimeSamples(WAIT_SAMPLE_SIZE);
+
+    /**
+     * 대기열 항목 등록
+     * 트랜잭션 안에서 호출되면 커밋 이후에 등록해, 커밋되지 않은 행이 매칭되지 않도록 한다.
+     */
+    public void enqueue(Long queueId, UUID userId, String displayName, MatchingQueue.SessionType sessionType,
+                        Integer priorityScore, LocalDateTime joinedAt) {
+        MatchingCandidateIndex.CandidateProfile profile = matchingCandidateIndex.getProfile(userId);
+        MatchingQueueTicket ticket = new MatchingQueueTicket(
+                queueId, userId, displayName, sessionType,
+                profile != null ? profile.nativeLanguageId() : null,
+                profile != null ? Set.copyOf(profile.targetLanguageIds()) : Set.of(),
+                priorityScore != null ? priorityScore : 0,
+                joinedAt != null ? joinedAt : LocalDateTime.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    matchingQueueStore.add(ticket);
+                }
+            });
+        } else {
+            matchingQueueStore.add(ticket);
+        }
+    }
+
+    /**
+     * 대기열에서 사용자 제거 (취소)
+     */
+    public void cancel(UUID userId) {
+        matchingQueueStore.remove(userId);
+    }
+
+    /**
+     * 대기열에서 사용자 제거 (현재 트랜잭션 커밋 후, 롤백되면 대기 상태 유지)
+     */
+    public void cancelAfterCommit(UUID... userIds) {
+        TransactionHooks.afterCommit(() -> {
+            for (UUID userId : userIds) {
+                cancel(userId);
+            }
+        });
+    }
+
+    public boolean isWaiting(UUID userId) {
+        return matchingQueueStore.contains(userId);
+    }
+
+    /**
+     * 사용자가 속한 언어 쌍 버킷 내 대기 순번 (1부터, 대기 중이 아니면 null)
+     */
+    public Integer getQueuePosition(UUID userId) {
+        return matchingQueueStore.position(userId);
+    }
+
+    /**
+     * 최근 매칭 대기시간 중앙값 기반 예상 대기시간 (분)
+     * 표본이 없으면 현재 대기 인원으로 추정한다.
+     */
+    public int estimateWaitMinutes() {
+        long medianSeconds = waitTimeSamples.percentile(50);
+        if (medianSeconds >= 0) {
+            return (int) Math.max(1, Math.ceil(medianSeconds / 60.0));
+        }
+        return Math.max(1, matchingQueueStore.size() / 5 * 3); // 5명당 약 3분
+    }
+
+    /**
+     * 최근 매칭 대기시간 백분위수 (초, 이 인스턴스가 성사시킨 매칭 기준)
+     */
+    public Map<String, Object> getWaitTimePercentiles() {
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("sampleCount", waitTimeSamples.size());
+        percentiles.put("p50Seconds", waitTimeSamples.percentile(50));
+        percentiles.put("p90Seconds", waitTimeSamples.percentile(90));
+        percentiles.put("p99Seconds", waitTimeSamples.percentile(99));
+        percentiles.put("waitingCount", matchingQueueStore.size());
+        return percentiles;
+    }
+
+    /**
+     * 1초마다 만료 처리 및 매칭 수행
+     */
+    @Scheduled(fixedDelay = 1000, initialDelay = 10000)
+    public void runMatchmakingCycle() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<MatchingQueueTicket> expired = matchingQueueStore.claimExpired(now.minusMinutes(MAX_WAIT_MINUTES));
+            if (!expired.isEmpty()) {
+                expireTickets(expired, now);
+            }
+
+            List<MatchingQueueTicket.Pair> pairs = matchingQueueStore.claimMatches();
+            if (!pairs.isEmpty()) {
+                completeMatches(pairs, now);
+            }
+        } catch (Exception e) {
+            log.error("Matchmaking cycle failed: ", e);
+        }
+    }
+
+    /**
+     * 서버 시작 시 DB의 WAITING 항목을 대기열로 복원
+     * 공유 저장소는 잠금을 잡은 한 서버만 복원하고, 이미 대기열에 있는 사용자는 건너뛴다.
+     * 다른 서버가 막 짝지은(아직 DB 전이 전) 항목이 다시 들어오더라도 쌍 단위 조건부 전이에서 걸러진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreWaitingEntries() {
+        if (matchingQueueStore.isShared() && !redisLeaderLock.tryAcquire(RESTORE_LOCK_NAME, RESTORE_LOCK_TTL)) {
+            return;
+        }
+        try {
+            int restored = 0;
+            for (Object[] row : matchingQueueRepository.findWaitingTicketRows()) {
+                UUID userId = (UUID) row[1];
+                if (matchingQueueStore.contains(userId)) continue;
+                enqueue((Long) row[0], userId, (String) row[2],
+                        (MatchingQueue.SessionType) row[3], (Integer) row[4], (LocalDateTime) row[5]);
+                restored++;
+            }
+            log.info("Restored {} waiting matching queue entries", restored);
+        } catch (Exception e) {
+            log.error("Failed to restore matching queue entries: ", e);
+        }
+    }
+
+    // Private helper methods
+
+    /**
+     * 쌍마다 두 항목이 모두 WAITING일 때만 MATCHED로 전이하고, 전이된 쌍에만 알림을 보낸다.
+     * 한쪽이 그새 취소 / 다른 경로로 매칭됐다면 전이를 되돌리고, 아직 WAITING인 쪽만 대기열에 돌려놓는다.
+     */
+    private void completeMatches(List<MatchingQueueTicket.Pair> pairs, LocalDateTime now) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int matched = 0;
+        for (MatchingQueueTicket.Pair pair : pairs) {
+            List<Long> queueIds = List.of(pair.first().queueId(), pair.second().queueId());
+            Boolean transitioned = transactionTemplate.execute(status -> {
+                int updated = matchingQueueRepository.transitionWaitingEntries(queueIds, MatchingQueue.QueueStatus.MATCHED, now);
+                if (updated != queueIds.size()) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+            if (!Boolean.TRUE.equals(transitioned)) {
+                requeueStillWaiting(pair, queueIds);
+                continue;
+            }
+
+            matched++;
+            waitTimeSamples.record(Duration.between(pair.first().joinedAt(), now).toSeconds());
+            waitTimeSamples.record(Duration.between(pair.second().joinedAt(), now).toSeconds());
+            try {
+                notificationWebSocketService.sendMatchingNotification(
+                        pair.first().userId(), pair.second().userId(), pair.second().displayName());
+                notificationWebSocketService.sendMatchingNotification(
+                        pair.second().userId(), pair.first().userId(), pair.first().displayName());
+            } catch (Exception e) {
+                log.warn("Failed to push queue match {} <-> {}: {}", pair.first().userId(), pair.second().userId(), e.getMessage());
+            }
+        }
+        log.info("Matchmaking cycle paired {} of {} claimed queue pairs", matched, pairs.size());
+    }
+
+    private void requeueStillWaiting(MatchingQueueTicket.Pair pair, List<Long> queueIds) {
+        Set<Long> waiting = new HashSet<>(matchingQueueRepository.findWaitingQueueIds(queueIds));
+        for (MatchingQueueTicket ticket : List.of(pair.first(), pair.second())) {
+            if (waiting.contains(ticket.queueId())) {
+                matchingQueueStore.add(ticket);
+            }
+        }
+        log.debug("Queue pair {} <-> {} was no longer WAITING, requeued {} ticket(s)",
+                pair.first().userId(), pair.second().userId(), waiting.size());
+    }
+
+    private void expireTickets(List<MatchingQueueTicket> expired, LocalDateTime now) {
+        matchingQueueRepository.transitionWaitingEntries(
+                expired.stream().map(MatchingQueueTicket::queueId).toList(), MatchingQueue.QueueStatus.EXPIRED, now);
+
+        for (MatchingQueueTicket ticket : expired) {
+            try {
+                notificationWebSocketService.sendPersonalNotification(ticket.userId(), "매칭 대기 만료",
+                        MAX_WAIT_MINUTES + "분 동안 매칭 상대를 찾지 못했습니다. 다시 시도해 주세요.",
+                        Map.of("queueId", ticket.queueId(), "sessionType", ticket.sessionType().name()));
+            } catch (Exception e) {
+                log.warn("Failed to push queue expiry to user {}: {}", ticket.userId(), e.getMessage());
+            }
+        }
+        log.info("Expired {} matching queue entries", expired.size());
+    }
+
+    /**
+     * 최근 N건의 매칭 대기시간(초) 링 버퍼
+     */
+    static final class WaitTimeSamples {
+
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        WaitTimeSamples(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void record(long seconds) {
+            samples[next] = seconds;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * nearest-rank 백분위수 (표본이 없으면 -1)
+         */
+        synchronized long percentile(int percentile) {
+            if (size == 0) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * size);
+            return sorted[Math.max(0, Math.min(size - 1, rank - 1))];
+        }
+    }
+}
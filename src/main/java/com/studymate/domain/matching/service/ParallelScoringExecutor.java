@@ -0,0 +1,114 @@
+package com.studymate.domain.matching.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 매칭 후보 병렬 점수 계산 실행기
+ * CPU 코어 수만큼의 고정 풀에서 후보를 청크 단위로 나눠 점수를 계산하고,
+ * 요청별 마감 시간이 지나면 그때까지 계산된 결과만으로 응답한다.
+ */
+@Slf4j
+@Component
+public class ParallelScoringExecutor {
+
+    private static final int PARALLEL_THRESHOLD = 2_000;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final Duration SCORING_DEADLINE = Duration.ofMillis(800);
+
+    private final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private final ThreadPoolExecutor scoringPool;
+
+    public ParallelScoringExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.scoringPool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * CHUNKS_PER_THREAD * 8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "matching-scoring-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 풀이 포화되면 요청 스레드에서 직접 계산 (동시 요청 수와 무관하게 풀 크기 유지)
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 후보 전체 점수 계산
+     * 결과는 호출 스레드에서 consumer로 전달되므로 consumer는 스레드 안전하지 않아도 된다.
+     * scorer는 여러 스레드에서 동시에 호출되므로 DB 접근 없이 미리 적재된 데이터만 사용해야 한다.
+     * (@Transactional 빈의 메서드를 넘기면 후보마다 작업 스레드에서 트랜잭션 / 커넥션을 새로 잡으므로 순수 함수를 넘길 것)
+     *
+     * @return 마감 시간 내에 계산하지 못해 제외된 후보 수 (0이면 전체 완료)
+     */
+    public <T> int scoreAll(List<T> candidates, ToDoubleFunction<T> scorer, ObjDoubleConsumer<T> consumer) {
+        if (candidates.size() < PARALLEL_THRESHOLD || parallelism == 1) {
+            for (T candidate : candidates) {
+                consumer.accept(candidate, scorer.applyAsDouble(candidate));
+            }
+            return 0;
+        }
+
+        long deadline = System.nanoTime() + SCORING_DEADLINE.toNanos();
+        int chunkSize = (candidates.size() + parallelism * CHUNKS_PER_THREAD - 1) / (parallelism * CHUNKS_PER_THREAD);
+
+        CompletionService<ScoredChunk> completionService = new ExecutorCompletionService<>(scoringPool);
+        List<Future<ScoredChunk>> futures = new ArrayList<>();
+        for (int start = 0; start < candidates.size(); start += chunkSize) {
+            int chunkStart = start;
+            int chunkEnd = Math.min(start + chunkSize, candidates.size());
+            futures.add(completionService.submit(() -> {
+                double[] scores = new double[chunkEnd - chunkStart];
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    scores[i - chunkStart] = scorer.applyAsDouble(candidates.get(i));
+                }
+                return new ScoredChunk(chunkStart, scores);
+            }));
+        }
+
+        int scored = 0;
+        try {
+            for (int received = 0; received < futures.size(); received++) {
+                long remaining = deadline - System.nanoTime();
+                Future<ScoredChunk> done = remaining > 0 ? completionService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (done == null) {
+                    break;
+                }
+                ScoredChunk chunk = done.get();
+                for (int i = 0; i < chunk.scores().length; i++) {
+                    consumer.accept(candidates.get(chunk.start() + i), chunk.scores()[i]);
+                }
+                scored += chunk.scores().length;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("호환성 점수 계산 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        int skipped = candidates.size() - scored;
+        if (skipped > 0) {
+            log.warn("Scoring deadline of {}ms exceeded, returning {} of {} candidates",
+                    SCORING_DEADLINE.toMillis(), scored, candidates.size());
+        }
+        return skipped;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scoringPool.shutdownNow();
+    }
+
+    private record ScoredChunk(int start, double[] scores) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.studymate.domain.matching.service;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * 파트너 그래프 (읽기 전용 인접 리스트)
+ * 매칭 / 좋은 피드백으로 이어진 사용자 쌍을 무방향 가중치 간선으로 보고,
+ * 사용자를 int 인덱스로 바꿔 CSR(offsets / targets / 누적 가중치) 원시 배열에 담는다.
+ * 추천은 "내 파트너를 좋아한 비슷한 사용자가 좋아한 파트너"를 찾는 제한된 랜덤 워크로 계산한다.
+ */
+public final class PartnerGraph {
+
+    public static final PartnerGraph EMPTY = builder().build();
+
+    private final UUID[] userIds;
+    private final Map<UUID, Integer> indexOf;
+    private final int[] offsets;        // 사용자 i의 간선 구간 [offsets[i], offsets[i + 1])
+    private final int[] targets;        // 구간 안에서 상대 인덱스 오름차순
+    private final float[] cumulative;   // 구간 안 가중치 누적합 (가중 샘플링용)
+
+    private PartnerGraph(UUID[] userIds, Map<UUID, Integer> indexOf, int[] offsets, int[] targets, float[] cumulative) {
+        this.userIds = userIds;
+        this.indexOf = indexOf;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.cumulative = cumulative;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public int edgeCount() {
+        return targets.length / 2;
+    }
+
+    /**
+     * 랜덤 워크 기반 파트너 추천
+     * 나 → 내 파트너 → 그 파트너와 잘 맞은 다른 사용자 → 그 사용자의 파트너 순으로 3단계 워크를 반복해
+     * 방문 횟수가 많은 사용자를 추천한다. 나 자신과 이미 연결된 사용자는 제외한다.
+     *
+     * @param walks 워크 횟수 (워크당 최대 3번 이동)
+     * @return 방문 횟수 내림차순 추천 목록 (affinity는 최다 방문 대비 비율, 그래프에 없는 사용자는 빈 목록)
+     */
+    public List<Recommendation> recommend(UUID userId, int walks, int limit, RandomGenerator random) {
+        Integer start = indexOf.get(userId);
+        if (start == null || degree(start) == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Integer, int[]> visits = new HashMap<>();
+        for (int walk = 0; walk < walks; walk++) {
+            int partner = sample(start, random);
+            int similar = sample(partner, random);
+            if (similar == start) {
+                continue;
+            }
+            int candidate = sample(similar, random);
+            if (candidate != start && !isNeighbor(start, candidate)) {
+                visits.computeIfAbsent(candidate, key -> new int[1])[0]++;
+            }
+        }
+        if (visits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<Integer, int[]>> ranked = new ArrayList<>(visits.entrySet());
+        ranked.sort((a, b) -> a.getValue()[0] != b.getValue()[0]
+                ? Integer.compare(b.getValue()[0], a.getValue()[0])
+                : Integer.compare(a.getKey(), b.getKey()));
+
+        double maxVisits = ranked.get(0).getValue()[0];
+        List<Recommendation> recommendations = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Map.Entry<Integer, int[]> entry : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            recommendations.add(new Recommendation(userIds[entry.getKey()], entry.getValue()[0] / maxVisits));
+        }
+        return recommendations;
+    }
+
+    /**
+     * 현재 간선을 모두 담은 빌더 (추가 간선 병합용)
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        for (int user = 0; user < userIds.length; user++) {
+            for (int edge = offsets[user]; edge < offsets[user + 1]; edge++) {
+                int partner = targets[edge];
+                if (user < partner) {
+                    float weight = cumulative[edge] - (edge > offsets[user] ? cumulative[edge - 1] : 0f);
+                    builder.addWeight(userIds[user], userIds[partner], weight);
+                }
+            }
+        }
+        return builder;
+    }
+
+    // Private helper methods
+
+    private int degree(int user) {
+        return offsets[user + 1] - offsets[user];
+    }
+
+    /**
+     * 간선 가중치에 비례해 이웃 하나를 뽑음 (이웃이 없으면 자기 자신)
+     */
+    private int sample(int user, RandomGenerator random) {
+        int from = offsets[user];
+        int to = offsets[user + 1];
+        if (from == to) {
+            return user;
+        }
+        float point = random.nextFloat() * cumulative[to - 1];
+        int low = from;
+        int high = to - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > point) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return targets[low];
+    }
+
+    private boolean isNeighbor(int user, int other) {
+        return Arrays.binarySearch(targets, offsets[user], offsets[user + 1], other) >= 0;
+    }
+
+    /**
+     * 그래프 추천 결과
+     *
+     * @param affinity 0-1 사이 상대 방문 빈도
+     */
+    public record Recommendation(UUID userId, double affinity) {
+    }
+
+    /**
+     * 사용자 쌍별 가중치를 모아 CSR 배열로 압축하는 빌더
+     */
+    public static final class Builder {
+
+        private final Map<UUID, Integer> indexOf = new HashMap<>();
+        private final List<UUID> userIds = new ArrayList<>();
+        // (작은 인덱스 << 32 | 큰 인덱스) → 누적 가중치
+        private final Map<Long, Float> pairWeights = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 두 사용자 사이 간선 가중치를 더함 (음수면 감소, 최종 가중치가 0 이하인 간선은 버려짐)
+         */
+        public Builder addWeight(UUID userId, UUID partnerId, float weight) {
+            if (userId == null || partnerId == null || userId.equals(partnerId)) {
+                return this;
+            }
+            int a = indexOf(userId);
+            int b = indexOf(partnerId);
+            long key = a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+            pairWeights.merge(key, weight, Float::sum);
+            return this;
+        }
+
+        public PartnerGraph build() {
+            int userCount = userIds.size();
+            int[] degrees = new int[userCount];
+            pairWeights.forEach((key, weight) -> {
+                if (weight > 0f) {
+                    degrees[(int) (key >>> 32)]++;
+                    degrees[key.intValue()]++;
+                }
+            });
+
+            int[] offsets = new int[userCount + 1];
+            for (int user = 0; user < userCount; user++) {
+                offsets[user + 1] = offsets[user] + degrees[user];
+            }
+
+            // 상대 인덱스(상위 32비트)와 가중치 비트(하위 32비트)를 함께 담아 구간별로 정렬
+            long[] packed = new long[offsets[userCount]];
+            int[] cursor = Arrays.copyOf(offsets, userCount);
+            pairWeights.forEach((key, weight) -> {
+                if (weight > 0f) {
+                    int a = (int) (key >>> 32);
+                    int b = key.intValue();
+                    long weightBits = Float.floatToIntBits(weight) & 0xFFFFFFFFL;
+                    packed[cursor[a]++] = ((long) b << 32) | weightBits;
+                    packed[cursor[b]++] = ((long) a << 32) | weightBits;
+                }
+            });
+
+            int[] targets = new int[packed.length];
+            float[] cumulative = new float[packed.length];
+            for (int user = 0; user < userCount; user++) {
+                Arrays.sort(packed, offsets[user], offsets[user + 1]);
+                float sum = 0f;
+                for (int edge = offsets[user]; edge < offsets[user + 1]; edge++) {
+                    targets[edge] = (int) (packed[edge] >>> 32);
+                    sum += Float.intBitsToFloat((int) packed[edge]);
+                    cumulative[edge] = sum;
+                }
+            }
+
+            return new PartnerGraph(userIds.toArray(new UUID[0]), Map.copyOf(indexOf), offsets, targets, cumulative);
+        }
+
+        private int indexOf(UUID userId) {
+            Integer index = indexOf.get(userId);
+            if (index == null) {
+                index = userIds.size();
+                indexOf.put(userId, index);
+                userIds.add(userId);
+            }
+            return index;
+        }
+    }
+}
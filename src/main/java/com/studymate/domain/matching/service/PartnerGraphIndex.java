@@ -0,0 +1,156 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.util.TransactionHooks;
+import com.studymate.domain.matching.domain.repository.MatchingFeedbackRepository;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 스마트 추천용 인메모리 파트너 그래프 인덱스.
+ * 매칭 이력과 피드백 평점으로 만든 {@link PartnerGraph}를 보관하고 그래프 기반 추천을 제공한다.
+ * 새 매칭 / 피드백은 커밋 후 대기 간선에 쌓였다가 5분마다 현재 그래프에 병합되며,
+ * 매일 새벽 DB 기준으로 전체를 다시 적재해 해제 / 삭제 및 다른 서버에서 생긴 간선까지 반영(압축)한다.
+ * 대기 간선에는 쌓인 시각을 남겨, 재적재 시 해당 DB 조회가 시작되기 전에 쌓인(이미 커밋되어 조회에 포함된) 간선은
+ * 버리고 그 이후에 쌓인 간선만 병합한다. 그래서 재적재 도중 커밋된 간선이 두 번 더해지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartnerGraphIndex {
+
+    private static final int WALKS_PER_QUERY = 1000;
+    private static final float MATCH_WEIGHT = 1.0f;
+    // 평점 3을 기준으로 1점당 가감 (1-2점이면 매칭 간선이 사라짐)
+    private static final float RATING_WEIGHT = 1.0f;
+    private static final int NEUTRAL_RATING = 3;
+
+    private final UserMatchRepository userMatchRepository;
+    private final MatchingFeedbackRepository matchingFeedbackRepository;
+
+    private volatile PartnerGraph graph;
+    private final ConcurrentLinkedQueue<PendingEdge> pendingEdges = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 그래프 기반 파트너 추천 (그래프에 없는 사용자는 빈 목록)
+     */
+    public List<PartnerGraph.Recommendation> recommend(UUID userId, int limit) {
+        return ensureLoaded().recommend(userId, WALKS_PER_QUERY, limit, ThreadLocalRandom.current());
+    }
+
+    /**
+     * 새 매칭 간선 기록 (현재 트랜잭션 커밋 후)
+     */
+    public void recordMatchAfterCommit(UUID userId, UUID partnerId) {
+        TransactionHooks.afterCommit(() -> pendingEdges.add(
+                new PendingEdge(userId, partnerId, MATCH_WEIGHT, EdgeSource.MATCH, System.nanoTime())));
+    }
+
+    /**
+     * 피드백 평점을 간선 가중치에 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void recordFeedbackAfterCommit(UUID reviewerId, UUID partnerId, Integer overallRating) {
+        if (overallRating == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> pendingEdges.add(new PendingEdge(
+                reviewerId, partnerId, ratingWeight(overallRating), EdgeSource.FEEDBACK, System.nanoTime())));
+    }
+
+    /**
+     * 5분마다 대기 간선을 현재 그래프에 병합
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000) // 5분
+    public void mergePendingEdges() {
+        if (pendingEdges.isEmpty() || graph == null) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                PartnerGraph.Builder builder = graph.toBuilder();
+                drainPendingInto(builder, edge -> true);
+                graph = builder.build();
+            }
+        } catch (Exception e) {
+            log.error("Error during partner graph merge: ", e);
+        }
+    }
+
+    /**
+     * 매일 04:30 DB 기준으로 그래프 전체 재적재
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void compact() {
+        try {
+            synchronized (this) {
+                graph = reload();
+                log.info("Partner graph compacted with {} users and {} edges", graph.userCount(), graph.edgeCount());
+            }
+        } catch (Exception e) {
+            log.error("Error during partner graph compaction: ", e);
+        }
+    }
+
+    // Private helper methods
+
+    private PartnerGraph ensureLoaded() {
+        PartnerGraph current = graph;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (graph == null) {
+                graph = reload();
+            }
+            return graph;
+        }
+    }
+
+    /**
+     * DB 기준 전체 적재 후, 각 조회가 시작된 뒤에 쌓인 대기 간선만 병합
+     * (조회 시작 전에 쌓인 간선은 커밋이 먼저 끝났으므로 조회 결과에 이미 포함됨)
+     */
+    private PartnerGraph reload() {
+        PartnerGraph.Builder builder = PartnerGraph.builder();
+        long matchesReadAt = System.nanoTime();
+        for (Object[] row : userMatchRepository.findAllMatchPairs()) {
+            builder.addWeight((UUID) row[0], (UUID) row[1], MATCH_WEIGHT);
+        }
+        long feedbackReadAt = System.nanoTime();
+        for (Object[] row : matchingFeedbackRepository.findAllRatingRows()) {
+            builder.addWeight((UUID) row[0], (UUID) row[1], ratingWeight((Integer) row[2]));
+        }
+        drainPendingInto(builder, edge -> edge.queuedAt()
+                - (edge.source() == EdgeSource.MATCH ? matchesReadAt : feedbackReadAt) >= 0);
+        return builder.build();
+    }
+
+    private void drainPendingInto(PartnerGraph.Builder builder, Predicate<PendingEdge> include) {
+        PendingEdge edge;
+        while ((edge = pendingEdges.poll()) != null) {
+            if (include.test(edge)) {
+                builder.addWeight(edge.userId(), edge.partnerId(), edge.weight());
+            }
+        }
+    }
+
+    private static float ratingWeight(int overallRating) {
+        return (overallRating - NEUTRAL_RATING) * RATING_WEIGHT;
+    }
+
+    private enum EdgeSource { MATCH, FEEDBACK }
+
+    /**
+     * @param queuedAt 대기 간선에 쌓인 시각 (System.nanoTime)
+     */
+    private record PendingEdge(UUID userId, UUID partnerId, float weight, EdgeSource source, long queuedAt) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.repository.LearningExpectationRepository;
+import com.studymate.domain.onboarding.domain.repository.LearningStyleRepository;
+import com.studymate.domain.onboarding.domain.repository.MotivationRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingLangLevelRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingLearningExpectationRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingLearningStyleRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingMotivationRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingPartnerRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingTopicRepository;
+import com.studymate.domain.onboarding.domain.repository.PartnerPersonalityRepository;
+import com.studymate.domain.onboarding.domain.repository.TopicRepository;
+import com.studymate.domain.onboarding.entity.LearningExpectation;
+import com.studymate.domain.onboarding.entity.LearningStyle;
+import com.studymate.domain.onboarding.entity.Motivation;
+import com.studymate.domain.onboarding.entity.OnboardingLangLevel;
+import com.studymate.domain.onboarding.entity.PartnerPersonality;
+import com.studymate.domain.onboarding.entity.Topic;
+import com.studymate.domain.user.domain.dto.response.OnlineStatusResponse;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.domain.repository.UserStatusRepository;
+import com.studymate.domain.user.entity.UserStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 추천/매칭 응답 변환용 파트너 프로필 일괄 로더
+ * 파트너 수와 무관하게 고정된 횟수의 IN 쿼리로 온보딩 데이터와 카탈로그 이름을 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PartnerProfileLoader {
+
+    private final UserRepository userRepository;
+    private final UserStatusRepository userStatusRepository;
+    private final OnboardingLangLevelRepository onboardingLangLevelRepository;
+    private final OnboardingMotivationRepository onboardingMotivationRepository;
+    private final OnboardingTopicRepository onboardingTopicRepository;
+    private final OnboardingLearningStyleRepository onboardingLearningStyleRepository;
+    private final OnboardingLearningExpectationRepository onboardingLearningExpectationRepository;
+    private final OnboardingPartnerRepository onboardingPartnerRepository;
+    private final MotivationRepository motivationRepository;
+    private final TopicRepository topicRepository;
+    private final LearningStyleRepository learningStyleRepository;
+    private final LearningExpectationRepository learningExpectationRepository;
+    private final PartnerPersonalityRepository partnerPersonalityRepository;
+
+    /**
+     * 파트너 ID 목록의 프로필 스냅샷 일괄 조회
+     * 요청한 모든 ID에 대해 스냅샷을 반환하며, 데이터가 없는 사용자는 빈 스냅샷으로 채운다.
+     */
+    public Map<UUID, PartnerProfileSnapshot> loadProfiles(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Set<UUID> ids = new LinkedHashSet<>(userIds);
+
+        Map<UUID, Object[]> headers = new HashMap<>();
+        for (Object[] row : userRepository.findProfileHeaderRows(ids)) {
+            headers.put((UUID) row[0], row);
+        }
+
+        Map<UUID, List<TargetLanguage>> targetLanguages = new HashMap<>();
+        for (OnboardingLangLevel level : onboardingLangLevelRepository.findWithCatalogByUsrIds(ids)) {
+            if (level.getLanguage() == null) continue;
+            targetLanguages.computeIfAbsent(level.getId().getUserId(), key -> new ArrayList<>())
+                    .add(new TargetLanguage(
+                            level.getLanguage().getName(),
+                            level.getCurrentLevel() != null ? level.getCurrentLevel().getName() : null,
+                            level.getTargetLevel() != null ? level.getTargetLevel().getName() : null));
+        }
+
+        Map<UUID, List<Integer>> motivationIds = groupIdRows(onboardingMotivationRepository.findIdRowsByUsrIds(ids));
+        Map<UUID, List<Integer>> topicIds = groupIdRows(onboardingTopicRepository.findIdRowsByUsrIds(ids));
+        Map<UUID, List<Integer>> learningStyleIds = groupIdRows(onboardingLearningStyleRepository.findIdRowsByUsrIds(ids));
+        Map<UUID, List<Integer>> expectationIds = groupIdRows(onboardingLearningExpectationRepository.findIdRowsByUsrIds(ids));
+        Map<UUID, List<Integer>> personalityIds = groupIdRows(onboardingPartnerRepository.findIdRowsByUsrIds(ids));
+
+        Map<Integer, String> motivationNames = loadNames(motivationIds,
+                motivationRepository::findAllById, Motivation::getMotivationId, Motivation::getName);
+        Map<Integer, String> topicNames = loadNames(topicIds,
+                topicRepository::findAllById, Topic::getTopicId, Topic::getName);
+        Map<Integer, String> learningStyleNames = loadNames(learningStyleIds,
+                learningStyleRepository::findAllById, LearningStyle::getLearningStyleId, LearningStyle::getName);
+        Map<Integer, String> expectationNames = loadNames(expectationIds,
+                learningExpectationRepository::findAllById, LearningExpectation::getLearningExpectationId,
+                LearningExpectation::getLearningExpectationName);
+        Map<Integer, String> personalityNames = loadNames(personalityIds,
+                partnerPersonalityRepository::findAllById, PartnerPersonality::getPartnerPersonalityId,
+                PartnerPersonality::getName);
+
+        // 온라인 상태도 같은 트랜잭션 / 커넥션에서 IN 쿼리 한 번으로 조회
+        Map<UUID, Object[]> statuses = new HashMap<>();
+        for (Object[] row : userStatusRepository.findStatusRowsByUserIds(ids)) {
+            statuses.put((UUID) row[0], row);
+        }
+
+        Map<UUID, PartnerProfileSnapshot> profiles = new LinkedHashMap<>();
+        for (UUID userId : ids) {
+            Object[] header = headers.get(userId);
+
+            LinkedHashSet<String> interests = new LinkedHashSet<>();
+            interests.addAll(resolveNames(motivationIds.get(userId), motivationNames));
+            interests.addAll(resolveNames(topicIds.get(userId), topicNames));
+            interests.addAll(resolveNames(learningStyleIds.get(userId), learningStyleNames));
+            interests.addAll(resolveNames(expectationIds.get(userId), expectationNames));
+
+            Object[] status = statuses.get(userId);
+            OnlineStatusResponse onlineStatus = OnlineStatusResponse.builder()
+                    .status(status != null && status[1] != null
+                            ? ((UserStatus.OnlineStatus) status[1]).name()
+                            : UserStatus.OnlineStatus.OFFLINE.name())
+                    .lastSeenAt(status != null ? (LocalDateTime) status[2] : null)
+                    .build();
+
+            profiles.put(userId, new PartnerProfileSnapshot(
+                    userId,
+                    header != null ? (String) header[1] : null,
+                    header != null ? (String) header[2] : null,
+                    List.copyOf(targetLanguages.getOrDefault(userId, Collections.emptyList())),
+                    List.copyOf(interests),
+                    resolveNames(personalityIds.get(userId), personalityNames),
+                    resolveNames(topicIds.get(userId), topicNames),
+                    onlineStatus.getStatus().toLowerCase(),
+                    onlineStatus.getLastSeenText()));
+        }
+        return Collections.unmodifiableMap(profiles);
+    }
+
+    private Map<UUID, List<Integer>> groupIdRows(List<Object[]> rows) {
+        Map<UUID, List<Integer>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] == null) continue;
+            List<Integer> ids = grouped.computeIfAbsent((UUID) row[0], key -> new ArrayList<>());
+            Integer id = ((Number) row[1]).intValue();
+            if (!ids.contains(id)) {
+                ids.add(id);
+            }
+        }
+        return grouped;
+    }
+
+    private <T> Map<Integer, String> loadNames(Map<UUID, List<Integer>> idsByUser,
+                                               Function<Set<Integer>, List<T>> finder,
+                                               Function<T, Integer> idExtractor,
+                                               Function<T, String> nameExtractor) {
+        Set<Integer> catalogIds = new HashSet<>();
+        idsByUser.values().forEach(catalogIds::addAll);
+        if (catalogIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, String> names = new HashMap<>();
+        for (T entry : finder.apply(catalogIds)) {
+            String name = nameExtractor.apply(entry);
+            if (StringUtils.hasText(name)) {
+                names.put(idExtractor.apply(entry), name);
+            }
+        }
+        return names;
+    }
+
+    private List<String> resolveNames(List<Integer> ids, Map<Integer, String> names) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return ids.stream()
+                .map(names::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 파트너 프로필 불변 스냅샷
+     */
+    public record PartnerProfileSnapshot(UUID userId,
+                                         String location,
+                                         String nativeLanguage,
+                                         List<TargetLanguage> targetLanguages,
+                                         List<String> interests,
+                                         List<String> personalities,
+                                         List<String> topics,
+                                         String onlineStatus,
+                                         String lastActiveTime) {
+    }
+
+    /**
+     * 학습 언어와 현재/목표 레벨
+     */
+    public record TargetLanguage(String languageName, String currentLevel, String targetLevel) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.util.TransactionHooks;
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 추천 결과 캐시 (Redis Hash)
+ * 한 번 계산한 순위의 상위 접두부(userId, 점수)만 짧게 보관해 다음 페이지 조회 시 재계산 없이 잘라서 제공한다.
+ * 같은 사용자라도 필터 조합(variant)마다 별도 필드를 가지며, 모든 서버가 같은 캐시를 보므로 무효화도 바로 공유된다.
+ * 후보 쪽 변경(온보딩 변경, 비활성화)은 후보별 변경 시각만 기록하고, 조회 시 순위 계산 이후 바뀐 후보가 있으면 버린다.
+ * 본인 무효화도 시각을 함께 기록해, 무효화 전에 계산을 시작한 순위가 뒤늦게 저장되어도 쓰이지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationResultCache {
+
+    // 사용자당 캐시하는 순위 깊이 (페이지 크기 20 기준 10페이지)
+    public static final int MAX_RANKING_DEPTH = 200;
+    private static final Duration RESULT_TTL = Duration.ofMinutes(3);
+
+    // Redis 키 패턴
+    private static final String RANKING_PREFIX = "matching:reco:ranking:";
+    private static final String CANDIDATE_CHANGED_PREFIX = "matching:reco:changed:";
+    private static final String INVALIDATED_PREFIX = "matching:reco:invalidated:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 캐시된 순위 조회 (없거나 만료됐거나 포함된 후보가 바뀌었으면 null)
+     */
+    public Ranking get(UUID userId, String variant) {
+        String key = RANKING_PREFIX + userId;
+        try {
+            Object payload = redisTemplate.opsForHash().get(key, variant);
+            if (payload == null) {
+                return null;
+            }
+            Ranking ranking = Ranking.decode(payload.toString());
+            if (ranking == null || ranking.isExpired() || isStale(userId, ranking)) {
+                redisTemplate.opsForHash().delete(key, variant);
+                return null;
+            }
+            return ranking;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read recommendation cache for user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 순위 저장 (점수 내림차순, 동점 시 userId 오름차순으로 정렬된 목록, 최대 MAX_RANKING_DEPTH개만 보관)
+     *
+     * @param total    순위를 매긴 전체 후보 수
+     * @param rankedAt 후보 데이터를 읽기 시작한 시각 (epoch millis)
+     */
+    public void put(UUID userId, String variant, List<CompatibilityScoreStore.ScoredId> ranked, long total, long rankedAt) {
+        Ranking ranking = new Ranking(
+                List.copyOf(ranked.subList(0, Math.min(ranked.size(), MAX_RANKING_DEPTH))),
+                total, rankedAt);
+        String key = RANKING_PREFIX + userId;
+        try {
+            redisTemplate.opsForHash().put(key, variant, ranking.encode());
+            redisTemplate.expire(key, RESULT_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to write recommendation cache for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자들의 모든 추천 결과 무효화 (현재 트랜잭션 커밋 후)
+     */
+    public void invalidateAfterCommit(UUID... userIds) {
+        TransactionHooks.afterCommit(() -> {
+            for (UUID userId : userIds) {
+                invalidate(userId);
+            }
+        });
+    }
+
+    /**
+     * 특정 후보가 포함된 순위 무효화 (계정 비활성화 등)
+     * 순위를 뒤지지 않고 변경 시각만 기록하며, 각 순위는 다음 조회 때 스스로 확인한다.
+     */
+    public void evictCandidate(UUID candidateId) {
+        try {
+            redisTemplate.opsForValue().set(CANDIDATE_CHANGED_PREFIX + candidateId,
+                    String.valueOf(System.currentTimeMillis()), RESULT_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to mark recommendation candidate {} as changed: {}", candidateId, e.getMessage());
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOnboardingDataChanged(OnboardingDataChangedEvent event) {
+        // 본인 순위와, 본인이 후보로 포함된 다른 사용자의 순위 모두 점수가 바뀜
+        invalidate(event.userId());
+        evictCandidate(event.userId());
+    }
+
+    // Private helper methods
+
+    private void invalidate(UUID userId) {
+        try {
+            redisTemplate.delete(RANKING_PREFIX + userId);
+            redisTemplate.opsForValue().set(INVALIDATED_PREFIX + userId,
+                    String.valueOf(System.currentTimeMillis()), RESULT_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate recommendation cache for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 순위 계산 이후 본인이 무효화됐거나 포함된 후보가 바뀌었는지 (MGET 한 번)
+     */
+    private boolean isStale(UUID userId, Ranking ranking) {
+        List<String> keys = new ArrayList<>(ranking.entries().size() + 1);
+        keys.add(INVALIDATED_PREFIX + userId);
+        ranking.entries().forEach(entry -> keys.add(CANDIDATE_CHANGED_PREFIX + entry.userId()));
+        List<String> changedAt = redisTemplate.opsForValue().multiGet(keys);
+        if (changedAt == null) {
+            return false;
+        }
+        for (String value : changedAt) {
+            if (value != null && Long.parseLong(value) >= ranking.createdAt()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 캐시된 순위 접두부
+     * 직렬화 형식: "{createdAt}|{total}|{userId}:{score},{userId}:{score},..."
+     *
+     * @param entries   상위 순위 (최대 MAX_RANKING_DEPTH개)
+     * @param total     순위를 매긴 전체 후보 수
+     * @param createdAt 순위 계산 시작 시각 (epoch millis)
+     */
+    public record Ranking(List<CompatibilityScoreStore.ScoredId> entries, long total, long createdAt) {
+
+        /**
+         * 접두부가 잘려 있지 않은지 (전체 후보가 모두 들어 있으면 어떤 페이지든 제공 가능)
+         */
+        public boolean isComplete() {
+            return entries.size() >= total;
+        }
+
+        /**
+         * start 위치부터 size개를 접두부만으로 제공할 수 있는지
+         */
+        public boolean covers(long start, int size) {
+            return isComplete() || start + size <= entries.size();
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > RESULT_TTL.toMillis();
+        }
+
+        String encode() {
+            StringBuilder builder = new StringBuilder()
+                    .append(createdAt).append('|').append(total).append('|');
+            for (int i = 0; i < entries.size(); i++) {
+                if (i > 0) builder.append(',');
+                builder.append(entries.get(i).userId()).append(':').append(entries.get(i).score());
+            }
+            return builder.toString();
+        }
+
+        static Ranking decode(String payload) {
+            String[] parts = payload.split("\\|", 3);
+            if (parts.length < 3) {
+                return null;
+            }
+            try {
+                List<CompatibilityScoreStore.ScoredId> entries = new ArrayList<>();
+                if (!parts[2].isEmpty()) {
+                    for (String entry : parts[2].split(",")) {
+                        int separator = entry.indexOf(':');
+                        entries.add(new CompatibilityScoreStore.ScoredId(
+                                UUID.fromString(entry.substring(0, separator)),
+                                Double.parseDouble(entry.substring(separator + 1))));
+                    }
+                }
+                return new Ranking(entries, Long.parseLong(parts[1]), Long.parseLong(parts[0]));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.matching.domain.dto.response.RecommendedPartnerResponse;
+import com.studymate.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 후보 필터 / 응답 변환 (상태 없음)
+ * 추천 응답 경로와 src/jmh 벤치마크가 같은 구현을 사용한다.
+ */
+final class RecommendedPartnerMapper {
+
+    private RecommendedPartnerMapper() {
+    }
+
+    static boolean applyFilters(User partner, String nativeLanguage, String targetLanguage,
+                                String languageLevel, Integer minAge, Integer maxAge) {
+        // 나이 필터
+        if (minAge != null || maxAge != null) {
+            Integer age = calculateAge(partner.getBirthyear());
+            if (age != null) {
+                if (minAge != null && age < minAge) return false;
+                if (maxAge != null && age > maxAge) return false;
+            }
+        }
+
+        // 언어/레벨 필터는 MatchingCandidateIndex 조회 단계에서 적용됨
+
+        return true;
+    }
+
+    static Integer calculateAge(String birthYear) {
+        if (birthYear == null || birthYear.trim().isEmpty()) return null;
+        try {
+            return LocalDateTime.now().getYear() - Integer.parseInt(birthYear);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static RecommendedPartnerResponse toResponse(User partner, double compatibilityScore,
+                                                 PartnerProfileLoader.PartnerProfileSnapshot profile) {
+        RecommendedPartnerResponse response = new RecommendedPartnerResponse();
+        response.setUserId(partner.getUserId());
+        response.setEnglishName(partner.getEnglishName());
+        response.setProfileImageUrl(partner.getProfileImage());
+        response.setSelfBio(partner.getSelfBio());
+        response.setAge(calculateAge(partner.getBirthyear()));
+        response.setGender(partner.getGender() != null ? partner.getGender().name() : null);
+        response.setLocation(profile.location());
+        response.setNativeLanguage(profile.nativeLanguage());
+        response.setTargetLanguages(profile.targetLanguages().stream()
+                .map(language -> {
+                    RecommendedPartnerResponse.TargetLanguageInfo info = new RecommendedPartnerResponse.TargetLanguageInfo();
+                    info.setLanguageName(language.languageName());
+                    info.setCurrentLevel(language.currentLevel());
+                    info.setTargetLevel(language.targetLevel());
+                    return info;
+                })
+                .toList());
+        response.setInterests(profile.interests());
+        response.setPartnerPersonalities(profile.personalities());
+        response.setCompatibilityScore(compatibilityScore);
+        response.setOnlineStatus(profile.onlineStatus());
+        response.setLastActiveTime(profile.lastActiveTime());
+
+        return response;
+    }
+}
@@ -0,0 +1,254 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.matching.entity.MatchingQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 인스턴스용 Redis 대기열
+ * 버킷마다 sorted set(점수 = 우선순위/참가 시각 복합 점수)을 두고, 항목 정보는 사용자별 hash에 보관한다.
+ * 등록/제거/매칭 확정은 모두 Lua 스크립트로 원자적으로 처리하므로
+ * 여러 노드가 동시에 매치메이킹을 돌려도 같은 사용자가 두 번 매칭되지 않는다.
+ * 모든 키는 같은 해시 태그({queue})를 가지므로 Redis Cluster에서도 한 슬롯에 모인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "matching.queue.mode", havingValue = "redis")
+public class RedisMatchingQueueStore implements MatchingQueueStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // Redis 키 패턴
+    private static final String TICKET_PREFIX = "matching:{queue}:ticket:";
+    private static final String BUCKET_PREFIX = "matching:{queue}:bucket:";
+    private static final String WAITING_KEY = "matching:{queue}:waiting";
+
+    private static final int MAX_CLAIM_SCAN = 200;
+
+    /**
+     * KEYS[1]=ticket, KEYS[2]=waiting, KEYS[3..]=buckets
+     * ARGV[1]=userId, ARGV[2]=rank score, ARGV[3]=joinedAt millis, ARGV[4]=payload
+     */
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[1], 'buckets')
+            if previous then
+              for bucket in string.gmatch(previous, '%S+') do redis.call('ZREM', bucket, ARGV[1]) end
+            end
+            local buckets = {}
+            for i = 3, #KEYS do
+              redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+              buckets[#buckets + 1] = KEYS[i]
+            end
+            redis.call('HSET', KEYS[1], 'payload', ARGV[4], 'buckets', table.concat(buckets, ' '))
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=ticket, KEYS[2]=waiting / ARGV[1]=userId
+     * 제거한 항목의 payload를 반환 (이미 없으면 nil)
+     */
+    private static final RedisScript<String> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local payload = redis.call('HGET', KEYS[1], 'payload')
+            if not payload then return false end
+            local buckets = redis.call('HGET', KEYS[1], 'buckets') or ''
+            for bucket in string.gmatch(buckets, '%S+') do redis.call('ZREM', bucket, ARGV[1]) end
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return payload
+            """, String.class);
+
+    /**
+     * KEYS[1]=claimant ticket, KEYS[2]=waiting, KEYS[3..]=상대 후보 버킷
+     * ARGV[1]=claimant userId, ARGV[2]=ticket key prefix
+     * 후보 버킷 head 중 점수가 가장 작은 상대와 claimant를 함께 제거하고 {claimant payload, partner payload}를 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            local bestId, bestScore
+            for i = 3, #KEYS do
+              local head = redis.call('ZRANGE', KEYS[i], 0, 1, 'WITHSCORES')
+              for j = 1, #head, 2 do
+                if head[j] ~= ARGV[1] then
+                  local score = tonumber(head[j + 1])
+                  if not bestScore or score < bestScore then bestId, bestScore = head[j], score end
+                  break
+                end
+              end
+            end
+            if not bestId then return false end
+
+            local partnerKey = ARGV[2] .. bestId
+            if redis.call('EXISTS', partnerKey) == 0 then
+              for i = 3, #KEYS do redis.call('ZREM', KEYS[i], bestId) end
+              return false
+            end
+
+            local function take(ticketKey, userId)
+              local payload = redis.call('HGET', ticketKey, 'payload')
+              local buckets = redis.call('HGET', ticketKey, 'buckets') or ''
+              for bucket in string.gmatch(buckets, '%S+') do redis.call('ZREM', bucket, userId) end
+              redis.call('ZREM', KEYS[2], userId)
+              redis.call('DEL', ticketKey)
+              return payload
+            end
+            return { take(KEYS[1], ARGV[1]), take(partnerKey, bestId) }
+            """, List.class);
+
+    @Override
+    public void add(MatchingQueueTicket ticket) {
+        List<String> keys = new ArrayList<>();
+        keys.add(TICKET_PREFIX + ticket.userId());
+        keys.add(WAITING_KEY);
+        ticket.bucketKeys().forEach(bucket -> keys.add(BUCKET_PREFIX + bucket));
+
+        redisTemplate.execute(ENQUEUE_SCRIPT, keys,
+                ticket.userId().toString(),
+                String.valueOf(ticket.rankScore()),
+                String.valueOf(ticket.joinedAtMillis()),
+                encode(ticket));
+    }
+
+    @Override
+    public void remove(UUID userId) {
+        redisTemplate.execute(REMOVE_SCRIPT, List.of(TICKET_PREFIX + userId, WAITING_KEY), userId.toString());
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @Override
+    public boolean contains(UUID userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(TICKET_PREFIX + userId));
+    }
+
+    @Override
+    public Integer position(UUID userId) {
+        MatchingQueueTicket ticket = findTicket(userId);
+        if (ticket == null) {
+            return null;
+        }
+        long position = Long.MAX_VALUE;
+        for (String bucket : ticket.bucketKeys()) {
+            Long rank = redisTemplate.opsForZSet().rank(BUCKET_PREFIX + bucket, userId.toString());
+            if (rank != null) {
+                position = Math.min(position, rank + 1);
+            }
+        }
+        return position == Long.MAX_VALUE ? 1 : (int) position;
+    }
+
+    @Override
+    public int size() {
+        Long size = redisTemplate.opsForZSet().zCard(WAITING_KEY);
+        return size != null ? size.intValue() : 0;
+    }
+
+    /**
+     * 오래 기다린 항목부터 최대 MAX_CLAIM_SCAN개를 훑으며 항목마다 CLAIM 스크립트를 실행한다.
+     * 다른 노드가 먼저 가져간 항목은 스크립트가 nil을 반환하므로 건너뛴다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<MatchingQueueTicket.Pair> claimMatches() {
+        Set<String> waiting = redisTemplate.opsForZSet().range(WAITING_KEY, 0, MAX_CLAIM_SCAN - 1);
+        if (waiting == null || waiting.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> claimed = new HashSet<>();
+        List<MatchingQueueTicket.Pair> pairs = new ArrayList<>();
+        for (String member : waiting) {
+            UUID userId = UUID.fromString(member);
+            if (claimed.contains(userId)) continue;
+
+            MatchingQueueTicket ticket = findTicket(userId);
+            if (ticket == null) continue;
+
+            List<String> keys = new ArrayList<>();
+            keys.add(TICKET_PREFIX + userId);
+            keys.add(WAITING_KEY);
+            ticket.partnerBucketKeys().forEach(bucket -> keys.add(BUCKET_PREFIX + bucket));
+
+            List<String> result = redisTemplate.execute(CLAIM_SCRIPT, keys, member, TICKET_PREFIX);
+            if (result == null || result.size() < 2) continue;
+
+            MatchingQueueTicket first = decode(result.get(0));
+            MatchingQueueTicket second = decode(result.get(1));
+            claimed.add(first.userId());
+            claimed.add(second.userId());
+            pairs.add(new MatchingQueueTicket.Pair(first, second));
+        }
+        return pairs;
+    }
+
+    @Override
+    public List<MatchingQueueTicket> claimExpired(LocalDateTime joinedBefore) {
+        long cutoff = joinedBefore.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Set<String> expiredIds = redisTemplate.opsForZSet().rangeByScore(WAITING_KEY, Double.NEGATIVE_INFINITY, cutoff);
+        if (expiredIds == null || expiredIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<MatchingQueueTicket> expired = new ArrayList<>();
+        for (String member : expiredIds) {
+            String payload = redisTemplate.execute(REMOVE_SCRIPT, List.of(TICKET_PREFIX + member, WAITING_KEY), member);
+            if (payload != null) {
+                expired.add(decode(payload));
+            }
+        }
+        return expired;
+    }
+
+    // Private helper methods
+
+    private MatchingQueueTicket findTicket(UUID userId) {
+        Object payload = redisTemplate.opsForHash().get(TICKET_PREFIX + userId, "payload");
+        return payload != null ? decode(payload.toString()) : null;
+    }
+
+    /**
+     * 형식: queueId|userId|sessionType|nativeLanguageId|targetLanguageIds(,)|priorityScore|joinedAtMillis|displayName
+     */
+    private String encode(MatchingQueueTicket ticket) {
+        return String.join("|",
+                String.valueOf(ticket.queueId()),
+                ticket.userId().toString(),
+                ticket.sessionType().name(),
+                ticket.nativeLanguageId() != null ? ticket.nativeLanguageId().toString() : "",
+                ticket.targetLanguageIds().stream().map(String::valueOf).collect(Collectors.joining(",")),
+                String.valueOf(ticket.priorityScore()),
+                String.valueOf(ticket.joinedAtMillis()),
+                ticket.displayName() != null ? ticket.displayName() : "");
+    }
+
+    private MatchingQueueTicket decode(String payload) {
+        String[] fields = payload.split("\\|", 8);
+        Set<Integer> targetLanguageIds = fields[4].isEmpty() ? Set.of()
+                : Arrays.stream(fields[4].split(",")).map(Integer::valueOf).collect(Collectors.toUnmodifiableSet());
+        return new MatchingQueueTicket(
+                Long.valueOf(fields[0]),
+                UUID.fromString(fields[1]),
+                fields[7].isEmpty() ? null : fields[7],
+                MatchingQueue.SessionType.valueOf(fields[2]),
+                fields[3].isEmpty() ? null : Integer.valueOf(fields[3]),
+                targetLanguageIds,
+                Integer.parseInt(fields[5]),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(fields[6])), ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,228 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import com.studymate.domain.onboarding.domain.repository.OnboardingScheduleRepository;
+import com.studymate.domain.onboarding.domain.type.DayOfWeekType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄 기반 매칭용 인메모리 가용 시간 인덱스.
+ * 온보딩 스케줄(요일 + 시간대)을 사용자별 주간 비트맵으로 보관해,
+ * "화요일 19:00-21:00에 가능한 사용자" 같은 조회를 테이블 조인 대신 비트맵 AND로 처리한다.
+ * 전체 재적재는 백그라운드 스케줄로, 개별 사용자 갱신은 온보딩 변경 이벤트로 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleAvailabilityIndex {
+
+    // 시간대 없이 수업 시작 시간만 저장된 스케줄은 1시간 수업으로 본다
+    private static final long DEFAULT_SESSION_MINUTES = 60;
+
+    private final OnboardingScheduleRepository onboardingScheduleRepository;
+
+    private volatile Map<UUID, WeeklyAvailability> availabilities;
+    private volatile boolean rebuilding;
+    private final Set<UUID> refreshedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 사용자의 주간 가용 시간 (스케줄이 없으면 EMPTY)
+     */
+    public WeeklyAvailability getAvailability(UUID userId) {
+        return ensureLoaded().getOrDefault(userId, WeeklyAvailability.EMPTY);
+    }
+
+    /**
+     * 후보 중 주어진 시간 구간과 겹치는 사용자만 추림 (후보 순서 유지)
+     */
+    public List<UUID> filterAvailable(Collection<UUID> candidateIds, WeeklyAvailability window) {
+        Map<UUID, WeeklyAvailability> current = ensureLoaded();
+        List<UUID> available = new ArrayList<>();
+        for (UUID candidateId : candidateIds) {
+            WeeklyAvailability availability = current.get(candidateId);
+            if (availability != null && availability.overlaps(window)) {
+                available.add(candidateId);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * 특정 사용자의 인덱스 항목을 DB 기준으로 갱신
+     */
+    public void refreshUser(UUID userId) {
+        Map<UUID, WeeklyAvailability> current = availabilities;
+        if (current == null) {
+            return; // 아직 적재 전이면 최초 적재 시 반영됨
+        }
+        if (rebuilding) {
+            refreshedDuringRebuild.add(userId);
+        }
+
+        WeeklyAvailability availability = toAvailability(onboardingScheduleRepository.findAvailabilityRowsByUsrId(userId));
+        if (availability.isEmpty()) {
+            current.remove(userId);
+        } else {
+            current.put(userId, availability);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOnboardingDataChanged(OnboardingDataChangedEvent event) {
+        try {
+            refreshUser(event.userId());
+        } catch (Exception e) {
+            log.warn("Failed to refresh schedule availability for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 10분마다 가용 시간 인덱스 전체 재적재
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000) // 10분
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            Map<UUID, WeeklyAvailability> rebuilt = loadAll();
+            availabilities = rebuilt;
+
+            // 재적재 도중 갱신된 사용자는 새 인덱스에 다시 반영
+            for (UUID userId : refreshedDuringRebuild) {
+                refreshUser(userId);
+            }
+            log.debug("Schedule availability index rebuilt with {} users", rebuilt.size());
+        } catch (Exception e) {
+            log.error("Error during schedule availability index rebuild: ", e);
+        } finally {
+            refreshedDuringRebuild.clear();
+            rebuilding = false;
+        }
+    }
+
+    /**
+     * 요일 / 시간대 문자열로 조회 구간 생성
+     *
+     * @param dayOfWeek 요일 (MONDAY-SUNDAY, 대소문자 무시, 없으면 모든 요일)
+     * @param timeSlot  "HH:mm-HH:mm" 형식 시간대 (없으면 하루 전체)
+     * @return 둘 다 없으면 null
+     */
+    public static WeeklyAvailability parseWindow(String dayOfWeek, String timeSlot) {
+        if (!StringUtils.hasText(dayOfWeek) && !StringUtils.hasText(timeSlot)) {
+            return null;
+        }
+
+        DayOfWeekType day = null;
+        if (StringUtils.hasText(dayOfWeek)) {
+            day = parseDay(dayOfWeek);
+            if (day == null) {
+                throw new IllegalArgumentException("알 수 없는 요일입니다: " + dayOfWeek);
+            }
+        }
+
+        LocalTime start = null;
+        LocalTime end = null;
+        if (StringUtils.hasText(timeSlot)) {
+            String[] range = timeSlot.split("-");
+            try {
+                start = LocalTime.parse(range[0].trim());
+                end = range.length > 1 ? parseEnd(range[1].trim()) : start.plusMinutes(DEFAULT_SESSION_MINUTES);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("시간대 형식이 올바르지 않습니다: " + timeSlot);
+            }
+        }
+        return WeeklyAvailability.window(day, start, end);
+    }
+
+    // Private helper methods
+
+    private Map<UUID, WeeklyAvailability> ensureLoaded() {
+        Map<UUID, WeeklyAvailability> current = availabilities;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (availabilities == null) {
+                availabilities = loadAll();
+            }
+            return availabilities;
+        }
+    }
+
+    private Map<UUID, WeeklyAvailability> loadAll() {
+        Map<UUID, List<Object[]>> rowsByUser = new HashMap<>();
+        for (Object[] row : onboardingScheduleRepository.findAllAvailabilityRows()) {
+            rowsByUser.computeIfAbsent((UUID) row[0], key -> new ArrayList<>()).add(row);
+        }
+
+        Map<UUID, WeeklyAvailability> loaded = new ConcurrentHashMap<>();
+        rowsByUser.forEach((userId, rows) -> {
+            WeeklyAvailability availability = toAvailability(rows);
+            if (!availability.isEmpty()) {
+                loaded.put(userId, availability);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 스케줄 행 (userId, 요일, 수업 시작 시간, 스케줄 요일, 스케줄 시간대) → 주간 비트맵
+     */
+    private WeeklyAvailability toAvailability(List<Object[]> rows) {
+        WeeklyAvailability.Builder builder = WeeklyAvailability.builder();
+        for (Object[] row : rows) {
+            DayOfWeekType day = row[1] != null ? parseDay((String) row[1]) : (DayOfWeekType) row[3];
+            if (day == null) {
+                continue;
+            }
+            LocalTime classTime = (LocalTime) row[2];
+            String timeSlot = (String) row[4];
+
+            LocalTime[] range = parseSlot(timeSlot);
+            if (range != null) {
+                builder.add(day, range[0], range[1]);
+            } else if (classTime != null) {
+                builder.add(day, classTime, classTime.plusMinutes(DEFAULT_SESSION_MINUTES));
+            }
+        }
+        return builder.build();
+    }
+
+    private static LocalTime[] parseSlot(String timeSlot) {
+        if (timeSlot == null || !timeSlot.contains("-")) {
+            return null;
+        }
+        String[] range = timeSlot.split("-");
+        try {
+            return new LocalTime[]{LocalTime.parse(range[0].trim()), parseEnd(range[1].trim())};
+        } catch (DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            log.warn("Unable to parse schedule time slot '{}'", timeSlot);
+            return null;
+        }
+    }
+
+    // "24:00"은 하루 끝 (null)
+    private static LocalTime parseEnd(String value) {
+        return "24:00".equals(value) ? null : LocalTime.parse(value);
+    }
+
+    private static DayOfWeekType parseDay(String value) {
+        try {
+            return DayOfWeekType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
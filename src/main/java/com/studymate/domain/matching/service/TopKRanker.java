@@ -0,0 +1,116 @@
+package com.studymate.domain.matching.service;
+
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * 점수 기반 상위 K개 스트리밍 랭커
+ * 크기 K의 min-heap만 유지하므로 메모리와 정렬 비용이 후보 수가 아닌 페이지 크기에 비례한다.
+ * 정렬 순서는 점수 내림차순, 동점이면 userId 오름차순이며 커서 이후 항목만 이어서 조회할 수 있다.
+ */
+public final class TopKRanker<T> {
+
+    private static final Comparator<Ranked<?>> RANK_ORDER = Comparator
+            .comparingDouble((Ranked<?> ranked) -> ranked.score()).reversed()
+            .thenComparing(Ranked::userId);
+
+    private final int limit;
+    private final Cursor after;
+    private final PriorityQueue<Ranked<T>> heap;
+    private long matchedCount;
+
+    /**
+     * @param limit 유지할 최대 항목 수 (offset + pageSize)
+     * @param after 이 커서 이후의 항목만 허용 (null이면 처음부터)
+     */
+    public TopKRanker(int limit, Cursor after) {
+        this.limit = Math.max(0, limit);
+        this.after = after;
+        // 힙의 head가 현재 보관 중인 항목 중 가장 순위가 낮은 항목이 되도록 역순 비교
+        this.heap = new PriorityQueue<>(Math.max(1, this.limit), RANK_ORDER.reversed());
+    }
+
+    /**
+     * 후보 제출. 상위 K에 들지 못하는 후보는 저장하지 않는다.
+     */
+    public void offer(T item, UUID userId, double score) {
+        if (after != null && !after.precedes(score, userId)) {
+            return;
+        }
+        matchedCount++;
+        if (limit == 0) {
+            return;
+        }
+
+        if (heap.size() < limit) {
+            heap.add(new Ranked<>(item, userId, score));
+            return;
+        }
+
+        Ranked<T> lowest = heap.peek();
+        if (compare(score, userId, lowest.score(), lowest.userId()) < 0) {
+            heap.poll();
+            heap.add(new Ranked<>(item, userId, score));
+        }
+    }
+
+    /**
+     * 커서 조건을 통과한 전체 후보 수 (페이지 total 계산용)
+     */
+    public long getMatchedCount() {
+        return matchedCount;
+    }
+
+    /**
+     * 보관 중인 항목을 순위순으로 반환
+     */
+    public List<Ranked<T>> drain() {
+        List<Ranked<T>> ranked = new ArrayList<>(heap);
+        ranked.sort(RANK_ORDER);
+        heap.clear();
+        return ranked;
+    }
+
+    private static int compare(double score1, UUID userId1, double score2, UUID userId2) {
+        int byScore = Double.compare(score2, score1);
+        return byScore != 0 ? byScore : userId1.compareTo(userId2);
+    }
+
+    public record Ranked<T>(T item, UUID userId, double score) {
+    }
+
+    /**
+     * 마지막으로 받은 항목의 점수/userId로 다음 페이지를 이어서 조회하기 위한 커서
+     * 문자열 형식: "{score}_{userId}"
+     */
+    public record Cursor(double score, UUID userId) {
+
+        public static Cursor parse(String value) {
+            if (!StringUtils.hasText(value)) {
+                return null;
+            }
+            int separator = value.lastIndexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+            }
+            try {
+                return new Cursor(Double.parseDouble(value.substring(0, separator)),
+                        UUID.fromString(value.substring(separator + 1)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value, e);
+            }
+        }
+
+        public static String encode(double score, UUID userId) {
+            return score + "_" + userId;
+        }
+
+        /**
+         * 커서 위치가 주어진 항목보다 앞서는지 (즉 항목이 커서 이후인지)
+         */
+        boolean precedes(double score, UUID userId) {
+            return compare(this.score, this.userId, score, userId) < 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.lock.RedisLeaderLock;
+import com.studymate.domain.matching.entity.UserMatch;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ACTIVE_PAIR_KEY 도입 이전에 만들어진 활성 매칭에 키 부여
+ * 키가 없으면 유니크 제약이 적용되지 않아 같은 쌍의 활성 매칭이 다시 생길 수 있다.
+ * 한 서버만 리더 잠금을 잡고 matchId 순으로 청크 단위로 채우며, 완료되면 Redis에 표시해 다음 시작부터 건너뛴다.
+ * 같은 쌍의 활성 매칭이 이미 여러 건이면 먼저 처리한 한 건만 키를 갖고 나머지는 경고 로그만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserMatchActivePairKeyBackfill {
+
+    private static final String DONE_KEY = "matching:user-match:pair-key-backfilled";
+    private static final String LOCK_NAME = "user-match-pair-key-backfill";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserMatchRepository userMatchRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLeaderLock redisLeaderLock;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+                return;
+            }
+            if (!redisLeaderLock.tryAcquire(LOCK_NAME, LOCK_TTL)) {
+                return;
+            }
+            try {
+                backfillChunks();
+                redisTemplate.opsForValue().set(DONE_KEY, "1");
+            } finally {
+                redisLeaderLock.release(LOCK_NAME);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill user match active pair keys: ", e);
+        }
+    }
+
+    // Private helper methods
+
+    private void backfillChunks() {
+        TransactionTemplate rowTransaction = new TransactionTemplate(transactionManager);
+        UUID afterId = new UUID(0L, 0L);
+        int assigned = 0;
+        int duplicates = 0;
+
+        List<Object[]> rows;
+        do {
+            rows = userMatchRepository.findActiveRowsWithoutPairKey(afterId, PageRequest.of(0, CHUNK_SIZE));
+            for (Object[] row : rows) {
+                UUID matchId = (UUID) row[0];
+                String pairKey = UserMatch.activePairKey((UUID) row[1], (UUID) row[2]);
+                try {
+                    Integer updated = rowTransaction.execute(
+                            status -> userMatchRepository.assignActivePairKey(matchId, pairKey));
+                    assigned += updated != null ? updated : 0;
+                } catch (DataIntegrityViolationException e) {
+                    duplicates++;
+                    log.warn("Duplicate active match {} for pair {}, leaving its pair key empty", matchId, pairKey);
+                }
+                afterId = matchId;
+            }
+        } while (rows.size() == CHUNK_SIZE);
+
+        log.info("Backfilled active pair key for {} user matches ({} duplicates skipped)", assigned, duplicates);
+    }
+}
@@ -0,0 +1,64 @@
+package com.studymate.domain.matching.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * UUID 전용 블룸 필터
+ * "확실히 없음"은 정확하고 "있을 수 있음"은 약 1% 오탐이 있어, 정확한 집합 조회 전에 대부분의 후보를 걸러내는 데 쓴다.
+ * 생성 후에는 읽기 전용이다.
+ */
+public final class UuidBloomFilter {
+
+    private static final int HASH_COUNT = 7;
+    private static final int BITS_PER_ELEMENT = 10; // 7개 해시 기준 오탐률 약 1%
+    private static final int MIN_BITS = 64;
+
+    private final long[] bits;
+    private final int bitCount;
+
+    private UuidBloomFilter(int bitCount) {
+        this.bitCount = bitCount;
+        this.bits = new long[(bitCount + 63) >>> 6];
+    }
+
+    public static UuidBloomFilter of(Collection<UUID> elements) {
+        int bitCount = (int) Math.min(Integer.MAX_VALUE - 63L,
+                Math.max(MIN_BITS, (long) elements.size() * BITS_PER_ELEMENT));
+        UuidBloomFilter filter = new UuidBloomFilter(bitCount);
+        for (UUID element : elements) {
+            filter.put(element);
+        }
+        return filter;
+    }
+
+    public boolean mightContain(UUID element) {
+        long h1 = mix(element.getMostSignificantBits() ^ element.getLeastSignificantBits());
+        long h2 = mix(element.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int index = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Private helper methods
+
+    private void put(UUID element) {
+        long h1 = mix(element.getMostSignificantBits() ^ element.getLeastSignificantBits());
+        long h2 = mix(element.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int index = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,139 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.type.DayOfWeekType;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 주간 가용 시간 비트맵
+ * 요일(월-일)마다 30분 단위 48칸을 long 하나의 하위 48비트로 표현해,
+ * 두 사용자의 시간대 겹침 여부와 겹치는 칸 수를 요일당 AND / popcount 한 번으로 계산한다.
+ */
+public final class WeeklyAvailability {
+
+    public static final int DAYS = 7;
+    public static final int SLOTS_PER_DAY = 48;
+    private static final int MINUTES_PER_SLOT = 30;
+    private static final long FULL_DAY = (1L << SLOTS_PER_DAY) - 1;
+
+    public static final WeeklyAvailability EMPTY = new WeeklyAvailability(new long[DAYS]);
+    public static final WeeklyAvailability ALL_WEEK = allWeek();
+
+    private final long[] days;
+
+    private WeeklyAvailability(long[] days) {
+        this.days = days;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 특정 요일(없으면 모든 요일)의 시간 구간 [start, end)
+     * 구간 경계가 30분 단위가 아니면 걸친 칸을 모두 포함한다. end가 null이면 하루 끝까지로 본다.
+     */
+    public static WeeklyAvailability window(DayOfWeekType day, LocalTime start, LocalTime end) {
+        Builder builder = builder();
+        if (day != null) {
+            builder.add(day, start, end);
+        } else {
+            for (DayOfWeekType each : DayOfWeekType.values()) {
+                builder.add(each, start, end);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 겹치는 30분 칸이 하나라도 있는지
+     */
+    public boolean overlaps(WeeklyAvailability other) {
+        for (int day = 0; day < DAYS; day++) {
+            if ((days[day] & other.days[day]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 겹치는 30분 칸 수
+     */
+    public int overlapSlots(WeeklyAvailability other) {
+        int slots = 0;
+        for (int day = 0; day < DAYS; day++) {
+            slots += Long.bitCount(days[day] & other.days[day]);
+        }
+        return slots;
+    }
+
+    public int totalSlots() {
+        return overlapSlots(ALL_WEEK);
+    }
+
+    public boolean isEmpty() {
+        return totalSlots() == 0;
+    }
+
+    public boolean isAvailable(DayOfWeekType day, LocalTime time) {
+        return (days[day.ordinal()] & (1L << slotOf(time))) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeeklyAvailability other && Arrays.equals(days, other.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(days);
+    }
+
+    // Private helper methods
+
+    private static WeeklyAvailability allWeek() {
+        long[] days = new long[DAYS];
+        Arrays.fill(days, FULL_DAY);
+        return new WeeklyAvailability(days);
+    }
+
+    private static int slotOf(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / MINUTES_PER_SLOT;
+    }
+
+    private static int endSlotOf(LocalTime time) {
+        int minutes = time.getHour() * 60 + time.getMinute();
+        return (minutes + MINUTES_PER_SLOT - 1) / MINUTES_PER_SLOT;
+    }
+
+    /**
+     * 요일별 시간 구간을 누적해 비트맵 생성
+     */
+    public static final class Builder {
+
+        private final long[] days = new long[DAYS];
+
+        private Builder() {
+        }
+
+        /**
+         * 시간 구간 [start, end) 추가 (start가 null이면 하루 시작, end가 null이거나 start보다 이르면 하루 끝까지)
+         */
+        public Builder add(DayOfWeekType day, LocalTime start, LocalTime end) {
+            int from = start != null ? slotOf(start) : 0;
+            int to = end != null && end.isAfter(start != null ? start : LocalTime.MIDNIGHT)
+                    ? endSlotOf(end)
+                    : SLOTS_PER_DAY;
+            if (from < to) {
+                days[day.ordinal()] |= FULL_DAY & (-1L << from) & ~(-1L << to);
+            }
+            return this;
+        }
+
+        public WeeklyAvailability build() {
+            return new WeeklyAvailability(days.clone());
+        }
+    }
+}
@@ -49,6 +49,20 @@ public class NotificationWebSocketService {
         log.info("Sent matching notification to user: {}", userId);
     }
 
+    /**
+     * 매칭 대기 중 대안 제안 전송 (사전 계산 완료 시)
+     */
+    public void sendMatchingAlternatives(UUID userId, Object alternatives) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("type", "MATCHING_ALTERNATIVES");
+        notification.put("data", alternatives);
+        notification.put("timestamp", System.currentTimeMillis());
+
+        String destination = "/user/" + userId + "/queue/matching-alternatives";
+        messagingTemplate.convertAndSend(destination, notification);
+        log.debug("Sent matching alternatives to user: {}", userId);
+    }
+
     /**
      * 세션 알림 전송
      */
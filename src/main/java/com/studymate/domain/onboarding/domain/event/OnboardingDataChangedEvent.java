@@ -0,0 +1,10 @@
+package com.studymate.domain.onboarding.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자의 온보딩 데이터(언어, 관심사, 파트너 선호, 스케줄 등)가 변경되었음을 알리는 이벤트.
+ * 매칭 인덱스/캐시처럼 온보딩 데이터로부터 파생된 상태를 갱신하는 데 사용한다.
+ */
+public record OnboardingDataChangedEvent(UUID userId) {
+}
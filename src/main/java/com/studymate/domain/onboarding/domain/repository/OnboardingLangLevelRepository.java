@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +17,28 @@ public interface OnboardingLangLevelRepository extends JpaRepository<OnboardingL
      */
     @Query("SELECT oll FROM OnboardingLangLevel oll WHERE oll.id.userId = :userId")
     List<OnboardingLangLevel> findByUsrId(@Param("userId") UUID userId);
+
+    /**
+     * 여러 사용자의 언어 레벨 정보를 언어/레벨 카탈로그와 함께 일괄 조회
+     */
+    @Query("SELECT oll FROM OnboardingLangLevel oll " +
+           "LEFT JOIN FETCH oll.language LEFT JOIN FETCH oll.currentLevel LEFT JOIN FETCH oll.targetLevel " +
+           "WHERE oll.id.userId IN :userIds")
+    List<OnboardingLangLevel> findWithCatalogByUsrIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 매칭 후보 인덱스 적재용 경량 조회 (userId, 학습 언어 ID, 현재 레벨 ID)
+     */
+    @Query("SELECT oll.id.userId, oll.id.languageId, cl.langLevelId " +
+           "FROM OnboardingLangLevel oll LEFT JOIN oll.currentLevel cl")
+    List<Object[]> findAllLanguageLevelRows();
+
+    /**
+     * 특정 사용자의 학습 언어/레벨 행 조회
+     */
+    @Query("SELECT oll.id.userId, oll.id.languageId, cl.langLevelId " +
+           "FROM OnboardingLangLevel oll LEFT JOIN oll.currentLevel cl WHERE oll.id.userId = :userId")
+    List<Object[]> findLanguageLevelRowsByUsrId(@Param("userId") UUID userId);
     
     /**
      * 사용자 ID로 언어 레벨 정보 삭제
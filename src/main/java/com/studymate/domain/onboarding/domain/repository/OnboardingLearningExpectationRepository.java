@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +16,12 @@ public interface OnboardingLearningExpectationRepository extends JpaRepository<O
     @Query("SELECT ole FROM OnboardingLearningExpectation ole WHERE ole.id.userId = :userId")
     List<OnboardingLearningExpectation> findByUsrId(@Param("userId") UUID userId);
 
+    /**
+     * 여러 사용자의 학습 기대 ID 일괄 조회 (userId, learningExpectationId)
+     */
+    @Query("SELECT ole.id.userId, ole.id.learningExpectationId FROM OnboardingLearningExpectation ole WHERE ole.id.userId IN :userIds")
+    List<Object[]> findIdRowsByUsrIds(@Param("userIds") Collection<UUID> userIds);
+
     @Modifying
     @Query("DELETE FROM OnboardingLearningExpectation ole WHERE ole.id.userId = :userId")
     void deleteByUsrId(@Param("userId") UUID userId);
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,12 @@ public interface OnboardingLearningStyleRepository extends JpaRepository<Onboard
     
     @Query("SELECT ols FROM OnboardingLearningStyle ols WHERE ols.id.userId = :userId")
     List<OnboardingLearningStyle> findByUsrId(@Param("userId") UUID userId);
+
+    /**
+     * 여러 사용자의 학습 스타일 ID 일괄 조회 (userId, learningStyleId)
+     */
+    @Query("SELECT ols.id.userId, ols.id.learningStyleId FROM OnboardingLearningStyle ols WHERE ols.id.userId IN :userIds")
+    List<Object[]> findIdRowsByUsrIds(@Param("userIds") Collection<UUID> userIds);
     
     @Modifying
     @Query("DELETE FROM OnboardingLearningStyle ols WHERE ols.id.userId = :userId")
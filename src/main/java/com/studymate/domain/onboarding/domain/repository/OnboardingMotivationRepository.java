@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,12 @@ public interface OnboardingMotivationRepository extends JpaRepository<Onboarding
     
     @Query("SELECT om FROM OnboardingMotivation om WHERE om.id.userId = :userId")
     List<OnboardingMotivation> findByUsrId(@Param("userId") UUID userId);
+
+    /**
+     * 여러 사용자의 동기 ID 일괄 조회 (userId, motivationId)
+     */
+    @Query("SELECT om.id.userId, om.id.motivationId FROM OnboardingMotivation om WHERE om.id.userId IN :userIds")
+    List<Object[]> findIdRowsByUsrIds(@Param("userIds") Collection<UUID> userIds);
     
     @Modifying
     @Query("DELETE FROM OnboardingMotivation om WHERE om.id.userId = :userId")
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,12 @@ public interface OnboardingPartnerRepository extends JpaRepository<OnboardingPar
     
     @Query("SELECT op FROM OnboardingPartner op WHERE op.id.userId = :userId")
     List<OnboardingPartner> findByUsrId(@Param("userId") UUID userId);
+
+    /**
+     * 여러 사용자의 선호 파트너 성향 ID 일괄 조회 (userId, partnerPersonalityId)
+     */
+    @Query("SELECT op.id.userId, op.id.partnerPersonalityId FROM OnboardingPartner op WHERE op.id.userId IN :userIds")
+    List<Object[]> findIdRowsByUsrIds(@Param("userIds") Collection<UUID> userIds);
     
     @Modifying
     @Query("DELETE FROM OnboardingPartner op WHERE op.id.userId = :userId")
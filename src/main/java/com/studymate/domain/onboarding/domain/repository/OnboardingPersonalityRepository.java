@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +14,11 @@ public interface OnboardingPersonalityRepository extends JpaRepository<Onboardin
     
     @Query("SELECT op FROM OnboardingPersonality op WHERE op.id.userId = :userId")
     List<OnboardingPersonality> findByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 호환성 벡터 적재용 일괄 조회 (userId, 성격 ID, 성격 이름)
+     */
+    @Query("SELECT op.id.userId, op.id.partnerPersonalityId, pp.partnerPersonality " +
+           "FROM OnboardingPersonality op LEFT JOIN op.partnerPersonality pp WHERE op.id.userId IN :userIds")
+    List<Object[]> findVectorRowsByUserIds(@Param("userIds") Collection<UUID> userIds);
 }
\ No newline at end of file
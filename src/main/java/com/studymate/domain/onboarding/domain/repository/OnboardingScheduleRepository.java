@@ -14,6 +14,21 @@ public interface OnboardingScheduleRepository extends JpaRepository<OnboardingSc
     
     @Query("SELECT os FROM OnboardingSchedule os WHERE os.id.userId = :userId")
     List<OnboardingSchedule> findByUsrId(@Param("userId") UUID userId);
+
+    /**
+     * 스케줄 가용 시간 인덱스 적재용 경량 조회 (userId, 요일, 수업 시작 시간, 스케줄 요일, 스케줄 시간대)
+     */
+    @Query("SELECT os.id.userId, os.id.dayOfWeek, os.id.classTime, s.dayOfWeekType, s.timeSlot " +
+           "FROM OnboardingSchedule os LEFT JOIN Schedule s ON s.scheduleId = os.id.scheduleId")
+    List<Object[]> findAllAvailabilityRows();
+
+    /**
+     * 특정 사용자의 스케줄 가용 시간 행 조회
+     */
+    @Query("SELECT os.id.userId, os.id.dayOfWeek, os.id.classTime, s.dayOfWeekType, s.timeSlot " +
+           "FROM OnboardingSchedule os LEFT JOIN Schedule s ON s.scheduleId = os.id.scheduleId " +
+           "WHERE os.id.userId = :userId")
+    List<Object[]> findAvailabilityRowsByUsrId(@Param("userId") UUID userId);
     
     @Modifying
     @Query("DELETE FROM OnboardingSchedule os WHERE os.id.userId = :userId")
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +14,11 @@ public interface OnboardingStudyGoalRepository extends JpaRepository<OnboardingS
     
     @Query("SELECT osg FROM OnboardingStudyGoal osg WHERE osg.id.userId = :userId")
     List<OnboardingStudyGoal> findByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 호환성 벡터 적재용 일괄 조회 (userId, 목표 ID, 목표 이름)
+     */
+    @Query("SELECT osg.id.userId, osg.id.motivationId, m.motivationName " +
+           "FROM OnboardingStudyGoal osg LEFT JOIN osg.motivation m WHERE osg.id.userId IN :userIds")
+    List<Object[]> findVectorRowsByUserIds(@Param("userIds") Collection<UUID> userIds);
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,12 @@ public interface OnboardingTopicRepository extends JpaRepository<OnboardingTopic
     
     @Query("SELECT ot FROM OnboardingTopic ot WHERE ot.id.userId = :userId")
     List<OnboardingTopic> findByUsrId(@Param("userId") UUID userId);
+
+    /**
+     * 여러 사용자의 관심 주제 ID 일괄 조회 (userId, topicId)
+     */
+    @Query("SELECT ot.id.userId, ot.id.topicId FROM OnboardingTopic ot WHERE ot.id.userId IN :userIds")
+    List<Object[]> findIdRowsByUsrIds(@Param("userIds") Collection<UUID> userIds);
     
     @Modifying
     @Query("DELETE FROM OnboardingTopic ot WHERE ot.id.userId = :userId")
@@ -8,6 +8,7 @@ import com.studymate.domain.onboarding.domain.dto.response.LearningExpectationRe
 import com.studymate.domain.onboarding.domain.dto.response.LearningStyleResponse;
 import com.studymate.domain.onboarding.domain.dto.response.MotivationResponse;
 import com.studymate.domain.onboarding.domain.dto.response.TopicResponse;
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
 import com.studymate.domain.onboarding.domain.repository.*;
 import com.studymate.domain.onboarding.entity.*;
 import com.studymate.domain.user.domain.repository.UserRepository;
@@ -15,6 +16,7 @@ import com.studymate.domain.user.entity.User;
 import com.studymate.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -34,6 +36,7 @@ public class OnboardingInterestServiceImpl implements OnboardingInterestService
     private final TopicRepository topicRepository;
     private final LearningStyleRepository learningStyleRepository;
     private final LearningExpectationRepository learningExpectationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -45,6 +48,7 @@ public class OnboardingInterestServiceImpl implements OnboardingInterestService
                 .collect(Collectors.toList());
 
         onboardingMotivationRepository.deleteByUsrId(userId);
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
 
         if (motivationIds.isEmpty()) {
             return;
@@ -69,6 +73,7 @@ public class OnboardingInterestServiceImpl implements OnboardingInterestService
                 .collect(Collectors.toList());
 
         onboardingTopicRepository.deleteByUsrId(userId);
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
 
         if (topicIds.isEmpty()) {
             return;
@@ -93,6 +98,7 @@ public class OnboardingInterestServiceImpl implements OnboardingInterestService
                 .collect(Collectors.toList());
 
         onboardingLearningStyleRepository.deleteByUsrId(userId);
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
 
         if (learningStyleIds.isEmpty()) {
             return;
@@ -113,6 +119,7 @@ public class OnboardingInterestServiceImpl implements OnboardingInterestService
                 .orElseGet(Collections::emptyList);
 
         onboardingLearningExpectationRepository.deleteByUsrId(userId);
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
 
         if (expectationIds.isEmpty()) {
             return;
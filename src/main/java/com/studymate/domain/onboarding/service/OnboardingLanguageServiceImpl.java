@@ -4,6 +4,7 @@ import com.studymate.domain.onboarding.domain.dto.request.LanguageLevelRequest;
 import com.studymate.domain.onboarding.domain.dto.request.NativeLanguageRequest;
 import com.studymate.domain.onboarding.domain.dto.response.LangLevelTypeResponse;
 import com.studymate.domain.onboarding.domain.dto.response.LanguageResponse;
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
 import com.studymate.domain.onboarding.domain.repository.LangLevelTypeRepository;
 import com.studymate.domain.onboarding.domain.repository.LanguageRepository;
 import com.studymate.domain.onboarding.domain.repository.OnboardingLangLevelRepository;
@@ -15,6 +16,7 @@ import com.studymate.domain.user.domain.repository.UserRepository;
 import com.studymate.domain.user.entity.User;
 import com.studymate.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,7 @@ public class OnboardingLanguageServiceImpl implements OnboardingLanguageService
     private final LanguageRepository languageRepository;
     private final LangLevelTypeRepository langLevelTypeRepository;
     private final OnboardingLangLevelRepository onboardingLangLevelRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void saveNativeLanguage(UUID userId, NativeLanguageRequest req) {
@@ -60,6 +63,7 @@ public class OnboardingLanguageServiceImpl implements OnboardingLanguageService
         
         user.setNativeLanguage(language);
         userRepository.save(user);
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
         
         System.out.println("🔍 모국어 저장 완료");
     }
@@ -119,6 +123,7 @@ public class OnboardingLanguageServiceImpl implements OnboardingLanguageService
             System.out.println("🔍 Saved onboarding lang level for language ID: " + dto.languageId());
         }
         
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
         System.out.println("🔍 saveLanguageLevel Service 완료");
     }
 
@@ -5,6 +5,7 @@ import com.studymate.domain.onboarding.domain.dto.request.PartnerRequest;
 import com.studymate.domain.onboarding.domain.dto.response.LearningExpectationResponse;
 import com.studymate.domain.onboarding.domain.dto.response.PartnerGenderResponse;
 import com.studymate.domain.onboarding.domain.dto.response.PartnerPersonalityResponse;
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
 import com.studymate.domain.onboarding.domain.repository.OnboardingPartnerRepository;
 import com.studymate.domain.onboarding.domain.repository.PartnerPersonalityRepository;
 import com.studymate.domain.onboarding.domain.type.LearningExpectionType;
@@ -15,6 +16,7 @@ import com.studymate.domain.user.domain.repository.UserRepository;
 import com.studymate.domain.user.entity.User;
 import com.studymate.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,7 @@ public class OnboardingPartnerServiceImpl implements OnboardingPartnerService {
     private final OnboardingPartnerRepository onboardingPartnerRepository;
     private final UserRepository userRepository;
     private final PartnerPersonalityRepository partnerPersonalityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void savePartnerPersonality(UUID userId,PartnerRequest req){
@@ -41,6 +44,7 @@ public class OnboardingPartnerServiceImpl implements OnboardingPartnerService {
                         .build())
                 .collect(Collectors.toList());
         onboardingPartnerRepository.saveAll(onboardPartners);
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
 
     }
 
@@ -4,6 +4,7 @@ import com.studymate.domain.onboarding.domain.dto.request.*;
 import com.studymate.domain.onboarding.domain.dto.response.CommunicationMethodResponse;
 import com.studymate.domain.onboarding.domain.dto.response.DailyMinuteResponse;
 import com.studymate.domain.onboarding.domain.dto.response.GroupSizeResponse;
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
 import com.studymate.domain.onboarding.domain.repository.GroupSizeRepository;
 import com.studymate.domain.onboarding.domain.repository.OnboardingGroupSizeRepository;
 import com.studymate.domain.onboarding.domain.repository.OnboardingScheduleRepository;
@@ -18,6 +19,7 @@ import com.studymate.domain.user.entity.User;
 import com.studymate.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
@@ -34,6 +36,7 @@ public class OnboardingScheduleServiceImpl implements OnboardingScheduleService{
     private final UserRepository userRepository;
     private final OnboardingGroupSizeRepository onboardingGroupSizeRepository;
     private final GroupSizeRepository groupSizeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void saveOnboardingSchedules(UUID userId,OnboardingScheduleRequests req) {
@@ -42,6 +45,8 @@ public class OnboardingScheduleServiceImpl implements OnboardingScheduleService{
                 .map(s ->createSchedule(userId,s))
                 .collect(Collectors.toList());
         onboardingScheduleRepository.saveAll(schedules);
+
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
     }
     private OnboardingSchedule createSchedule (UUID userId,OnboardingScheduleRequest req) {
         OnboardingScheduleId scheduleId = new OnboardingScheduleId();
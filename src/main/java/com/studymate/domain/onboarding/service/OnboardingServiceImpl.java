@@ -5,6 +5,7 @@ import com.studymate.domain.onboarding.domain.dto.request.OnboardingStepRequest;
 import com.studymate.domain.onboarding.domain.dto.response.OnboardingDataResponse;
 import com.studymate.domain.onboarding.domain.dto.response.OnboardingProgressResponse;
 import com.studymate.domain.onboarding.domain.dto.response.CurrentStepResponse;
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
 import com.studymate.domain.onboarding.domain.type.DayOfWeekType;
 import com.studymate.domain.onboarding.domain.repository.*;
 import com.studymate.domain.onboarding.entity.*;
@@ -15,6 +16,7 @@ import com.studymate.exception.NotFoundException;
 import com.studymate.domain.onboarding.exception.OnboardingBusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,6 +58,7 @@ public class OnboardingServiceImpl implements OnboardingService {
     
     // Redis 기반 온보딩 상태 관리
     private final OnboardingStateService stateService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 온보딩 단계별 메타데이터
     private static final Map<Integer, StepMetadata> STEP_METADATA = initializeStepMetadata();
@@ -197,6 +200,8 @@ public class OnboardingServiceImpl implements OnboardingService {
         
         // Redis 데이터 정리
         stateService.cleanupOnboardingData(userId);
+
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
         
         log.info("All onboarding completed for user: {}", userId);
     }
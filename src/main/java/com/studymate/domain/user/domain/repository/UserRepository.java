@@ -1,16 +1,15 @@
 package com.studymate.domain.user.domain.repository;
 
-import com.studymate.domain.matching.domain.dto.request.AdvancedMatchingFilterRequest;
 import com.studymate.domain.matching.repository.MatchingRepositoryCustom;
 import com.studymate.domain.user.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +19,13 @@ public interface UserRepository extends JpaRepository<User, UUID>, MatchingRepos
 
     @Query("select u.name from User u where u.userId = :userId")
     String findNameByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 사용자 행 잠금 (사용자 단위 작업 직렬화용, 교착 방지를 위해 userId 순으로 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.userId IN :userIds ORDER BY u.userId")
+    List<User> findAllForUpdate(@Param("userIds") Collection<UUID> userIds);
     
     /**
      * 매칭 가능한 파트너들 조회 (자신 제외, 온보딩 완료된 사용자들)
@@ -27,36 +33,36 @@ public interface UserRepository extends JpaRepository<User, UUID>, MatchingRepos
     @Query("SELECT u FROM User u WHERE u.userId != :userId")
     List<User> findPotentialPartners(@Param("userId") UUID userId);
 
-    // === 고급 매칭 쿼리 메서드들 ===
+    /**
+     * 매칭 후보 인덱스 적재용 경량 조회 (userId, 모국어 ID, 온보딩 완료 여부, 비활성 여부)
+     */
+    @Query("SELECT u.userId, nl.languageId, u.isOnboardingCompleted, u.userDisable " +
+           "FROM User u LEFT JOIN u.nativeLanguage nl")
+    List<Object[]> findCandidateIndexRows();
 
     /**
-     * 고급 필터를 적용한 파트너 검색
-     * 현재는 기본 구현으로 제공하고, 향후 QueryDSL을 통해 동적 쿼리로 개선 예정
+     * 특정 사용자의 매칭 후보 인덱스 행 조회
      */
-    default Page<User> findPotentialPartnersWithFilters(UUID userId, AdvancedMatchingFilterRequest filters, Pageable pageable) {
-        // TODO: QueryDSL로 동적 쿼리 구현
-        // 현재는 기본 매칭 로직 사용
-        return findAll(pageable);
-    }
+    @Query("SELECT u.userId, nl.languageId, u.isOnboardingCompleted, u.userDisable " +
+           "FROM User u LEFT JOIN u.nativeLanguage nl WHERE u.userId = :userId")
+    List<Object[]> findCandidateIndexRow(@Param("userId") UUID userId);
 
     /**
-     * 온라인 파트너 검색
-     * 실시간 온라인 상태인 사용자들 중에서 검색
+     * 추천 응답용 프로필 헤더 일괄 조회 (userId, 도시, 모국어명)
      */
-    default Page<User> findOnlinePartners(UUID userId, AdvancedMatchingFilterRequest filters, Pageable pageable) {
-        // TODO: Redis에서 온라인 상태 확인하여 필터링
-        return findAll(pageable);
-    }
+    @Query("SELECT u.userId, loc.city, nl.languageName " +
+           "FROM User u LEFT JOIN u.location loc LEFT JOIN u.nativeLanguage nl WHERE u.userId IN :userIds")
+    List<Object[]> findProfileHeaderRows(@Param("userIds") Collection<UUID> userIds);
 
     /**
-     * AI 기반 스마트 추천 파트너 검색
-     * 사용자 행동 패턴과 선호도를 분석하여 추천
+     * 온라인 인덱스 집합 배정용 도시 / 모국어명 조회 (city, languageName)
      */
-    default List<User> findSmartRecommendations(UUID userId, Map<String, Double> preferenceWeights) {
-        // TODO: 머신러닝 기반 추천 알고리즘 구현
-        // 현재는 기본 매칭 결과 반환
-        return findPotentialPartners(userId);
-    }
+    @Query("SELECT loc.city, nl.languageName " +
+           "FROM User u LEFT JOIN u.location loc LEFT JOIN u.nativeLanguage nl WHERE u.userId = :userId")
+    List<Object[]> findPresencePartitionRow(@Param("userId") UUID userId);
+
+    // === 고급 매칭 쿼리 메서드들 ===
+    // 고급 필터 / 온라인 / 호환성 기반 검색은 MatchingRepositoryCustomImpl (QueryDSL)에서 구현
 
     /**
      * 실시간 매칭 파트너 검색
@@ -67,27 +73,6 @@ public interface UserRepository extends JpaRepository<User, UUID>, MatchingRepos
         return findPotentialPartners(userId);
     }
 
-    /**
-     * 스케줄 기반 매칭 파트너 검색
-     * 특정 요일/시간대에 활동 가능한 파트너들 검색
-     */
-    default List<User> findScheduleBasedMatches(UUID userId, String dayOfWeek, String timeSlot) {
-        // TODO: 온보딩 스케줄 데이터를 활용한 검색
-        return findPotentialPartners(userId);
-    }
-
-    /**
-     * 호환성 기반 파트너 검색 (캐시된 호환성 점수 활용)
-     * Default implementation until MatchingRepositoryImpl is properly integrated
-     */
-    default Page<User> findCompatiblePartners(UUID currentUserId, 
-                                            double minCompatibilityScore, 
-                                            Pageable pageable) {
-        // TODO: 호환성 점수를 활용한 검색 구현
-        // 현재는 기본 매칭 결과 반환
-        return findAll(pageable);
-    }
-
     /**
      * 언어 교환 파트너 검색
      * 서로의 언어를 배울 수 있는 파트너들 검색 (A의 모국어 = B의 학습언어, A의 학습언어 = B의 모국어)
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +27,9 @@ public interface UserStatusRepository extends JpaRepository<UserStatus, UUID> {
     @Query("SELECT us FROM UserStatus us WHERE us.userId IN :userIds")
     List<UserStatus> findByUserIds(@Param("userIds") List<UUID> userIds);
 
+    @Query("SELECT us.userId, us.status, us.lastSeenAt FROM UserStatus us WHERE us.userId IN :userIds")
+    List<Object[]> findStatusRowsByUserIds(@Param("userIds") Collection<UUID> userIds);
+
     @Modifying
     @Query("UPDATE UserStatus us SET us.status = 'OFFLINE', us.lastSeenAt = :timestamp WHERE us.lastSeenAt < :cutoffTime AND us.status != 'OFFLINE'")
     int markInactiveUsersAsOffline(@Param("cutoffTime") LocalDateTime cutoffTime, @Param("timestamp") LocalDateTime timestamp);
@@ -35,4 +39,9 @@ public interface UserStatusRepository extends JpaRepository<UserStatus, UUID> {
 
     @Query("SELECT us FROM UserStatus us WHERE us.user.location.city = :city AND (us.status = 'ONLINE' OR us.status = 'STUDYING')")
     List<UserStatus> findOnlineUsersByCity(@Param("city") String city);
+
+    @Query("SELECT us.userId, us.lastSeenAt, loc.city, nl.languageName FROM UserStatus us " +
+           "JOIN us.user u LEFT JOIN u.location loc LEFT JOIN u.nativeLanguage nl " +
+           "WHERE us.status = 'ONLINE' OR us.status = 'STUDYING'")
+    List<Object[]> findOnlinePresenceRows();
 }
\ No newline at end of file
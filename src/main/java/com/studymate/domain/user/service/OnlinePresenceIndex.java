@@ -0,0 +1,224 @@
+package com.studymate.domain.user.service;
+
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.domain.repository.UserStatusRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 도시 / 모국어별 온라인 사용자 인덱스
+ * 온라인(학습 중 포함) 사용자를 마지막 활동 시각 순 Sorted Set에 두고, 도시별 / 모국어별 Set으로 나눠
+ * "서울에 있는 한국어 원어민 중 지금 온라인인 사용자"를 UserStatus 조인 없이 집합 교집합으로 찾는다.
+ * 모든 서버가 같은 상태를 보도록 Redis에 두며, 상태 변경 API와 비활성 정리 작업이 인덱스를 갱신한다.
+ * 비활성 기준(15분)보다 오래 활동이 없는 항목은 조회에서 제외하고 정리 작업에서 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OnlinePresenceIndex {
+
+    private static final String ONLINE_KEY = "presence:online";
+    private static final String CITY_PREFIX = "presence:city:";
+    private static final String LANGUAGE_PREFIX = "presence:lang:";
+    // 사용자가 속한 도시 / 모국어 집합 키 목록 (오프라인 처리 시 정리용)
+    private static final String PARTITIONS_PREFIX = "presence:partitions:";
+
+    private static final Duration INACTIVE_THRESHOLD = Duration.ofMinutes(15);
+
+    // 이미 인덱스에 있으면 마지막 활동 시각만 갱신
+    private static final DefaultRedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZSCORE', KEYS[1], ARGV[1]) then " +
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) return 1 else return 0 end",
+            Long.class);
+
+    // 이전 도시 / 모국어 집합에서 빼고 새 집합에 추가 (마지막 활동 시각은 더 최근 값만 반영)
+    private static final DefaultRedisScript<Long> INDEX_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do redis.call('SREM', key, ARGV[1]) end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "for i = 3, #KEYS do redis.call('SADD', KEYS[i], ARGV[1]) redis.call('SADD', KEYS[2], KEYS[i]) end " +
+            "local current = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not current or tonumber(current) < tonumber(ARGV[2]) then redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do redis.call('SREM', key, ARGV[1]) end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return redis.call('ZREM', KEYS[1], ARGV[1])",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final UserStatusRepository userStatusRepository;
+
+    /**
+     * 온라인 사용자 ID 목록 (최근 활동순)
+     *
+     * @param city           도시 (없으면 전체)
+     * @param nativeLanguage 모국어 이름 (없으면 전체)
+     * @return Redis 장애 시 null (호출자가 DB로 조회)
+     */
+    public List<UUID> findOnlineUserIds(String city, String nativeLanguage) {
+        long cutoff = System.currentTimeMillis() - INACTIVE_THRESHOLD.toMillis();
+        try {
+            List<String> partitionKeys = partitionKeys(city, nativeLanguage);
+            if (partitionKeys.isEmpty()) {
+                Set<String> members = redisTemplate.opsForZSet().reverseRangeByScore(ONLINE_KEY, cutoff, Double.POSITIVE_INFINITY);
+                return members != null ? members.stream().map(UUID::fromString).toList() : List.of();
+            }
+
+            Set<String> members = partitionKeys.size() == 1
+                    ? redisTemplate.opsForSet().members(partitionKeys.get(0))
+                    : redisTemplate.opsForSet().intersect(partitionKeys.get(0), partitionKeys.get(1));
+            if (members == null || members.isEmpty()) {
+                return List.of();
+            }
+            return sortByLastSeen(new ArrayList<>(members), cutoff);
+        } catch (DataAccessException e) {
+            log.warn("Failed to look up online presence (city={}, nativeLanguage={}): {}", city, nativeLanguage, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 온라인 / 학습 중 상태 반영 (처음 들어온 사용자만 도시 / 모국어를 조회해 집합에 추가)
+     */
+    public void markOnline(UUID userId, LocalDateTime lastSeenAt) {
+        String lastSeen = String.valueOf(toMillis(lastSeenAt));
+        try {
+            Long touched = redisTemplate.execute(TOUCH_SCRIPT, List.of(ONLINE_KEY), userId.toString(), lastSeen);
+            if (touched == null || touched == 0L) {
+                index(userId, lastSeen, loadPartitionKeys(userId));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to mark user {} online in presence index: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 오프라인 / 자리비움 상태 반영
+     */
+    public void markOffline(UUID userId) {
+        try {
+            remove(userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to mark user {} offline in presence index: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 비활성 기준 시각 이전에 마지막으로 활동한 사용자 삭제
+     * 인덱스가 비어 있으면(Redis 초기화 등) DB의 온라인 사용자로 다시 채운다.
+     */
+    public void evictInactiveBefore(LocalDateTime cutoffTime) {
+        try {
+            Set<String> inactive = redisTemplate.opsForZSet().rangeByScore(
+                    ONLINE_KEY, Double.NEGATIVE_INFINITY, toMillis(cutoffTime) - 1);
+            if (inactive != null) {
+                inactive.forEach(this::remove);
+            }
+
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(ONLINE_KEY))) {
+                seedFromDatabase();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict inactive users from presence index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 온라인 사용자의 도시 / 모국어가 바뀌면 집합 다시 배정
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOnboardingDataChanged(OnboardingDataChangedEvent event) {
+        try {
+            Double lastSeen = redisTemplate.opsForZSet().score(ONLINE_KEY, event.userId().toString());
+            if (lastSeen != null) {
+                index(event.userId(), String.valueOf(lastSeen.longValue()), loadPartitionKeys(event.userId()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh presence partitions for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    // Private helper methods
+
+    private List<UUID> sortByLastSeen(List<String> members, long cutoff) {
+        List<Double> scores = redisTemplate.opsForZSet().score(ONLINE_KEY, members.toArray());
+        List<Map.Entry<UUID, Double>> online = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Double lastSeen = scores != null ? scores.get(i) : null;
+            if (lastSeen != null && lastSeen >= cutoff) {
+                online.add(Map.entry(UUID.fromString(members.get(i)), lastSeen));
+            }
+        }
+        online.sort(Map.Entry.<UUID, Double>comparingByValue().reversed());
+        return online.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private void seedFromDatabase() {
+        List<Object[]> rows = userStatusRepository.findOnlinePresenceRows();
+        for (Object[] row : rows) {
+            UUID userId = (UUID) row[0];
+            index(userId, String.valueOf(toMillis((LocalDateTime) row[1])), partitionKeys((String) row[2], (String) row[3]));
+        }
+        if (!rows.isEmpty()) {
+            log.info("Presence index seeded with {} online users", rows.size());
+        }
+    }
+
+    private void index(UUID userId, String lastSeen, List<String> partitionKeys) {
+        List<String> keys = new ArrayList<>(partitionKeys.size() + 2);
+        keys.add(ONLINE_KEY);
+        keys.add(PARTITIONS_PREFIX + userId);
+        keys.addAll(partitionKeys);
+        redisTemplate.execute(INDEX_SCRIPT, keys, userId.toString(), lastSeen);
+    }
+
+    private void remove(String member) {
+        redisTemplate.execute(REMOVE_SCRIPT, List.of(ONLINE_KEY, PARTITIONS_PREFIX + member), member);
+    }
+
+    /**
+     * 사용자 도시 / 모국어 행 (city, languageName) → 집합 키
+     */
+    private List<String> loadPartitionKeys(UUID userId) {
+        List<Object[]> rows = userRepository.findPresencePartitionRow(userId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return partitionKeys((String) rows.get(0)[0], (String) rows.get(0)[1]);
+    }
+
+    private static List<String> partitionKeys(String city, String nativeLanguage) {
+        List<String> keys = new ArrayList<>(2);
+        if (StringUtils.hasText(city)) {
+            keys.add(CITY_PREFIX + normalize(city));
+        }
+        if (StringUtils.hasText(nativeLanguage)) {
+            keys.add(LANGUAGE_PREFIX + normalize(nativeLanguage));
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        LocalDateTime value = time != null ? time : LocalDateTime.now();
+        return value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
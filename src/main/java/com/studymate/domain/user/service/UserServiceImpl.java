@@ -15,11 +15,13 @@ import com.studymate.domain.onboarding.domain.repository.OnboardingTopicReposito
 import com.studymate.domain.onboarding.domain.repository.OnboardingPartnerRepository;
 import com.studymate.domain.onboarding.domain.repository.OnboardingScheduleRepository;
 import com.studymate.domain.onboarding.domain.repository.OnboardingLangLevelRepository;
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
 import com.studymate.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,6 +42,7 @@ public class UserServiceImpl implements UserService {
     private final OnboardingPartnerRepository onboardingPartnerRepository;
     private final OnboardingScheduleRepository onboardingScheduleRepository;
     private final OnboardingLangLevelRepository onboardingLangLevelRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.ncp.storage.bucket-name}")
     private String bucketName;
@@ -139,7 +142,7 @@ public class UserServiceImpl implements UserService {
                        .orElseThrow(()-> new NotFoundException("NOT FOUND LOCATION"));
         user.setLocation(location);
         userRepository.save(user);
-
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
     }
     @Override
     public void saveBirthYear (UUID userId, BirthyearRequest req){
@@ -246,6 +249,9 @@ public class UserServiceImpl implements UserService {
         }
         
         userRepository.save(user);
+        if (req.getLocationId() != null) {
+            eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
+        }
     }
     
     @Override
@@ -297,6 +303,7 @@ public class UserServiceImpl implements UserService {
         
         user.setIsOnboardingCompleted(true);
         userRepository.save(user);
+        eventPublisher.publishEvent(new OnboardingDataChangedEvent(userId));
     }
     
 
@@ -28,6 +28,7 @@ public class UserStatusServiceImpl implements UserStatusService {
     private final UserStatusRepository userStatusRepository;
     private final UserRepository userRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final OnlinePresenceIndex onlinePresenceIndex;
     
     private static final String USER_STATUS_PREFIX = "user:status:";
     private static final String ONLINE_USERS_KEY = "users:online";
@@ -41,6 +42,7 @@ public class UserStatusServiceImpl implements UserStatusService {
         
         // Redis 캐시 업데이트
         updateRedisCache(userStatus);
+        onlinePresenceIndex.markOnline(userId, userStatus.getLastSeenAt());
         
         log.debug("User {} set to online with device: {}", userId, deviceInfo);
     }
@@ -53,6 +55,7 @@ public class UserStatusServiceImpl implements UserStatusService {
         
         // Redis에서 제거
         removeFromRedisCache(userId);
+        onlinePresenceIndex.markOffline(userId);
         
         log.debug("User {} set to offline", userId);
     }
@@ -65,6 +68,7 @@ public class UserStatusServiceImpl implements UserStatusService {
         
         // Redis 캐시 업데이트
         updateRedisCache(userStatus);
+        onlinePresenceIndex.markOnline(userId, userStatus.getLastSeenAt());
         
         log.debug("User {} set to studying with session: {}", userId, sessionId);
     }
@@ -78,6 +82,7 @@ public class UserStatusServiceImpl implements UserStatusService {
         
         // Redis 캐시 업데이트
         updateRedisCache(userStatus);
+        onlinePresenceIndex.markOffline(userId);
         
         log.debug("User {} set to away", userId);
     }
@@ -168,6 +173,7 @@ public class UserStatusServiceImpl implements UserStatusService {
     public void cleanupInactiveUsers() {
         LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(INACTIVE_THRESHOLD_MINUTES);
         int updatedCount = userStatusRepository.markInactiveUsersAsOffline(cutoffTime, LocalDateTime.now());
+        onlinePresenceIndex.evictInactiveBefore(cutoffTime);
         
         if (updatedCount > 0) {
             log.info("Marked {} inactive users as offline", updatedCount);
@@ -177,8 +183,18 @@ public class UserStatusServiceImpl implements UserStatusService {
     @Override
     @Transactional(readOnly = true)
     public List<OnlineStatusResponse> getOnlineUsersByCity(String city) {
-        List<UserStatus> onlineUsers = userStatusRepository.findOnlineUsersByCity(city);
+        // 온라인 인덱스의 도시 집합에서 ID를 찾고 상태 행만 ID로 조회 (인덱스 장애 시 도시 조인 쿼리)
+        List<UUID> onlineUserIds = onlinePresenceIndex.findOnlineUserIds(city, null);
+        List<UserStatus> onlineUsers;
+        if (onlineUserIds == null) {
+            onlineUsers = userStatusRepository.findOnlineUsersByCity(city);
+        } else if (onlineUserIds.isEmpty()) {
+            return List.of();
+        } else {
+            onlineUsers = userStatusRepository.findByUserIds(onlineUserIds);
+        }
         return onlineUsers.stream()
+                .filter(UserStatus::isOnline)
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,52 @@
+package com.studymate.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorPageResponseTest {
+
+    @Test
+    @DisplayName("size + 1개를 조회하면 초과분을 잘라내고 마지막 항목의 커서를 내려준다")
+    void fromOverfetched_ShouldTrimExtraRowAndExposeNextCursor() {
+        // when
+        CursorPageResponse<String> response = CursorPageResponse.fromOverfetched(
+                List.of(1, 2, 3), 2, String::valueOf, rows -> rows.stream().map(row -> "item-" + row).toList());
+
+        // then
+        assertThat(response.getContent()).containsExactly("item-1", "item-2");
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 nextCursor가 없다")
+    void fromOverfetched_ShouldEndOnLastPage() {
+        CursorPageResponse<Integer> response = CursorPageResponse.fromOverfetched(
+                List.of(1, 2), 2, String::valueOf, rows -> rows);
+
+        assertThat(response.getContent()).containsExactly(1, 2);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("KeysetCursor는 인코딩한 값을 그대로 복원하고 잘못된 형식은 거부한다")
+    void keysetCursor_ShouldRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        KeysetCursor cursor = KeysetCursor.parse(KeysetCursor.encode(createdAt, id));
+
+        assertThat(cursor).isEqualTo(new KeysetCursor(createdAt, id));
+        assertThat(KeysetCursor.parse(null)).isNull();
+        assertThatThrownBy(() -> KeysetCursor.parse("2025-03-01_not-a-uuid"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
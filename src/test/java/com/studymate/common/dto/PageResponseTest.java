@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 class PageResponseTest {
@@ -54,4 +55,23 @@ class PageResponseTest {
         assertThat(response.getSort().isSorted()).isFalse();
         assertThat(response.getSort().getOrders()).isEmpty();
     }
+
+    @Test
+    @DisplayName("PageResponse.ofSlice()는 전체 건수 없이 다음 페이지 여부만 매핑한다")
+    void ofSlice_ShouldMapHasNextWithoutTotals() {
+        // given
+        PageRequest pageable = PageRequest.of(1, 2);
+        SliceImpl<String> slice = new SliceImpl<>(List.of("C", "D"), pageable, true);
+
+        // when
+        PageResponse<String> response = PageResponse.ofSlice(slice);
+
+        // then
+        assertThat(response.getContent()).containsExactly("C", "D");
+        assertThat(response.getPagination().getPage()).isEqualTo(1);
+        assertThat(response.getPagination().getTotalElements()).isEqualTo(-1);
+        assertThat(response.getPagination().getTotalPages()).isEqualTo(-1);
+        assertThat(response.getPagination().isHasNext()).isTrue();
+        assertThat(response.getPagination().isLast()).isFalse();
+    }
 }
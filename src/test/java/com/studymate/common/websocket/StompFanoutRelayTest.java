@@ -0,0 +1,129 @@
+package com.studymate.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StompFanoutRelay 단위 테스트")
+class StompFanoutRelayTest {
+
+    private static final String ROOM_DESTINATION = "/sub/chat/room/1";
+
+    private final InMemoryStompFanoutTransport transport = new InMemoryStompFanoutTransport();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node(transport);
+        nodeB = new Node(transport);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 발행된 방 메시지는 구독 중인 서버의 브로커 채널로 한 번만 전달된다")
+    void relaysRoomMessageToSubscribedNode() {
+        nodeA.subscribe("session-a", "sub-1", ROOM_DESTINATION);
+        nodeB.subscribe("session-b", "sub-1", ROOM_DESTINATION);
+
+        nodeA.publish(ROOM_DESTINATION, "hello");
+
+        assertThat(nodeA.payloads(ROOM_DESTINATION)).containsExactly("hello");
+        assertThat(nodeB.payloads(ROOM_DESTINATION)).containsExactly("hello");
+    }
+
+    @Test
+    @DisplayName("로컬 구독자가 없는 서버는 방 메시지를 받지 않는다")
+    void skipsNodeWithoutLocalSubscribers() {
+        nodeB.subscribe("session-b", "sub-1", ROOM_DESTINATION);
+        nodeB.unsubscribe("session-b", "sub-1");
+
+        nodeA.publish(ROOM_DESTINATION, "hello");
+
+        assertThat(nodeB.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 목적지 메시지는 그 사용자가 연결된 서버로 전달된다")
+    void relaysUserDestinationToUserNode() {
+        nodeB.subscribe("session-b", "sub-1", "/user/queue/notifications", "user-1");
+
+        nodeA.publish("/user/user-1/queue/notifications", "ping");
+        nodeA.publish("/user/user-2/queue/notifications", "other");
+
+        assertThat(nodeB.payloads("/user/user-1/queue/notifications")).containsExactly("ping");
+        assertThat(nodeB.received).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("발행 목적지를 팬아웃 채널로 변환한다")
+    void mapsDestinationToChannel() {
+        assertThat(StompFanoutRelay.channelFor(ROOM_DESTINATION)).isEqualTo("stomp:fanout:dest:" + ROOM_DESTINATION);
+        assertThat(StompFanoutRelay.channelFor("/user/abc/queue/rooms")).isEqualTo("stomp:fanout:user:abc");
+        assertThat(StompFanoutRelay.channelFor("/queue/rooms-user123")).isNull();
+    }
+
+    /**
+     * 브로커 채널과 릴레이 하나로 구성된 가상 서버
+     */
+    private static class Node {
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final StompFanoutRelay relay;
+        private final List<Message<?>> received = new ArrayList<>();
+
+        Node(StompFanoutTransport transport) {
+            relay = new StompFanoutRelay(brokerChannel, transport, new ObjectMapper());
+            relay.register();
+            brokerChannel.subscribe(received::add);
+        }
+
+        void publish(String destination, String payload) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(destination);
+            brokerChannel.send(MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination) {
+            subscribe(sessionId, subscriptionId, destination, null);
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination, String userName) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+            relay.onSubscribe(new SessionSubscribeEvent(this, message, userName != null ? () -> userName : null));
+        }
+
+        void unsubscribe(String sessionId, String subscriptionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+            relay.onUnsubscribe(new SessionUnsubscribeEvent(this, message));
+        }
+
+        List<String> payloads(String destination) {
+            return received.stream()
+                    .filter(message -> destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+                    .map(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.studymate.domain.chat.service;
+
+import com.studymate.domain.chat.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageIdAllocator 단위 테스트")
+class ChatMessageIdAllocatorTest {
+
+    private static final String SEQUENCE_KEY = "chat:message:id-seq";
+    private static final String ROOM_SEQ_KEY = "chat:room:seq:7";
+    private static final String IN_FLIGHT_KEY = "chat:room:seq:in-flight:7";
+    private static final List<String> ROOM_SEQ_KEYS = List.of(ROOM_SEQ_KEY, IN_FLIGHT_KEY);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatMessageIdAllocator chatMessageIdAllocator;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageIdAllocator = new ChatMessageIdAllocator(redisTemplate, chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("예약한 ID 구간 안에서는 Redis를 다시 호출하지 않고 연속된 ID를 나눠준다")
+    void servesIdsFromReservedBlock() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SEQUENCE_KEY)), eq("1000"))).thenReturn(5_000L);
+
+        assertThat(chatMessageIdAllocator.nextId()).isEqualTo(4_001L);
+        assertThat(chatMessageIdAllocator.nextId()).isEqualTo(4_002L);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(SEQUENCE_KEY)), eq("1000"));
+        verify(chatMessageRepository, never()).findMaxId();
+    }
+
+    @Test
+    @DisplayName("ID 카운터가 없으면 DB 최대 ID에 여유 구간을 더해 다시 시작한다")
+    void reseedsIdSequenceFromDatabase() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SEQUENCE_KEY)), eq("1000")))
+                .thenReturn(-1L, 101_234L);
+        when(chatMessageRepository.findMaxId()).thenReturn(234L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(SEQUENCE_KEY, "100234")).thenReturn(true);
+
+        assertThat(chatMessageIdAllocator.nextId()).isEqualTo(100_235L);
+        verify(valueOperations).setIfAbsent(SEQUENCE_KEY, "100234");
+    }
+
+    @Test
+    @DisplayName("방 순번 카운터가 없으면 DB 최대 순번과 순번 없는 메시지 수만큼 건너뛰고 다시 시작한다")
+    void reseedsRoomSeqFromDatabase() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(ROOM_SEQ_KEYS), anyString(), anyString()))
+                .thenReturn(-1L, 1_009L);
+        when(chatMessageRepository.findMaxSeqByRoomId(7L)).thenReturn(5L);
+        when(chatMessageRepository.countBySeqIsNullAndRoomId(7L)).thenReturn(3L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        assertThat(chatMessageIdAllocator.nextSeq(7L)).isEqualTo(1_009L);
+        verify(valueOperations).setIfAbsent(ROOM_SEQ_KEY, "1008");
+    }
+
+    @Test
+    @DisplayName("순번은 카운터 증가와 미저장 등록을 한 스크립트로 처리하고, 등록 시각을 함께 넘긴다")
+    void registersAllocatedSeqAsInFlight() {
+        long before = System.currentTimeMillis();
+        when(redisTemplate.execute(any(RedisScript.class), eq(ROOM_SEQ_KEYS), anyString(), anyString())).thenReturn(42L);
+
+        assertThat(chatMessageIdAllocator.nextSeq(7L)).isEqualTo(42L);
+
+        ArgumentCaptor<String> allocatedAt = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(ROOM_SEQ_KEYS), allocatedAt.capture(), anyString());
+        assertThat(Long.parseLong(allocatedAt.getValue())).isBetween(before, System.currentTimeMillis());
+        verify(chatMessageRepository, never()).findMaxSeqByRoomId(any());
+    }
+
+    @Test
+    @DisplayName("저장이 끝난 순번은 미저장 목록에서 제거한다")
+    void completesSeqs() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        chatMessageIdAllocator.completeSeqs(7L, List.of(3L, 4L));
+        chatMessageIdAllocator.completeSeqs(7L, List.of());
+
+        verify(zSetOperations).remove(IN_FLIGHT_KEY, "3", "4");
+        verify(redisTemplate, times(1)).opsForZSet();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없으면 바로, 있으면 트랜잭션이 끝난 뒤에 순번을 완료 처리한다")
+    void completesSeqAfterTransaction() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        chatMessageIdAllocator.completeSeqAfterTransaction(7L, 3L);
+        verify(zSetOperations).remove(IN_FLIGHT_KEY, "3");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            chatMessageIdAllocator.completeSeqAfterTransaction(7L, 4L);
+            verify(zSetOperations, never()).remove(IN_FLIGHT_KEY, "4");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            verify(zSetOperations).remove(IN_FLIGHT_KEY, "4");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("저장 상한은 스크립트 결과를 쓰고, 포기 기준 시각은 2분 전으로 넘긴다")
+    void readsPersistedSeqWithAbandonCutoff() {
+        long now = System.currentTimeMillis();
+        when(redisTemplate.execute(any(RedisScript.class), eq(ROOM_SEQ_KEYS), anyString())).thenReturn(11L);
+
+        assertThat(chatMessageIdAllocator.persistedSeq(7L)).isEqualTo(11L);
+
+        ArgumentCaptor<String> abandonBefore = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(ROOM_SEQ_KEYS), abandonBefore.capture());
+        assertThat(Long.parseLong(abandonBefore.getValue()))
+                .isBetween(now - 120_000L - 1_000L, System.currentTimeMillis() - 120_000L);
+    }
+
+    @Test
+    @DisplayName("순번 카운터가 없으면 미저장 정보도 없으므로 상한을 두지 않는다")
+    void doesNotCapWithoutRoomCounter() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(ROOM_SEQ_KEYS), anyString())).thenReturn(-1L);
+
+        assertThat(chatMessageIdAllocator.persistedSeq(7L)).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,121 @@
+package com.studymate.domain.chat.service;
+
+import com.studymate.common.lock.RedisLeaderLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageSeqBackfill 단위 테스트")
+class ChatMessageSeqBackfillTest {
+
+    private static final String LOCK_NAME = "chat-message-seq-backfill";
+    private static final String DONE_KEY = "chat:message:seq-backfilled";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisLeaderLock redisLeaderLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageSeqBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new ChatMessageSeqBackfill(jdbcTemplate, redisTemplate, redisLeaderLock, transactionManager);
+        lenient().when(redisLeaderLock.tryAcquire(eq(LOCK_NAME), any(Duration.class))).thenReturn(true);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(0L), any())).thenReturn(List.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        backfill.shutdown();
+    }
+
+    @Test
+    @DisplayName("남은 첫 메시지보다 앞선 최대 순번부터 이어서 번호를 매기고 완료를 표시한다")
+    void resumesFromLastAssignedSeq() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), any())).thenReturn(rows(2));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(1L), any())).thenReturn(5L);
+        when(redisLeaderLock.renew(LOCK_NAME, Duration.ofMinutes(10))).thenReturn(true);
+
+        backfill.backfill();
+
+        ArgumentCaptor<List<Object[]>> assignments = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), assignments.capture());
+        assertThat(assignments.getValue()).containsExactly(new Object[]{6L, 100L}, new Object[]{7L, 101L});
+        verify(valueOperations).set(DONE_KEY, "1");
+        verify(redisLeaderLock).release(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("청크마다 잠금을 연장하고, 연장하지 못하면 멈춰 완료를 표시하지 않는다")
+    void stopsWhenLockCannotBeRenewed() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), any())).thenReturn(rows(500));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(1L), any())).thenReturn(0L);
+        when(redisLeaderLock.renew(LOCK_NAME, Duration.ofMinutes(10))).thenReturn(true, false);
+
+        backfill.backfill();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(valueOperations, never()).set(anyString(), anyString());
+        verify(redisLeaderLock).release(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("리더 잠금을 잡지 못하면 아무것도 하지 않는다")
+    void skipsWithoutLeaderLock() {
+        when(redisLeaderLock.tryAcquire(eq(LOCK_NAME), any(Duration.class))).thenReturn(false);
+
+        backfill.backfill();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any(), any());
+        verify(redisLeaderLock, never()).release(LOCK_NAME);
+    }
+
+    private static List<Object[]> rows(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp createdAt = Timestamp.valueOf("2026-01-01 12:00:00");
+        LongStream.range(0, count).forEach(i -> rows.add(new Object[]{100L + i, createdAt}));
+        return rows;
+    }
+}
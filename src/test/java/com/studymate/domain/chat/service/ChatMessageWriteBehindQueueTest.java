@@ -0,0 +1,262 @@
+package com.studymate.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageWriteBehindQueue 단위 테스트")
+class ChatMessageWriteBehindQueueTest {
+
+    private static final String SPILL_KEY = "chat:message:write-behind:spill";
+    private static final String DEAD_LETTER_KEY = "chat:message:write-behind:dead-letter";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private ChatMessageIdAllocator messageIdAllocator;
+
+    private final List<List<Long>> writtenBatches = new ArrayList<>();
+    private final Set<Long> failingIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> invalidIds = ConcurrentHashMap.newKeySet();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+        lenient().doAnswer(invocation -> {
+            Collection<ChatMessageWriteBehindQueue.PendingChatMessage> batch = invocation.getArgument(1);
+            List<Long> ids = batch.stream().map(ChatMessageWriteBehindQueue.PendingChatMessage::messageId).toList();
+            if (ids.stream().anyMatch(failingIds::contains)) {
+                throw new DataAccessResourceFailureException("insert failed");
+            }
+            if (ids.stream().anyMatch(invalidIds::contains)) {
+                throw new DataIntegrityViolationException("foreign key violation");
+            }
+            writtenBatches.add(ids);
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        meterRegistry = new SimpleMeterRegistry();
+        queue = newQueue(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        failingIds.clear();
+        invalidIds.clear();
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("쌓인 메시지는 한 번의 배치 INSERT로 저장한다")
+    void flushesPendingMessagesInOneBatch() {
+        queue.enqueue(message(1));
+        queue.enqueue(message(2));
+        queue.enqueue(message(3));
+        assertThat(queue.isPending(2)).isTrue();
+
+        queue.flush();
+
+        assertThat(writtenBatches).containsExactly(List.of(1L, 2L, 3L));
+        assertThat(queue.isPending(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 메시지별로 저장하고, 실패한 메시지만 백오프 후 다시 저장한다")
+    void fallsBackPerMessageAndRetriesFailedOne() throws InterruptedException {
+        failingIds.add(2L);
+        queue.enqueue(message(1));
+        queue.enqueue(message(2));
+        queue.enqueue(message(3));
+
+        queue.flush();
+
+        assertThat(writtenBatches).containsExactly(List.of(1L), List.of(3L));
+        assertThat(queue.isPending(1)).isFalse();
+        assertThat(queue.isPending(2)).isTrue();
+        verify(messageIdAllocator, never()).completeSeqs(10L, List.of(2L));
+
+        failingIds.clear();
+        Thread.sleep(20);
+        queue.flush();
+
+        assertThat(writtenBatches).endsWith(List.of(2L));
+        assertThat(queue.isPending(2)).isFalse();
+        verify(messageIdAllocator).completeSeqs(10L, List.of(2L));
+    }
+
+    @Test
+    @DisplayName("저장이 끝난 메시지의 순번을 방별로 모아 완료 처리한다")
+    void completesSeqsPerRoomAfterInsert() {
+        queue.enqueue(message(1, 10L));
+        queue.enqueue(message(2, 20L));
+        queue.enqueue(message(3, 10L));
+
+        queue.flush();
+
+        verify(messageIdAllocator).completeSeqs(10L, List.of(1L, 3L));
+        verify(messageIdAllocator).completeSeqs(20L, List.of(2L));
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 메시지는 버리지 않고 Redis 목록으로 옮긴다")
+    void spillsMessageAfterMaxAttempts() throws InterruptedException {
+        failingIds.add(7L);
+        queue.enqueue(message(7));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            queue.flush();
+            Thread.sleep(20);
+        }
+
+        verify(listOperations).rightPush(eq(SPILL_KEY), anyString());
+        assertThat(queue.isPending(7)).isFalse();
+        // Redis 목록으로 옮긴 메시지는 아직 저장되지 않았으므로 순번을 완료 처리하지 않음
+        verify(messageIdAllocator, never()).completeSeqs(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("무결성 오류로 저장할 수 없는 메시지는 재시도하지 않고 dead-letter 목록으로 옮긴 뒤 순번을 완료 처리한다")
+    void deadLettersNonTransientFailure() {
+        invalidIds.add(4L);
+        queue.enqueue(message(4));
+
+        queue.flush();
+
+        verify(listOperations).rightPush(eq(DEAD_LETTER_KEY), anyString());
+        verify(listOperations, never()).rightPush(eq(SPILL_KEY), anyString());
+        verify(messageIdAllocator).completeSeqs(10L, List.of(4L));
+        assertThat(queue.isPending(4)).isFalse();
+        assertThat(deadLettered("non_transient")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 목록을 여러 번 오가도 저장하지 못한 메시지는 더 옮기지 않고 dead-letter 목록으로 옮긴다")
+    void deadLettersAfterMaxSpills() throws InterruptedException {
+        failingIds.add(8L);
+        queue.enqueue(new ChatMessageWriteBehindQueue.PendingChatMessage(8L, 10L, 8L, UUID.randomUUID(), "message 8",
+                null, List.of(), LocalDateTime.now(), 0, 0L, 10, System.currentTimeMillis()));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            queue.flush();
+            Thread.sleep(20);
+        }
+
+        verify(listOperations).rightPush(eq(DEAD_LETTER_KEY), anyString());
+        verify(listOperations, never()).rightPush(eq(SPILL_KEY), anyString());
+        assertThat(queue.isPending(8)).isFalse();
+        assertThat(deadLettered("retries_exhausted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도가 길어져 순번이 곧 포기되면 새 순번을 받아 저장하고 이전 순번은 완료 처리한다")
+    void reassignsSeqBeforeItIsAbandoned() throws InterruptedException {
+        failingIds.add(9L);
+        queue.enqueue(message(9));
+        queue.flush();
+
+        failingIds.clear();
+        when(messageIdAllocator.isNearlyAbandoned(anyLong())).thenReturn(true);
+        when(messageIdAllocator.nextSeq(10L)).thenReturn(99L);
+        Thread.sleep(20);
+        queue.flush();
+
+        assertThat(writtenBatches).endsWith(List.of(9L));
+        verify(messageIdAllocator).completeSeqs(10L, List.of(9L));
+        verify(messageIdAllocator).completeSeqs(10L, List.of(99L));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 바로 저장한다")
+    void writesSynchronouslyWhenQueueIsFull() {
+        queue.shutdown();
+        queue = newQueue(1);
+
+        queue.enqueue(message(1));
+        queue.enqueue(message(2));
+
+        assertThat(writtenBatches).containsExactly(List.of(2L));
+        assertThat(queue.isPending(1)).isTrue();
+        assertThat(queue.isPending(2)).isFalse();
+        verify(listOperations, never()).rightPush(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 메시지 ID로 요청하면 바로 저장한다")
+    void flushesWhenRequestedMessageIsPending() {
+        queue.enqueue(message(5));
+
+        queue.flushIfPending(6);
+        assertThat(writtenBatches).isEmpty();
+
+        queue.flushIfPending(5);
+        assertThat(writtenBatches).containsExactly(List.of(5L));
+    }
+
+    private ChatMessageWriteBehindQueue newQueue(int maxPending) {
+        return new ChatMessageWriteBehindQueue(jdbcTemplate, transactionManager, redisTemplate,
+                new ObjectMapper().findAndRegisterModules(), messageIdAllocator, meterRegistry, 1L, maxPending);
+    }
+
+    private double deadLettered(String reason) {
+        return meterRegistry.counter("chat.write_behind.dead_lettered", "reason", reason).count();
+    }
+
+    private ChatMessageWriteBehindQueue.PendingChatMessage message(long messageId) {
+        return message(messageId, 10L);
+    }
+
+    private ChatMessageWriteBehindQueue.PendingChatMessage message(long messageId, Long roomId) {
+        return new ChatMessageWriteBehindQueue.PendingChatMessage(
+                messageId, roomId, messageId, UUID.randomUUID(), "message " + messageId, null, List.of(), LocalDateTime.now());
+    }
+}
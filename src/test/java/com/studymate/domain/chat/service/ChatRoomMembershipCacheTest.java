@@ -0,0 +1,188 @@
+package com.studymate.domain.chat.service;
+
+import com.studymate.domain.chat.repository.ChatRoomParticipantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomMembershipCache 단위 테스트")
+class ChatRoomMembershipCacheTest {
+
+    private static final Long ROOM_ID = 3L;
+    private static final String MEMBERS_KEY = "chat:room:members:3";
+    private static final String VERSION_KEY = "chat:room:members:version:3";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ChatRoomParticipantRepository participantRepository;
+
+    private ChatRoomMembershipCache membershipCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        membershipCache = new ChatRoomMembershipCache(redisTemplate, participantRepository);
+        userId = UUID.randomUUID();
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Set에 있는 참여자는 DB를 조회하지 않고 허용한다")
+    void allowsCachedMemberWithoutDatabase() {
+        stubIsMember(1L);
+
+        assertThat(membershipCache.isMember(ROOM_ID, userId)).isTrue();
+        verify(participantRepository, never()).existsByRoomIdAndUserUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Set이 없으면 DB 조회 전 버전과 함께 DB 참여자와 적재 표시를 한 번에 적재한다")
+    void loadsMissingSetFromDatabase() {
+        UUID other = UUID.randomUUID();
+        stubIsMember(-1L);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("4");
+        when(participantRepository.findUserIdsByRoomId(ROOM_ID)).thenReturn(List.of(userId, other));
+
+        assertThat(membershipCache.isMember(ROOM_ID, userId)).isTrue();
+
+        verify(redisTemplate).execute(script("DEL"), eq(List.of(MEMBERS_KEY, VERSION_KEY)),
+                eq("4"), eq("1800000"), eq("-"), eq(userId.toString()), eq(other.toString()));
+    }
+
+    @Test
+    @DisplayName("버전이 없으면 0으로 보고 적재한다")
+    void loadsWithInitialVersion() {
+        stubIsMember(-1L);
+        when(participantRepository.findUserIdsByRoomId(ROOM_ID)).thenReturn(List.of());
+
+        membershipCache.isMember(ROOM_ID, userId);
+
+        verify(redisTemplate).execute(script("DEL"), eq(List.of(MEMBERS_KEY, VERSION_KEY)),
+                eq("0"), eq("1800000"), eq("-"));
+    }
+
+    @Test
+    @DisplayName("참여자가 없는 방도 적재 표시만 담아 적재하고 거부한다")
+    void loadsEmptyRoomWithMarkerOnly() {
+        stubIsMember(-1L);
+        when(participantRepository.findUserIdsByRoomId(ROOM_ID)).thenReturn(List.of());
+
+        assertThat(membershipCache.isMember(ROOM_ID, userId)).isFalse();
+        verify(redisTemplate).execute(script("DEL"), eq(List.of(MEMBERS_KEY, VERSION_KEY)),
+                eq("0"), eq("1800000"), eq("-"));
+    }
+
+    @Test
+    @DisplayName("Set에 없다고 나오면 DB로 다시 확인하고, 참여자면 적재된 Set에만 추가한다")
+    void rechecksDatabaseOnCacheMiss() {
+        stubIsMember(0L);
+        when(participantRepository.existsByRoomIdAndUserUserId(ROOM_ID, userId)).thenReturn(true);
+
+        assertThat(membershipCache.isMember(ROOM_ID, userId)).isTrue();
+        verify(redisTemplate).execute(script("SADD"), eq(List.of(MEMBERS_KEY)), eq(userId.toString()));
+    }
+
+    @Test
+    @DisplayName("DB에도 없으면 거부하고 Set은 건드리지 않는다")
+    void rejectsNonMember() {
+        stubIsMember(0L);
+        when(participantRepository.existsByRoomIdAndUserUserId(ROOM_ID, userId)).thenReturn(false);
+
+        assertThat(membershipCache.isMember(ROOM_ID, userId)).isFalse();
+        verify(redisTemplate, never()).execute(script("SADD"), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB로 참여 여부를 확인한다")
+    void fallsBackToDatabaseOnRedisFailure() {
+        when(redisTemplate.execute(script("SISMEMBER"), eq(List.of(MEMBERS_KEY)), eq(userId.toString())))
+                .thenThrow(new QueryTimeoutException("redis down"));
+        when(participantRepository.existsByRoomIdAndUserUserId(ROOM_ID, userId)).thenReturn(true);
+
+        assertThat(membershipCache.isMember(ROOM_ID, userId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("참여 반영은 커밋 후에만 실행한다")
+    void addsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        membershipCache.addAfterCommit(ROOM_ID, userId);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).execute(script("SADD"), eq(List.of(MEMBERS_KEY)), eq(userId.toString()));
+    }
+
+    @Test
+    @DisplayName("나가기는 방 버전을 올리면서 Set에서 제거해 진행 중인 적재가 나간 사용자를 되살리지 못하게 한다")
+    void bumpsVersionOnRemoval() {
+        membershipCache.removeAfterCommit(ROOM_ID, userId);
+
+        verify(redisTemplate).execute(script("INCR"), eq(List.of(MEMBERS_KEY, VERSION_KEY)),
+                eq(userId.toString()), eq("1800000"));
+        verify(redisTemplate, never()).delete(MEMBERS_KEY);
+    }
+
+    @Test
+    @DisplayName("나가기를 Set에 반영하지 못하면 Set을 버려 다음 조회 때 다시 적재한다")
+    void evictsSetWhenRemovalFails() {
+        when(redisTemplate.execute(script("SREM"), eq(List.of(MEMBERS_KEY, VERSION_KEY)), eq(userId.toString()), anyString()))
+                .thenThrow(new QueryTimeoutException("redis down"));
+
+        membershipCache.removeAfterCommit(ROOM_ID, userId);
+
+        verify(redisTemplate).delete(MEMBERS_KEY);
+    }
+
+    private void stubIsMember(Long result) {
+        // 같은 execute를 다른 스크립트로도 호출하므로 lenient
+        lenient().when(redisTemplate.execute(script("SISMEMBER"), eq(List.of(MEMBERS_KEY)), eq(userId.toString())))
+                .thenReturn(result);
+    }
+
+    private static RedisScript<Long> script(String command) {
+        return argThat(script -> script != null && script.getScriptAsString().contains(command));
+    }
+}
@@ -0,0 +1,207 @@
+package com.studymate.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studymate.domain.chat.entity.ChatRoom;
+import com.studymate.domain.chat.entity.RoomType;
+import com.studymate.domain.chat.repository.ChatMessageRepository;
+import com.studymate.domain.chat.repository.ChatRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomSummaryCache 단위 테스트")
+class ChatRoomSummaryCacheTest {
+
+    private static final String ROOM_KEY = "chat:room:summary:";
+    private static final String LAST_MESSAGE_KEY = "chat:room:last-message:";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisOperations<String, String> pipelineOperations;
+
+    @Mock
+    private ValueOperations<String, String> pipelineValueOperations;
+
+    @Mock
+    private ChatRoomRepository roomRepository;
+
+    @Mock
+    private ChatMessageRepository messageRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ChatRoomSummaryCache summaryCache;
+
+    @BeforeEach
+    void setUp() {
+        summaryCache = new ChatRoomSummaryCache(redisTemplate, objectMapper, roomRepository, messageRepository);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(pipelineOperations.opsForValue()).thenReturn(pipelineValueOperations);
+        lenient().doAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(pipelineOperations);
+            return List.of();
+        }).when(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("전송된 메시지는 JSON, 전송 시각, TTL, 빈 방 표시 순서로 조건부 교체 스크립트에 넘긴다")
+    void recordsMessageThroughConditionalScript() throws Exception {
+        ChatRoomSummaryCache.LastMessage lastMessage = lastMessage(10L, 2_000L);
+
+        summaryCache.recordMessage(1L, lastMessage);
+
+        ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(script.capture(), eq(List.of(LAST_MESSAGE_KEY + 1)),
+                json.capture(), eq("2000"), eq(String.valueOf(Duration.ofDays(1).toMillis())), eq("-"));
+        assertThat(objectMapper.readValue(json.getValue(), ChatRoomSummaryCache.LastMessage.class)).isEqualTo(lastMessage);
+        // 빈 방 표시는 항상 교체하고, 저장된 메시지가 더 최근이면 교체하지 않음
+        assertThat(script.getValue().getScriptAsString())
+                .contains("current ~= ARGV[4]")
+                .contains("cjson.decode(current).sentAtMillis > tonumber(ARGV[2])");
+    }
+
+    @Test
+    @DisplayName("마지막 메시지를 반영하지 못하면 키를 지워 다음 조회 때 DB에서 다시 채운다")
+    void evictsLastMessageWhenRecordFails() {
+        doThrow(new QueryTimeoutException("redis down")).when(redisTemplate)
+                .execute(any(RedisScript.class), any(), anyString(), anyString(), anyString(), anyString());
+
+        summaryCache.recordMessage(1L, lastMessage(10L, 2_000L));
+
+        verify(redisTemplate).delete(LAST_MESSAGE_KEY + 1);
+    }
+
+    @Test
+    @DisplayName("캐시에 모두 있으면 MGET 한 번으로 요청 순서대로 만들고 DB를 조회하지 않는다")
+    void servesCachedSummariesInRequestOrder() throws Exception {
+        when(valueOperations.multiGet(List.of(ROOM_KEY + 2, LAST_MESSAGE_KEY + 2, ROOM_KEY + 1, LAST_MESSAGE_KEY + 1)))
+                .thenReturn(List.of(write(room(2L)), "-", write(room(1L)), write(lastMessage(10L, 2_000L))));
+
+        List<ChatRoomSummaryCache.ChatRoomSummary> summaries = summaryCache.getSummaries(List.of(2L, 1L));
+
+        assertThat(summaries).extracting(ChatRoomSummaryCache.ChatRoomSummary::roomId).containsExactly(2L, 1L);
+        assertThat(summaries.get(0).lastMessage()).isNull();
+        assertThat(summaries.get(1).lastMessage().messageId()).isEqualTo(10L);
+        verifyNoInteractions(roomRepository, messageRepository);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 방은 두 쿼리로 채우고, 전송 시 기록된 최신 값을 덮어쓰지 않도록 SET NX로만 저장한다")
+    void fillsMissesWithSetIfAbsent() {
+        UUID senderId = UUID.randomUUID();
+        LocalDateTime sentAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        when(valueOperations.multiGet(any())).thenReturn(Arrays.asList(null, null, null, null));
+        when(roomRepository.findAllWithParticipantsByIdIn(Set.of(1L, 2L)))
+                .thenReturn(List.of(chatRoom(1L), chatRoom(2L)));
+        when(messageRepository.findLatestMessageRowsByRoomIds(Set.of(1L, 2L))).thenReturn(rows(
+                new Object[]{10L, 1L, senderId, "kim", "hello", null, 0L, 0L, sentAt},
+                // 같은 시각 메시지가 여러 개면 ID가 큰 메시지
+                new Object[]{11L, 1L, senderId, "kim", "later", null, 0L, 0L, sentAt}));
+
+        List<ChatRoomSummaryCache.ChatRoomSummary> summaries = summaryCache.getSummaries(List.of(1L, 2L));
+
+        assertThat(summaries.get(0).lastMessage().messageId()).isEqualTo(11L);
+        assertThat(summaries.get(1).lastMessage()).isNull();
+        verify(pipelineValueOperations).setIfAbsent(eq(ROOM_KEY + 1), anyString(), eq(Duration.ofMinutes(10)));
+        verify(pipelineValueOperations).setIfAbsent(eq(LAST_MESSAGE_KEY + 1), anyString(), eq(Duration.ofDays(1)));
+        verify(pipelineValueOperations).setIfAbsent(LAST_MESSAGE_KEY + 2, "-", Duration.ofDays(1));
+        verify(pipelineValueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        verify(pipelineValueOperations, never()).set(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis를 읽지 못해도 DB로 요약을 만든다")
+    void fallsBackToDatabaseWhenReadFails() {
+        when(valueOperations.multiGet(any())).thenThrow(new QueryTimeoutException("redis down"));
+        when(roomRepository.findAllWithParticipantsByIdIn(Set.of(1L))).thenReturn(List.of(chatRoom(1L)));
+
+        assertThat(summaryCache.getSummaries(List.of(1L)))
+                .extracting(ChatRoomSummaryCache.ChatRoomSummary::roomId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("방 정보는 커밋 후에만 지운다")
+    void evictsRoomOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        summaryCache.evictRoomAfterCommit(1L);
+        verify(redisTemplate, never()).delete(anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).delete(ROOM_KEY + 1);
+    }
+
+    private String write(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private static ChatRoomSummaryCache.RoomSnapshot room(Long roomId) {
+        return new ChatRoomSummaryCache.RoomSnapshot(roomId, "room " + roomId, RoomType.GROUP, true, 4, 1_000L, List.of());
+    }
+
+    private static ChatRoom chatRoom(Long roomId) {
+        return ChatRoom.builder()
+                .id(roomId)
+                .roomName("room " + roomId)
+                .roomType(RoomType.GROUP)
+                .isPublic(true)
+                .maxParticipants(4)
+                .build();
+    }
+
+    private static ChatRoomSummaryCache.LastMessage lastMessage(Long messageId, long sentAtMillis) {
+        return ChatRoomSummaryCache.LastMessage.of(messageId, UUID.randomUUID(), "kim", "hello",
+                false, false, false, sentAtMillis);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,154 @@
+package com.studymate.domain.chat.service;
+
+import com.studymate.common.dto.CursorPageResponse;
+import com.studymate.common.exception.StudymateException;
+import com.studymate.domain.chat.dto.response.ChatMessageResponse;
+import com.studymate.domain.chat.entity.ChatMessage;
+import com.studymate.domain.chat.repository.ChatMessageRepository;
+import com.studymate.domain.chat.repository.ChatRoomRepository;
+import com.studymate.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatServiceImpl 메시지 히스토리 단위 테스트")
+class ChatServiceHistoryTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    @Mock
+    private ChatRoomRepository roomRepo;
+
+    @Mock
+    private ChatMessageRepository msgRepo;
+
+    @Mock
+    private ChatMessageIdAllocator messageIdAllocator;
+
+    @Mock
+    private ChatRoomMembershipCache membershipCache;
+
+    @InjectMocks
+    private ChatServiceImpl chatService;
+
+    private UUID userId;
+    private User sender;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        sender = User.builder().userId(userId).name("sender").build();
+        lenient().when(membershipCache.isMember(ROOM_ID, userId)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 최신 페이지를 오래된 순으로 돌려주고 가장 오래된 순번을 다음 커서로 준다")
+    void returnsLatestPageOldestFirst() {
+        when(msgRepo.findLatestBySeq(ROOM_ID, PageRequest.of(0, 3))).thenReturn(messages(10, 9, 8));
+
+        CursorPageResponse<ChatMessageResponse> page = chatService.getMessageHistory(ROOM_ID, userId, null, null, 2);
+
+        assertThat(seqs(page)).containsExactly(9L, 10L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("9");
+    }
+
+    @Test
+    @DisplayName("beforeSeq로 이전 페이지를 조회하고 마지막 페이지면 커서를 주지 않는다")
+    void returnsPageBeforeSeq() {
+        when(msgRepo.findBeforeSeq(ROOM_ID, 9L, PageRequest.of(0, 3))).thenReturn(messages(8, 7));
+
+        CursorPageResponse<ChatMessageResponse> page = chatService.getMessageHistory(ROOM_ID, userId, 9L, null, 2);
+
+        assertThat(seqs(page)).containsExactly(7L, 8L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("afterSeq 조회는 앞 순번이 모두 저장된 순번까지만 읽는다")
+    void capsAfterSeqReadAtPersistedSeq() {
+        when(messageIdAllocator.persistedSeq(ROOM_ID)).thenReturn(7L);
+        when(msgRepo.findAfterSeq(ROOM_ID, 5L, 7L, PageRequest.of(0, 11))).thenReturn(messages(6, 7));
+
+        CursorPageResponse<ChatMessageResponse> page = chatService.getMessageHistory(ROOM_ID, userId, null, 5L, 10);
+
+        assertThat(seqs(page)).containsExactly(6L, 7L);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("afterSeq 바로 다음 순번이 아직 저장 중이면 DB를 조회하지 않고 빈 페이지를 준다")
+    void returnsEmptyPageWhileNextSeqIsInFlight() {
+        when(messageIdAllocator.persistedSeq(ROOM_ID)).thenReturn(5L);
+
+        CursorPageResponse<ChatMessageResponse> page = chatService.getMessageHistory(ROOM_ID, userId, null, 5L, 10);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        verify(msgRepo, never()).findAfterSeq(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대 100으로 제한한다")
+    void clampsPageSize() {
+        when(msgRepo.findLatestBySeq(ROOM_ID, PageRequest.of(0, 101))).thenReturn(List.of());
+
+        CursorPageResponse<ChatMessageResponse> page = chatService.getMessageHistory(ROOM_ID, userId, null, null, 1_000);
+
+        assertThat(page.getSize()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("beforeSeq와 afterSeq를 함께 주면 거부한다")
+    void rejectsBothCursors() {
+        assertThatThrownBy(() -> chatService.getMessageHistory(ROOM_ID, userId, 9L, 5L, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("방 참여자가 아니면 조회할 수 없다")
+    void rejectsNonMember() {
+        UUID outsider = UUID.randomUUID();
+        when(membershipCache.isMember(ROOM_ID, outsider)).thenReturn(false);
+        when(roomRepo.existsById(ROOM_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> chatService.getMessageHistory(ROOM_ID, outsider, null, null, 10))
+                .isInstanceOf(StudymateException.class);
+        verify(msgRepo, never()).findLatestBySeq(any(), any());
+    }
+
+    private List<ChatMessage> messages(long... seqs) {
+        return LongStream.of(seqs)
+                .mapToObj(seq -> ChatMessage.builder()
+                        .id(1_000L + seq)
+                        .seq(seq)
+                        .sender(sender)
+                        .message("message " + seq)
+                        .build())
+                .toList();
+    }
+
+    private static List<Long> seqs(CursorPageResponse<ChatMessageResponse> page) {
+        return page.getContent().stream().map(ChatMessageResponse::seq).toList();
+    }
+}
@@ -43,6 +43,9 @@ class MessageRetryServiceTest {
     @Mock
     private ListOperations<String, String> listOperations;
 
+    @Mock
+    private ChatMessageWriteBehindQueue writeBehindQueue;
+
     @InjectMocks
     private MessageRetryService messageRetryService;
 
@@ -119,6 +122,31 @@ class MessageRetryServiceTest {
         verify(listOperations).leftPop(retryKey);
     }
 
+    @Test
+    @DisplayName("아직 지연 저장 중인 메시지는 버리지 않고 재시도 큐에 다시 넣는다")
+    void processRetryQueue_DefersPendingMessage() throws Exception {
+        // Given
+        String retryKey = "message_retry:" + roomId + ":" + userId;
+        String messageJson = "{\"messageId\":2,\"content\":\"저장 대기 메시지\"}";
+
+        when(listOperations.leftPop(retryKey)).thenReturn(messageJson, (String) null);
+
+        Map<String, Object> messageData = new HashMap<>();
+        messageData.put("messageId", 2L);
+
+        when(objectMapper.readValue(eq(messageJson), eq(Map.class))).thenReturn(messageData);
+        when(chatMessageRepository.findById(2L)).thenReturn(Optional.empty());
+        when(writeBehindQueue.isPending(2L)).thenReturn(true);
+
+        // When
+        List<ChatMessage> result = messageRetryService.processRetryQueue(roomId, userId);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(writeBehindQueue).flushIfPending(2L);
+        verify(listOperations).rightPushAll(retryKey, List.of(messageJson));
+    }
+
     @Test
     @DisplayName("재시도 큐가 비어있을 때")
     void processRetryQueue_EmptyQueue() {
@@ -0,0 +1,129 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompatibilityScoreStore 단위 테스트")
+class CompatibilityScoreStoreTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisOperations<String, String> pipelineOperations;
+
+    @Mock
+    private ZSetOperations<String, String> pipelineZSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> pipelineValueOperations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MatchingCandidateIndex matchingCandidateIndex;
+
+    @Mock
+    private CompatibilityVectorCache compatibilityVectorCache;
+
+    @Captor
+    private ArgumentCaptor<SessionCallback<Object>> pipelineCaptor;
+
+    private CompatibilityScoreStore compatibilityScoreStore;
+
+    @BeforeEach
+    void setUp() {
+        compatibilityScoreStore = new CompatibilityScoreStore(redisTemplate, userRepository, matchingCandidateIndex,
+                compatibilityVectorCache);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        compatibilityScoreStore.shutdown();
+    }
+
+    @Test
+    @DisplayName("상대 행에 추가한 항목도 행 크기 제한과 TTL을 적용한다")
+    void trimsAndExpiresPartnerRows() {
+        UUID me = UUID.randomUUID();
+        UUID partnerId = UUID.randomUUID();
+        User meUser = User.builder().userId(me).build();
+        User partner = User.builder().userId(partnerId).build();
+        when(zSetOperations.range("matching:scores:" + me, 0, -1)).thenReturn(Set.of());
+        when(userRepository.findById(me)).thenReturn(Optional.of(meUser));
+        when(matchingCandidateIndex.getProfile(me)).thenReturn(profile(me));
+        when(matchingCandidateIndex.getProfile(partnerId)).thenReturn(profile(partnerId));
+        when(matchingCandidateIndex.findCandidates(me, null, null, null)).thenReturn(List.of(partnerId));
+        when(userRepository.findAllById(List.of(partnerId))).thenReturn(List.of(partner));
+        when(pipelineOperations.opsForZSet()).thenReturn(pipelineZSetOperations);
+        when(pipelineOperations.opsForValue()).thenReturn(pipelineValueOperations);
+
+        compatibilityScoreStore.refreshRow(me);
+
+        verify(compatibilityVectorCache).preload(anyCollection());
+        verify(redisTemplate).executePipelined(pipelineCaptor.capture());
+        pipelineCaptor.getValue().execute(pipelineOperations);
+
+        String partnerKey = "matching:scores:" + partnerId;
+        // 벡터 / 모국어 정보가 없으면 언어 20점, 나머지 항목 기본 50점의 가중 평균
+        verify(pipelineZSetOperations).add(partnerKey, me.toString(), 41.0);
+        verify(pipelineZSetOperations).removeRange(partnerKey, 0, -501);
+        verify(pipelineOperations).expire(partnerKey, Duration.ofDays(7));
+        verify(pipelineValueOperations).set(eq("matching:scores:ready:" + me), eq("1"), eq(Duration.ofDays(7)));
+    }
+
+    @Test
+    @DisplayName("온보딩 변경 이벤트는 요청 스레드가 아닌 전용 스레드에서 점수 행을 재계산한다")
+    void refreshesRowOffTheCallerThread() {
+        UUID userId = UUID.randomUUID();
+        AtomicReference<String> refreshThread = new AtomicReference<>();
+        when(userRepository.findById(userId)).thenAnswer(invocation -> {
+            refreshThread.set(Thread.currentThread().getName());
+            return Optional.empty();
+        });
+
+        compatibilityScoreStore.onOnboardingDataChanged(new OnboardingDataChangedEvent(userId));
+
+        verify(redisTemplate, timeout(1000)).delete("matching:scores:ready:" + userId);
+        assertThat(refreshThread.get()).isEqualTo("compatibility-score-refresh");
+    }
+
+    private MatchingCandidateIndex.CandidateProfile profile(UUID userId) {
+        return new MatchingCandidateIndex.CandidateProfile(userId, 1, Set.of(2), Set.of(), true);
+    }
+}
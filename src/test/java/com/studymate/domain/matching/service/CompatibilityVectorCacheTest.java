@@ -0,0 +1,76 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.repository.OnboardingPersonalityRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingStudyGoalRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingTopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompatibilityVectorCache 단위 테스트")
+class CompatibilityVectorCacheTest {
+
+    @Mock
+    private OnboardingPersonalityRepository personalityRepository;
+
+    @Mock
+    private OnboardingStudyGoalRepository studyGoalRepository;
+
+    @Mock
+    private OnboardingTopicRepository topicRepository;
+
+    private CompatibilityVectorCache vectorCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        vectorCache = new CompatibilityVectorCache(personalityRepository, studyGoalRepository, topicRepository);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("적재한 벡터는 다시 조회해도 DB를 읽지 않는다")
+    void cachesLoadedVector() {
+        vectorCache.get(userId);
+        vectorCache.get(userId);
+
+        verify(personalityRepository, times(1)).findVectorRowsByUserIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("무효화된 사용자는 다음 조회 때 다시 적재한다")
+    void reloadsAfterInvalidate() {
+        vectorCache.get(userId);
+        vectorCache.invalidate(userId);
+        vectorCache.get(userId);
+
+        verify(personalityRepository, times(2)).findVectorRowsByUserIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 읽은 벡터는 반환만 하고 캐시에 넣지 않는다")
+    void doesNotCacheVectorInvalidatedDuringLoad() {
+        when(personalityRepository.findVectorRowsByUserIds(anyCollection())).thenAnswer(invocation -> {
+            vectorCache.invalidate(userId);
+            return List.of();
+        }).thenReturn(List.of());
+
+        assertThat(vectorCache.preload(List.of(userId))).containsKey(userId);
+        vectorCache.get(userId);
+
+        verify(personalityRepository, times(2)).findVectorRowsByUserIds(anyCollection());
+    }
+}
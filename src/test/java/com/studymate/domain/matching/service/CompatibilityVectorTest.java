@@ -0,0 +1,55 @@
+package com.studymate.domain.matching.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompatibilityVector 단위 테스트")
+class CompatibilityVectorTest {
+
+    @Test
+    @DisplayName("데이터가 없으면 카테고리별 기본 점수 50점을 반환한다")
+    void emptyVectorReturnsDefaultScores() {
+        CompatibilityVector vector = CompatibilityVector.of(Map.of(1, "CALM"), Map.of(1, "CASUAL"), List.of(1));
+
+        assertThat(vector.personalityScore(CompatibilityVector.EMPTY)).isEqualTo(50.0);
+        assertThat(vector.goalScore(CompatibilityVector.EMPTY)).isEqualTo(50.0);
+        assertThat(vector.interestScore(CompatibilityVector.EMPTY)).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("공통 성격 수와 내향/외향 보완 보너스를 합산한다")
+    void personalityScoreCountsCommonTraitsAndComplement() {
+        CompatibilityVector introvert = CompatibilityVector.of(
+                Map.of(1, "INTROVERT", 3, "CALM", 70, "CURIOUS"), Map.of(), List.of());
+        CompatibilityVector extrovert = CompatibilityVector.of(
+                Map.of(2, "EXTROVERT", 3, "CALM", 70, "CURIOUS"), Map.of(), List.of());
+
+        // 공통 2개 × 20 + 보완 30
+        assertThat(introvert.personalityScore(extrovert)).isEqualTo(70.0);
+    }
+
+    @Test
+    @DisplayName("보완 목표 보너스는 방향성을 가진다")
+    void goalComplementIsDirectional() {
+        CompatibilityVector business = CompatibilityVector.of(Map.of(), Map.of(1, "BUSINESS"), List.of());
+        CompatibilityVector casual = CompatibilityVector.of(Map.of(), Map.of(2, "CASUAL"), List.of());
+
+        assertThat(business.goalScore(casual)).isEqualTo(20.0);
+        assertThat(casual.goalScore(business)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("관심사 점수는 공통 주제 비율로 계산하며 워드 경계를 넘는 ID도 처리한다")
+    void interestScoreUsesDiceCoefficient() {
+        CompatibilityVector user1 = CompatibilityVector.of(Map.of(), Map.of(), List.of(1, 64, 130));
+        CompatibilityVector user2 = CompatibilityVector.of(Map.of(), Map.of(), List.of(64, 130, 5, 7));
+
+        // 공통 2개 × 2 / (3 + 4)
+        assertThat(user1.interestScore(user2)).isEqualTo(2.0 * 2 / 7 * 100.0);
+    }
+}
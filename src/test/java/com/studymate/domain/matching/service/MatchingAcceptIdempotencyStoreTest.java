@@ -0,0 +1,116 @@
+package com.studymate.domain.matching.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchingAcceptIdempotencyStore 단위 테스트")
+class MatchingAcceptIdempotencyStoreTest {
+
+    private static final String IDEMPOTENCY_KEY = "accept-1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MatchingAcceptIdempotencyStore matchingAcceptIdempotencyStore;
+    private UUID userId;
+    private UUID requestId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        matchingAcceptIdempotencyStore = new MatchingAcceptIdempotencyStore(redisTemplate);
+        userId = UUID.randomUUID();
+        requestId = UUID.randomUUID();
+        key = "matching:accept:idem:" + userId + ":" + IDEMPOTENCY_KEY;
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 작업 전에 SET NX로 요청에 묶는다")
+    void reservesNewKeyBeforeWork() {
+        when(valueOperations.setIfAbsent(key, requestId.toString(), Duration.ofHours(24))).thenReturn(true);
+
+        assertThat(matchingAcceptIdempotencyStore.reserve(userId, IDEMPOTENCY_KEY, requestId))
+                .isEqualTo(MatchingAcceptIdempotencyStore.Reservation.NEW);
+    }
+
+    @Test
+    @DisplayName("같은 요청으로 묶인 키는 재시도로 판단한다")
+    void replaysKeyBoundToSameRequest() {
+        when(valueOperations.setIfAbsent(key, requestId.toString(), Duration.ofHours(24))).thenReturn(false);
+        when(valueOperations.get(key)).thenReturn(requestId.toString());
+
+        assertThat(matchingAcceptIdempotencyStore.reserve(userId, IDEMPOTENCY_KEY, requestId))
+                .isEqualTo(MatchingAcceptIdempotencyStore.Reservation.REPLAY);
+    }
+
+    @Test
+    @DisplayName("다른 요청에 묶인 키를 재사용하면 거부한다")
+    void rejectsKeyBoundToOtherRequest() {
+        when(valueOperations.setIfAbsent(key, requestId.toString(), Duration.ofHours(24))).thenReturn(false);
+        when(valueOperations.get(key)).thenReturn(UUID.randomUUID().toString());
+
+        assertThatThrownBy(() -> matchingAcceptIdempotencyStore.reserve(userId, IDEMPOTENCY_KEY, requestId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시에는 상태 기반 처리로 넘긴다")
+    void fallsBackWhenRedisUnavailable() {
+        when(valueOperations.setIfAbsent(key, requestId.toString(), Duration.ofHours(24)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(matchingAcceptIdempotencyStore.reserve(userId, IDEMPOTENCY_KEY, requestId))
+                .isEqualTo(MatchingAcceptIdempotencyStore.Reservation.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("새로 묶은 키는 트랜잭션이 롤백되면 해제하고, 커밋되면 유지한다")
+    void releasesNewKeyOnlyOnRollback() {
+        when(valueOperations.setIfAbsent(key, requestId.toString(), Duration.ofHours(24))).thenReturn(true);
+
+        completeReservation(TransactionSynchronization.STATUS_COMMITTED);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+
+        completeReservation(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq(requestId.toString()));
+    }
+
+    private void completeReservation(int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            matchingAcceptIdempotencyStore.reserve(userId, IDEMPOTENCY_KEY, requestId);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.studymate.domain.matching.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studymate.common.lock.RedisLeaderLock;
+import com.studymate.domain.matching.domain.repository.MatchingQueueRepository;
+import com.studymate.domain.notification.service.NotificationWebSocketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchingAlternativePrecomputer 단위 테스트")
+class MatchingAlternativePrecomputerTest {
+
+    private static final String LOCK_NAME = "matching-alternative-precompute";
+    private static final String RESULT_PREFIX = "matching:alternatives:precomputed:";
+
+    @Mock
+    private MatchingAlternativeService matchingAlternativeService;
+
+    @Mock
+    private MatchingQueueRepository matchingQueueRepository;
+
+    @Mock
+    private NotificationWebSocketService notificationWebSocketService;
+
+    @Mock
+    private RedisLeaderLock redisLeaderLock;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private MatchingAlternativePrecomputer precomputer;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        precomputer = new MatchingAlternativePrecomputer(matchingAlternativeService, matchingQueueRepository,
+                notificationWebSocketService, redisLeaderLock, redisTemplate, objectMapper);
+        userId = UUID.randomUUID();
+        lenient().when(redisLeaderLock.tryAcquire(eq(LOCK_NAME), any(Duration.class))).thenReturn(true);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        precomputer.shutdown();
+    }
+
+    @Test
+    @DisplayName("리더 잠금을 잡지 못하면 대기열을 조회하지 않는다")
+    void skipsWithoutLeaderLock() {
+        when(redisLeaderLock.tryAcquire(eq(LOCK_NAME), any(Duration.class))).thenReturn(false);
+
+        precomputer.scan();
+
+        verifyNoInteractions(matchingQueueRepository, matchingAlternativeService);
+        verify(redisLeaderLock, never()).release(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("오래 기다린 사용자의 대안을 백그라운드에서 계산해 Redis에 짧게 보관하고 WebSocket으로 보낸다")
+    void computesStoresAndPushesAlternatives() {
+        when(matchingQueueRepository.findWaitingUsersJoinedBefore(any(), any()))
+                .thenReturn(waitingRow(LocalDateTime.now().minusMinutes(7)));
+
+        precomputer.scan();
+
+        verify(matchingAlternativeService, timeout(2_000)).provideDynamicAlternatives(userId, 7L);
+        verify(notificationWebSocketService, timeout(2_000))
+                .sendMatchingAlternatives(eq(userId), any(MatchingAlternativePrecomputer.PrecomputedAlternatives.class));
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(RESULT_PREFIX + userId), json.capture(), eq(Duration.ofMinutes(5)));
+        assertThat(json.getValue()).contains(userId.toString());
+        verify(redisLeaderLock).release(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("대기 단계가 그대로면 다시 계산하지 않고, 단계가 바뀌면 다시 계산한다")
+    void recomputesOnlyWhenWaitStageChanges() {
+        LocalDateTime joinedAt = LocalDateTime.now().minusMinutes(7);
+        when(matchingQueueRepository.findWaitingUsersJoinedBefore(any(), any()))
+                .thenReturn(waitingRow(joinedAt), waitingRow(joinedAt), waitingRow(joinedAt.minusMinutes(5)));
+
+        precomputer.scan();
+        precomputer.scan();
+        verify(matchingAlternativeService, timeout(2_000)).provideDynamicAlternatives(userId, 7L);
+
+        precomputer.scan();
+        verify(matchingAlternativeService, timeout(2_000)).provideDynamicAlternatives(userId, 12L);
+        verify(matchingAlternativeService, times(2)).provideDynamicAlternatives(eq(userId), anyLong());
+    }
+
+    @Test
+    @DisplayName("보관된 결과를 읽고, 결과가 없으면 null을 반환한다")
+    void readsStoredResult() throws Exception {
+        MatchingAlternativePrecomputer.PrecomputedAlternatives stored = new MatchingAlternativePrecomputer.PrecomputedAlternatives(
+                userId, 9L, null, null, null, LocalDateTime.of(2026, 1, 1, 12, 0));
+        UUID withoutResult = UUID.randomUUID();
+        when(valueOperations.get(RESULT_PREFIX + userId)).thenReturn(objectMapper.writeValueAsString(stored));
+        when(valueOperations.get(RESULT_PREFIX + withoutResult)).thenReturn(null);
+
+        assertThat(precomputer.get(userId)).isEqualTo(stored);
+        assertThat(precomputer.get(withoutResult)).isNull();
+    }
+
+    @Test
+    @DisplayName("대기열을 떠난 사용자의 결과를 삭제한다")
+    void evictsResult() {
+        precomputer.evict(userId);
+
+        verify(redisTemplate).delete(RESULT_PREFIX + userId);
+    }
+
+    private List<Object[]> waitingRow(LocalDateTime joinedAt) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{userId, joinedAt});
+        return rows;
+    }
+}
@@ -0,0 +1,113 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.matching.repository.MatchingRequestRepository;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchingExclusionSet 단위 테스트")
+class MatchingExclusionSetTest {
+
+    private static final String KEY_PREFIX = "matching:exclusion:";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private MatchingRequestRepository matchingRequestRepository;
+
+    @Mock
+    private UserMatchRepository userMatchRepository;
+
+    private MatchingExclusionSet exclusionSet;
+    private UUID userId;
+    private UUID partnerId;
+
+    @BeforeEach
+    void setUp() {
+        exclusionSet = new MatchingExclusionSet(redisTemplate, matchingRequestRepository, userMatchRepository);
+        userId = UUID.randomUUID();
+        partnerId = UUID.randomUUID();
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("적재 표식이 없으면 DB 결과를 표식과 함께 기존 멤버에 합쳐 적재한다")
+    void mergesDatabaseMembersIntoSetWithoutMarker() {
+        when(setOperations.isMember(KEY_PREFIX + userId, "-")).thenReturn(false);
+        when(setOperations.isMember(KEY_PREFIX + userId, partnerId.toString())).thenReturn(true);
+        when(matchingRequestRepository.findCounterpartIdsByStatusIn(eq(userId), any())).thenReturn(List.of(partnerId));
+
+        assertThat(exclusionSet.mayBeExcluded(userId, partnerId)).isTrue();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY_PREFIX + userId)),
+                eq("3600000"), eq("-"), eq(partnerId.toString()));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("적재된 집합이면 DB를 조회하지 않는다")
+    void skipsDatabaseWhenLoaded() {
+        when(setOperations.isMember(KEY_PREFIX + userId, "-")).thenReturn(true);
+        when(setOperations.isMember(KEY_PREFIX + userId, partnerId.toString())).thenReturn(false);
+
+        assertThat(exclusionSet.mayBeExcluded(userId, partnerId)).isFalse();
+        verify(matchingRequestRepository, never()).findCounterpartIdsByStatusIn(any(), any());
+        verify(userMatchRepository, never()).findActivePartnerIds(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 제외 대상일 수 있다고 보고 호출자가 DB로 확인하게 한다")
+    void reportsPossibleExclusionOnRedisFailure() {
+        when(setOperations.isMember(KEY_PREFIX + userId, "-")).thenThrow(new QueryTimeoutException("redis down"));
+
+        assertThat(exclusionSet.mayBeExcluded(userId, partnerId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가는 적재 전에도 집합에 넣고 TTL을 함께 넘긴다")
+    void addsPairEvenBeforeLoad() {
+        exclusionSet.addPairAfterCommit(userId, partnerId);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY_PREFIX + userId)),
+                eq(partnerId.toString()), eq("3600000"));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY_PREFIX + partnerId)),
+                eq(userId.toString()), eq("3600000"));
+    }
+
+    @Test
+    @DisplayName("추가를 반영하지 못하면 집합을 지워 다음 조회 때 DB에서 다시 적재한다")
+    void dropsSetWhenAddFails() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenThrow(new QueryTimeoutException("redis down"));
+
+        exclusionSet.addPairAfterCommit(userId, partnerId);
+
+        verify(redisTemplate).delete(KEY_PREFIX + userId);
+        verify(redisTemplate).delete(KEY_PREFIX + partnerId);
+    }
+}
@@ -0,0 +1,137 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.lock.RedisLeaderLock;
+import com.studymate.domain.matching.domain.repository.MatchingQueueRepository;
+import com.studymate.domain.matching.entity.MatchingQueue;
+import com.studymate.domain.matching.repository.MatchingRequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchingExpirySweeper 단위 테스트")
+class MatchingExpirySweeperTest {
+
+    private static final String LOCK_NAME = "matching-expiry-sweeper";
+    private static final int CHUNK_SIZE = 500;
+
+    @Mock
+    private MatchingRequestRepository matchingRequestRepository;
+
+    @Mock
+    private MatchingQueueRepository matchingQueueRepository;
+
+    @Mock
+    private MatchmakingEngine matchmakingEngine;
+
+    @Mock
+    private RedisLeaderLock redisLeaderLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MatchingExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new MatchingExpirySweeper(matchingRequestRepository, matchingQueueRepository,
+                matchmakingEngine, redisLeaderLock, meterRegistry);
+        lenient().when(redisLeaderLock.tryAcquire(eq(LOCK_NAME), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("리더 잠금을 잡지 못하면 아무것도 처리하지 않는다")
+    void skipsWithoutLeaderLock() {
+        when(redisLeaderLock.tryAcquire(eq(LOCK_NAME), any(Duration.class))).thenReturn(false);
+
+        sweeper.sweep();
+
+        verifyNoInteractions(matchingRequestRepository, matchingQueueRepository, matchmakingEngine);
+        verify(redisLeaderLock, never()).release(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나도 잡은 잠금은 해제한다")
+    void releasesLockWhenSweepFails() {
+        when(matchingRequestRepository.findOldestExpiredPendingAt(any())).thenThrow(new IllegalStateException("db down"));
+
+        sweeper.sweep();
+
+        verify(redisLeaderLock).release(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("요청은 청크가 가득 찬 동안만 다음 청크를 읽고, 처리한 행 수를 지표로 남긴다")
+    void expiresRequestsChunkByChunk() {
+        List<UUID> fullChunk = uuids(CHUNK_SIZE);
+        List<UUID> lastChunk = uuids(3);
+        when(matchingRequestRepository.findExpiredPendingIds(any(), any())).thenReturn(fullChunk, lastChunk);
+        when(matchingRequestRepository.expirePendingRequests(fullChunk)).thenReturn(CHUNK_SIZE);
+        when(matchingRequestRepository.expirePendingRequests(lastChunk)).thenReturn(3);
+
+        sweeper.sweep();
+
+        verify(matchingRequestRepository, times(2)).findExpiredPendingIds(any(), any());
+        assertThat(rows("request_expired")).isEqualTo(CHUNK_SIZE + 3);
+        verify(redisLeaderLock).release(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 최대 20개 청크까지만 처리하고 나머지는 다음 주기로 넘긴다")
+    void stopsAfterMaxChunksPerRun() {
+        List<Long> fullChunk = LongStream.range(0, CHUNK_SIZE).boxed().toList();
+        when(matchingQueueRepository.findFinishedIdsBefore(any(), any())).thenReturn(fullChunk);
+        when(matchingQueueRepository.deleteFinishedEntries(fullChunk)).thenReturn(CHUNK_SIZE);
+
+        sweeper.sweepOnce();
+
+        verify(matchingQueueRepository, times(20)).deleteFinishedEntries(fullChunk);
+        assertThat(rows("queue_purged")).isEqualTo(20.0 * CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("오래된 대기열 항목은 EXPIRED로 바꾸고 엔진 저장소에서도 해당 사용자를 뺀다")
+    void expiresStaleQueueEntriesAndCancelsEngine() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(matchingQueueRepository.findStaleWaitingRows(any(), any())).thenReturn(List.of(
+                new Object[]{1L, first}, new Object[]{2L, second}));
+        when(matchingQueueRepository.transitionWaitingEntries(eq(List.of(1L, 2L)),
+                eq(MatchingQueue.QueueStatus.EXPIRED), any())).thenReturn(2);
+
+        sweeper.sweepOnce();
+
+        verify(matchmakingEngine).cancel(first);
+        verify(matchmakingEngine).cancel(second);
+        verify(matchingQueueRepository, times(1)).transitionWaitingEntries(anyList(), any(), any());
+        assertThat(rows("queue_expired")).isEqualTo(2.0);
+    }
+
+    private double rows(String type) {
+        return meterRegistry.counter("matching.sweeper.rows", "type", type).count();
+    }
+
+    private static List<UUID> uuids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+}
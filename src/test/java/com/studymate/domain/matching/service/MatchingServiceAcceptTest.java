@@ -0,0 +1,148 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.matching.domain.repository.MatchingQueueRepository;
+import com.studymate.domain.matching.entity.MatchingRequest;
+import com.studymate.domain.matching.entity.MatchingStatus;
+import com.studymate.domain.matching.entity.UserMatch;
+import com.studymate.domain.matching.repository.MatchingRequestRepository;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import com.studymate.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchingServiceImpl 요청 수락 단위 테스트")
+class MatchingServiceAcceptTest {
+
+    private static final String IDEMPOTENCY_KEY = "accept-1";
+
+    @Mock
+    private MatchingRequestRepository matchingRequestRepository;
+
+    @Mock
+    private UserMatchRepository userMatchRepository;
+
+    @Mock
+    private MatchingQueueRepository matchingQueueRepository;
+
+    @Mock
+    private MatchingStatsAggregator matchingStatsAggregator;
+
+    @Mock
+    private MatchingAcceptIdempotencyStore matchingAcceptIdempotencyStore;
+
+    @Mock
+    private MatchmakingEngine matchmakingEngine;
+
+    @Mock
+    private RecommendationResultCache recommendationResultCache;
+
+    @Mock
+    private PartnerGraphIndex partnerGraphIndex;
+
+    @InjectMocks
+    private MatchingServiceImpl matchingService;
+
+    private UUID senderId;
+    private UUID receiverId;
+    private UUID requestId;
+    private MatchingRequest request;
+
+    @BeforeEach
+    void setUp() {
+        senderId = UUID.randomUUID();
+        receiverId = UUID.randomUUID();
+        requestId = UUID.randomUUID();
+        request = MatchingRequest.builder()
+                .matchingRequestId(requestId)
+                .sender(User.builder().userId(senderId).build())
+                .receiver(User.builder().userId(receiverId).build())
+                .status(MatchingStatus.PENDING)
+                .build();
+        when(matchingRequestRepository.findById(requestId)).thenReturn(Optional.of(request));
+    }
+
+    @Test
+    @DisplayName("조건부 전이에 성공한 요청만 활성 쌍 키가 있는 매칭을 만든다")
+    void createsMatchWhenConditionalUpdateWins() {
+        when(matchingRequestRepository.acceptIfPending(eq(requestId), eq(receiverId), any())).thenReturn(1);
+
+        matchingService.acceptMatchingRequest(receiverId, requestId);
+
+        ArgumentCaptor<UserMatch> match = ArgumentCaptor.forClass(UserMatch.class);
+        verify(userMatchRepository).saveAndFlush(match.capture());
+        assertThat(match.getValue().getActivePairKey()).isEqualTo(UserMatch.activePairKey(senderId, receiverId));
+        verify(matchingStatsAggregator).recordRequestAccepted(senderId, receiverId);
+        // 대기열 티켓은 커밋 후에만 제거 (롤백되면 대기열 행과 함께 유지)
+        verify(matchmakingEngine).cancelAfterCommit(senderId, receiverId);
+        verify(matchmakingEngine, never()).cancel(any());
+    }
+
+    @Test
+    @DisplayName("같은 쌍의 활성 매칭이 이미 있으면 유니크 제약 위반을 상태 오류로 바꾼다")
+    void rejectsDuplicateActivePair() {
+        when(matchingRequestRepository.acceptIfPending(eq(requestId), eq(receiverId), any())).thenReturn(1);
+        when(userMatchRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("UK_USER_MATCH_ACTIVE_PAIR"));
+
+        assertThatThrownBy(() -> matchingService.acceptMatchingRequest(receiverId, requestId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 매칭된 상대입니다.");
+        verify(matchingStatsAggregator, never()).recordRequestAccepted(any(), any());
+    }
+
+    @Test
+    @DisplayName("키 없이 이미 수락된 요청을 다시 수락하면 기존처럼 오류를 반환한다")
+    void plainRetryOnAcceptedRequestFails() {
+        request.setStatus(MatchingStatus.ACCEPTED);
+        when(matchingRequestRepository.acceptIfPending(eq(requestId), eq(receiverId), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> matchingService.acceptMatchingRequest(receiverId, requestId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 처리된 요청입니다.");
+    }
+
+    @Test
+    @DisplayName("이 요청에 처음 묶인 키로 이미 수락된 요청을 수락하면 재시도가 아니므로 오류를 반환한다")
+    void newKeyOnAcceptedRequestFails() {
+        request.setStatus(MatchingStatus.ACCEPTED);
+        when(matchingAcceptIdempotencyStore.reserve(receiverId, IDEMPOTENCY_KEY, requestId))
+                .thenReturn(MatchingAcceptIdempotencyStore.Reservation.NEW);
+        when(matchingRequestRepository.acceptIfPending(eq(requestId), eq(receiverId), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> matchingService.acceptMatchingRequest(receiverId, requestId, IDEMPOTENCY_KEY))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도는 매칭을 다시 만들지 않고 성공으로 처리한다")
+    void replayWithSameKeySucceeds() {
+        request.setStatus(MatchingStatus.ACCEPTED);
+        when(matchingAcceptIdempotencyStore.reserve(receiverId, IDEMPOTENCY_KEY, requestId))
+                .thenReturn(MatchingAcceptIdempotencyStore.Reservation.REPLAY);
+        when(matchingRequestRepository.acceptIfPending(eq(requestId), eq(receiverId), any())).thenReturn(0);
+
+        assertThatCode(() -> matchingService.acceptMatchingRequest(receiverId, requestId, IDEMPOTENCY_KEY))
+                .doesNotThrowAnyException();
+        verify(userMatchRepository, never()).saveAndFlush(any());
+        verify(matchingStatsAggregator, never()).recordRequestAccepted(any(), any());
+    }
+}
@@ -0,0 +1,127 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.matching.domain.repository.MatchingFeedbackRepository;
+import com.studymate.domain.matching.domain.repository.UserMatchingStatsRepository;
+import com.studymate.domain.matching.entity.MatchingStatus;
+import com.studymate.domain.matching.entity.UserMatchingStats;
+import com.studymate.domain.matching.repository.MatchingRequestRepository;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchingStatsAggregator 단위 테스트")
+class MatchingStatsAggregatorTest {
+
+    @Mock
+    private UserMatchingStatsRepository userMatchingStatsRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMatchRepository userMatchRepository;
+
+    @Mock
+    private MatchingRequestRepository matchingRequestRepository;
+
+    @Mock
+    private MatchingFeedbackRepository matchingFeedbackRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MatchingStatsAggregator matchingStatsAggregator;
+    private UUID userId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        matchingStatsAggregator = new MatchingStatsAggregator(userMatchingStatsRepository, userRepository,
+                userMatchRepository, matchingRequestRepository, matchingFeedbackRepository, transactionManager);
+        userId = UUID.randomUUID();
+        user = User.builder().userId(userId).build();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("통계 행이 있으면 사용자 행을 잠그지 않고 바로 갱신한다")
+    void updatesExistingRowWithoutUserLock() {
+        UserMatchingStats stats = new UserMatchingStats(userId);
+        when(userMatchingStatsRepository.findAllForUpdate(List.of(userId))).thenReturn(List.of(stats));
+
+        matchingStatsAggregator.recordRequestSent(userId);
+
+        assertThat(stats.getReceivedRequests()).isEqualTo(1);
+        verify(userRepository, never()).findAllForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("통계 행이 없으면 사용자 행 잠금 후 다시 확인해, 그 사이 집계로 생긴 행에 증분을 반영한다")
+    void appliesToRowCreatedByConcurrentBackfill() {
+        UserMatchingStats backfilled = new UserMatchingStats(userId);
+        when(userMatchingStatsRepository.findAllForUpdate(List.of(userId))).thenReturn(List.of());
+        when(userMatchingStatsRepository.findAllForUpdate(Set.of(userId))).thenReturn(List.of(backfilled));
+
+        matchingStatsAggregator.recordRequestSent(userId);
+
+        InOrder order = inOrder(userRepository, userMatchingStatsRepository);
+        order.verify(userRepository).findAllForUpdate(Set.of(userId));
+        order.verify(userMatchingStatsRepository).findAllForUpdate(Set.of(userId));
+        assertThat(backfilled.getReceivedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("집계는 사용자 행을 잠근 뒤에 원본 이력을 센다")
+    void backfillCountsUnderUserLock() {
+        when(userMatchingStatsRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findAllForUpdate(List.of(userId))).thenReturn(List.of(user));
+        when(userMatchingStatsRepository.findAllForUpdate(List.of(userId))).thenReturn(List.of());
+        when(matchingRequestRepository.countByReceiver(user)).thenReturn(3L);
+        when(matchingRequestRepository.countByReceiverAndStatus(user, MatchingStatus.ACCEPTED)).thenReturn(1L);
+        when(userMatchingStatsRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserMatchingStats stats = matchingStatsAggregator.getStats(userId);
+
+        assertThat(stats.getReceivedRequests()).isEqualTo(3);
+        assertThat(stats.getAcceptedRequests()).isEqualTo(1);
+        InOrder order = inOrder(userRepository, matchingRequestRepository);
+        order.verify(userRepository).findAllForUpdate(List.of(userId));
+        order.verify(matchingRequestRepository).countByReceiver(user);
+    }
+
+    @Test
+    @DisplayName("잠금을 기다리는 동안 다른 요청이 집계했으면 그 행을 그대로 사용한다")
+    void backfillReusesRowCreatedWhileWaiting() {
+        UserMatchingStats existing = new UserMatchingStats(userId);
+        when(userMatchingStatsRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findAllForUpdate(List.of(userId))).thenReturn(List.of(user));
+        when(userMatchingStatsRepository.findAllForUpdate(List.of(userId))).thenReturn(List.of(existing));
+
+        assertThat(matchingStatsAggregator.getStats(userId)).isSameAs(existing);
+        verify(matchingRequestRepository, never()).countByReceiver(any());
+        verify(userMatchingStatsRepository, never()).saveAndFlush(any());
+    }
+}
@@ -0,0 +1,161 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.common.lock.RedisLeaderLock;
+import com.studymate.domain.matching.domain.repository.MatchingQueueRepository;
+import com.studymate.domain.matching.entity.MatchingQueue;
+import com.studymate.domain.notification.service.NotificationWebSocketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchmakingEngine 단위 테스트")
+class MatchmakingEngineTest {
+
+    private static final int KOREAN = 1;
+    private static final int ENGLISH = 2;
+
+    @Mock
+    private MatchingQueueRepository matchingQueueRepository;
+
+    @Mock
+    private MatchingCandidateIndex matchingCandidateIndex;
+
+    @Mock
+    private NotificationWebSocketService notificationWebSocketService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisLeaderLock redisLeaderLock;
+
+    private MatchmakingEngine matchmakingEngine;
+    private SimpleTransactionStatus transactionStatus;
+
+    @BeforeEach
+    void setUp() {
+        matchmakingEngine = new MatchmakingEngine(matchingQueueRepository, matchingCandidateIndex,
+                notificationWebSocketService, new InMemoryMatchingQueueStore(), transactionManager, redisLeaderLock);
+        transactionStatus = new SimpleTransactionStatus();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("서로의 모국어를 학습하는 대기 항목끼리 매칭하고 양쪽에 알림을 보낸다")
+    void pairsComplementaryLanguageTickets() {
+        UUID korean = enqueue(1L, KOREAN, ENGLISH, MatchingQueue.SessionType.VIDEO_CALL);
+        UUID english = enqueue(2L, ENGLISH, KOREAN, MatchingQueue.SessionType.ANY);
+        when(matchingQueueRepository.transitionWaitingEntries(anyCollection(), eq(MatchingQueue.QueueStatus.MATCHED), any()))
+                .thenReturn(2);
+
+        matchmakingEngine.runMatchmakingCycle();
+
+        verify(matchingQueueRepository).transitionWaitingEntries(
+                eq(List.of(1L, 2L)), eq(MatchingQueue.QueueStatus.MATCHED), any());
+        verify(notificationWebSocketService).sendMatchingNotification(korean, english, "user-" + english);
+        verify(notificationWebSocketService).sendMatchingNotification(english, korean, "user-" + korean);
+        assertThat(matchmakingEngine.isWaiting(korean)).isFalse();
+        assertThat(matchmakingEngine.getWaitTimePercentiles()).containsEntry("sampleCount", 2);
+    }
+
+    @Test
+    @DisplayName("같은 언어 방향이거나 세션 타입이 맞지 않으면 대기열에 남는다")
+    void keepsIncompatibleTicketsWaiting() {
+        UUID first = enqueue(1L, KOREAN, ENGLISH, MatchingQueue.SessionType.VIDEO_CALL);
+        UUID second = enqueue(2L, KOREAN, ENGLISH, MatchingQueue.SessionType.VIDEO_CALL);
+        UUID third = enqueue(3L, ENGLISH, KOREAN, MatchingQueue.SessionType.CHAT_ONLY);
+
+        matchmakingEngine.runMatchmakingCycle();
+
+        verify(matchingQueueRepository, never()).transitionWaitingEntries(anyCollection(), any(), any());
+        assertThat(matchmakingEngine.isWaiting(first)).isTrue();
+        assertThat(matchmakingEngine.isWaiting(third)).isTrue();
+        assertThat(matchmakingEngine.getQueuePosition(second)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("짝지은 한쪽이 더 이상 WAITING이 아니면 알림 없이 되돌리고 남은 쪽만 대기열에 돌려놓는다")
+    void requeuesOnlyStillWaitingTicketWhenPairTransitionFails() {
+        UUID korean = enqueue(1L, KOREAN, ENGLISH, MatchingQueue.SessionType.VIDEO_CALL);
+        UUID english = enqueue(2L, ENGLISH, KOREAN, MatchingQueue.SessionType.ANY);
+        when(matchingQueueRepository.transitionWaitingEntries(anyCollection(), eq(MatchingQueue.QueueStatus.MATCHED), any()))
+                .thenReturn(1);
+        when(matchingQueueRepository.findWaitingQueueIds(List.of(1L, 2L))).thenReturn(List.of(1L));
+
+        matchmakingEngine.runMatchmakingCycle();
+
+        verify(notificationWebSocketService, never()).sendMatchingNotification(any(), any(), any());
+        assertThat(transactionStatus.isRollbackOnly()).isTrue();
+        assertThat(matchmakingEngine.isWaiting(korean)).isTrue();
+        assertThat(matchmakingEngine.isWaiting(english)).isFalse();
+        assertThat(matchmakingEngine.getWaitTimePercentiles()).containsEntry("sampleCount", 0);
+    }
+
+    @Test
+    @DisplayName("서버 시작 복원 시 이미 대기열에 있는 사용자는 건너뛴다")
+    void restoreSkipsUsersAlreadyInStore() {
+        UUID waiting = enqueue(1L, KOREAN, ENGLISH, MatchingQueue.SessionType.VIDEO_CALL);
+        UUID restored = UUID.randomUUID();
+        when(matchingQueueRepository.findWaitingTicketRows()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, waiting, "user-" + waiting, MatchingQueue.SessionType.VIDEO_CALL, 1, LocalDateTime.now()},
+                new Object[]{3L, restored, "user-" + restored, MatchingQueue.SessionType.ANY, 1, LocalDateTime.now()}));
+
+        matchmakingEngine.restoreWaitingEntries();
+
+        verify(matchingCandidateIndex, times(1)).getProfile(waiting);
+        verify(redisLeaderLock, never()).tryAcquire(any(), any());
+        assertThat(matchmakingEngine.isWaiting(restored)).isTrue();
+        assertThat(matchmakingEngine.getWaitTimePercentiles()).containsEntry("waitingCount", 2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 취소하면 커밋 후에만 대기열에서 뺀다")
+    void cancelsOnlyAfterCommit() {
+        UUID first = enqueue(1L, KOREAN, ENGLISH, MatchingQueue.SessionType.VIDEO_CALL);
+        UUID second = enqueue(2L, ENGLISH, KOREAN, MatchingQueue.SessionType.ANY);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            matchmakingEngine.cancelAfterCommit(first, second);
+            assertThat(matchmakingEngine.isWaiting(first)).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(matchmakingEngine.isWaiting(first)).isFalse();
+        assertThat(matchmakingEngine.isWaiting(second)).isFalse();
+    }
+
+    private UUID enqueue(Long queueId, int nativeLanguageId, int targetLanguageId, MatchingQueue.SessionType sessionType) {
+        UUID userId = UUID.randomUUID();
+        when(matchingCandidateIndex.getProfile(userId)).thenReturn(new MatchingCandidateIndex.CandidateProfile(
+                userId, nativeLanguageId, Set.of(targetLanguageId), Set.of(), true));
+        matchmakingEngine.enqueue(queueId, userId, "user-" + userId, sessionType, 1,
+                LocalDateTime.now().minusSeconds(10 - queueId));
+        return userId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.studymate.domain.matching.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("ParallelScoringExecutor 단위 테스트")
+class ParallelScoringExecutorTest {
+
+    private ParallelScoringExecutor parallelScoringExecutor;
+
+    @BeforeEach
+    void setUp() {
+        parallelScoringExecutor = new ParallelScoringExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelScoringExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("마감 시간 안에 끝나면 모든 후보의 점수를 호출 스레드로 전달한다")
+    void scoresEveryCandidateOnCallerThread() {
+        List<Integer> candidates = IntStream.range(0, 10_000).boxed().toList();
+        Map<Integer, Double> scores = new HashMap<>();
+        Thread caller = Thread.currentThread();
+
+        int skipped = parallelScoringExecutor.scoreAll(candidates, candidate -> candidate * 2.0,
+                (candidate, score) -> {
+                    assertThat(Thread.currentThread()).isSameAs(caller);
+                    scores.put(candidate, score);
+                });
+
+        assertThat(skipped).isZero();
+        assertThat(scores).hasSize(candidates.size());
+        assertThat(scores.get(4_321)).isEqualTo(8_642.0);
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘긴 청크는 기다리지 않고 제외한 후보 수를 반환한다")
+    void returnsPartialResultAfterDeadline() {
+        assumeTrue(Runtime.getRuntime().availableProcessors() > 1, "병렬 경로는 코어가 2개 이상일 때만 사용");
+        List<Integer> candidates = IntStream.range(0, 10_000).boxed().toList();
+        Map<Integer, Double> scores = new HashMap<>();
+
+        long startedAt = System.nanoTime();
+        int skipped = parallelScoringExecutor.scoreAll(candidates, candidate -> {
+            if (candidate == 0) {
+                sleepQuietly(5_000);
+            }
+            return candidate;
+        }, scores::put);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(skipped).isPositive();
+        assertThat(scores).hasSize(candidates.size() - skipped).doesNotContainKey(0);
+        assertThat(elapsedMillis).isLessThan(3_000);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.studymate.domain.matching.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PartnerGraph 단위 테스트")
+class PartnerGraphTest {
+
+    private final UUID me = UUID.randomUUID();
+    private final UUID myPartner = UUID.randomUUID();
+    private final UUID similarUser = UUID.randomUUID();
+    private final UUID likedBySimilar = UUID.randomUUID();
+    private final UUID dislikedBySimilar = UUID.randomUUID();
+
+    @Test
+    @DisplayName("비슷한 사용자가 좋아한 파트너를 추천하고 이미 연결된 사용자는 제외한다")
+    void recommendsPartnersLikedBySimilarUsers() {
+        PartnerGraph graph = PartnerGraph.builder()
+                .addWeight(me, myPartner, 1f)
+                .addWeight(similarUser, myPartner, 1f)
+                .addWeight(similarUser, likedBySimilar, 3f)
+                .build();
+
+        List<PartnerGraph.Recommendation> recommendations = graph.recommend(me, 200, 10, new SplittableRandom(42));
+
+        assertThat(recommendations).extracting(PartnerGraph.Recommendation::userId)
+                .containsExactly(likedBySimilar);
+        assertThat(recommendations.get(0).affinity()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("가중치가 0 이하가 된 간선은 버려진다")
+    void dropsNonPositiveEdges() {
+        PartnerGraph graph = PartnerGraph.builder()
+                .addWeight(me, myPartner, 1f)
+                .addWeight(similarUser, myPartner, 1f)
+                .addWeight(similarUser, dislikedBySimilar, 1f)
+                .addWeight(similarUser, dislikedBySimilar, -2f)
+                .build();
+
+        assertThat(graph.edgeCount()).isEqualTo(2);
+        assertThat(graph.recommend(me, 200, 10, new SplittableRandom(42))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 빌더로 풀어도 간선과 가중치가 유지된다")
+    void toBuilderPreservesEdges() {
+        PartnerGraph graph = PartnerGraph.builder()
+                .addWeight(me, myPartner, 1f)
+                .addWeight(similarUser, myPartner, 2f)
+                .build();
+
+        PartnerGraph merged = graph.toBuilder()
+                .addWeight(similarUser, likedBySimilar, 1f)
+                .build();
+
+        assertThat(merged.userCount()).isEqualTo(4);
+        assertThat(merged.edgeCount()).isEqualTo(3);
+        assertThat(merged.recommend(me, 200, 10, new SplittableRandom(7)))
+                .extracting(PartnerGraph.Recommendation::userId)
+                .containsExactly(likedBySimilar);
+    }
+
+    @Test
+    @DisplayName("그래프에 없는 사용자는 빈 목록을 반환한다")
+    void unknownUserHasNoRecommendations() {
+        assertThat(PartnerGraph.EMPTY.recommend(me, 100, 10, new SplittableRandom(1))).isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.repository.LearningExpectationRepository;
+import com.studymate.domain.onboarding.domain.repository.LearningStyleRepository;
+import com.studymate.domain.onboarding.domain.repository.MotivationRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingLangLevelRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingLearningExpectationRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingLearningStyleRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingMotivationRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingPartnerRepository;
+import com.studymate.domain.onboarding.domain.repository.OnboardingTopicRepository;
+import com.studymate.domain.onboarding.domain.repository.PartnerPersonalityRepository;
+import com.studymate.domain.onboarding.domain.repository.TopicRepository;
+import com.studymate.domain.onboarding.entity.Motivation;
+import com.studymate.domain.onboarding.entity.PartnerPersonality;
+import com.studymate.domain.onboarding.entity.Topic;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.domain.repository.UserStatusRepository;
+import com.studymate.domain.user.entity.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartnerProfileLoader 단위 테스트")
+class PartnerProfileLoaderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserStatusRepository userStatusRepository;
+
+    @Mock
+    private OnboardingLangLevelRepository onboardingLangLevelRepository;
+
+    @Mock
+    private OnboardingMotivationRepository onboardingMotivationRepository;
+
+    @Mock
+    private OnboardingTopicRepository onboardingTopicRepository;
+
+    @Mock
+    private OnboardingLearningStyleRepository onboardingLearningStyleRepository;
+
+    @Mock
+    private OnboardingLearningExpectationRepository onboardingLearningExpectationRepository;
+
+    @Mock
+    private OnboardingPartnerRepository onboardingPartnerRepository;
+
+    @Mock
+    private MotivationRepository motivationRepository;
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    @Mock
+    private LearningStyleRepository learningStyleRepository;
+
+    @Mock
+    private LearningExpectationRepository learningExpectationRepository;
+
+    @Mock
+    private PartnerPersonalityRepository partnerPersonalityRepository;
+
+    @InjectMocks
+    private PartnerProfileLoader partnerProfileLoader;
+
+    private UUID alice;
+    private UUID bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("빈 ID 목록이면 아무 쿼리도 실행하지 않는다")
+    void returnsEmptyWithoutQueries() {
+        assertThat(partnerProfileLoader.loadProfiles(List.of())).isEmpty();
+        assertThat(partnerProfileLoader.loadProfiles(null)).isEmpty();
+
+        verifyNoInteractions(userRepository, userStatusRepository, onboardingMotivationRepository, motivationRepository);
+    }
+
+    @Test
+    @DisplayName("파트너 수와 무관하게 테이블마다 IN 쿼리 한 번으로 조회하고, 카탈로그 이름은 한 번에 모아 조회한다")
+    void loadsEachTableOnceForAllPartners() {
+        Set<UUID> ids = Set.of(alice, bob);
+        when(userRepository.findProfileHeaderRows(ids)).thenReturn(rows(
+                new Object[]{alice, "Seoul", "Korean"},
+                new Object[]{bob, "Tokyo", "Japanese"}));
+        when(onboardingMotivationRepository.findIdRowsByUsrIds(ids)).thenReturn(rows(
+                new Object[]{alice, 1}, new Object[]{bob, 1}, new Object[]{bob, 2}));
+        when(onboardingTopicRepository.findIdRowsByUsrIds(ids)).thenReturn(rows(new Object[]{alice, 10}));
+        when(onboardingPartnerRepository.findIdRowsByUsrIds(ids)).thenReturn(rows(new Object[]{bob, 20}));
+        when(motivationRepository.findAllById(Set.of(1, 2))).thenReturn(List.of(
+                Motivation.builder().motivationId(1).motivationName("Travel").build(),
+                Motivation.builder().motivationId(2).motivationName("Career").build()));
+        when(topicRepository.findAllById(Set.of(10))).thenReturn(List.of(
+                Topic.builder().topicId(10).topicName("Music").build()));
+        when(partnerPersonalityRepository.findAllById(Set.of(20))).thenReturn(List.of(
+                PartnerPersonality.builder().partnerPersonalityId(20).partnerPersonality("Patient").build()));
+
+        Map<UUID, PartnerProfileLoader.PartnerProfileSnapshot> profiles =
+                partnerProfileLoader.loadProfiles(List.of(alice, bob));
+
+        assertThat(profiles.get(alice).location()).isEqualTo("Seoul");
+        assertThat(profiles.get(alice).interests()).containsExactly("Travel", "Music");
+        assertThat(profiles.get(alice).topics()).containsExactly("Music");
+        assertThat(profiles.get(bob).nativeLanguage()).isEqualTo("Japanese");
+        assertThat(profiles.get(bob).interests()).containsExactly("Travel", "Career");
+        assertThat(profiles.get(bob).personalities()).containsExactly("Patient");
+
+        verify(userRepository, times(1)).findProfileHeaderRows(any());
+        verify(motivationRepository, times(1)).findAllById(any());
+        verify(userStatusRepository, times(1)).findStatusRowsByUserIds(any());
+        // 카탈로그 ID가 없는 표는 이름 조회를 건너뜀
+        verify(learningStyleRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("요청 순서를 유지하고, 데이터가 없는 사용자는 오프라인 빈 스냅샷으로 채운다")
+    void fillsMissingUsersWithEmptySnapshot() {
+        when(userStatusRepository.findStatusRowsByUserIds(Set.of(alice, bob))).thenReturn(rows(
+                new Object[]{alice, UserStatus.OnlineStatus.ONLINE, LocalDateTime.now()}));
+
+        Map<UUID, PartnerProfileLoader.PartnerProfileSnapshot> profiles =
+                partnerProfileLoader.loadProfiles(List.of(bob, alice, bob));
+
+        assertThat(profiles.keySet()).containsExactly(bob, alice);
+        assertThat(profiles.get(alice).onlineStatus()).isEqualTo("online");
+        PartnerProfileLoader.PartnerProfileSnapshot empty = profiles.get(bob);
+        assertThat(empty.location()).isNull();
+        assertThat(empty.targetLanguages()).isEmpty();
+        assertThat(empty.interests()).isEmpty();
+        assertThat(empty.onlineStatus()).isEqualTo("offline");
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,125 @@
+package com.studymate.domain.matching.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationResultCache 단위 테스트")
+class RecommendationResultCacheTest {
+
+    private static final String VARIANT = "smart";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RecommendationResultCache recommendationResultCache;
+    private UUID userId;
+    private String rankingKey;
+
+    @BeforeEach
+    void setUp() {
+        recommendationResultCache = new RecommendationResultCache(redisTemplate);
+        userId = UUID.randomUUID();
+        rankingKey = "matching:reco:ranking:" + userId;
+        lenient().doReturn(hashOperations).when(redisTemplate).opsForHash();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("순위는 최대 깊이까지만 저장하고 전체 후보 수는 그대로 유지한다")
+    void storesBoundedPrefixWithTotal() {
+        List<CompatibilityScoreStore.ScoredId> ranked = IntStream.range(0, 250)
+                .mapToObj(i -> new CompatibilityScoreStore.ScoredId(new UUID(0, i), 250.0 - i))
+                .toList();
+
+        RecommendationResultCache.Ranking ranking = putAndRead(ranked, System.currentTimeMillis(), null);
+
+        assertThat(ranking.entries()).hasSize(RecommendationResultCache.MAX_RANKING_DEPTH);
+        assertThat(ranking.entries().get(0)).isEqualTo(ranked.get(0));
+        assertThat(ranking.total()).isEqualTo(250);
+        assertThat(ranking.covers(180, 20)).isTrue();
+        assertThat(ranking.covers(190, 20)).isFalse();
+    }
+
+    @Test
+    @DisplayName("순위 계산 이후 포함된 후보가 바뀌었으면 버리고 null을 반환한다")
+    void dropsRankingWhenCandidateChangedAfterRanking() {
+        long rankedAt = System.currentTimeMillis() - 1000;
+        List<CompatibilityScoreStore.ScoredId> ranked = List.of(
+                new CompatibilityScoreStore.ScoredId(UUID.randomUUID(), 90.0));
+
+        RecommendationResultCache.Ranking ranking = putAndRead(ranked, rankedAt, String.valueOf(rankedAt + 500));
+
+        assertThat(ranking).isNull();
+        verify(hashOperations).delete(rankingKey, VARIANT);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 요청한 무효화는 커밋 이후에 반영된다")
+    void invalidatesAfterCommit() {
+        UUID partnerId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recommendationResultCache.invalidateAfterCommit(userId, partnerId);
+            verify(redisTemplate, never()).delete(anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate).delete(rankingKey);
+        verify(redisTemplate).delete("matching:reco:ranking:" + partnerId);
+        verify(valueOperations).set(eq("matching:reco:invalidated:" + userId), anyString(), eq(Duration.ofMinutes(3)));
+    }
+
+    private RecommendationResultCache.Ranking putAndRead(List<CompatibilityScoreStore.ScoredId> ranked,
+                                                         long rankedAt, String candidateChangedAt) {
+        recommendationResultCache.put(userId, VARIANT, ranked, ranked.size(), rankedAt);
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(hashOperations).put(eq(rankingKey), eq(VARIANT), payload.capture());
+        when(hashOperations.get(rankingKey, VARIANT)).thenReturn(payload.getValue());
+
+        int keyCount = Math.min(ranked.size(), RecommendationResultCache.MAX_RANKING_DEPTH) + 1;
+        List<String> markers = Arrays.asList(new String[keyCount]);
+        if (candidateChangedAt != null) {
+            markers.set(keyCount - 1, candidateChangedAt);
+        }
+        when(valueOperations.multiGet(anyList())).thenReturn(markers);
+
+        return recommendationResultCache.get(userId, VARIANT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.studymate.domain.matching.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TopKRanker 단위 테스트")
+class TopKRankerTest {
+
+    private static final UUID USER_A = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID USER_B = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final UUID USER_C = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+    private static final UUID USER_D = UUID.fromString("00000000-0000-0000-0000-00000000000d");
+
+    @Test
+    @DisplayName("상위 K개만 점수 내림차순, 동점 시 userId 오름차순으로 유지한다")
+    void keepsTopKInRankOrder() {
+        TopKRanker<String> ranker = new TopKRanker<>(3, null);
+        ranker.offer("c", USER_C, 70.0);
+        ranker.offer("a", USER_A, 50.0);
+        ranker.offer("d", USER_D, 90.0);
+        ranker.offer("b", USER_B, 70.0);
+
+        List<TopKRanker.Ranked<String>> ranked = ranker.drain();
+
+        assertThat(ranked).extracting(TopKRanker.Ranked::item).containsExactly("d", "b", "c");
+        assertThat(ranker.getMatchedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("커서 이후 항목만 이어서 조회한다")
+    void continuesAfterCursor() {
+        TopKRanker.Cursor cursor = TopKRanker.Cursor.parse(TopKRanker.Cursor.encode(70.0, USER_B));
+        TopKRanker<String> ranker = new TopKRanker<>(2, cursor);
+        ranker.offer("d", USER_D, 90.0);
+        ranker.offer("b", USER_B, 70.0);
+        ranker.offer("c", USER_C, 70.0);
+        ranker.offer("a", USER_A, 50.0);
+
+        assertThat(ranker.drain()).extracting(TopKRanker.Ranked::item).containsExactly("c", "a");
+        assertThat(ranker.getMatchedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 문자열은 IllegalArgumentException을 던진다")
+    void rejectsMalformedCursor() {
+        assertThat(TopKRanker.Cursor.parse(" ")).isNull();
+        assertThatThrownBy(() -> TopKRanker.Cursor.parse("abc_not-a-uuid"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.studymate.domain.matching.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidBloomFilter 단위 테스트")
+class UuidBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 원소는 항상 포함된 것으로 판단한다")
+    void noFalseNegatives() {
+        List<UUID> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(UUID.randomUUID());
+        }
+
+        UuidBloomFilter filter = UuidBloomFilter.of(elements);
+
+        assertThat(elements).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 원소의 오탐률은 약 1% 수준이다")
+    void falsePositiveRateIsLow() {
+        List<UUID> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(UUID.randomUUID());
+        }
+        UuidBloomFilter filter = UuidBloomFilter.of(elements);
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 어떤 원소도 포함하지 않는다")
+    void emptyFilterContainsNothing() {
+        UuidBloomFilter filter = UuidBloomFilter.of(Set.of());
+
+        assertThat(filter.mightContain(UUID.randomUUID())).isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+package com.studymate.domain.matching.service;
+
+import com.studymate.domain.onboarding.domain.type.DayOfWeekType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WeeklyAvailability 단위 테스트")
+class WeeklyAvailabilityTest {
+
+    @Test
+    @DisplayName("같은 요일 시간대가 겹치면 겹치는 30분 칸 수를 센다")
+    void countsOverlappingHalfHourSlots() {
+        WeeklyAvailability evening = WeeklyAvailability.builder()
+                .add(DayOfWeekType.TUESDAY, LocalTime.of(19, 0), LocalTime.of(22, 0))
+                .build();
+        WeeklyAvailability query = WeeklyAvailability.window(DayOfWeekType.TUESDAY, LocalTime.of(20, 0), LocalTime.of(23, 0));
+
+        assertThat(evening.overlaps(query)).isTrue();
+        assertThat(evening.overlapSlots(query)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("요일이 다르거나 구간이 맞닿기만 하면 겹치지 않는다")
+    void adjacentOrOtherDayDoesNotOverlap() {
+        WeeklyAvailability morning = WeeklyAvailability.builder()
+                .add(DayOfWeekType.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0))
+                .build();
+
+        assertThat(morning.overlaps(WeeklyAvailability.window(DayOfWeekType.MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 0)))).isFalse();
+        assertThat(morning.overlaps(WeeklyAvailability.window(DayOfWeekType.TUESDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("30분 단위가 아닌 경계는 걸친 칸을 모두 포함한다")
+    void partialSlotsAreIncluded() {
+        WeeklyAvailability availability = WeeklyAvailability.window(DayOfWeekType.FRIDAY, LocalTime.of(19, 10), LocalTime.of(19, 40));
+
+        assertThat(availability.totalSlots()).isEqualTo(2);
+        assertThat(availability.isAvailable(DayOfWeekType.FRIDAY, LocalTime.of(19, 0))).isTrue();
+        assertThat(availability.isAvailable(DayOfWeekType.FRIDAY, LocalTime.of(19, 30))).isTrue();
+        assertThat(availability.isAvailable(DayOfWeekType.FRIDAY, LocalTime.of(20, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("요일 없이 시간대만 지정하면 모든 요일에 적용되고, 24:00은 하루 끝으로 본다")
+    void parseWindowAppliesToAllDays() {
+        WeeklyAvailability window = ScheduleAvailabilityIndex.parseWindow(null, "22:00-24:00");
+
+        assertThat(window.totalSlots()).isEqualTo(WeeklyAvailability.DAYS * 4);
+        assertThat(window.isAvailable(DayOfWeekType.SUNDAY, LocalTime.of(23, 30))).isTrue();
+        assertThat(ScheduleAvailabilityIndex.parseWindow(" ", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 요일이나 잘못된 시간대는 거부한다")
+    void parseWindowRejectsInvalidInput() {
+        assertThatThrownBy(() -> ScheduleAvailabilityIndex.parseWindow("FUNDAY", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScheduleAvailabilityIndex.parseWindow("tuesday", "7pm-9pm"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
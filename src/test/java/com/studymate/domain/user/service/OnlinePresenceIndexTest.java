@@ -0,0 +1,189 @@
+package com.studymate.domain.user.service;
+
+import com.studymate.domain.onboarding.domain.event.OnboardingDataChangedEvent;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.domain.repository.UserStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OnlinePresenceIndex 단위 테스트")
+class OnlinePresenceIndexTest {
+
+    private static final String ONLINE_KEY = "presence:online";
+    private static final String SEOUL_KEY = "presence:city:seoul";
+    private static final String KOREAN_KEY = "presence:lang:korean";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserStatusRepository userStatusRepository;
+
+    private OnlinePresenceIndex onlinePresenceIndex;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        onlinePresenceIndex = new OnlinePresenceIndex(redisTemplate, userRepository, userStatusRepository);
+        userId = UUID.randomUUID();
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 비활성 기준 이후에 활동한 온라인 사용자를 최근 활동순으로 반환한다")
+    void findsAllOnlineUsersByRecency() {
+        UUID recent = UUID.randomUUID();
+        UUID older = UUID.randomUUID();
+        when(zSetOperations.reverseRangeByScore(eq(ONLINE_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(new LinkedHashSet<>(List.of(recent.toString(), older.toString())));
+
+        assertThat(onlinePresenceIndex.findOnlineUserIds(null, " ")).containsExactly(recent, older);
+        verify(redisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    @DisplayName("도시와 모국어가 모두 있으면 두 집합의 교집합을 최근 활동순으로 정렬하고 비활성 사용자는 뺀다")
+    void intersectsCityAndLanguage() {
+        UUID active = UUID.randomUUID();
+        UUID moreActive = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        List<String> members = List.of(active.toString(), moreActive.toString(), stale.toString(), missing.toString());
+        when(setOperations.intersect(SEOUL_KEY, KOREAN_KEY)).thenReturn(new LinkedHashSet<>(members));
+        when(zSetOperations.score(ONLINE_KEY, members.toArray()))
+                .thenReturn(Arrays.asList((double) now - 60_000, (double) now, (double) now - 3_600_000, null));
+
+        assertThat(onlinePresenceIndex.findOnlineUserIds(" Seoul ", "KOREAN")).containsExactly(moreActive, active);
+    }
+
+    @Test
+    @DisplayName("도시만 있으면 도시 집합만 조회한다")
+    void readsSinglePartition() {
+        when(setOperations.members(SEOUL_KEY)).thenReturn(Set.of());
+
+        assertThat(onlinePresenceIndex.findOnlineUserIds("seoul", null)).isEmpty();
+        verify(setOperations, never()).intersect(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 null을 반환해 호출자가 DB로 조회하게 한다")
+    void returnsNullOnRedisFailure() {
+        when(zSetOperations.reverseRangeByScore(eq(ONLINE_KEY), anyDouble(), anyDouble()))
+                .thenThrow(new QueryTimeoutException("redis down"));
+
+        assertThat(onlinePresenceIndex.findOnlineUserIds(null, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 인덱스에 있는 사용자는 활동 시각만 갱신하고 DB를 조회하지 않는다")
+    void touchesExistingUserWithoutDatabase() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(ONLINE_KEY)), eq(userId.toString()), anyString()))
+                .thenReturn(1L);
+
+        onlinePresenceIndex.markOnline(userId, LocalDateTime.now());
+
+        verify(userRepository, never()).findPresencePartitionRow(any());
+    }
+
+    @Test
+    @DisplayName("처음 온라인이 된 사용자는 도시 / 모국어를 조회해 해당 집합에 넣는다")
+    void indexesNewUserIntoPartitions() {
+        // 같은 execute를 인덱스 스크립트로도 호출하므로 lenient
+        lenient().when(redisTemplate.execute(any(RedisScript.class), eq(List.of(ONLINE_KEY)), eq(userId.toString()), anyString()))
+                .thenReturn(0L);
+        when(userRepository.findPresencePartitionRow(userId)).thenReturn(rows(new Object[]{"Seoul", "Korean"}));
+
+        onlinePresenceIndex.markOnline(userId, LocalDateTime.now());
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of(ONLINE_KEY, "presence:partitions:" + userId, SEOUL_KEY, KOREAN_KEY)),
+                eq(userId.toString()), anyString());
+    }
+
+    @Test
+    @DisplayName("오프라인이 되면 온라인 목록과 소속 집합에서 뺀다")
+    void removesOfflineUser() {
+        onlinePresenceIndex.markOffline(userId);
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of(ONLINE_KEY, "presence:partitions:" + userId)), eq(userId.toString()));
+    }
+
+    @Test
+    @DisplayName("정리 작업은 비활성 사용자를 빼고, 인덱스가 비어 있으면 DB의 온라인 사용자로 다시 채운다")
+    void evictsInactiveAndReseedsEmptyIndex() {
+        UUID inactive = UUID.randomUUID();
+        UUID online = UUID.randomUUID();
+        when(zSetOperations.rangeByScore(eq(ONLINE_KEY), eq(Double.NEGATIVE_INFINITY), anyDouble()))
+                .thenReturn(Set.of(inactive.toString()));
+        when(redisTemplate.hasKey(ONLINE_KEY)).thenReturn(false);
+        when(userStatusRepository.findOnlinePresenceRows())
+                .thenReturn(rows(new Object[]{online, LocalDateTime.now(), "Seoul", null}));
+
+        onlinePresenceIndex.evictInactiveBefore(LocalDateTime.now().minusMinutes(15));
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of(ONLINE_KEY, "presence:partitions:" + inactive)), eq(inactive.toString()));
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of(ONLINE_KEY, "presence:partitions:" + online, SEOUL_KEY)), eq(online.toString()), anyString());
+    }
+
+    @Test
+    @DisplayName("온보딩 정보가 바뀌면 온라인 사용자만 집합을 다시 배정한다")
+    void reindexesOnlyOnlineUsersOnOnboardingChange() {
+        UUID offline = UUID.randomUUID();
+        when(zSetOperations.score(ONLINE_KEY, userId.toString())).thenReturn(1_000d);
+        when(zSetOperations.score(ONLINE_KEY, offline.toString())).thenReturn(null);
+        when(userRepository.findPresencePartitionRow(userId)).thenReturn(rows(new Object[]{null, "Korean"}));
+
+        onlinePresenceIndex.onOnboardingDataChanged(new OnboardingDataChangedEvent(userId));
+        onlinePresenceIndex.onOnboardingDataChanged(new OnboardingDataChangedEvent(offline));
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of(ONLINE_KEY, "presence:partitions:" + userId, KOREAN_KEY)), eq(userId.toString()), eq("1000"));
+        verify(userRepository, never()).findPresencePartitionRow(offline);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
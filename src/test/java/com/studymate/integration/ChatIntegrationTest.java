@@ -123,6 +123,7 @@ class ChatIntegrationTest {
     void getChatMessages_Integration_Success() throws Exception {
         // 테스트 메시지 생성
         ChatMessage testMessage = ChatMessage.builder()
+                .id(1L)
                 .chatRoom(testRoom)
                 .sender(testUser1)
                 .message("안녕하세요!")
@@ -164,6 +165,7 @@ class ChatIntegrationTest {
     void markMessageAsRead_Integration_Success() throws Exception {
         // 테스트 메시지 생성
         ChatMessage testMessage = ChatMessage.builder()
+                .id(2L)
                 .chatRoom(testRoom)
                 .sender(testUser1)
                 .message("읽음 테스트 메시지")
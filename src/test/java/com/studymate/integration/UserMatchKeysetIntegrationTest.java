@@ -0,0 +1,143 @@
+package com.studymate.integration;
+
+import com.studymate.domain.matching.entity.UserMatch;
+import com.studymate.domain.matching.repository.UserMatchRepository;
+import com.studymate.domain.user.domain.repository.UserRepository;
+import com.studymate.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserMatchRepository 키셋 페이지 테스트")
+class UserMatchKeysetIntegrationTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private UserMatchRepository userMatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User me;
+    private List<UserMatch> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        me = saveUser("me");
+        List<UserMatch> active = new ArrayList<>();
+
+        // USER1 / USER2 쪽을 번갈아 저장하고, 같은 생성 시각을 공유하는 매칭을 섞는다
+        for (int i = 0; i < 7; i++) {
+            User partner = saveUser("partner-" + i);
+            UserMatch match = i % 2 == 0 ? saveMatch(me, partner, true) : saveMatch(partner, me, true);
+            setCreatedAt(match, BASE_TIME.minusMinutes(i / 3));
+            active.add(match);
+        }
+        // 비활성 매칭과 다른 사용자끼리의 매칭은 결과에 포함되지 않아야 함
+        setCreatedAt(saveMatch(me, saveUser("inactive"), false), BASE_TIME);
+        setCreatedAt(saveMatch(saveUser("other-1"), saveUser("other-2"), true), BASE_TIME);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        expectedOrder = active.stream()
+                .map(match -> entityManager.find(UserMatch.class, match.getUserMatchId()))
+                .sorted(Comparator.comparing(UserMatch::getCreatedAt)
+                        .thenComparing(UserMatch::getUserMatchId, UserMatchKeysetIntegrationTest::compareUnsigned)
+                        .reversed())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 양쪽 매칭을 병합해 최신순으로 limit개만 반환한다")
+    void firstPageMergesBothSides() {
+        List<UserMatch> page = userMatchRepository.findActiveMatchesFirstPage(me.getUserId(), PageRequest.of(0, 3));
+
+        assertThat(ids(page)).containsExactlyElementsOf(ids(expectedOrder.subList(0, 3)));
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 같은 생성 시각 경계에서도 누락이나 중복 없이 전체를 순회한다")
+    void pagesAcrossEqualTimestampsWithoutGapsOrDuplicates() {
+        List<UserMatch> visited = new ArrayList<>();
+        List<UserMatch> page = userMatchRepository.findActiveMatchesFirstPage(me.getUserId(), PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            UserMatch last = page.get(page.size() - 1);
+            page = userMatchRepository.findActiveMatchesPageAfter(
+                    me.getUserId(), last.getCreatedAt(), last.getUserMatchId(), PageRequest.of(0, 2));
+        }
+
+        assertThat(ids(visited)).containsExactlyElementsOf(ids(expectedOrder));
+    }
+
+    @Test
+    @DisplayName("마지막 항목을 커서로 주면 빈 페이지를 반환한다")
+    void returnsEmptyPageAfterLastMatch() {
+        UserMatch last = expectedOrder.get(expectedOrder.size() - 1);
+
+        List<UserMatch> page = userMatchRepository.findActiveMatchesPageAfter(
+                me.getUserId(), last.getCreatedAt(), last.getUserMatchId(), PageRequest.of(0, 5));
+
+        assertThat(page).isEmpty();
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .userId(UUID.randomUUID())
+                .name(name)
+                .englishName(name)
+                .email(name + "-" + UUID.randomUUID() + "@example.com")
+                .userIdentity("NAVER")
+                .isOnboardingCompleted(true)
+                .build());
+    }
+
+    private UserMatch saveMatch(User user1, User user2, boolean active) {
+        return userMatchRepository.save(UserMatch.builder()
+                .user1(user1)
+                .user2(user2)
+                .matchedAt(LocalDateTime.now())
+                .isActive(active)
+                .build());
+    }
+
+    private void setCreatedAt(UserMatch match, LocalDateTime createdAt) {
+        entityManager.flush();
+        entityManager.createQuery("UPDATE UserMatch um SET um.createdAt = :createdAt WHERE um.userMatchId = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", match.getUserMatchId())
+                .executeUpdate();
+    }
+
+    private static List<UUID> ids(List<UserMatch> matches) {
+        return matches.stream().map(UserMatch::getUserMatchId).toList();
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        return a.getMostSignificantBits() != b.getMostSignificantBits()
+                ? Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits())
+                : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}